@@ -280,6 +280,9 @@ public class VersionBackend {
         storeDeserializerCache,
         compressor.get());
 
+    if (reusableValueRecord != null && !computeRequestWrapper.matchesValueFilter(reusableValueRecord)) {
+      return null;
+    }
     return ComputeUtils.computeResult(
         computeRequestWrapper.getOperations(),
         computeRequestWrapper.getOperationResultFields(),
@@ -304,6 +307,9 @@ public class VersionBackend {
         new StreamingCallback<GenericRecord, GenericRecord>() {
           @Override
           public void onRecordReceived(GenericRecord key, GenericRecord value) {
+            if (value != null && !computeRequestWrapper.matchesValueFilter(value)) {
+              return;
+            }
             GenericRecord computeResult = ComputeUtils.computeResult(
                 computeRequestWrapper.getOperations(),
                 computeRequestWrapper.getOperationResultFields(),
@@ -19,7 +19,10 @@ import com.linkedin.venice.utils.SparseConcurrentList;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
+import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
@@ -56,6 +59,10 @@ public class BlobSnapshotManager {
   // snapshot/offset consistency
   // Example: <topicName, <partitionId, offset>>
   private VeniceConcurrentHashMap<String, VeniceConcurrentHashMap<Integer, BlobTransferPartitionMetadata>> snapshotMetadataRecords;
+  // A map to keep track of the checksums of the snapshot files for a particular topic and partition, computed once
+  // when the snapshot is created, so that the transfers don't need to read every file one more time to compute them
+  // Example: <topicName, <partitionId, <fileName, checksum>>>
+  private VeniceConcurrentHashMap<String, VeniceConcurrentHashMap<Integer, Map<String, String>>> snapshotFileChecksums;
 
   // Locks for coordinating access to each snapshot
   // Example: <topicName, <partitionId, lock>>
@@ -87,6 +94,7 @@ public class BlobSnapshotManager {
     this.concurrentSnapshotUsers = new VeniceConcurrentHashMap<>();
     this.snapshotTimestamps = new VeniceConcurrentHashMap<>();
     this.snapshotMetadataRecords = new VeniceConcurrentHashMap<>();
+    this.snapshotFileChecksums = new VeniceConcurrentHashMap<>();
 
     this.snapshotAccessLocks = new VeniceConcurrentHashMap<>();
 
@@ -203,6 +211,9 @@ public class BlobSnapshotManager {
       BlobTransferPartitionMetadata metadataBeforeRecreateSnapshot = prepareMetadata(blobTransferRequest);
       // 2. recreate the snapshot
       createSnapshot(topicName, partitionId);
+      // 3. compute the checksums of the snapshot files
+      snapshotFileChecksums.get(topicName)
+          .put(partitionId, generateSnapshotFileChecksums(blobTransferRequest.getSnapshotDir()));
 
       // update the snapshot timestamp to reflect the latest snapshot creation time
       snapshotTimestamps.get(topicName).put(partitionId, System.currentTimeMillis());
@@ -312,6 +323,47 @@ public class BlobSnapshotManager {
     partition.cleanupSnapshot();
   }
 
+  /**
+   * Get the checksum of a file of the current snapshot for a particular topic and partition
+   * @param topicName the topic name
+   * @param partitionId the partition id
+   * @param fileName the name of the snapshot file
+   * @return the checksum computed when the snapshot was created, or null if there is none
+   */
+  public String getSnapshotFileChecksum(String topicName, int partitionId, String fileName) {
+    Map<Integer, Map<String, String>> partitionChecksums = snapshotFileChecksums.get(topicName);
+    if (partitionChecksums == null) {
+      return null;
+    }
+    Map<String, String> fileChecksums = partitionChecksums.get(partitionId);
+    return fileChecksums == null ? null : fileChecksums.get(fileName);
+  }
+
+  /**
+   * Generate the checksums of all the files in a snapshot directory
+   * @param snapshotDir the snapshot directory
+   * @return the checksums keyed by file name
+   */
+  private Map<String, String> generateSnapshotFileChecksums(String snapshotDir) throws IOException {
+    Map<String, String> fileChecksums = new HashMap<>();
+    File[] files = new File(snapshotDir).listFiles();
+    if (files == null) {
+      return fileChecksums;
+    }
+    long startTime = System.currentTimeMillis();
+    for (File file: files) {
+      if (file.isFile()) {
+        fileChecksums.put(file.getName(), BlobTransferUtils.generateFileChecksum(file.toPath()));
+      }
+    }
+    LOGGER.info(
+        "Checksum calculation for {} files of snapshot {} took {} ms.",
+        fileChecksums.size(),
+        snapshotDir,
+        System.currentTimeMillis() - startTime);
+    return fileChecksums;
+  }
+
   /**
    * Get the snapshot metadata for a particular topic and partition
    * @param topicName the topic name
@@ -384,6 +436,7 @@ public class BlobSnapshotManager {
   private void initializeTrackingValues(String topicName, int partitionId) {
     snapshotTimestamps.computeIfAbsent(topicName, k -> new VeniceConcurrentHashMap<>());
     snapshotMetadataRecords.computeIfAbsent(topicName, k -> new VeniceConcurrentHashMap<>());
+    snapshotFileChecksums.computeIfAbsent(topicName, k -> new VeniceConcurrentHashMap<>());
     concurrentSnapshotUsers.computeIfAbsent(topicName, k -> new VeniceConcurrentHashMap<>())
         .computeIfAbsent(partitionId, k -> new AtomicInteger(0));
   }
@@ -394,6 +447,7 @@ public class BlobSnapshotManager {
   public void removeTrackingValues(String topicName, int partitionId) {
     removePartitionEntry(snapshotTimestamps, topicName, partitionId);
     removePartitionEntry(snapshotMetadataRecords, topicName, partitionId);
+    removePartitionEntry(snapshotFileChecksums, topicName, partitionId);
     removePartitionEntry(concurrentSnapshotUsers, topicName, partitionId);
     snapshotAccessLocks.computeIfPresent(topicName, (key, lockList) -> {
       lockList.remove(partitionId);
@@ -493,6 +547,7 @@ public class BlobSnapshotManager {
     concurrentSnapshotUsers.clear();
     snapshotTimestamps.clear();
     snapshotMetadataRecords.clear();
+    snapshotFileChecksums.clear();
     snapshotAccessLocks.clear();
 
     if (snapshotCleanupScheduler != null) {
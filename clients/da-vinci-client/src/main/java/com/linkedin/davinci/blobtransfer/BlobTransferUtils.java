@@ -30,6 +30,8 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -40,6 +42,8 @@ public class BlobTransferUtils {
   public static final String BLOB_TRANSFER_STATUS = "X-Blob-Transfer-Status";
   public static final String BLOB_TRANSFER_COMPLETED = "Completed";
   public static final String BLOB_TRANSFER_TYPE = "X-Blob-Transfer-Type";
+  // Extension of the immutable RocksDB files, which can be reused by an incremental transfer
+  private static final String SST_FILE_EXTENSION = ".sst";
   /**
    * Protocol version of the {@code PartitionState} schema the requester is compiled
    * against. Set by the client on the blob-transfer request so the server can fail
@@ -62,7 +66,7 @@ public class BlobTransferUtils {
       AttributeKey.valueOf("blobTransferRequestOrigin");
 
   public enum BlobTransferType {
-    FILE, METADATA
+    FILE, METADATA, REUSED_FILE
   }
 
   public enum BlobTransferTableFormat {
@@ -135,6 +139,16 @@ public class BlobTransferUtils {
     return metadataHeader.equals(BlobTransferUtils.BlobTransferType.METADATA.name());
   }
 
+  /**
+   * Check if the HttpResponse message is for a file which is not transferred, since the requester already has an
+   * identical copy of it.
+   * @param msg the HttpResponse message
+   * @return true if the message is a reused file message, false otherwise
+   */
+  public static boolean isReusedFileMessage(HttpResponse msg) {
+    return BlobTransferType.REUSED_FILE.name().equals(msg.headers().get(BLOB_TRANSFER_TYPE));
+  }
+
   /**
    * Compare the schema-version headers on a P2P blob-transfer GET request against the
    * local binary's compiled-in {@code currentProtocolVersion}. Used by the server right
@@ -228,6 +242,61 @@ public class BlobTransferUtils {
     return md5Digest;
   }
 
+  /**
+   * Check if the file is an immutable RocksDB file, whose local copy can be reused by an incremental transfer if its
+   * checksum matches the one of the peer.
+   * @param fileName the file name
+   * @return true if the file can be reused, false otherwise
+   */
+  public static boolean isReusableFile(String fileName) {
+    return fileName.endsWith(SST_FILE_EXTENSION);
+  }
+
+  /**
+   * Hard link the reusable files of the partition directory into the temp partition directory, so that they are kept
+   * when the partition is dropped before the transfer. The files already in the temp partition directory are kept.
+   * @param partitionDir the partition directory
+   * @param tempPartitionDir the temp partition directory receiving the transferred files
+   * @return the number of linked files
+   * @throws IOException if an I/O error occurs
+   */
+  public static int linkReusableFiles(String partitionDir, String tempPartitionDir) throws IOException {
+    File[] files = new File(partitionDir).listFiles();
+    if (files == null) {
+      return 0;
+    }
+    Path tempPartitionPath = Files.createDirectories(Paths.get(tempPartitionDir));
+    int linkedFileCount = 0;
+    for (File file: files) {
+      Path link = tempPartitionPath.resolve(file.getName());
+      if (file.isFile() && isReusableFile(file.getName()) && !Files.exists(link)) {
+        Files.createLink(link, file.toPath());
+        linkedFileCount++;
+      }
+    }
+    return linkedFileCount;
+  }
+
+  /**
+   * Generate the checksums of the reusable files in the directory, which an incremental transfer sends to the peer.
+   * @param dir the directory
+   * @return the checksum of each reusable file keyed by file name, which is empty if the directory doesn't exist
+   * @throws IOException if an I/O error occurs
+   */
+  public static Map<String, String> generateReusableFileChecksums(String dir) throws IOException {
+    Map<String, String> fileChecksums = new HashMap<>();
+    File[] files = new File(dir).listFiles();
+    if (files == null) {
+      return fileChecksums;
+    }
+    for (File file: files) {
+      if (file.isFile() && isReusableFile(file.getName())) {
+        fileChecksums.put(file.getName(), generateFileChecksum(file.toPath()));
+      }
+    }
+    return fileChecksums;
+  }
+
   /**
    * Calculate throughput in MB/sec for a given partition directory
    */
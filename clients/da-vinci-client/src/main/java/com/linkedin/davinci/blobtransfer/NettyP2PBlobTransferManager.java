@@ -20,6 +20,7 @@ import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.LogContext;
 import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
@@ -28,12 +29,14 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -76,6 +79,10 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
   private final ExecutorService replicaBlobFetchExecutor;
   // Status tracking manager is responsible for coordinating blob transfer cancellations
   private final BlobTransferStatusTrackingManager statusTrackingManager;
+  // Number of the replica transfers in progress from each peer, used to spread the concurrent replica transfers across
+  // the peers instead of bounding them by the uplink of a single peer
+  // Example: <host, inFlightTransferCount>
+  private final Map<String, AtomicInteger> inFlightTransfersPerPeer = new VeniceConcurrentHashMap<>();
 
   public NettyP2PBlobTransferManager(
       P2PBlobTransferService blobTransferService,
@@ -132,7 +139,8 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
     List<String> discoverPeers = response.getDiscoveryResult();
     List<String> connectablePeers = getConnectableHosts(discoverPeers, storeName, version, partition);
 
-    // 2. Process the discovered peers sequentially in finder-provided priority order.
+    // 2. Process the discovered peers sequentially, in finder-provided priority order if it should be preserved,
+    // otherwise starting with the least loaded ones.
     processPeersSequentially(connectablePeers, storeName, version, partition, tableFormat, perPartitionTransferFuture);
 
     return perPartitionTransferFuture;
@@ -184,6 +192,13 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
    *   The async chain pattern tries peers one at a time, exits early on first success.
    *
    *
+   * - Peer selection:
+   *   If the finder-provided order does not need to be preserved, each attempt picks the remaining peer with the
+   *   fewest transfers in progress from this host at the time of the attempt. So the replicas fetched concurrently
+   *   are spread across all the peers holding them, and a peer which became slow or busy in the meantime is tried
+   *   last. Each replica is still fetched from a single peer, since the snapshots of different peers are distinct
+   *   RocksDB checkpoints whose files cannot be mixed.
+   *
    * @param uniqueConnectablePeers the set of peers to process
    * @param storeName the name of the store
    * @param version the version of the store
@@ -203,9 +218,12 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
 
     // Create a CompletableFuture that represents the chain of processing all peers
     CompletableFuture<Void> chainOfPeersFuture = CompletableFuture.completedFuture(null);
+    // The peers not tried yet, only accessed by the sequential steps of the chain
+    List<String> remainingPeers = new ArrayList<>(uniqueConnectablePeers);
+    boolean preservePeerOrder = peerFinder.shouldPreservePeerOrder();
 
-    // Iterate through each peer and chain the futures
-    for (String chosenHost: uniqueConnectablePeers) {
+    // Chain one attempt per peer
+    for (int i = 0; i < uniqueConnectablePeers.size(); i++) {
       // Chain the next operation to the previous future
       chainOfPeersFuture = chainOfPeersFuture.thenComposeAsync(v -> {
 
@@ -219,6 +237,7 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
           return CompletableFuture.completedFuture(null);
         }
 
+        String chosenHost = preservePeerOrder ? remainingPeers.remove(0) : pollLeastLoadedPeer(remainingPeers);
         // Attempt to fetch the blob from the current peer asynchronously
         LOGGER.info(
             "Attempting to connect to host: {} for replica {} table format {}",
@@ -226,10 +245,21 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
             replicaId,
             tableFormat);
 
-        CompletionStage<InputStream> perHostTransferFuture =
-            nettyClient.get(chosenHost, storeName, version, partition, tableFormat);
+        AtomicInteger inFlightTransfers =
+            inFlightTransfersPerPeer.computeIfAbsent(chosenHost, k -> new AtomicInteger());
+        inFlightTransfers.incrementAndGet();
+        CompletionStage<InputStream> perHostTransferFuture;
+        try {
+          perHostTransferFuture = nettyClient.get(chosenHost, storeName, version, partition, tableFormat);
+        } catch (Throwable e) {
+          inFlightTransfers.decrementAndGet();
+          throw e;
+        }
+
+        CompletableFuture<InputStream> trackedTransferFuture = perHostTransferFuture.toCompletableFuture()
+            .whenComplete((inputStream, throwable) -> inFlightTransfers.decrementAndGet());
 
-        return perHostTransferFuture.toCompletableFuture().thenAccept(inputStream -> {
+        return trackedTransferFuture.thenAccept(inputStream -> {
           // Success case: Complete the future with the input stream
           long transferTime = Duration.between(startTime, Instant.now()).getSeconds();
           LOGGER.info(FETCHED_BLOB_SUCCESS_MSG, replicaId, chosenHost, transferTime);
@@ -370,4 +400,32 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
     }
     return connectablePeersList;
   }
+
+  /**
+   * Remove and return the peer with the fewest transfers in progress from this host. The ties are broken by the order
+   * of the given peers, which is shuffled beforehand.
+   * @param remainingPeers the peers not tried yet
+   * @return the least loaded peer
+   */
+  private String pollLeastLoadedPeer(List<String> remainingPeers) {
+    int leastLoadedIndex = 0;
+    int leastInFlightTransfers = Integer.MAX_VALUE;
+    for (int i = 0; i < remainingPeers.size(); i++) {
+      int inFlightTransfers = getInFlightTransferCount(remainingPeers.get(i));
+      if (inFlightTransfers < leastInFlightTransfers) {
+        leastLoadedIndex = i;
+        leastInFlightTransfers = inFlightTransfers;
+      }
+    }
+    return remainingPeers.remove(leastLoadedIndex);
+  }
+
+  /**
+   * @param host the peer host
+   * @return the number of transfers in progress from the peer
+   */
+  int getInFlightTransferCount(String host) {
+    AtomicInteger inFlightTransfers = inFlightTransfersPerPeer.get(host);
+    return inFlightTransfers == null ? 0 : inFlightTransfers.get();
+  }
 }
@@ -1,5 +1,6 @@
 package com.linkedin.davinci.blobtransfer.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.linkedin.alpini.base.concurrency.Executors;
 import com.linkedin.alpini.base.misc.ThreadPoolExecutor;
 import com.linkedin.davinci.blobtransfer.BlobTransferUtils;
@@ -12,11 +13,14 @@ import com.linkedin.venice.listener.VerifySslHandler;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.LogContext;
+import com.linkedin.venice.utils.ObjectMapperFactory;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.AdaptiveRecvByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
@@ -29,6 +33,8 @@ import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.ssl.SslHandler;
@@ -304,6 +310,11 @@ public class NettyFileTransferClient {
     String replicaId = Utils.getReplicaId(Version.composeKafkaTopic(storeName, version), partition);
     CompletionStage<InputStream> perHostTransferFuture = new CompletableFuture<>();
     try {
+      // The files kept in the temp partition dir from the stale local copy of the partition, if any, are offered to the
+      // peer, which only transfers the ones it doesn't have an identical copy of
+      Map<String, String> reusableFileChecksums = BlobTransferUtils.generateReusableFileChecksums(
+          RocksDBUtils.composeTempPartitionDir(baseDir, Version.composeKafkaTopic(storeName, version), partition));
+
       // Connects to the remote host
       // Must open a new connection for each request (per store per version per partition level),
       // Otherwise response will be mixed up
@@ -352,7 +363,8 @@ public class NettyFileTransferClient {
                   partition,
                   requestedTableFormat,
                   aggBlobTransferStats,
-                  checksumValidationExecutorService))
+                  checksumValidationExecutorService,
+                  reusableFileChecksums))
           .addLast(
               new P2PMetadataTransferHandler(
                   storageMetadataService,
@@ -364,7 +376,7 @@ public class NettyFileTransferClient {
                   notifierSupplier));
       // Send a GET request
       ChannelFuture requestFuture =
-          ch.writeAndFlush(prepareRequest(storeName, version, partition, requestedTableFormat));
+          ch.writeAndFlush(prepareRequest(storeName, version, partition, requestedTableFormat, reusableFileChecksums));
 
       requestFuture.addListener(f -> {
         if (f.isSuccess()) {
@@ -418,11 +430,20 @@ public class NettyFileTransferClient {
       String storeName,
       int version,
       int partition,
-      BlobTransferTableFormat requestTableFormat) {
-    FullHttpRequest request = new DefaultFullHttpRequest(
-        HttpVersion.HTTP_1_1,
-        HttpMethod.GET,
-        String.format("/%s/%d/%d/%s", storeName, version, partition, requestTableFormat.name()));
+      BlobTransferTableFormat requestTableFormat,
+      Map<String, String> reusableFileChecksums) throws JsonProcessingException {
+    String uri = String.format("/%s/%d/%d/%s", storeName, version, partition, requestTableFormat.name());
+    FullHttpRequest request;
+    if (reusableFileChecksums.isEmpty()) {
+      request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+    } else {
+      // Incremental transfer, sending the checksums of the reusable local files
+      byte[] content = ObjectMapperFactory.getInstance().writeValueAsBytes(reusableFileChecksums);
+      request =
+          new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, uri, Unpooled.wrappedBuffer(content));
+      request.headers().set(HttpHeaderNames.CONTENT_LENGTH, content.length);
+      request.headers().set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON);
+    }
     // Advertise the schema versions this client can deserialize so the server can
     // reject the request before any file work begins on a mismatch.
     request.headers()
@@ -26,6 +26,8 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.util.ReferenceCountUtil;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
@@ -35,7 +37,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
@@ -62,6 +68,10 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
   private final List<CompletableFuture<Void>> checksumValidationFutureList = new ArrayList<>();
   private final String storeName;
   private final int version;
+  // Checksums of the local files offered to the peer for reuse, keyed by file name
+  private final Map<String, String> reusableFileChecksums;
+  // Names of the files of the peer snapshot, either received or reused
+  private final Set<String> transferredFileNames = new HashSet<>();
   // mutable states for a single file transfer. It will be updated for each file transfer.
   private FileChannel outputFileChannel;
   private String fileName;
@@ -81,6 +91,28 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
       BlobTransferUtils.BlobTransferTableFormat tableFormat,
       AggBlobTransferStats aggBlobTransferStats,
       ExecutorService checksumValidationExecutorService) {
+    this(
+        baseDir,
+        inputStreamFuture,
+        storeName,
+        version,
+        partition,
+        tableFormat,
+        aggBlobTransferStats,
+        checksumValidationExecutorService,
+        Collections.emptyMap());
+  }
+
+  public P2PFileTransferClientHandler(
+      String baseDir,
+      CompletionStage<InputStream> inputStreamFuture,
+      String storeName,
+      int version,
+      int partition,
+      BlobTransferUtils.BlobTransferTableFormat tableFormat,
+      AggBlobTransferStats aggBlobTransferStats,
+      ExecutorService checksumValidationExecutorService,
+      Map<String, String> reusableFileChecksums) {
     this.inputStreamFuture = inputStreamFuture;
     this.payload = new BlobTransferPayload(baseDir, storeName, version, partition, tableFormat);
     this.storeName = storeName;
@@ -89,6 +121,7 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
     this.checksumValidationExecutorService = checksumValidationExecutorService;
     this.aggBlobTransferStats = aggBlobTransferStats;
     this.replicaTransferStartTime = System.currentTimeMillis();
+    this.reusableFileChecksums = reusableFileChecksums;
   }
 
   @Override
@@ -160,6 +193,13 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
         throw new VeniceException("No file name specified in the response for " + payload.getFullResourceName());
       }
 
+      // The peer skipped the file since the local copy is identical, it is followed by an empty content
+      if (BlobTransferUtils.isReusedFileMessage(response)) {
+        handleReusedFile();
+        return;
+      }
+      transferredFileNames.add(fileName);
+
       LOGGER.info("Starting blob file receiving for file: {} for {}", fileName, replicaId);
       this.fileTransferStartTime = System.currentTimeMillis();
       this.fileContentLength = Long.parseLong(response.headers().get(HttpHeaderNames.CONTENT_LENGTH));
@@ -327,6 +367,39 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
     return null;
   }
 
+  private void handleReusedFile() {
+    String localFileChecksum = reusableFileChecksums.get(fileName);
+    if (localFileChecksum == null || !localFileChecksum.equals(fileChecksum)
+        || !Files.exists(Paths.get(payload.getTempPartitionDir()).resolve(fileName))) {
+      throw new VeniceException(
+          "The peer skipped file: " + fileName + " with checksum: " + fileChecksum + " for replica: " + replicaId
+              + ", but the local copy is missing or has checksum: " + localFileChecksum);
+    }
+    LOGGER.info("Reusing the local copy of file: {} for replica: {}", fileName, replicaId);
+    transferredFileNames.add(fileName);
+    resetState();
+  }
+
+  /**
+   * Delete the files of the temp partition dir which are not part of the peer snapshot, like the reusable files kept
+   * from the stale local copy of the partition which the peer doesn't have anymore.
+   */
+  private void deleteUntransferredFiles() throws IOException {
+    File[] files = new File(payload.getTempPartitionDir()).listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File file: files) {
+      if (file.isFile() && !transferredFileNames.contains(file.getName())) {
+        Files.delete(file.toPath());
+        LOGGER.info(
+            "Deleted file: {} which is not part of the peer snapshot for replica: {}",
+            file.getName(),
+            replicaId);
+      }
+    }
+  }
+
   private void handleEndOfTransfer(ChannelHandlerContext ctx) {
     LOGGER.info(
         "All files received successfully for replica: {} took: {}ms",
@@ -351,6 +424,7 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
         LatencyUtils.getElapsedTimeFromMsToMs(replicaTransferStartTime));
 
     try {
+      deleteUntransferredFiles();
       RocksDBUtils.renameTempTransferredPartitionDirToPartitionDir(
           payload.getBaseDir(),
           payload.getTopicName(),
@@ -20,6 +20,8 @@ import java.util.Optional;
 
 
 public class BlobTransferNettyChannelInitializer extends ChannelInitializer<SocketChannel> {
+  // Large enough for the checksums of all the SST files of a partition, sent by the incremental transfer requests
+  private static final int MAX_REQUEST_CONTENT_LENGTH = 16 * 1024 * 1024;
   private final Optional<SSLFactory> sslFactory;
   private final SslFactory alpiniSslFactory;
   private final Optional<BlobTransferAclHandler> aclHandler;
@@ -63,7 +65,7 @@ public class BlobTransferNettyChannelInitializer extends ChannelInitializer<Sock
 
     pipeline.addLast("globalTrafficShaper", globalChannelTrafficShapingHandler)
         .addLast("codec", new HttpServerCodec()) // for http encoding/decoding.
-        .addLast("aggregator", new HttpObjectAggregator(65536));
+        .addLast("aggregator", new HttpObjectAggregator(MAX_REQUEST_CONTENT_LENGTH));
 
     if (sslFactory.isPresent()) {
       pipeline.addLast(verifySsl);
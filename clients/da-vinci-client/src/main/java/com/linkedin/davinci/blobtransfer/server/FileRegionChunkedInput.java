@@ -0,0 +1,83 @@
+package com.linkedin.davinci.blobtransfer.server;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
+import io.netty.handler.stream.ChunkedInput;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+
+/**
+ * Slices a file into {@link DefaultFileRegion}s of at most {@code chunkSize} bytes, which are written one at a time by
+ * the {@link io.netty.handler.stream.ChunkedWriteHandler}. The file is still sent with sendfile, but the traffic
+ * shaper sees a series of bounded writes which it can throttle, rather than a single write of the whole file which it
+ * would only delay once, before sending it at line rate.
+ *
+ * All the regions share the channel of the file, which is closed when the last region is released, or by
+ * {@link #close()} if the last region was never read, e.g. because the connection was closed in the middle.
+ */
+class FileRegionChunkedInput implements ChunkedInput<FileRegion> {
+  private final RandomAccessFile file;
+  private final long length;
+  private final int chunkSize;
+  private long offset = 0;
+  private boolean lastRegionRead = false;
+
+  FileRegionChunkedInput(RandomAccessFile file, long length, int chunkSize) {
+    this.file = file;
+    this.length = length;
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public boolean isEndOfInput() {
+    return offset >= length;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!lastRegionRead) {
+      file.close();
+    }
+  }
+
+  @Deprecated
+  @Override
+  public FileRegion readChunk(ChannelHandlerContext ctx) {
+    return readChunk(ctx.alloc());
+  }
+
+  @Override
+  public FileRegion readChunk(ByteBufAllocator allocator) {
+    if (isEndOfInput()) {
+      return null;
+    }
+    long count = Math.min(chunkSize, length - offset);
+    FileRegion region;
+    if (offset + count < length) {
+      region = new DefaultFileRegion(file.getChannel(), offset, count) {
+        @Override
+        protected void deallocate() {
+          // The channel of the file is closed by the last region
+        }
+      };
+    } else {
+      region = new DefaultFileRegion(file.getChannel(), offset, count);
+      lastRegionRead = true;
+    }
+    offset += count;
+    return region;
+  }
+
+  @Override
+  public long length() {
+    return length;
+  }
+
+  @Override
+  public long progress() {
+    return offset;
+  }
+}
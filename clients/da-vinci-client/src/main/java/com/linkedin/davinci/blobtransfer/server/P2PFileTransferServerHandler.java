@@ -12,6 +12,7 @@ import static io.netty.handler.codec.http.HttpHeaderValues.APPLICATION_JSON;
 import static io.netty.handler.codec.http.HttpHeaderValues.APPLICATION_OCTET_STREAM;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkedin.davinci.blobtransfer.BlobSnapshotManager;
 import com.linkedin.davinci.blobtransfer.BlobTransferPartitionMetadata;
@@ -22,6 +23,7 @@ import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.request.RequestHelper;
 import com.linkedin.venice.utils.ObjectMapperFactory;
 import com.linkedin.venice.utils.Utils;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandler;
@@ -37,6 +39,8 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.stream.ChunkedFile;
 import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
@@ -46,6 +50,8 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -104,7 +110,8 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
 
   /**
    * This method is called with the request that is received from the client.
-   * It validates the incoming request, and currently it only supports GET
+   * It validates the incoming request, and currently it only supports GET, and POST for the incremental transfer,
+   * whose content is the checksums of the reusable files the requester already has, keyed by file name
    * @param ctx           the {@link ChannelHandlerContext} which this {@link SimpleChannelInboundHandler}
    *                      belongs to
    * @param httpRequest           the message to handle
@@ -118,7 +125,7 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
       setupResponseAndFlush(HttpResponseStatus.BAD_REQUEST, "Request decoding failed".getBytes(), false, ctx);
       return;
     }
-    if (!httpRequest.method().equals(HttpMethod.GET)) {
+    if (!httpRequest.method().equals(HttpMethod.GET) && !httpRequest.method().equals(HttpMethod.POST)) {
       setupResponseAndFlush(
           HttpResponseStatus.METHOD_NOT_ALLOWED,
           "Request method is not supported".getBytes(),
@@ -128,10 +135,12 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     }
     BlobTransferPayload blobTransferRequest = null;
     final File snapshotDir;
+    final Map<String, String> requesterFileChecksums;
     BlobTransferPartitionMetadata transferPartitionMetadata;
 
     try {
       blobTransferRequest = parseBlobTransferPayload(URI.create(httpRequest.uri()));
+      requesterFileChecksums = parseRequesterFileChecksums(httpRequest);
       snapshotDir = new File(blobTransferRequest.getSnapshotDir());
 
       // Check the snapshot table format
@@ -272,8 +281,15 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
             isAdmittedClientOrigin(ctx));
         return;
       }
-      // send file
-      sendFile(file, ctx, blobTransferRequest, replicaInfo);
+      String fileChecksum = getFileChecksum(file, blobTransferRequest, replicaInfo);
+      if (BlobTransferUtils.isReusableFile(file.getName())
+          && fileChecksum.equals(requesterFileChecksums.get(file.getName()))) {
+        // the requester already has an identical copy of the file
+        sendReusedFile(file, fileChecksum, ctx, replicaInfo);
+      } else {
+        // send file
+        sendFile(file, fileChecksum, ctx, blobTransferRequest, replicaInfo);
+      }
     }
 
     sendMetadata(ctx, transferPartitionMetadata);
@@ -351,8 +367,56 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     ctx.close();
   }
 
+  private String getFileChecksum(File file, BlobTransferPayload blobTransferPayload, String replicaInfo)
+      throws IOException {
+    // The checksums are computed when the snapshot is created, so that the file is only read once here
+    String fileChecksum = blobSnapshotManager.getSnapshotFileChecksum(
+        blobTransferPayload.getTopicName(),
+        blobTransferPayload.getPartition(),
+        file.getName());
+    if (fileChecksum == null) {
+      long checksumStartTime = System.currentTimeMillis();
+      fileChecksum = BlobTransferUtils.generateFileChecksum(file.toPath());
+      LOGGER.info(
+          "Checksum calculation for file: {} for replica {} took {} ms.",
+          file.getName(),
+          replicaInfo,
+          System.currentTimeMillis() - checksumStartTime);
+    }
+    return fileChecksum;
+  }
+
+  /**
+   * Send the name and the checksum of a file without its content, to let the requester use its own copy of the file.
+   */
+  private void sendReusedFile(File file, String fileChecksum, ChannelHandlerContext ctx, String replicaInfo) {
+    FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    response.headers().set(HttpHeaderNames.CONTENT_LENGTH, 0);
+    response.headers().set(HttpHeaderNames.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getName() + "\"");
+    response.headers().set(HttpHeaderNames.CONTENT_MD5, fileChecksum);
+    response.headers().set(BLOB_TRANSFER_TYPE, BlobTransferType.REUSED_FILE);
+
+    ctx.writeAndFlush(response).addListener(future -> {
+      if (future.isSuccess()) {
+        LOGGER.info(
+            "Skipped file: {} for replica: {} since host: {} already has it",
+            file.getName(),
+            replicaInfo,
+            ctx.channel().remoteAddress());
+      } else {
+        LOGGER.error(
+            "Failed to send reused file: {} for replica: {} to host: {}",
+            file.getName(),
+            replicaInfo,
+            ctx.channel().remoteAddress(),
+            future.cause());
+      }
+    });
+  }
+
   private void sendFile(
       File file,
+      String fileChecksum,
       ChannelHandlerContext ctx,
       BlobTransferPayload blobTransferPayload,
       String replicaInfo) throws IOException {
@@ -365,14 +429,6 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     ChannelFuture sendFileFuture;
     long length = raf.length();
 
-    long checksumStartTime = System.currentTimeMillis();
-    String fileChecksum = BlobTransferUtils.generateFileChecksum(file.toPath());
-    LOGGER.info(
-        "Checksum calculation for file: {} for replica {} took {} ms.",
-        file.getName(),
-        replicaInfo,
-        System.currentTimeMillis() - checksumStartTime);
-
     HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
     response.headers().set(HttpHeaderNames.CONTENT_LENGTH, length);
     response.headers().set(HttpHeaderNames.CONTENT_TYPE, APPLICATION_OCTET_STREAM);
@@ -382,10 +438,18 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
 
     ctx.write(response);
 
-    // Use ChunkedFile with adaptive chunk size
-    // It means minimum chunk size: 16 KB (16384 bytes), maximum chunk size: 2 MB (1024 * 1024 bytes)
+    // Adaptive chunk size, so that each write through the traffic shaper stays bounded
+    // It means minimum chunk size: 16 KB (16384 bytes), maximum chunk size: 2 MB (2 * 1024 * 1024 bytes)
     int chunkSize = Math.min(2 * 1024 * 1024, (int) Math.max(16384, length / 4));
-    sendFileFuture = ctx.writeAndFlush(new HttpChunkedInput(new ChunkedFile(raf, 0, length, chunkSize)));
+    if (ctx.pipeline().get(SslHandler.class) == null) {
+      // Without TLS, let the kernel send the file straight from the page cache to the socket (sendfile), without
+      // copying it through the heap
+      ctx.write(new FileRegionChunkedInput(raf, length, chunkSize));
+      sendFileFuture = ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+    } else {
+      // Use ChunkedFile, since the file needs to be encrypted anyway
+      sendFileFuture = ctx.writeAndFlush(new HttpChunkedInput(new ChunkedFile(raf, 0, length, chunkSize)));
+    }
 
     sendFileFuture.addListener(future -> {
       if (future.isSuccess()) {
@@ -447,6 +511,27 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     });
   }
 
+  /**
+   * Parse the checksums of the reusable files the requester already has, which are only sent by the incremental
+   * transfer requests
+   * @param httpRequest the request
+   * @return the checksum of each file keyed by file name, which is empty if the requester has no file
+   */
+  private Map<String, String> parseRequesterFileChecksums(FullHttpRequest httpRequest)
+      throws IllegalArgumentException {
+    if (!httpRequest.method().equals(HttpMethod.POST) || !httpRequest.content().isReadable()) {
+      return Collections.emptyMap();
+    }
+    try {
+      return ObjectMapperFactory.getInstance()
+          .readValue(ByteBufUtil.getBytes(httpRequest.content()), new TypeReference<Map<String, String>>() {
+          });
+    } catch (IOException e) {
+      throw new IllegalArgumentException(
+          "Invalid file checksums in the request for fetching blob at " + httpRequest.uri() + ": " + e.getMessage());
+    }
+  }
+
   /**
    * Parse the URI to locate the blob
    * @param uri
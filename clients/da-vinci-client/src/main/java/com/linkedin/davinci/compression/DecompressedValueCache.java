@@ -0,0 +1,139 @@
+package com.linkedin.davinci.compression;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.linkedin.davinci.listener.response.ReadResponseStats;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A size-bounded cache of decompressed values, keyed by (store version, partition, key), so that the values which are
+ * read over and over again only pay for the decompression once.
+ *
+ * Each entry also retains the raw value it was decompressed from, and is only used if the raw value currently in the
+ * storage engine is identical to it. This keeps the cache consistent with ingested writes without any invalidation,
+ * at the cost of comparing the raw bytes, which is much cheaper than decompressing them.
+ *
+ * The admission and eviction are delegated to Caffeine's W-TinyLFU policy, which favors the frequently read keys.
+ */
+public class DecompressedValueCache {
+  private final Cache<CacheKey, CacheEntry> cache;
+  private final Map<String, LongAdder> evictionCountPerStore = new VeniceConcurrentHashMap<>();
+
+  public DecompressedValueCache(long capacityInBytes) {
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(capacityInBytes)
+        .weigher((CacheKey key, CacheEntry entry) -> key.key.length + entry.weight())
+        .removalListener((CacheKey key, CacheEntry entry, RemovalCause cause) -> {
+          if (key != null && cause.wasEvicted()) {
+            evictionCountPerStore
+                .computeIfAbsent(Version.parseStoreFromKafkaTopicName(key.storeVersion), s -> new LongAdder())
+                .increment();
+          }
+        })
+        .executor(Runnable::run)
+        .build();
+  }
+
+  /**
+   * @param key      the key, which is retained by the cache and must therefore not be mutated afterward
+   * @param rawValue the value as read from the storage engine, i.e. a schema header followed by the compressed bytes
+   * @return the decompressed bytes of {@param rawValue}, without schema header
+   */
+  public byte[] decompress(
+      String storeVersion,
+      int partition,
+      byte[] key,
+      byte[] rawValue,
+      VeniceCompressor compressor,
+      ReadResponseStats stats) {
+    CacheKey cacheKey = new CacheKey(storeVersion, partition, key);
+    CacheEntry entry = cache.getIfPresent(cacheKey);
+    if (entry != null && Arrays.equals(entry.rawValue, rawValue)) {
+      stats.incrementDecompressedValueCacheHitCount();
+      return entry.decompressedValue;
+    }
+    stats.incrementDecompressedValueCacheMissCount();
+    byte[] decompressedValue;
+    try {
+      decompressedValue = ByteUtils.extractByteArray(
+          compressor.decompress(
+              rawValue,
+              ValueRecord.SCHEMA_HEADER_LENGTH,
+              rawValue.length - ValueRecord.SCHEMA_HEADER_LENGTH));
+    } catch (IOException e) {
+      throw new VeniceException(
+          "Failed to decompress, compressionStrategy: " + compressor.getCompressionStrategy().name(),
+          e);
+    }
+    cache.put(cacheKey, new CacheEntry(rawValue, decompressedValue));
+    return decompressedValue;
+  }
+
+  /**
+   * @return the number of entries of {@param storeName} evicted since the last call for the same store
+   */
+  public int pollEvictionCount(String storeName) {
+    LongAdder evictionCount = evictionCountPerStore.get(storeName);
+    return evictionCount == null ? 0 : (int) evictionCount.sumThenReset();
+  }
+
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  private static final class CacheKey {
+    private final String storeVersion;
+    private final int partition;
+    private final byte[] key;
+    private final int hashCode;
+
+    CacheKey(String storeVersion, int partition, byte[] key) {
+      this.storeVersion = storeVersion;
+      this.partition = partition;
+      this.key = key;
+      this.hashCode = 31 * (31 * storeVersion.hashCode() + partition) + Arrays.hashCode(key);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) o;
+      return partition == other.partition && storeVersion.equals(other.storeVersion) && Arrays.equals(key, other.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  private static final class CacheEntry {
+    private final byte[] rawValue;
+    private final byte[] decompressedValue;
+
+    CacheEntry(byte[] rawValue, byte[] decompressedValue) {
+      this.rawValue = rawValue;
+      this.decompressedValue = decompressedValue;
+    }
+
+    int weight() {
+      return rawValue.length + decompressedValue.length;
+    }
+  }
+}
@@ -11,6 +11,7 @@ import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_CLIENT_NETTY_WORKER_T
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_CLIENT_READ_LIMIT_BYTES_PER_SEC;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_DISABLED_OFFSET_LAG_THRESHOLD;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_DISABLED_TIME_LAG_THRESHOLD_IN_MINUTES;
+import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_INCREMENTAL_TRANSFER_ENABLED;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_MANAGER_ENABLED;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_MAX_CONCURRENT_BLOB_RECEIVE_REPLICAS;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_MAX_CONCURRENT_SNAPSHOT_USER;
@@ -70,7 +71,11 @@ import static com.linkedin.venice.ConfigKeys.PUBSUB_TOPIC_MANAGER_METADATA_FETCH
 import static com.linkedin.venice.ConfigKeys.ROUTER_PRINCIPAL_NAME;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_COLLECTION_FIELD_ELEMENT_REPLACEMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_DCR_BUG_INJECTION_STORE_TO_REGION_MAP;
+import static com.linkedin.venice.ConfigKeys.SERVER_AA_PARALLEL_FIELD_MERGE_MIN_COLLECTION_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_AA_PARALLEL_FIELD_MERGE_MIN_FIELD_COUNT;
+import static com.linkedin.venice.ConfigKeys.SERVER_AA_PARALLEL_FIELD_MERGE_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_INGESTION_STORAGE_LOOKUP_THREAD_POOL_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_WORKLOAD_KEY_LANE_COUNT;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_ACTIVE_KEY_COUNT_FOR_ALL_BATCH_PUSH_ENABLED;
@@ -82,6 +87,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_THROTTLER_SIGNAL_ID
 import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_THROTTLER_SIGNAL_REFRESH_INTERVAL_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_THROTTLER_SINGLE_GET_LATENCY_THRESHOLD;
 import static com.linkedin.venice.ConfigKeys.SERVER_ADD_RMD_TO_BATCH_PUSH_FOR_HYBRID_STORES;
+import static com.linkedin.venice.ConfigKeys.SERVER_BATCH_GET_STORAGE_MULTI_GET_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_BATCH_PUSH_RECORD_COUNT_VERIFICATION_FAIL_ON_MISMATCH_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_BATCH_REPORT_END_OF_INCREMENTAL_PUSH_STATUS_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_BLOB_TRANSFER_ACCEPT_CLIENT_REQUEST_ENABLED;
@@ -114,6 +120,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_DATABASE_SYNC_BYTES_INTERNAL
 import static com.linkedin.venice.ConfigKeys.SERVER_DATABASE_SYNC_BYTES_INTERNAL_FOR_TRANSACTIONAL_MODE;
 import static com.linkedin.venice.ConfigKeys.SERVER_DB_READ_ONLY_FOR_BATCH_ONLY_STORE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_DEBUG_LOGGING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_DECOMPRESSED_VALUE_CACHE_CAPACITY_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.SERVER_DEDICATED_DRAINER_FOR_SORTED_INPUT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_DELETE_UNASSIGNED_PARTITIONS_ON_STARTUP;
 import static com.linkedin.venice.ConfigKeys.SERVER_DISK_FULL_THRESHOLD;
@@ -208,6 +215,8 @@ import static com.linkedin.venice.ConfigKeys.SERVER_RESUBSCRIPTION_CHECK_INTERVA
 import static com.linkedin.venice.ConfigKeys.SERVER_RESUBSCRIPTION_TRIGGERED_BY_VERSION_INGESTION_CONTEXT_CHANGE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_ROCKSDB_STORAGE_CONFIG_CHECK_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_ROUTER_CONNECTION_WARMING_DELAY_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_ROW_CACHE_CAPACITY_PER_STORE_VERSION_IN_BYTES;
+import static com.linkedin.venice.ConfigKeys.SERVER_ROW_CACHE_STORES;
 import static com.linkedin.venice.ConfigKeys.SERVER_SCHEMA_FAST_CLASS_WARMUP_TIMEOUT;
 import static com.linkedin.venice.ConfigKeys.SERVER_SCHEMA_PRESENCE_CHECK_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_CONSUMER_ASSIGNMENT_STRATEGY;
@@ -216,6 +225,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_SHUTDOWN_DISK_UNHEALTHY_TIME
 import static com.linkedin.venice.ConfigKeys.SERVER_SHUTDOWN_PARTITION_STATE_TIMEOUT_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHUTDOWN_SIT_WAIT_TIME_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHUTDOWN_SYNC_OFFSET_TIMEOUT_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_SINGLE_GET_POOLED_BUFFER_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_SKIP_CHECK_AFTER_UNSUB_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_SOURCE_TOPIC_OFFSET_CHECK_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SSL_HANDSHAKE_QUEUE_CAPACITY;
@@ -248,6 +258,8 @@ import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_AFTER_LEADER_LO
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_MEMORY_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_NOTIFY_DELTA;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_NUMBER;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_WORK_STEALING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_WRITE_BATCH_SIZE;
 import static com.linkedin.venice.ConfigKeys.SYSTEM_SCHEMA_CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.SYSTEM_SCHEMA_INITIALIZATION_AT_START_TIME_ENABLED;
 import static com.linkedin.venice.ConfigKeys.TIME_LAG_THRESHOLD_FOR_FAST_ONLINE_TRANSITION_IN_RESTART_MINUTES;
@@ -355,6 +367,13 @@ public class VeniceServerConfig extends VeniceClusterConfig {
    */
   private final boolean storeWriterBufferAfterLeaderLogicEnabled;
 
+  /**
+   * Whether idle drainers of the {@link com.linkedin.davinci.kafka.consumer.StoreBufferService} can claim the buffered
+   * partitions of busy drainers.
+   */
+  private final boolean storeWriterWorkStealingEnabled;
+  private final int storeWriterWriteBatchSize;
+
   /**
    * Buffer capacity being used by each writer.
    * We need to be careful when tuning this param.
@@ -495,6 +514,9 @@ public class VeniceServerConfig extends VeniceClusterConfig {
    * only advancing its replication-metadata timestamp. See SERVER_AA_COLLECTION_FIELD_ELEMENT_REPLACEMENT_ENABLED.
    */
   private final boolean activeActiveCollectionFieldElementReplacementEnabled;
+  private final int activeActiveParallelFieldMergeThreadPoolSize;
+  private final int activeActiveParallelFieldMergeMinFieldCount;
+  private final int activeActiveParallelFieldMergeMinCollectionSize;
 
   private final long participantMessageConsumptionDelayMs;
 
@@ -515,6 +537,16 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final int parallelBatchGetChunkSize;
 
+  private final boolean batchGetStorageMultiGetEnabled;
+
+  private final boolean singleGetPooledBufferEnabled;
+
+  private final Set<String> rowCacheStores;
+
+  private final long rowCacheCapacityPerStoreVersionInBytes;
+
+  private final long decompressedValueCacheCapacityInBytes;
+
   private final boolean keyValueProfilingEnabled;
 
   private final boolean enableDatabaseMemoryStats;
@@ -696,6 +728,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final long blobTransferServiceWriteLimitBytesPerSec;
   private final long blobTransferDisabledOffsetLagThreshold;
   private final int blobTransferDisabledTimeLagThresholdInMinutes;
+  private final boolean blobTransferIncrementalTransferEnabled;
   private final int snapshotCleanupIntervalInMins;
   private final int maxConcurrentBlobReceiveReplicas;
   private final int dvcP2pBlobTransferServerPort;
@@ -714,6 +747,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final int channelOptionWriteBufferHighBytes;
   private final boolean aaWCWorkloadParallelProcessingEnabled;
   private final int aaWCWorkloadParallelProcessingThreadPoolSize;
+  private final int aaWCWorkloadKeyLaneCount;
   private final boolean crossTpParallelProcessingEnabled;
   private final int crossTpParallelProcessingThreadPoolSize;
   private final boolean crossTpParallelProcessingCurrentVersionAAWCLeaderOnly;
@@ -865,6 +899,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         serverProperties.getLong(BLOB_TRANSFER_DISABLED_OFFSET_LAG_THRESHOLD, 100000L);
     blobTransferDisabledTimeLagThresholdInMinutes =
         serverProperties.getInt(BLOB_TRANSFER_DISABLED_TIME_LAG_THRESHOLD_IN_MINUTES, 0); // Default: Disabled.
+    blobTransferIncrementalTransferEnabled =
+        serverProperties.getBoolean(BLOB_TRANSFER_INCREMENTAL_TRANSFER_ENABLED, false);
 
     dvcP2pBlobTransferServerPort = serverProperties.getInt(DAVINCI_P2P_BLOB_TRANSFER_SERVER_PORT, -1);
     dvcP2pBlobTransferClientPort =
@@ -888,6 +924,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
     storeWriterBufferAfterLeaderLogicEnabled =
         serverProperties.getBoolean(STORE_WRITER_BUFFER_AFTER_LEADER_LOGIC_ENABLED, true);
+    storeWriterWorkStealingEnabled = serverProperties.getBoolean(STORE_WRITER_WORK_STEALING_ENABLED, false);
+    storeWriterWriteBatchSize = serverProperties.getInt(STORE_WRITER_WRITE_BATCH_SIZE, 1);
     // To minimize the GC impact during heavy ingestion.
     storeWriterBufferMemoryCapacity =
         serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_MEMORY_CAPACITY, 10 * 1024 * 1024);
@@ -971,6 +1009,12 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     computeFastAvroEnabled = serverProperties.getBoolean(SERVER_COMPUTE_FAST_AVRO_ENABLED, true);
     activeActiveCollectionFieldElementReplacementEnabled =
         serverProperties.getBoolean(SERVER_AA_COLLECTION_FIELD_ELEMENT_REPLACEMENT_ENABLED, false);
+    activeActiveParallelFieldMergeThreadPoolSize =
+        serverProperties.getInt(SERVER_AA_PARALLEL_FIELD_MERGE_THREAD_POOL_SIZE, 0);
+    activeActiveParallelFieldMergeMinFieldCount =
+        serverProperties.getInt(SERVER_AA_PARALLEL_FIELD_MERGE_MIN_FIELD_COUNT, 64);
+    activeActiveParallelFieldMergeMinCollectionSize =
+        serverProperties.getInt(SERVER_AA_PARALLEL_FIELD_MERGE_MIN_COLLECTION_SIZE, 1024);
     participantMessageConsumptionDelayMs = serverProperties.getLong(PARTICIPANT_MESSAGE_CONSUMPTION_DELAY_MS, 60000);
     serverPromotionToLeaderReplicaDelayMs =
         TimeUnit.SECONDS.toMillis(serverProperties.getLong(SERVER_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS, 300));
@@ -980,6 +1024,13 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
     enableParallelBatchGet = serverProperties.getBoolean(SERVER_ENABLE_PARALLEL_BATCH_GET, false);
     parallelBatchGetChunkSize = serverProperties.getInt(SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE, 5);
+    batchGetStorageMultiGetEnabled = serverProperties.getBoolean(SERVER_BATCH_GET_STORAGE_MULTI_GET_ENABLED, false);
+    singleGetPooledBufferEnabled = serverProperties.getBoolean(SERVER_SINGLE_GET_POOLED_BUFFER_ENABLED, false);
+    rowCacheStores = new HashSet<>(serverProperties.getList(SERVER_ROW_CACHE_STORES, Collections.emptyList()));
+    rowCacheCapacityPerStoreVersionInBytes =
+        serverProperties.getSizeInBytes(SERVER_ROW_CACHE_CAPACITY_PER_STORE_VERSION_IN_BYTES, 64 * 1024 * 1024L);
+    decompressedValueCacheCapacityInBytes =
+        serverProperties.getSizeInBytes(SERVER_DECOMPRESSED_VALUE_CACHE_CAPACITY_IN_BYTES, 0);
 
     keyValueProfilingEnabled = serverProperties.getBoolean(KEY_VALUE_PROFILING_ENABLED, false);
     enableDatabaseMemoryStats = serverProperties.getBoolean(SERVER_DATABASE_MEMORY_STATS_ENABLED, true);
@@ -1258,6 +1309,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         serverProperties.getBoolean(SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_ENABLED, false);
     aaWCWorkloadParallelProcessingThreadPoolSize =
         serverProperties.getInt(SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_THREAD_POOL_SIZE, 8);
+    aaWCWorkloadKeyLaneCount = serverProperties.getInt(SERVER_AA_WC_WORKLOAD_KEY_LANE_COUNT, 0);
     crossTpParallelProcessingEnabled = serverProperties.getBoolean(SERVER_CROSS_TP_PARALLEL_PROCESSING_ENABLED, false);
     crossTpParallelProcessingThreadPoolSize =
         serverProperties.getInt(SERVER_CROSS_TP_PARALLEL_PROCESSING_THREAD_POOL_SIZE, 4);
@@ -1470,6 +1522,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return blobTransferDisabledTimeLagThresholdInMinutes;
   }
 
+  public boolean isBlobTransferIncrementalTransferEnabled() {
+    return blobTransferIncrementalTransferEnabled;
+  }
+
   public int getSnapshotCleanupIntervalInMins() {
     return snapshotCleanupIntervalInMins;
   }
@@ -1519,6 +1575,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return this.storeWriterBufferAfterLeaderLogicEnabled;
   }
 
+  public boolean isStoreWriterWorkStealingEnabled() {
+    return this.storeWriterWorkStealingEnabled;
+  }
+
+  public int getStoreWriterWriteBatchSize() {
+    return this.storeWriterWriteBatchSize;
+  }
+
   public long getStoreWriterBufferMemoryCapacity() {
     return this.storeWriterBufferMemoryCapacity;
   }
@@ -1647,6 +1711,18 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return activeActiveCollectionFieldElementReplacementEnabled;
   }
 
+  public int getActiveActiveParallelFieldMergeThreadPoolSize() {
+    return activeActiveParallelFieldMergeThreadPoolSize;
+  }
+
+  public int getActiveActiveParallelFieldMergeMinFieldCount() {
+    return activeActiveParallelFieldMergeMinFieldCount;
+  }
+
+  public int getActiveActiveParallelFieldMergeMinCollectionSize() {
+    return activeActiveParallelFieldMergeMinCollectionSize;
+  }
+
   public long getParticipantMessageConsumptionDelayMs() {
     return participantMessageConsumptionDelayMs;
   }
@@ -1671,6 +1747,26 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return parallelBatchGetChunkSize;
   }
 
+  public boolean isBatchGetStorageMultiGetEnabled() {
+    return batchGetStorageMultiGetEnabled;
+  }
+
+  public boolean isSingleGetPooledBufferEnabled() {
+    return singleGetPooledBufferEnabled;
+  }
+
+  public boolean isRowCacheEnabled(String storeName) {
+    return rowCacheStores.contains(storeName);
+  }
+
+  public long getRowCacheCapacityPerStoreVersionInBytes() {
+    return rowCacheCapacityPerStoreVersionInBytes;
+  }
+
+  public long getDecompressedValueCacheCapacityInBytes() {
+    return decompressedValueCacheCapacityInBytes;
+  }
+
   public boolean isKeyValueProfilingEnabled() {
     return keyValueProfilingEnabled;
   }
@@ -2248,6 +2344,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return aaWCWorkloadParallelProcessingThreadPoolSize;
   }
 
+  public int getAAWCWorkloadKeyLaneCount() {
+    return aaWCWorkloadKeyLaneCount;
+  }
+
   public boolean isCrossTpParallelProcessingEnabled() {
     return crossTpParallelProcessingEnabled;
   }
@@ -16,6 +16,7 @@ import com.linkedin.davinci.replication.merge.MergeConflictResolverFactory;
 import com.linkedin.davinci.replication.merge.MergeConflictResult;
 import com.linkedin.davinci.replication.merge.RmdSerDe;
 import com.linkedin.davinci.replication.merge.StringAnnotatedStoreSchemaCache;
+import com.linkedin.davinci.schema.merge.ParallelFieldMerger;
 import com.linkedin.davinci.stats.AggVersionedIngestionStats;
 import com.linkedin.davinci.storage.StorageService;
 import com.linkedin.davinci.storage.chunking.ChunkedValueManifestContainer;
@@ -101,6 +102,10 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
   private final MergeConflictResolver mergeConflictResolver;
   private final RmdSerDe rmdSerDe;
   private final Lazy<KeyLevelLocksManager> keyLevelLocksManager;
+  /**
+   * Replaces {@link #keyLevelLocksManager} when the key lanes are enabled, and is null otherwise.
+   */
+  private final KeyLanes keyLanes;
   private final AggVersionedIngestionStats aggVersionedIngestionStats;
   private final RemoteIngestionRepairService remoteIngestionRepairService;
   private final Lazy<IngestionBatchProcessor> ingestionBatchProcessorLazy;
@@ -170,6 +175,8 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
             getVersionTopic().getName(),
             initialPoolSize,
             getKeyLevelLockMaxPoolSizeBasedOnServerConfig(serverConfig, storeVersionPartitionCount)));
+    int keyLaneCount = serverConfig.getAAWCWorkloadKeyLaneCount();
+    this.keyLanes = keyLaneCount > 0 ? new KeyLanes(keyLaneCount) : null;
     StringAnnotatedStoreSchemaCache annotatedReadOnlySchemaRepository =
         new StringAnnotatedStoreSchemaCache(storeName, schemaRepository);
 
@@ -184,7 +191,13 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
             getStoreName(),
             isWriteComputationEnabled,
             getServerConfig().isComputeFastAvroEnabled(),
-            getServerConfig().isActiveActiveCollectionFieldElementReplacementEnabled());
+            getServerConfig().isActiveActiveCollectionFieldElementReplacementEnabled(),
+            builder.getAAParallelFieldMergePool() == null
+                ? ParallelFieldMerger.SERIAL
+                : new ParallelFieldMerger(
+                    builder.getAAParallelFieldMergePool(),
+                    serverConfig.getActiveActiveParallelFieldMergeMinFieldCount(),
+                    serverConfig.getActiveActiveParallelFieldMergeMinCollectionSize()));
     this.remoteIngestionRepairService = builder.getRemoteIngestionRepairService();
     this.reusableObjectsSupplier = Objects.requireNonNull(builder.getReusableObjectsSupplier());
 
@@ -227,7 +240,8 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
       return new IngestionBatchProcessor(
           kafkaVersionTopic,
           parallelProcessingThreadPool,
-          keyLevelLocksManager.get(),
+          keyLanes == null ? keyLevelLocksManager.get() : null,
+          keyLanes,
           this::processActiveActiveMessage,
           isWriteComputationEnabled,
           isActiveActiveReplicationEnabled(),
@@ -267,6 +281,22 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
        * -> [fabric B thread]update transient record cache -> [fabric B thread]produce to VT -> [fabric A thread]update transient record cache
        * -> [fabric A thread]produce to VT
        */
+      if (keyLanes != null) {
+        ReentrantLock laneLock =
+            keyLanes.getLaneLock(keyLanes.getLane(consumerRecordWrapper.getMessage().getKey().getKey()));
+        laneLock.lock();
+        try {
+          return super.delegateConsumerRecord(
+              consumerRecordWrapper,
+              partition,
+              kafkaUrl,
+              kafkaClusterId,
+              beforeProcessingPerRecordTimestampNs,
+              beforeProcessingBatchRecordsTimestampMs);
+        } finally {
+          laneLock.unlock();
+        }
+      }
       final ByteArrayKey byteArrayKey = ByteArrayKey.wrap(consumerRecordWrapper.getMessage().getKey().getKey());
       ReentrantLock keyLevelLock = this.keyLevelLocksManager.get().acquireLockByKey(byteArrayKey);
       keyLevelLock.lock();
@@ -482,7 +512,7 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
     // Get old RMD manifest value from RMD Manifest container object.
     rmdWithValueSchemaId.setRmdManifest(rmdManifestContainer.getManifest());
     getRmdSerDe()
-        .deserializeValueSchemaIdPrependedRmdBytes(replicationMetadataWithValueSchemaBytes, rmdWithValueSchemaId);
+        .lazilyDeserializeValueSchemaIdPrependedRmdBytes(replicationMetadataWithValueSchemaBytes, rmdWithValueSchemaId);
     return rmdWithValueSchemaId;
   }
 
@@ -605,9 +635,7 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
     // Capture pre-DCR timestamp for the ts=0 sentinel fast-path in wasOldValueAlive.
     // DCR mutates rmdRecord in-place (AbstractMerge.putWithRecordLevelTimestamp),
     // so reading the timestamp after DCR would always see the incoming write's ts.
-    final Object preDcrTimestamp = (rmdWithValueSchemaID != null)
-        ? rmdWithValueSchemaID.getRmdRecord().get(RmdConstants.TIMESTAMP_FIELD_POS)
-        : null;
+    final Object preDcrTimestamp = (rmdWithValueSchemaID != null) ? rmdWithValueSchemaID.getRmdTimestampObject() : null;
 
     long beforeDCRTimestampInNs = System.nanoTime();
     switch (msgType) {
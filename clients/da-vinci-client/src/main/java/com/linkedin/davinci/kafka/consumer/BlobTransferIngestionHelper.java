@@ -4,6 +4,7 @@ import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BlobTransferTa
 
 import com.linkedin.davinci.blobtransfer.BlobTransferManager;
 import com.linkedin.davinci.blobtransfer.BlobTransferStatusTrackingManager;
+import com.linkedin.davinci.blobtransfer.BlobTransferUtils;
 import com.linkedin.davinci.blobtransfer.BlobTransferUtils.BlobTransferStatus;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
@@ -194,6 +195,11 @@ public class BlobTransferIngestionHelper {
     String replicaId = pcs.getReplicaId();
     LOGGER.info("Starting async blob transfer for replica: {}", replicaId);
 
+    // With incremental transfer, keep the immutable files of the existing partition data in the temp partition dir, so
+    // that the peer only transfers the files which are missing locally
+    boolean keepReusableFiles = serverConfig.isBlobTransferIncrementalTransferEnabled()
+        && linkReusableFilesBeforeBlobTransfer(kafkaVersionTopic, partition, replicaId);
+
     // Prepare storage for blob transfer: drop existing partition data and clean up directories
     if (storageEngine.containsPartition(partition)) {
       storageEngine.dropPartition(partition, false);
@@ -202,7 +208,7 @@ public class BlobTransferIngestionHelper {
 
     // Pre-transfer validation and cleanup
     Supplier<StoreVersionState> svsSupplier = () -> storageMetadataService.getStoreVersionState(kafkaVersionTopic);
-    validateDirectoriesBeforeBlobTransfer(storeName, versionNumber, partition);
+    validateDirectoriesBeforeBlobTransfer(storeName, versionNumber, partition, keepReusableFiles);
     addStoragePartitionWhenBlobTransferStart(partition, storeVersionConfig, svsSupplier, replicaId);
 
     // Determine table format
@@ -245,11 +251,43 @@ public class BlobTransferIngestionHelper {
     });
   }
 
+  /**
+   * Hard link the immutable files of the existing partition directory into the temp partition directory, to be reused
+   * by the incremental blob transfer.
+   * @return whether the temp partition directory should be kept, false if the files couldn't be linked
+   */
+  private boolean linkReusableFilesBeforeBlobTransfer(String kafkaVersionTopic, int partitionId, String replicaId) {
+    String rocksDBPath = serverConfig.getRocksDBPath();
+    try {
+      int linkedFileCount = BlobTransferUtils.linkReusableFiles(
+          RocksDBUtils.composePartitionDbDir(rocksDBPath, kafkaVersionTopic, partitionId),
+          RocksDBUtils.composeTempPartitionDir(rocksDBPath, kafkaVersionTopic, partitionId));
+      LOGGER.info("Kept {} local files to be reused by the blob transfer for replica {}", linkedFileCount, replicaId);
+      return true;
+    } catch (Exception e) {
+      LOGGER.warn("Failed to keep the local files for replica {}, all the files will be transferred", replicaId, e);
+      return false;
+    }
+  }
+
   /**
    * Before bootstrapping from blob transfer, validate the partition directory and temp partition directory.
-   * If either of them exists, delete them to ensure a clean state for blob transfer.
+   * If either of them exists, delete them to ensure a clean state for blob transfer. The temp partition directory is
+   * kept if it holds the reusable files of an incremental transfer.
    */
-  private void validateDirectoriesBeforeBlobTransfer(String storeName, int versionNumber, int partitionId) {
+  private void validateDirectoriesBeforeBlobTransfer(
+      String storeName,
+      int versionNumber,
+      int partitionId,
+      boolean keepTempPartitionDir) {
+    if (keepTempPartitionDir) {
+      RocksDBUtils.deleteDirectory(
+          RocksDBUtils.composePartitionDbDir(
+              serverConfig.getRocksDBPath(),
+              Version.composeKafkaTopic(storeName, versionNumber),
+              partitionId));
+      return;
+    }
     RocksDBUtils.cleanupBothPartitionDirAndTempTransferredDir(
         storeName,
         versionNumber,
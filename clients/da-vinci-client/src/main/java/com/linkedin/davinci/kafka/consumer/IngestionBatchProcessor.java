@@ -8,6 +8,7 @@ import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.pubsub.api.DefaultPubSubMessage;
 import com.linkedin.venice.utils.LatencyUtils;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -28,7 +29,7 @@ import java.util.concurrent.locks.ReentrantLock;
 public class IngestionBatchProcessor {
   private static final TreeMap EMPTY_TREE_MAP = new TreeMap();
 
-  interface ProcessingFunction {
+  public interface ProcessingFunction {
     PubSubMessageProcessedResult apply(
         DefaultPubSubMessage consumerRecord,
         PartitionConsumptionState partitionConsumptionState,
@@ -44,6 +45,7 @@ public class IngestionBatchProcessor {
   private final int version;
   private final ExecutorService batchProcessingThreadPool;
   private final KeyLevelLocksManager lockManager;
+  private final KeyLanes keyLanes;
   private final boolean isWriteComputationEnabled;
   private final boolean isActiveActiveReplicationEnabled;
   private final ProcessingFunction processingFunction;
@@ -54,6 +56,7 @@ public class IngestionBatchProcessor {
       String storeVersionName,
       ExecutorService batchProcessingThreadPool,
       KeyLevelLocksManager lockManager,
+      KeyLanes keyLanes,
       ProcessingFunction processingFunction,
       boolean isWriteComputationEnabled,
       boolean isActiveActiveReplicationEnabled,
@@ -62,6 +65,7 @@ public class IngestionBatchProcessor {
     this.storeVersionName = storeVersionName;
     this.batchProcessingThreadPool = batchProcessingThreadPool;
     this.lockManager = lockManager;
+    this.keyLanes = keyLanes;
     this.processingFunction = processingFunction;
     this.isWriteComputationEnabled = isWriteComputationEnabled;
     this.isActiveActiveReplicationEnabled = isActiveActiveReplicationEnabled;
@@ -110,6 +114,22 @@ public class IngestionBatchProcessor {
     }
   }
 
+  /**
+   * When {@link #keyLanes} is not null, this function will lock the lanes of all the keys (except Control Messages)
+   * passed by the params, which is the alternative to {@link #lockKeys(List)}.
+   *
+   * @return the locked lanes, or null if {@link #keyLanes} is null
+   */
+  public BitSet lockLanes(List<DefaultPubSubMessage> records) {
+    return keyLanes == null ? null : keyLanes.lockLanes(records);
+  }
+
+  public void unlockLanes(BitSet lanes) {
+    if (keyLanes != null) {
+      keyLanes.unlockLanes(lanes);
+    }
+  }
+
   public static boolean isAllMessagesFromRTTopic(Iterable<DefaultPubSubMessage> records) {
     for (DefaultPubSubMessage record: records) {
       if (!record.getTopicPartition().getPubSubTopic().isRealTime()) {
@@ -134,10 +154,11 @@ public class IngestionBatchProcessor {
     boolean isAllMessagesFromRTTopic = true;
     List<PubSubMessageProcessedResultWrapper> resultList = new ArrayList<>(records.size());
     /**
-     * We would like to process the messages belonging to the same key sequentially to avoid race conditions.
+     * We would like to process the messages belonging to the same key sequentially to avoid race conditions, so they
+     * are grouped by key, or by lane when {@link #keyLanes} is enabled, which bounds the number of groups.
      */
     int totalNumOfRecords = 0;
-    Map<ByteArrayKey, List<PubSubMessageProcessedResultWrapper>> keyGroupMap = new HashMap<>(records.size());
+    Map<Object, List<PubSubMessageProcessedResultWrapper>> keyGroupMap = new HashMap<>(records.size());
 
     for (DefaultPubSubMessage message: records) {
       if (!message.getTopicPartition().getPubSubTopic().isRealTime()) {
@@ -146,8 +167,9 @@ public class IngestionBatchProcessor {
       PubSubMessageProcessedResultWrapper resultWrapper = new PubSubMessageProcessedResultWrapper(message);
       resultList.add(resultWrapper);
       if (!message.getKey().isControlMessage() && isAllMessagesFromRTTopic) {
-        ByteArrayKey byteArrayKey = ByteArrayKey.wrap(message.getKey().getKey());
-        keyGroupMap.computeIfAbsent(byteArrayKey, (ignored) -> new ArrayList<>()).add(resultWrapper);
+        byte[] key = message.getKey().getKey();
+        Object groupKey = keyLanes == null ? ByteArrayKey.wrap(key) : keyLanes.getLane(key);
+        keyGroupMap.computeIfAbsent(groupKey, (ignored) -> new ArrayList<>()).add(resultWrapper);
         totalNumOfRecords++;
       }
     }
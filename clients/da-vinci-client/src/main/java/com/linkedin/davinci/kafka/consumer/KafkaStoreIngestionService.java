@@ -123,6 +123,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -239,6 +240,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
   private final Lazy<ZKHelixAdmin> zkHelixAdmin;
 
   private final ExecutorService aaWCIngestionStorageLookupThreadPool;
+  private final ForkJoinPool aaParallelFieldMergePool;
 
   private final ScheduledExecutorService idleStoreIngestionTaskKillerExecutor;
 
@@ -459,7 +461,9 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
           serverConfig.getLogContext(),
           metricsRepository,
           true,
-          serverConfig.getClusterName());
+          serverConfig.getClusterName(),
+          serverConfig.isStoreWriterWorkStealingEnabled(),
+          serverConfig.getStoreWriterWriteBatchSize());
     }
     this.kafkaMessageEnvelopeSchemaReader = kafkaMessageEnvelopeSchemaReader;
 
@@ -535,6 +539,15 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
         "Enabled a thread pool for AA/WC ingestion lookup with {} threads.",
         serverConfig.getAaWCIngestionStorageLookupThreadPoolSize());
 
+    if (serverConfig.getActiveActiveParallelFieldMergeThreadPoolSize() > 0) {
+      this.aaParallelFieldMergePool = new ForkJoinPool(serverConfig.getActiveActiveParallelFieldMergeThreadPoolSize());
+      LOGGER.info(
+          "Enabled a fork-join pool for AA parallel field merge with {} threads.",
+          serverConfig.getActiveActiveParallelFieldMergeThreadPoolSize());
+    } else {
+      this.aaParallelFieldMergePool = null;
+    }
+
     Supplier<IngestionTaskReusableObjects> reusableObjectsSupplier =
         serverConfig.getIngestionTaskReusableObjectsStrategy().supplier();
 
@@ -561,6 +574,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
         .setHeartbeatMonitoringService(heartbeatMonitoringService)
         .setAAWCWorkLoadProcessingThreadPool(aaWCWorkLoadProcessingThreadPool)
         .setAAWCIngestionStorageLookupThreadPool(aaWCIngestionStorageLookupThreadPool)
+        .setAAParallelFieldMergePool(aaParallelFieldMergePool)
         .setReusableObjectsSupplier(reusableObjectsSupplier)
         .setBlobTransferManagerSupplier(() -> this.blobTransferManager)
         .setBlobTransferDisabledStores(blobTransferDisabledStores)
@@ -775,6 +789,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
 
     shutdownExecutorService(aaWCWorkLoadProcessingThreadPool, "aaWCWorkLoadProcessingThreadPool", true);
     shutdownExecutorService(aaWCIngestionStorageLookupThreadPool, "aaWCIngestionStorageLookupThreadPool", true);
+    shutdownExecutorService(aaParallelFieldMergePool, "aaParallelFieldMergePool", true);
 
     kafkaMessageEnvelopeSchemaReader.ifPresent(Utils::closeQuietlyWithErrorLogged);
 
@@ -0,0 +1,80 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.venice.pubsub.api.DefaultPubSubMessage;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * An alternative to {@link KeyLevelLocksManager}, which splits the key space of a store version into a fixed number of
+ * lanes by key hash, instead of assigning a lock from a pool to each key being processed.
+ *
+ * {@link IngestionBatchProcessor} partitions each batch by lane up front, and processes the records of each lane
+ * sequentially on its own worker, so the records of the same key are processed in order without any per-key locking.
+ *
+ * The lane locks are only there to serialize the batches of the different consumers of the same partition (e.g. one
+ * per source region for Active/Active), since the critical section described in {@link KeyLevelLocksManager} also
+ * spans the produce to the version topic, which happens on the consumer thread. A batch acquires the lock of each
+ * lane it touches exactly once, in ascending lane order so that concurrent batches cannot deadlock. As the number of
+ * lanes is fixed, there is no pool to maintain, and nothing to exhaust. The trade-off is that the unrelated keys which
+ * share a lane are serialized across consumers, which is why the lane count should be well above the number of
+ * consumers which can process the same partition concurrently.
+ */
+public class KeyLanes {
+  private final ReentrantLock[] laneLocks;
+  private final int laneMask;
+
+  /**
+   * @param laneCount rounded up to the next power of 2
+   */
+  public KeyLanes(int laneCount) {
+    if (laneCount <= 0) {
+      throw new IllegalArgumentException("Param laneCount: " + laneCount + " should be positive");
+    }
+    int roundedLaneCount = laneCount == 1 ? 1 : Integer.highestOneBit(laneCount - 1) << 1;
+    this.laneLocks = new ReentrantLock[roundedLaneCount];
+    for (int i = 0; i < roundedLaneCount; i++) {
+      this.laneLocks[i] = new ReentrantLock();
+    }
+    this.laneMask = roundedLaneCount - 1;
+  }
+
+  public int getLaneCount() {
+    return laneLocks.length;
+  }
+
+  public int getLane(byte[] key) {
+    int hash = Arrays.hashCode(key);
+    return (hash ^ (hash >>> 16)) & laneMask;
+  }
+
+  ReentrantLock getLaneLock(int lane) {
+    return laneLocks[lane];
+  }
+
+  /**
+   * Locks the lanes of all the keys (except Control Messages) of the given records.
+   *
+   * @return the locked lanes, to be passed to {@link #unlockLanes(BitSet)}
+   */
+  public BitSet lockLanes(List<DefaultPubSubMessage> records) {
+    BitSet lanes = new BitSet(laneLocks.length);
+    for (DefaultPubSubMessage record: records) {
+      if (!record.getKey().isControlMessage()) {
+        lanes.set(getLane(record.getKey().getKey()));
+      }
+    }
+    for (int lane = lanes.nextSetBit(0); lane >= 0; lane = lanes.nextSetBit(lane + 1)) {
+      laneLocks[lane].lock();
+    }
+    return lanes;
+  }
+
+  public void unlockLanes(BitSet lanes) {
+    for (int lane = lanes.previousSetBit(laneLocks.length - 1); lane >= 0; lane = lanes.previousSetBit(lane - 1)) {
+      laneLocks[lane].unlock();
+    }
+  }
+}
@@ -344,6 +344,7 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
           kafkaVersionTopic,
           parallelProcessingThreadPool,
           null,
+          null,
           this::processMessage,
           isWriteComputationEnabled,
           isActiveActiveReplicationEnabled(),
@@ -174,6 +174,12 @@ public class PartitionConsumptionState {
    */
   private long processedRecordSizeSinceLastSync;
 
+  /**
+   * Whether a drainer is buffering the writes of this partition in a write batch of the storage engine, in which case
+   * the size-based offset sync is deferred to the commit of the batch.
+   */
+  private volatile boolean writeBatchOpen = false;
+
   /**
    * Tracks bytes consumed per source key (VT name or RT broker URL) since the last Global RT DIV sync.
    * Stored per-partition so that each partition's sync cadence is independent.
@@ -866,6 +872,14 @@ public class PartitionConsumptionState {
     this.processedRecordSizeSinceLastSync = 0;
   }
 
+  public boolean isWriteBatchOpen() {
+    return this.writeBatchOpen;
+  }
+
+  public void setWriteBatchOpen(boolean writeBatchOpen) {
+    this.writeBatchOpen = writeBatchOpen;
+  }
+
   public long getConsumedBytesSinceLastGlobalRtDivSync(String key) {
     return consumedBytesSinceLastGlobalRtDivSync.getOrDefault(key, 0L);
   }
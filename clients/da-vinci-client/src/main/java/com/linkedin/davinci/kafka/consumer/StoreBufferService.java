@@ -56,6 +56,8 @@ import org.apache.logging.log4j.Logger;
  * 5. There is still a thread executing {@link StoreIngestionTask} for each topic, which will handle admin actions, such
  * as subscribe, unsubscribe, kill and so on, and also poll consumer records from Kafka and put them into {@link #blockingQueueArr}
  * maintained by {@link StoreBufferService};
+ * 6. When the work stealing is enabled, each topic+partition is buffered in its own queue instead, and an idle drainer
+ * can process the partitions assigned to a busy drainer, one partition at a time, see {@link WorkStealingDrainerQueues};
  *
  * For now, the assumption is that one-consumer-polling-thread should be fast enough to catch up with Kafka MM replication,
  * and data processing is the slowest part. If we find that polling is also slow later on, we may consider to adopt a consumer
@@ -65,6 +67,15 @@ public class StoreBufferService extends AbstractStoreBufferService {
   private static final Logger LOGGER = LogManager.getLogger(StoreBufferService.class);
   private final int drainerNum;
   private final ArrayList<MemoryBoundBlockingQueue<QueueNode>> blockingQueueArr;
+  /**
+   * Replaces {@link #blockingQueueArr} when the store writer work stealing is enabled, and is null otherwise.
+   */
+  private final WorkStealingDrainerQueues workStealingQueues;
+  /**
+   * The max number of consecutive follower records of a partition which a drainer applies as a single write batch of
+   * the storage engine, see {@link StoreIngestionTask#beginWriteBatch(int)}. A value of 1 disables the batching.
+   */
+  private final int writeBatchSize;
   private ExecutorService executorService;
   private final List<StoreBufferDrainer> drainerList = new ArrayList<>();
   private final long bufferCapacityPerDrainer;
@@ -86,7 +97,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
       LogContext logContext,
       MetricsRepository metricsRepository,
       boolean sorted,
-      String clusterName) {
+      String clusterName,
+      boolean workStealingEnabled,
+      int writeBatchSize) {
     this(
         drainerNum,
         bufferCapacityPerDrainer,
@@ -96,7 +109,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
         logContext,
         metricsRepository,
         sorted,
-        clusterName);
+        clusterName,
+        workStealingEnabled,
+        writeBatchSize);
   }
 
   /**
@@ -109,6 +124,43 @@ public class StoreBufferService extends AbstractStoreBufferService {
       boolean queueLeaderWrites,
       StoreBufferServiceStats stats,
       LogContext logContext) {
+    this(drainerNum, bufferCapacityPerDrainer, bufferNotifyDelta, queueLeaderWrites, stats, logContext, false);
+  }
+
+  /**
+   * Package-private constructor for testing
+   */
+  StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean queueLeaderWrites,
+      StoreBufferServiceStats stats,
+      LogContext logContext,
+      boolean workStealingEnabled) {
+    this(
+        drainerNum,
+        bufferCapacityPerDrainer,
+        bufferNotifyDelta,
+        queueLeaderWrites,
+        stats,
+        logContext,
+        workStealingEnabled,
+        1);
+  }
+
+  /**
+   * Package-private constructor for testing
+   */
+  StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean queueLeaderWrites,
+      StoreBufferServiceStats stats,
+      LogContext logContext,
+      boolean workStealingEnabled,
+      int writeBatchSize) {
     this(
         drainerNum,
         bufferCapacityPerDrainer,
@@ -118,7 +170,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
         logContext,
         null,
         true,
-        null);
+        null,
+        workStealingEnabled,
+        writeBatchSize);
   }
 
   /**
@@ -137,13 +191,25 @@ public class StoreBufferService extends AbstractStoreBufferService {
       LogContext logContext,
       MetricsRepository metricsRepository,
       boolean sorted,
-      String clusterName) {
+      String clusterName,
+      boolean workStealingEnabled,
+      int writeBatchSize) {
     this.logContext = logContext;
     this.drainerNum = drainerNum;
+    this.writeBatchSize = writeBatchSize;
     this.blockingQueueArr = new ArrayList<>();
     this.bufferCapacityPerDrainer = bufferCapacityPerDrainer;
-    for (int cur = 0; cur < drainerNum; ++cur) {
-      this.blockingQueueArr.add(new MemoryBoundBlockingQueue<>(bufferCapacityPerDrainer, bufferNotifyDelta));
+    if (workStealingEnabled) {
+      this.workStealingQueues = new WorkStealingDrainerQueues(
+          drainerNum,
+          bufferCapacityPerDrainer,
+          bufferNotifyDelta,
+          () -> this.storeBufferServiceStats.recordPartitionClaim());
+    } else {
+      this.workStealingQueues = null;
+      for (int cur = 0; cur < drainerNum; ++cur) {
+        this.blockingQueueArr.add(new MemoryBoundBlockingQueue<>(bufferCapacityPerDrainer, bufferNotifyDelta));
+      }
     }
     this.isSorted = sorted;
     this.leaderRecordHandler = queueLeaderWrites ? this::queueLeaderRecord : StoreBufferService::processRecord;
@@ -157,7 +223,8 @@ public class StoreBufferService extends AbstractStoreBufferService {
             this::getTotalMemoryUsage,
             this::getTotalRemainingMemory,
             this::getMaxMemoryUsagePerDrainer,
-            this::getMinMemoryUsagePerDrainer);
+            this::getMinMemoryUsagePerDrainer,
+            this::getMemoryUsageImbalancePerDrainer);
     /*
      * {@link #getDrainerIndexForConsumerRecord} hashes the topic name and partition to determine a drainer. Due to the
      * different naming conventions for RT (_rt) and Separate RT (_rt_sep), different drainers might be assigned while
@@ -187,6 +254,32 @@ public class StoreBufferService extends AbstractStoreBufferService {
     return Math.abs((topicHash + partition) % this.drainerNum);
   }
 
+  /**
+   * @return the key of the per-partition queue of {@link #workStealingQueues}, which is derived from the same
+   *         normalized topic hash code as {@link #getDrainerIndexForConsumerRecord}, so that the records which would
+   *         be processed by the same drainer without work stealing, for a given partition, are still processed in
+   *         order. A hash collision only merges the queues of unrelated partitions, which is harmless.
+   */
+  private Long getPartitionKeyForConsumerRecord(DefaultPubSubMessage consumerRecord, int partition) {
+    Integer topicHashCode = hashCodeCache.get(consumerRecord.getTopicPartition().getPubSubTopic());
+    if (topicHashCode == null) {
+      topicHashCode = Utils.calculateTopicHashCode(consumerRecord.getTopicPartition().getPubSubTopic());
+    }
+    return ((long) topicHashCode << 32) | (partition & 0xFFFFFFFFL);
+  }
+
+  private void putNode(DefaultPubSubMessage consumerRecord, int partition, QueueNode node)
+      throws InterruptedException {
+    if (workStealingQueues == null) {
+      getDrainerForConsumerRecord(consumerRecord, partition).put(node);
+    } else {
+      workStealingQueues.put(
+          getDrainerIndexForConsumerRecord(consumerRecord, partition),
+          getPartitionKeyForConsumerRecord(consumerRecord, partition),
+          node);
+    }
+  }
+
   @Override
   public void putConsumerRecord(
       DefaultPubSubMessage consumerRecord,
@@ -202,7 +295,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
        * end-to-end completeness when producing to local Kafka is needed.
        */
       CompletableFuture<Void> recordFuture = new CompletableFuture<>();
-      getDrainerForConsumerRecord(consumerRecord, partition).put(
+      putNode(
+          consumerRecord,
+          partition,
           new FollowerQueueNode(
               consumerRecord,
               ingestionTask,
@@ -244,7 +339,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
       int partition,
       String kafkaUrl,
       long beforeProcessingRecordTimestamp) throws InterruptedException {
-    getDrainerForConsumerRecord(consumerRecord, partition).put(
+    putNode(
+        consumerRecord,
+        partition,
         new LeaderQueueNode(
             consumerRecord,
             ingestionTask,
@@ -306,7 +403,6 @@ public class StoreBufferService extends AbstractStoreBufferService {
       throws InterruptedException {
     DefaultPubSubMessage fakeRecord = new FakePubSubMessage(topicPartition);
     int workerIndex = getDrainerIndexForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber());
-    BlockingQueue<QueueNode> blockingQueue = blockingQueueArr.get(workerIndex);
     if (!drainerList.get(workerIndex).isRunning.get()) {
       throw new VeniceException(
           "Drainer thread " + workerIndex + " has stopped running, cannot drain the topic "
@@ -314,9 +410,13 @@ public class StoreBufferService extends AbstractStoreBufferService {
     }
 
     QueueNode fakeNode = new QueueNode(fakeRecord, null, "dummyKafkaUrl", 0);
+    Long partitionKey = getPartitionKeyForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber());
     long deadline = System.currentTimeMillis() + timeoutMs;
     while (System.currentTimeMillis() < deadline) {
-      if (!blockingQueue.contains(fakeNode)) {
+      boolean containsRecord = workStealingQueues == null
+          ? blockingQueueArr.get(workerIndex).contains(fakeNode)
+          : workStealingQueues.contains(workerIndex, partitionKey, fakeNode);
+      if (!containsRecord) {
         LOGGER.info(
             "The blocking queue of store writer thread: {} doesn't contain any record for: {}",
             workerIndex,
@@ -338,7 +438,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
     DefaultPubSubMessage fakeRecord = new FakePubSubMessage(topicPartition);
     CommandQueueNode syncOffsetCmd =
         new CommandQueueNode(CommandQueueNode.CommandType.SYNC_OFFSET, fakeRecord, ingestionTask);
-    getDrainerForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber()).put(syncOffsetCmd);
+    putNode(fakeRecord, topicPartition.getPartitionNumber(), syncOffsetCmd);
     return syncOffsetCmd.getExecutedFuture();
   }
 
@@ -353,7 +453,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
       StoreIngestionTask ingestionTask) throws InterruptedException {
     DefaultPubSubMessage fakeRecord = new FakePubSubMessage(topicPartition);
     SyncGlobalRtDivNode syncGlobalRtDivNode = new SyncGlobalRtDivNode(fakeRecord, ingestionTask);
-    getDrainerForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber()).put(syncGlobalRtDivNode);
+    putNode(fakeRecord, topicPartition.getPartitionNumber(), syncGlobalRtDivNode);
     return syncGlobalRtDivNode.getExecutedFuture();
   }
 
@@ -375,7 +475,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
       StoreIngestionTask ingestionTask) throws InterruptedException {
     DefaultPubSubMessage fakeRecord = new FakePubSubMessage(topicPartition);
     SyncVtDivNode syncDivNode = new SyncVtDivNode(fakeRecord, vtDivSnapshot, lastRecordPersistedFuture, ingestionTask);
-    getDrainerForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber()).put(syncDivNode);
+    putNode(fakeRecord, topicPartition.getPartitionNumber(), syncDivNode);
     return syncDivNode.getExecutedFuture();
   }
 
@@ -387,7 +487,36 @@ public class StoreBufferService extends AbstractStoreBufferService {
 
     // Submit all the buffer drainers
     for (int cur = 0; cur < drainerNum; ++cur) {
-      StoreBufferDrainer drainer = new StoreBufferDrainer(this.blockingQueueArr.get(cur), cur, storeBufferServiceStats);
+      int drainerIndex = cur;
+      NodeSupplier nodeSupplier;
+      if (workStealingQueues == null) {
+        MemoryBoundBlockingQueue<QueueNode> queue = this.blockingQueueArr.get(cur);
+        nodeSupplier = new NodeSupplier() {
+          @Override
+          public QueueNode take() throws InterruptedException {
+            return queue.take();
+          }
+
+          @Override
+          public QueueNode poll() {
+            return queue.poll();
+          }
+        };
+      } else {
+        nodeSupplier = new NodeSupplier() {
+          @Override
+          public QueueNode take() throws InterruptedException {
+            return workStealingQueues.take(drainerIndex);
+          }
+
+          @Override
+          public QueueNode poll() {
+            return workStealingQueues.poll(drainerIndex);
+          }
+        };
+      }
+      StoreBufferDrainer drainer =
+          new StoreBufferDrainer(nodeSupplier, cur, storeBufferServiceStats, writeBatchSize);
       this.executorService.submit(drainer);
       drainerList.add(drainer);
     }
@@ -407,11 +536,23 @@ public class StoreBufferService extends AbstractStoreBufferService {
     }
   }
 
+  private long getMemoryUsage(int drainerIndex) {
+    return workStealingQueues == null
+        ? blockingQueueArr.get(drainerIndex).getMemoryUsage()
+        : workStealingQueues.getMemoryUsage(drainerIndex);
+  }
+
+  private long getRemainingMemory(int drainerIndex) {
+    return workStealingQueues == null
+        ? blockingQueueArr.get(drainerIndex).remainingMemoryCapacityInByte()
+        : workStealingQueues.getRemainingMemory(drainerIndex);
+  }
+
   @Override
   public long getTotalMemoryUsage() {
     long totalUsage = 0;
-    for (MemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
-      totalUsage += queue.getMemoryUsage();
+    for (int index = 0; index < drainerNum; index++) {
+      totalUsage += getMemoryUsage(index);
     }
     return totalUsage;
   }
@@ -419,8 +560,8 @@ public class StoreBufferService extends AbstractStoreBufferService {
   @Override
   public long getTotalRemainingMemory() {
     long totalRemaining = 0;
-    for (MemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
-      totalRemaining += queue.remainingMemoryCapacityInByte();
+    for (int index = 0; index < drainerNum; index++) {
+      totalRemaining += getRemainingMemory(index);
     }
     return totalRemaining;
   }
@@ -434,19 +575,19 @@ public class StoreBufferService extends AbstractStoreBufferService {
       return maxUsage;
     }
 
-    for (MemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
-      maxUsage = Math.max(maxUsage, queue.getMemoryUsage());
-      if (queue.getMemoryUsage() > 0.8 * bufferCapacityPerDrainer) {
+    for (int index = 0; index < drainerNum; index++) {
+      long memoryUsage = getMemoryUsage(index);
+      maxUsage = Math.max(maxUsage, memoryUsage);
+      if (memoryUsage > 0.8 * bufferCapacityPerDrainer) {
         slowDrainerExists = true;
       }
     }
 
-    for (int index = 0; index < blockingQueueArr.size(); index++) {
+    for (int index = 0; index < drainerNum; index++) {
       StoreBufferDrainer drainer = drainerList.get(index);
       // print drainer info when there is a slow drainer.
       if (slowDrainerExists) {
-        MemoryBoundBlockingQueue<QueueNode> queue = blockingQueueArr.get(index);
-        int count = queue.getMemoryUsage() > 0.8 * bufferCapacityPerDrainer ? 5 : 1;
+        int count = getMemoryUsage(index) > 0.8 * bufferCapacityPerDrainer ? 5 : 1;
         List<Map.Entry<PubSubTopicPartition, Long>> slowestEntries = drainer.topicToTimeSpent.entrySet()
             .stream()
             .sorted(comparing(Map.Entry::getValue, reverseOrder()))
@@ -471,12 +612,28 @@ public class StoreBufferService extends AbstractStoreBufferService {
   @Override
   public long getMinMemoryUsagePerDrainer() {
     long minUsage = Long.MAX_VALUE;
-    for (MemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
-      minUsage = Math.min(minUsage, queue.getMemoryUsage());
+    for (int index = 0; index < drainerNum; index++) {
+      minUsage = Math.min(minUsage, getMemoryUsage(index));
     }
     return minUsage;
   }
 
+  /**
+   * @return the difference between the memory usage of the most and least loaded drainers, which shows how unevenly
+   *         the partitions are spread across the drainers. Unlike {@link #getMaxMemoryUsagePerDrainer()}, this has no
+   *         side effect on the time spent tracked per drainer.
+   */
+  long getMemoryUsageImbalancePerDrainer() {
+    long maxUsage = 0;
+    long minUsage = Long.MAX_VALUE;
+    for (int index = 0; index < drainerNum; index++) {
+      long memoryUsage = getMemoryUsage(index);
+      maxUsage = Math.max(maxUsage, memoryUsage);
+      minUsage = Math.min(minUsage, memoryUsage);
+    }
+    return drainerNum == 0 ? 0 : maxUsage - minUsage;
+  }
+
   /**
    * Queue node type in {@link BlockingQueue} of each drainer thread.
    */
@@ -815,28 +972,101 @@ public class StoreBufferService extends AbstractStoreBufferService {
     }
   }
 
+  /**
+   * Source of the buffered nodes of a drainer.
+   */
+  private interface NodeSupplier {
+    /**
+     * Blocks until a node is available.
+     */
+    QueueNode take() throws InterruptedException;
+
+    /**
+     * @return the next node if one is available right away, or null otherwise
+     */
+    QueueNode poll();
+  }
+
   /**
    * Worker thread, which will invoke {@link StoreIngestionTask#processConsumerRecord}
    * to process each {@link PubSubMessage} buffered in {@link BlockingQueue}.
    */
   private static class StoreBufferDrainer implements Runnable {
     private static final Logger LOGGER = LogManager.getLogger(StoreBufferDrainer.class);
-    private final BlockingQueue<QueueNode> blockingQueue;
+    private final NodeSupplier nodeSupplier;
     private final AtomicBoolean isRunning = new AtomicBoolean(true);
     private final int drainerIndex;
     private final ConcurrentMap<PubSubTopicPartition, Long> topicToTimeSpent = new ConcurrentHashMap<>();
     private final StoreBufferServiceStats stats;
-
-    public StoreBufferDrainer(BlockingQueue<QueueNode> blockingQueue, int drainerIndex, StoreBufferServiceStats stats) {
-      this.blockingQueue = blockingQueue;
+    private final int writeBatchSize;
+    /**
+     * The state of the write batch currently open, if any, which is only accessed by the drainer thread. The
+     * persisted futures of the records in the batch are only completed once the batch is committed, since the records
+     * which wait on them, e.g. to promote a follower to leader, expect the data to be readable from the storage engine.
+     */
+    private StoreIngestionTask writeBatchIngestionTask = null;
+    private int writeBatchPartition = -1;
+    private final List<CompletableFuture<Void>> writeBatchRecordFutures = new ArrayList<>();
+
+    public StoreBufferDrainer(
+        NodeSupplier nodeSupplier,
+        int drainerIndex,
+        StoreBufferServiceStats stats,
+        int writeBatchSize) {
+      this.nodeSupplier = nodeSupplier;
       this.drainerIndex = drainerIndex;
       this.stats = stats;
+      this.writeBatchSize = writeBatchSize;
     }
 
     public void stop() {
       isRunning.set(false);
     }
 
+    /**
+     * Only the data records which are not produced by the leader are applied in batches, since the leader needs to read
+     * its own writes, and the control messages can change the state of the partition, e.g. its sync interval.
+     */
+    private boolean isBatchable(QueueNode node) {
+      if (writeBatchSize <= 1 || !(node instanceof FollowerQueueNode)) {
+        return false;
+      }
+      KafkaKey key = node.getConsumerRecord().getKey();
+      return !key.isControlMessage() && !key.isGlobalRtDiv();
+    }
+
+    /**
+     * Commits the write batch currently open, if any. The failures are handled like the ones of the records in the
+     * batch, since their writes have not been applied.
+     */
+    private void commitWriteBatch() {
+      StoreIngestionTask ingestionTask = writeBatchIngestionTask;
+      if (ingestionTask == null) {
+        return;
+      }
+      writeBatchIngestionTask = null;
+      try {
+        ingestionTask.commitWriteBatch(writeBatchPartition);
+        writeBatchRecordFutures.forEach(future -> future.complete(null));
+      } catch (Exception e) {
+        LOGGER.error(
+            "Drainer {} failed to commit the write batch of {} records of replica: {}",
+            drainerIndex,
+            writeBatchRecordFutures.size(),
+            Utils.getReplicaId(ingestionTask.getVersionTopic(), writeBatchPartition),
+            e);
+        stats.recordInternalProcessingError(OpenTelemetryMetricsSetup.sanitizeStoreName(ingestionTask.getStoreName()));
+        try {
+          ingestionTask.setIngestionException(writeBatchPartition, e);
+        } catch (VeniceException ingestionException) {
+          ingestionTask.setLastStoreIngestionException(ingestionException);
+        }
+        writeBatchRecordFutures.forEach(future -> future.completeExceptionally(e));
+      } finally {
+        writeBatchRecordFutures.clear();
+      }
+    }
+
     @Override
     public void run() {
       LOGGER.info("Starting StoreBufferDrainer Thread for drainer: {}....", drainerIndex);
@@ -848,7 +1078,12 @@ public class StoreBufferService extends AbstractStoreBufferService {
       String storeName = OpenTelemetryMetricsSetup.UNKNOWN_STORE_NAME;
       while (isRunning.get()) {
         try {
-          node = blockingQueue.take();
+          node = writeBatchIngestionTask == null ? null : nodeSupplier.poll();
+          if (node == null) {
+            // A write batch is never kept open while waiting for more records
+            commitWriteBatch();
+            node = nodeSupplier.take();
+          }
 
           consumerRecord = node.getConsumerRecord();
           int partitionNum = consumerRecord.getTopicPartition().getPartitionNumber();
@@ -857,6 +1092,11 @@ public class StoreBufferService extends AbstractStoreBufferService {
           recordPersistedFuture = node.getQueuedRecordPersistedFuture();
           storeName =
               OpenTelemetryMetricsSetup.sanitizeStoreName(ingestionTask != null ? ingestionTask.getStoreName() : null);
+          boolean batchable = isBatchable(node);
+          if (writeBatchIngestionTask != null
+              && (!batchable || writeBatchIngestionTask != ingestionTask || writeBatchPartition != partitionNum)) {
+            commitWriteBatch();
+          }
 
           long startTime = System.currentTimeMillis();
 
@@ -874,6 +1114,11 @@ public class StoreBufferService extends AbstractStoreBufferService {
             continue;
           }
 
+          if (batchable && writeBatchIngestionTask == null) {
+            ingestionTask.beginWriteBatch(partitionNum);
+            writeBatchIngestionTask = ingestionTask;
+            writeBatchPartition = partitionNum;
+          }
           processRecord(
               consumerRecord,
               ingestionTask,
@@ -883,15 +1128,25 @@ public class StoreBufferService extends AbstractStoreBufferService {
               node.getBeforeProcessingRecordTimestampNs());
 
           /**
-           * Complete {@link QueueNode#queuedRecordPersistedFuture} since the processing for the current record is done.
+           * Complete {@link QueueNode#queuedRecordPersistedFuture} since the processing for the current record is done,
+           * or once its write batch is committed.
            */
           if (recordPersistedFuture != null) {
-            recordPersistedFuture.complete(null);
+            if (writeBatchIngestionTask != null) {
+              writeBatchRecordFutures.add(recordPersistedFuture);
+            } else {
+              recordPersistedFuture.complete(null);
+            }
+          }
+          if (writeBatchRecordFutures.size() >= writeBatchSize) {
+            commitWriteBatch();
           }
           long latencyInMS = System.currentTimeMillis() - startTime;
           this.stats.recordInternalProcessingLatency(latencyInMS, storeName);
           topicToTimeSpent.compute(consumerRecord.getTopicPartition(), (K, V) -> (V == null ? 0 : V) + latencyInMS);
         } catch (Throwable e) {
+          // The records processed before the failing one are committed, as they would have been without batching
+          commitWriteBatch();
           if (e instanceof InterruptedException) {
             LOGGER.error("Drainer {} received InterruptedException, will exit", drainerIndex);
             break;
@@ -942,6 +1197,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
           }
         }
       }
+      commitWriteBatch();
       LOGGER.info("Current StoreBufferDrainer {} stopped", drainerIndex);
     }
   }
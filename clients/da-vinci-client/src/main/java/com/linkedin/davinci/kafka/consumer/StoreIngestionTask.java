@@ -161,6 +161,7 @@ import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -1656,6 +1657,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
      */
     for (List<DefaultPubSubMessage> batch: batches) {
       NavigableMap<ByteArrayKey, ReentrantLock> keyLockMap = ingestionBatchProcessor.lockKeys(batch);
+      BitSet lockedLanes = ingestionBatchProcessor.lockLanes(batch);
       try {
         long beforeProcessingPerRecordTimestampNs = System.nanoTime();
         List<PubSubMessageProcessedResultWrapper> processedResults = ingestionBatchProcessor.process(
@@ -1706,6 +1708,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
           }
         }
       } finally {
+        ingestionBatchProcessor.unlockLanes(lockedLanes);
         ingestionBatchProcessor.unlockKeys(keyLockMap);
       }
     }
@@ -3534,8 +3537,48 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
      *
      * Check whether offset metadata checkpoint will happen; if so, update the producer states recorded in OffsetRecord
      * with the updated producer states maintained in {@link #drainerDiv}
+     *
+     * While a write batch is open, the check is deferred to {@link #commitWriteBatch(int)}. Only data records are
+     * written in batches, so this only defers the size-based sync.
      */
-    if (shouldSyncOffset(partitionConsumptionState, record, leaderProducedRecordContext)) {
+    if (!partitionConsumptionState.isWriteBatchOpen()
+        && shouldSyncOffset(partitionConsumptionState, record, leaderProducedRecordContext)) {
+      updateOffsetMetadataAndSyncOffset(partitionConsumptionState);
+    }
+  }
+
+  /**
+   * Starts buffering the writes of the given partition in a single write batch of the storage engine, which is applied
+   * by {@link #commitWriteBatch(int)}. This is only meant for the records which do not need to read their own writes,
+   * i.e. the records which are not produced by the leader.
+   */
+  void beginWriteBatch(int partition) {
+    PartitionConsumptionState partitionConsumptionState = getPartitionConsumptionState(partition);
+    if (partitionConsumptionState == null) {
+      return;
+    }
+    executeStorageEngineRunnable(partition, () -> storageEngine.beginWriteBatch(partition));
+    partitionConsumptionState.setWriteBatchOpen(true);
+  }
+
+  /**
+   * Applies the writes buffered since {@link #beginWriteBatch(int)}, and then checkpoints the offset once for the whole
+   * batch if the processed records exceed the sync interval. The offset is therefore never checkpointed ahead of the
+   * writes, which keeps the same crash-recovery semantics as writing the records one at a time.
+   */
+  void commitWriteBatch(int partition) {
+    PartitionConsumptionState partitionConsumptionState = getPartitionConsumptionState(partition);
+    if (partitionConsumptionState != null) {
+      partitionConsumptionState.setWriteBatchOpen(false);
+    }
+    if (storageEngine.isClosed() || !storageEngine.containsPartition(partition)) {
+      LOGGER.warn(
+          "Dropping the pending write batch of replica: {} whose storage was closed",
+          getReplicaId(kafkaVersionTopic, partition));
+      return;
+    }
+    executeStorageEngineRunnable(partition, () -> storageEngine.commitWriteBatch(partition));
+    if (partitionConsumptionState != null && shouldSyncOffsetForProcessedRecords(partitionConsumptionState)) {
       updateOffsetMetadataAndSyncOffset(partitionConsumptionState);
     }
   }
@@ -3618,6 +3661,16 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
       return true; // sync when processing most control messages
     }
 
+    return shouldSyncOffsetForProcessedRecords(pcs);
+  }
+
+  /**
+   * The size-based part of {@link #shouldSyncOffset}.
+   */
+  boolean shouldSyncOffsetForProcessedRecords(PartitionConsumptionState pcs) {
+    if (isGlobalRtDivEnabled()) {
+      return false;
+    }
     final long syncBytesInterval = getSyncBytesInterval(pcs); // size-based sync condition
     return syncBytesInterval > 0 && (pcs.getProcessedRecordSizeSinceLastSync() >= syncBytesInterval);
   }
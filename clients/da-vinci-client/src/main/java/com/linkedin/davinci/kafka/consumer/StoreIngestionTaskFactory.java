@@ -31,6 +31,7 @@ import java.util.Properties;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 import org.apache.helix.manager.zk.ZKHelixAdmin;
@@ -123,6 +124,7 @@ public class StoreIngestionTaskFactory {
     private PubSubContext pubSubContext;
     private ExecutorService aaWCWorkLoadProcessingThreadPool;
     private ExecutorService aaWCIngestionStorageLookupThreadPool;
+    private ForkJoinPool aaParallelFieldMergePool;
     private Supplier<IngestionTaskReusableObjects> reusableObjectsSupplier;
     private Supplier<BlobTransferManager> blobTransferManagerSupplier;
     private Set<String> blobTransferDisabledStores;
@@ -318,6 +320,14 @@ public class StoreIngestionTaskFactory {
       return aaWCIngestionStorageLookupThreadPool;
     }
 
+    public Builder setAAParallelFieldMergePool(ForkJoinPool forkJoinPool) {
+      return set(() -> this.aaParallelFieldMergePool = forkJoinPool);
+    }
+
+    public ForkJoinPool getAAParallelFieldMergePool() {
+      return aaParallelFieldMergePool;
+    }
+
     public ExecutorService getAAWCWorkLoadProcessingThreadPool() {
       return this.aaWCWorkLoadProcessingThreadPool;
     }
@@ -0,0 +1,413 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.venice.utils.collections.MemoryBoundBlockingQueue;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * An alternative to having one {@link MemoryBoundBlockingQueue} per drainer in {@link StoreBufferService}, which lets
+ * idle drainers claim the buffered partitions of busy drainers.
+ *
+ * Each partition has its own FIFO queue, which is put on the run queue of its home drainer (i.e. the drainer it hashes
+ * to) whenever it holds some records. A drainer processes the records of one partition at a time, and puts the
+ * partition back at the end of the run queue after {@link #PARTITION_QUANTUM} records, so that a hot partition does not
+ * starve the other partitions of its home drainer. A partition is never on a run queue while its records are being
+ * processed, therefore the records of a given partition are always processed one at a time and in order, as required
+ * by DIV, even when consecutive batches of them are processed by different drainers. A drainer whose own run queue is
+ * empty claims the partition at the head of the longest run queue of the other drainers, and otherwise waits until
+ * either a partition is put on its own run queue, or on the run queue of another drainer which can't process it right
+ * away, i.e. which is busy or already has another partition to process.
+ *
+ * The buffered memory is bounded per home drainer, with the same semantics as {@link MemoryBoundBlockingQueue}.
+ *
+ * N.B.: {@link #take(int)} and {@link #poll(int)} must only be called by the drainer thread of the given index, since
+ * the partition currently being drained by each drainer is tracked without synchronization.
+ */
+class WorkStealingDrainerQueues {
+  static final int PARTITION_QUANTUM = 128;
+
+  private final DrainerState[] drainers;
+  private final IdleDrainers idleDrainers;
+  private final PartitionQueue[] currentPartitions;
+  private final int[] currentPartitionRecordCounts;
+  private final Runnable claimListener;
+
+  /**
+   * @param claimListener invoked each time a drainer claims a partition from another drainer
+   */
+  WorkStealingDrainerQueues(
+      int drainerNum,
+      long memoryCapacityPerDrainer,
+      long notifyDeltaInByte,
+      Runnable claimListener) {
+    if (notifyDeltaInByte > memoryCapacityPerDrainer) {
+      throw new IllegalArgumentException(
+          "Param notifyDeltaInByte: " + notifyDeltaInByte + " should not be bigger than param memoryCapacityInByte: "
+              + memoryCapacityPerDrainer);
+    }
+    this.drainers = new DrainerState[drainerNum];
+    this.idleDrainers = new IdleDrainers(drainerNum);
+    for (int i = 0; i < drainerNum; i++) {
+      this.drainers[i] = new DrainerState(i, idleDrainers, memoryCapacityPerDrainer, notifyDeltaInByte);
+    }
+    this.currentPartitions = new PartitionQueue[drainerNum];
+    this.currentPartitionRecordCounts = new int[drainerNum];
+    this.claimListener = claimListener;
+  }
+
+  /**
+   * @param homeDrainerIndex the drainer which the partition is assigned to
+   * @param partitionKey     identifies the partition of the node, whose records must be processed in order
+   */
+  void put(int homeDrainerIndex, Object partitionKey, StoreBufferService.QueueNode node) throws InterruptedException {
+    drainers[homeDrainerIndex].put(partitionKey, node);
+  }
+
+  /**
+   * @return the next node to be processed by the given drainer, once the previous one it took has been processed.
+   */
+  StoreBufferService.QueueNode take(int drainerIndex) throws InterruptedException {
+    PartitionQueue current = currentPartitions[drainerIndex];
+    if (current != null) {
+      currentPartitions[drainerIndex] = null;
+      if (currentPartitionRecordCounts[drainerIndex] < PARTITION_QUANTUM) {
+        StoreBufferService.QueueNode node = current.home.pollOrRelease(current);
+        if (node != null) {
+          currentPartitions[drainerIndex] = current;
+          currentPartitionRecordCounts[drainerIndex]++;
+          return node;
+        }
+      } else {
+        current.home.reschedule(current);
+      }
+    }
+    while (true) {
+      PartitionQueue next = claimPartition(drainerIndex);
+      StoreBufferService.QueueNode node = next.home.pollOrRelease(next);
+      if (node != null) {
+        currentPartitions[drainerIndex] = next;
+        currentPartitionRecordCounts[drainerIndex] = 1;
+        return node;
+      }
+    }
+  }
+
+  /**
+   * The non-blocking counterpart of {@link #take(int)}, which only continues with the partition currently being drained
+   * by the given drainer, if it has not used up its quantum yet.
+   *
+   * The partition is never released nor rescheduled here, even if it is empty, but only by the next {@link #take(int)},
+   * since the drainer may still have to complete the processing of the records it took, e.g. by committing its write
+   * batch, before another drainer can claim the partition.
+   *
+   * @return the next node of the current partition, or null if the drainer should call {@link #take(int)} instead
+   */
+  StoreBufferService.QueueNode poll(int drainerIndex) {
+    PartitionQueue current = currentPartitions[drainerIndex];
+    if (current == null || currentPartitionRecordCounts[drainerIndex] >= PARTITION_QUANTUM) {
+      return null;
+    }
+    StoreBufferService.QueueNode node = current.home.poll(current);
+    if (node != null) {
+      currentPartitionRecordCounts[drainerIndex]++;
+    }
+    return node;
+  }
+
+  private PartitionQueue claimPartition(int drainerIndex) throws InterruptedException {
+    DrainerState own = drainers[drainerIndex];
+    while (true) {
+      PartitionQueue partition = own.pollRunQueue();
+      if (partition != null) {
+        return partition;
+      }
+      int victimIndex = getLongestOtherRunQueue(drainerIndex);
+      if (victimIndex >= 0) {
+        partition = drainers[victimIndex].pollRunQueue();
+        if (partition != null) {
+          claimListener.run();
+          return partition;
+        }
+        continue;
+      }
+      awaitWork(drainerIndex);
+    }
+  }
+
+  /**
+   * @return the index of the other drainer with the longest run queue, or -1 if all of them are empty
+   */
+  private int getLongestOtherRunQueue(int drainerIndex) {
+    int victimIndex = -1;
+    int maxRunQueueSize = 0;
+    for (int i = 0; i < drainers.length; i++) {
+      int runQueueSize = drainers[i].runQueueSize;
+      if (i != drainerIndex && runQueueSize > maxRunQueueSize) {
+        victimIndex = i;
+        maxRunQueueSize = runQueueSize;
+      }
+    }
+    return victimIndex;
+  }
+
+  /**
+   * Waits until the run queue of the given drainer is not empty, or another drainer has some partition to be claimed,
+   * which are the cases in which {@link DrainerState#addToRunQueue} wakes the idle drainers up.
+   */
+  private void awaitWork(int drainerIndex) throws InterruptedException {
+    idleDrainers.lock.lock();
+    try {
+      idleDrainers.setIdle(drainerIndex, true);
+      try {
+        /**
+         * The run queue sizes are read after marking the drainer as idle, while they are updated before checking for
+         * idle drainers, hence either this sees the new partition, or the thread adding it sees this drainer as idle.
+         */
+        while (drainers[drainerIndex].runQueueSize == 0 && !hasPartitionToClaim(drainerIndex)) {
+          idleDrainers.workAvailable[drainerIndex].await();
+        }
+      } finally {
+        idleDrainers.setIdle(drainerIndex, false);
+      }
+    } finally {
+      idleDrainers.lock.unlock();
+    }
+  }
+
+  /**
+   * @return whether the run queue of another drainer holds some partition which that drainer can't process right away.
+   *         Must be called while holding the lock of {@link #idleDrainers}.
+   */
+  private boolean hasPartitionToClaim(int drainerIndex) {
+    for (int i = 0; i < drainers.length; i++) {
+      int runQueueSize = drainers[i].runQueueSize;
+      if (i != drainerIndex && runQueueSize > 0 && (runQueueSize > 1 || !idleDrainers.idle[i])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return whether the queue of the given partition still holds a node equal to {@param node}, i.e. which has not been
+   *         taken by any drainer yet
+   */
+  boolean contains(int homeDrainerIndex, Object partitionKey, StoreBufferService.QueueNode node) {
+    return drainers[homeDrainerIndex].contains(partitionKey, node);
+  }
+
+  long getMemoryUsage(int drainerIndex) {
+    return drainers[drainerIndex].memoryCapacityInByte - getRemainingMemory(drainerIndex);
+  }
+
+  long getRemainingMemory(int drainerIndex) {
+    return drainers[drainerIndex].remainingMemoryCapacityInByte;
+  }
+
+  /**
+   * @return the number of partitions waiting for a drainer on the run queue of the given drainer
+   */
+  int getRunQueueSize(int drainerIndex) {
+    return drainers[drainerIndex].runQueueSize;
+  }
+
+  private static final class PartitionQueue {
+    private final DrainerState home;
+    private final Object key;
+    private final ArrayDeque<StoreBufferService.QueueNode> nodes = new ArrayDeque<>();
+    /** Whether the partition is on a run queue, or being drained. Guarded by the lock of {@link #home}. */
+    private boolean scheduled = false;
+
+    PartitionQueue(DrainerState home, Object key) {
+      this.home = home;
+      this.key = key;
+    }
+  }
+
+  /**
+   * Tracks the drainers waiting for work in {@link #awaitWork(int)}, so that they can be woken up when some partitions
+   * are put on a run queue.
+   */
+  private static final class IdleDrainers {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition[] workAvailable;
+    /** Guarded by {@link #lock}. */
+    private final boolean[] idle;
+    /** Written under {@link #lock}, and read without it by the threads adding partitions to the run queues. */
+    private volatile int idleCount = 0;
+
+    IdleDrainers(int drainerNum) {
+      this.workAvailable = new Condition[drainerNum];
+      for (int i = 0; i < drainerNum; i++) {
+        this.workAvailable[i] = lock.newCondition();
+      }
+      this.idle = new boolean[drainerNum];
+    }
+
+    private void setIdle(int drainerIndex, boolean isIdle) {
+      idle[drainerIndex] = isIdle;
+      idleCount += isIdle ? 1 : -1;
+    }
+
+    /**
+     * Wakes up the given drainer if it is idle, as well as another idle drainer if the given drainer is busy, or if its
+     * run queue holds more partitions than it can process at once.
+     */
+    void wakeUp(int drainerIndex, int runQueueSize) {
+      if (idleCount == 0) {
+        return;
+      }
+      lock.lock();
+      try {
+        boolean drainerIdle = idle[drainerIndex];
+        if (drainerIdle) {
+          workAvailable[drainerIndex].signal();
+        }
+        if (!drainerIdle || runQueueSize > 1) {
+          for (int i = 0; i < idle.length; i++) {
+            if (i != drainerIndex && idle[i]) {
+              workAvailable[i].signal();
+              return;
+            }
+          }
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private static final class DrainerState {
+    private final int index;
+    private final IdleDrainers idleDrainers;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition hasEnoughMemory = lock.newCondition();
+    private final Map<Object, PartitionQueue> partitions = new HashMap<>();
+    private final ArrayDeque<PartitionQueue> runQueue = new ArrayDeque<>();
+    private final long memoryCapacityInByte;
+    private final long notifyDeltaInByte;
+    /** Written under {@link #lock}, and read without it by the metrics and by the drainers looking for work. */
+    private volatile int runQueueSize = 0;
+    private volatile long remainingMemoryCapacityInByte;
+    private long currentFreedMemoryInBytes = 0;
+
+    DrainerState(int index, IdleDrainers idleDrainers, long memoryCapacityInByte, long notifyDeltaInByte) {
+      this.index = index;
+      this.idleDrainers = idleDrainers;
+      this.memoryCapacityInByte = memoryCapacityInByte;
+      this.notifyDeltaInByte = notifyDeltaInByte;
+      this.remainingMemoryCapacityInByte = memoryCapacityInByte;
+    }
+
+    private static long getRecordSize(StoreBufferService.QueueNode node) {
+      return node.getHeapSize() + MemoryBoundBlockingQueue.LINKED_LIST_NODE_SHALLOW_OVERHEAD;
+    }
+
+    void put(Object partitionKey, StoreBufferService.QueueNode node) throws InterruptedException {
+      long recordSize = getRecordSize(node);
+      lock.lock();
+      try {
+        while (remainingMemoryCapacityInByte < recordSize) {
+          hasEnoughMemory.await();
+        }
+        PartitionQueue partition = partitions.computeIfAbsent(partitionKey, k -> new PartitionQueue(this, k));
+        partition.nodes.addLast(node);
+        remainingMemoryCapacityInByte -= recordSize;
+        if (!partition.scheduled) {
+          partition.scheduled = true;
+          addToRunQueue(partition);
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    PartitionQueue pollRunQueue() {
+      lock.lock();
+      try {
+        PartitionQueue partition = runQueue.pollFirst();
+        if (partition != null) {
+          runQueueSize--;
+        }
+        return partition;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * @return the next node of the partition, or null if it is empty, in which case the partition is released so that
+     *         it gets scheduled again by the next {@link #put}.
+     */
+    StoreBufferService.QueueNode pollOrRelease(PartitionQueue partition) {
+      lock.lock();
+      try {
+        StoreBufferService.QueueNode node = poll(partition);
+        if (node == null) {
+          partition.scheduled = false;
+          partitions.remove(partition.key);
+        }
+        return node;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * @return the next node of the partition, or null if it is empty, in which case the partition stays claimed by the
+     *         drainer, i.e. the next {@link #put} does not schedule it.
+     */
+    StoreBufferService.QueueNode poll(PartitionQueue partition) {
+      lock.lock();
+      try {
+        StoreBufferService.QueueNode node = partition.nodes.pollFirst();
+        if (node == null) {
+          return null;
+        }
+        currentFreedMemoryInBytes += getRecordSize(node);
+        if (currentFreedMemoryInBytes >= notifyDeltaInByte) {
+          remainingMemoryCapacityInByte += currentFreedMemoryInBytes;
+          currentFreedMemoryInBytes = 0;
+          hasEnoughMemory.signalAll();
+        }
+        return node;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void reschedule(PartitionQueue partition) {
+      lock.lock();
+      try {
+        if (partition.nodes.isEmpty()) {
+          partition.scheduled = false;
+          partitions.remove(partition.key);
+        } else {
+          addToRunQueue(partition);
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    boolean contains(Object partitionKey, StoreBufferService.QueueNode node) {
+      lock.lock();
+      try {
+        PartitionQueue partition = partitions.get(partitionKey);
+        return partition != null && partition.nodes.contains(node);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void addToRunQueue(PartitionQueue partition) {
+      runQueue.addLast(partition);
+      runQueueSize++;
+      idleDrainers.wakeUp(index, runQueueSize);
+    }
+  }
+}
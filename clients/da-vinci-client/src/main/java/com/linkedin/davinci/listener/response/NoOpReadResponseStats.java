@@ -85,4 +85,19 @@ public class NoOpReadResponseStats implements ReadResponseStats {
   public void incrementKeyNotFoundCount() {
 
   }
+
+  @Override
+  public void incrementDecompressedValueCacheHitCount() {
+
+  }
+
+  @Override
+  public void incrementDecompressedValueCacheMissCount() {
+
+  }
+
+  @Override
+  public void addDecompressedValueCacheEvictionCount(int count) {
+
+  }
 }
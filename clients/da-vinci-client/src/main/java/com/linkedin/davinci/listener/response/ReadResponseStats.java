@@ -47,4 +47,10 @@ public interface ReadResponseStats {
   void incrementMultiChunkLargeValueCount();
 
   void incrementKeyNotFoundCount();
+
+  void incrementDecompressedValueCacheHitCount();
+
+  void incrementDecompressedValueCacheMissCount();
+
+  void addDecompressedValueCacheEvictionCount(int count);
 }
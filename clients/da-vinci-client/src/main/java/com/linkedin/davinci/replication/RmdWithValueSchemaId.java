@@ -1,6 +1,9 @@
 package com.linkedin.davinci.replication;
 
+import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_POS;
+
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import java.util.function.Supplier;
 import org.apache.avro.generic.GenericRecord;
 
 
@@ -9,11 +12,21 @@ import org.apache.avro.generic.GenericRecord;
  *    1. RMD record.
  *    2. RMD protocol version ID.
  *    3. Value schema ID used to generate the RMD schema.
+ *
+ * The RMD record may be deserialized lazily, see {@link #setLazyRmdRecord(Supplier, long)}.
  */
 public class RmdWithValueSchemaId {
+  /**
+   * Returned by {@link #getValueLevelTimestamp()} when the value-level timestamp of the RMD was not peeked, e.g.
+   * because the RMD holds per-field timestamps.
+   */
+  public static final long UNKNOWN_VALUE_LEVEL_TIMESTAMP = Long.MIN_VALUE;
+
   private int valueSchemaId;
   private int rmdProtocolVersionId;
   private GenericRecord rmdRecord;
+  private Supplier<GenericRecord> rmdRecordSupplier;
+  private long valueLevelTimestamp = UNKNOWN_VALUE_LEVEL_TIMESTAMP;
 
   private ChunkedValueManifest rmdManifest;
 
@@ -47,6 +60,18 @@ public class RmdWithValueSchemaId {
 
   public void setRmdRecord(GenericRecord rmdRecord) {
     this.rmdRecord = rmdRecord;
+    this.rmdRecordSupplier = null;
+    this.valueLevelTimestamp = UNKNOWN_VALUE_LEVEL_TIMESTAMP;
+  }
+
+  /**
+   * Sets an RMD record which is only deserialized on the first call to {@link #getRmdRecord()}, along with its
+   * value-level timestamp, if any, which was peeked from the serialized RMD.
+   */
+  public void setLazyRmdRecord(Supplier<GenericRecord> rmdRecordSupplier, long valueLevelTimestamp) {
+    this.rmdRecord = null;
+    this.rmdRecordSupplier = rmdRecordSupplier;
+    this.valueLevelTimestamp = valueLevelTimestamp;
   }
 
   public void setRmdManifest(ChunkedValueManifest rmdManifest) {
@@ -54,9 +79,34 @@ public class RmdWithValueSchemaId {
   }
 
   public GenericRecord getRmdRecord() {
+    if (rmdRecord == null && rmdRecordSupplier != null) {
+      rmdRecord = rmdRecordSupplier.get();
+      rmdRecordSupplier = null;
+    }
     return rmdRecord;
   }
 
+  /**
+   * @return the value-level timestamp peeked from the serialized RMD, or {@link #UNKNOWN_VALUE_LEVEL_TIMESTAMP}. It
+   *         reflects the RMD as it was read from storage, and so it is stale once the RMD record gets merged into.
+   */
+  public long getValueLevelTimestamp() {
+    return valueLevelTimestamp;
+  }
+
+  public boolean hasValueLevelTimestamp() {
+    return valueLevelTimestamp != UNKNOWN_VALUE_LEVEL_TIMESTAMP;
+  }
+
+  /**
+   * @return the timestamp field of the RMD record as it was read from storage, without deserializing the RMD record
+   *         when its value-level timestamp was peeked. It must be called before merging into the RMD record, since the
+   *         merge updates the timestamp field in place.
+   */
+  public Object getRmdTimestampObject() {
+    return hasValueLevelTimestamp() ? valueLevelTimestamp : getRmdRecord().get(TIMESTAMP_FIELD_POS);
+  }
+
   public int getValueSchemaId() {
     return valueSchemaId;
   }
@@ -124,6 +124,24 @@ public class MergeConflictResolver {
           "Invalid schema Id of old value found when replication metadata exists for store = " + storeName
               + "; schema ID = " + rmdWithValueSchemaID.getValueSchemaId());
     }
+    if (!useFieldLevelTimestamp && rmdWithValueSchemaID.hasValueLevelTimestamp()) {
+      /**
+       * Resolve the conflict from the value-level timestamp peeked from the serialized RMD, without deserializing the
+       * RMD record. This gives the same result as {@link #mergePutWithValueLevelTimestamp}, which only needs the old
+       * value and the old RMD record when the timestamps tie.
+       */
+      final long oldValueLevelTimestamp = rmdWithValueSchemaID.getValueLevelTimestamp();
+      if (putOperationTimestamp > oldValueLevelTimestamp) {
+        return new MergeConflictResult(
+            newValueBytes,
+            newValueSchemaID,
+            true,
+            createValueLevelRmd(newValueSchemaID, putOperationTimestamp));
+      }
+      if (putOperationTimestamp < oldValueLevelTimestamp) {
+        return MergeConflictResult.getIgnoredResult();
+      }
+    }
     final GenericRecord oldRmdRecord = rmdWithValueSchemaID.getRmdRecord();
     final Object oldTimestampObject = oldRmdRecord.get(TIMESTAMP_FIELD_POS);
 
@@ -176,6 +194,17 @@ public class MergeConflictResolver {
           "Invalid schema ID of old value found when replication metadata exists for store " + storeName
               + "; invalid value schema ID: " + oldValueSchemaID);
     }
+    if (!useFieldLevelTimestamp && rmdWithValueSchemaID.hasValueLevelTimestamp()) {
+      // Same as the put fast path above. The delete wins when the timestamps tie, so the old RMD is never needed.
+      if (deleteOperationTimestamp >= rmdWithValueSchemaID.getValueLevelTimestamp()) {
+        return new MergeConflictResult(
+            null,
+            oldValueSchemaID,
+            false,
+            createValueLevelRmd(oldValueSchemaID, deleteOperationTimestamp));
+      }
+      return MergeConflictResult.getIgnoredResult();
+    }
 
     final GenericRecord oldRmdRecord = rmdWithValueSchemaID.getRmdRecord();
     final Object oldTimestampObject = oldRmdRecord.get(TIMESTAMP_FIELD_POS);
@@ -533,6 +562,17 @@ public class MergeConflictResolver {
     return new MergeConflictResult(newValue, newValueSchemaID, true, newRmd);
   }
 
+  /**
+   * @return a value-level timestamp RMD record, which is the same as the one a winning write with a value-level
+   *         timestamp leaves in the old RMD record, see {@link AbstractMerge}.
+   */
+  private GenericRecord createValueLevelRmd(final int valueSchemaId, final long timestamp) {
+    GenericRecord rmd = newRmdCreator.apply(valueSchemaId);
+    rmd.put(TIMESTAMP_FIELD_POS, timestamp);
+    rmd.put(REPLICATION_CHECKPOINT_VECTOR_FIELD_POS, Collections.emptyList());
+    return rmd;
+  }
+
   private MergeConflictResult deleteWithoutRmd(long deleteOperationTimestamp) {
     /**
      * oldReplicationMetadata can be null in two cases:
@@ -2,6 +2,7 @@ package com.linkedin.davinci.replication.merge;
 
 import com.linkedin.davinci.schema.merge.CollectionTimestampMergeRecordHelper;
 import com.linkedin.davinci.schema.merge.MergeRecordHelper;
+import com.linkedin.davinci.schema.merge.ParallelFieldMerger;
 import com.linkedin.davinci.schema.writecompute.WriteComputeProcessor;
 import org.apache.avro.generic.GenericData;
 
@@ -39,14 +40,36 @@ public class MergeConflictResolverFactory {
       boolean rmdUseFieldLevelTs,
       boolean fastAvroEnabled,
       boolean collectionFieldElementReplacementEnabled) {
+    return createMergeConflictResolver(
+        annotatedReadOnlySchemaRepository,
+        rmdSerDe,
+        storeName,
+        rmdUseFieldLevelTs,
+        fastAvroEnabled,
+        collectionFieldElementReplacementEnabled,
+        ParallelFieldMerger.SERIAL);
+  }
+
+  public MergeConflictResolver createMergeConflictResolver(
+      StringAnnotatedStoreSchemaCache annotatedReadOnlySchemaRepository,
+      RmdSerDe rmdSerDe,
+      String storeName,
+      boolean rmdUseFieldLevelTs,
+      boolean fastAvroEnabled,
+      boolean collectionFieldElementReplacementEnabled,
+      ParallelFieldMerger parallelFieldMerger) {
     MergeRecordHelper mergeRecordHelper = new CollectionTimestampMergeRecordHelper();
     return new MergeConflictResolver(
         annotatedReadOnlySchemaRepository,
         storeName,
         valueSchemaID -> new GenericData.Record(rmdSerDe.getRmdSchema(valueSchemaID)),
         new MergeGenericRecord(
-            new WriteComputeProcessor(mergeRecordHelper, collectionFieldElementReplacementEnabled),
-            mergeRecordHelper),
+            new WriteComputeProcessor(
+                mergeRecordHelper,
+                collectionFieldElementReplacementEnabled,
+                parallelFieldMerger),
+            mergeRecordHelper,
+            parallelFieldMerger),
         new MergeByteBuffer(),
         new MergeResultValueSchemaResolverImpl(annotatedReadOnlySchemaRepository, storeName),
         rmdSerDe,
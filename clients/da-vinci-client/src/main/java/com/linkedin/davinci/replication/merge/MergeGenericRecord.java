@@ -5,6 +5,7 @@ import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_POS;
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelperCommon;
 import com.linkedin.avroutil1.compatibility.AvroVersion;
 import com.linkedin.davinci.schema.merge.MergeRecordHelper;
+import com.linkedin.davinci.schema.merge.ParallelFieldMerger;
 import com.linkedin.davinci.schema.merge.UpdateResultStatus;
 import com.linkedin.davinci.schema.merge.ValueAndRmd;
 import com.linkedin.davinci.schema.writecompute.WriteComputeProcessor;
@@ -14,7 +15,6 @@ import com.linkedin.venice.schema.rmd.RmdUtils;
 import com.linkedin.venice.schema.rmd.v1.RmdSchemaGeneratorV1;
 import com.linkedin.venice.utils.AvroSupersetSchemaUtils;
 import com.linkedin.venice.utils.lazy.Lazy;
-import java.util.List;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.commons.lang.Validate;
@@ -33,12 +33,22 @@ public class MergeGenericRecord extends AbstractMerge<GenericRecord> {
   private static final AvroVersion RUNTIME_AVRO_VERSION = AvroCompatibilityHelperCommon.getRuntimeAvroVersion();
   private final WriteComputeProcessor writeComputeProcessor;
   private final MergeRecordHelper mergeRecordHelper;
+  private final ParallelFieldMerger parallelFieldMerger;
 
   public MergeGenericRecord(WriteComputeProcessor writeComputeProcessor, MergeRecordHelper mergeRecordHelper) {
+    this(writeComputeProcessor, mergeRecordHelper, ParallelFieldMerger.SERIAL);
+  }
+
+  public MergeGenericRecord(
+      WriteComputeProcessor writeComputeProcessor,
+      MergeRecordHelper mergeRecordHelper,
+      ParallelFieldMerger parallelFieldMerger) {
     Validate.notNull(writeComputeProcessor);
     Validate.notNull(mergeRecordHelper);
+    Validate.notNull(parallelFieldMerger);
     this.writeComputeProcessor = writeComputeProcessor;
     this.mergeRecordHelper = mergeRecordHelper;
+    this.parallelFieldMerger = parallelFieldMerger;
   }
 
   /**
@@ -105,21 +115,16 @@ public class MergeGenericRecord extends AbstractMerge<GenericRecord> {
     final GenericRecord oldValue = oldValueAndRmd.getValue();
     updateReplicationCheckpointVector(oldReplicationMetadata);
 
-    List<Schema.Field> fieldsInNewRecord = newValue.getSchema().getFields();
-    boolean noFieldUpdated = true;
     // Iterate fields in the new record because old record fields set must be a superset of the new record fields set.
-    Schema.Field oldValueField;
-    for (Schema.Field newRecordField: fieldsInNewRecord) {
-      oldValueField = oldValue.getSchema().getField(newRecordField.name());
-      UpdateResultStatus fieldUpdateResult = mergeRecordHelper.putOnField(
-          oldValue,
-          timestampRecordForOldValue,
-          oldValueField,
-          newValue.get(newRecordField.pos()),
-          putOperationTimestamp,
-          putOperationColoID);
-      noFieldUpdated &= (fieldUpdateResult == UpdateResultStatus.NOT_UPDATED_AT_ALL);
-    }
+    boolean noFieldUpdated = parallelFieldMerger.mergeFields(
+        newValue,
+        newRecordField -> mergeRecordHelper.putOnField(
+            oldValue,
+            timestampRecordForOldValue,
+            oldValue.getSchema().getField(newRecordField.name()),
+            newValue.get(newRecordField.pos()),
+            putOperationTimestamp,
+            putOperationColoID));
     if (noFieldUpdated) {
       oldValueAndRmd.setUpdateIgnored(true);
     }
@@ -1,8 +1,11 @@
 package com.linkedin.davinci.replication.merge;
 
+import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_POS;
+
 import com.linkedin.davinci.replication.RmdWithValueSchemaId;
 import com.linkedin.davinci.serializer.avro.MapOrderPreservingSerDeFactory;
 import com.linkedin.davinci.serializer.avro.fast.MapOrderPreservingFastSerDeFactory;
+import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.annotation.Threadsafe;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.schema.rmd.RmdSchemaEntry;
@@ -11,6 +14,7 @@ import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.RetryUtils;
 import com.linkedin.venice.utils.SparseConcurrentList;
 import com.linkedin.venice.utils.collections.BiIntKeyCache;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Collections;
@@ -23,7 +27,7 @@ import org.apache.commons.lang3.Validate;
 
 /**
  * This class is responsible for serialization and deserialization related tasks. Specifically 3 things:
- *  1. Deserialize RMD from bytes.
+ *  1. Deserialize RMD from bytes, eagerly or lazily.
  *  2. Serialize RMD record to bytes.
  *  3. Get RMD schema given its value schema ID.
  */
@@ -85,6 +89,61 @@ public class RmdSerDe {
     rmdWithValueSchemaId.setRmdRecord(rmdRecord);
   }
 
+  /**
+   * Same as {@link #deserializeValueSchemaIdPrependedRmdBytes}, except that the RMD record is only deserialized when it
+   * is first accessed. The RMD bytes are laid out as the value schema ID, followed by the Avro encoding of the RMD
+   * record whose first field is the timestamp union, so the union branch index and, for a value-level timestamp, the
+   * timestamp itself sit at a fixed offset. They are peeked here, which lets the conflict resolution of a write whose
+   * timestamp dominates (or is dominated by) the value-level timestamp skip the RMD deserialization altogether.
+   *
+   * The passed-in bytes must not be reused by the caller, since they back the lazy RMD record.
+   */
+  public void lazilyDeserializeValueSchemaIdPrependedRmdBytes(
+      byte[] valueSchemaIdPrependedBytes,
+      RmdWithValueSchemaId rmdWithValueSchemaId) {
+    Validate.notNull(valueSchemaIdPrependedBytes);
+    final int valueSchemaId = ByteBuffer.wrap(valueSchemaIdPrependedBytes).getInt();
+    final long valueLevelTimestamp = peekValueLevelTimestamp(valueSchemaId, valueSchemaIdPrependedBytes);
+    rmdWithValueSchemaId.setValueSchemaId(valueSchemaId);
+    rmdWithValueSchemaId.setRmdProtocolVersionId(rmdVersionId);
+    rmdWithValueSchemaId.setLazyRmdRecord(() -> {
+      OptimizedBinaryDecoder binaryDecoder = OptimizedBinaryDecoderFactory.defaultFactory()
+          .createOptimizedBinaryDecoder(
+              valueSchemaIdPrependedBytes,
+              ValueRecord.SCHEMA_HEADER_LENGTH,
+              valueSchemaIdPrependedBytes.length - ValueRecord.SCHEMA_HEADER_LENGTH);
+      return getRmdDeserializerWithRetry(valueSchemaId, valueSchemaId, DEFAULT_MAX_RETRIES).deserialize(binaryDecoder);
+    }, valueLevelTimestamp);
+  }
+
+  /**
+   * @return the value-level timestamp of the serialized RMD, or
+   *         {@link RmdWithValueSchemaId#UNKNOWN_VALUE_LEVEL_TIMESTAMP} if the RMD holds per-field timestamps.
+   */
+  private long peekValueLevelTimestamp(final int valueSchemaId, byte[] valueSchemaIdPrependedBytes) {
+    Schema timestampSchema = getRmdSchema(valueSchemaId).getFields().get(TIMESTAMP_FIELD_POS).schema();
+    if (timestampSchema.getType() != Schema.Type.UNION) {
+      return RmdWithValueSchemaId.UNKNOWN_VALUE_LEVEL_TIMESTAMP;
+    }
+    OptimizedBinaryDecoder binaryDecoder = OptimizedBinaryDecoderFactory.defaultFactory()
+        .createOptimizedBinaryDecoder(
+            valueSchemaIdPrependedBytes,
+            ValueRecord.SCHEMA_HEADER_LENGTH,
+            valueSchemaIdPrependedBytes.length - ValueRecord.SCHEMA_HEADER_LENGTH);
+    try {
+      int branchIndex = binaryDecoder.readIndex();
+      if (timestampSchema.getTypes().get(branchIndex).getType() != Schema.Type.LONG) {
+        return RmdWithValueSchemaId.UNKNOWN_VALUE_LEVEL_TIMESTAMP;
+      }
+      return binaryDecoder.readLong();
+    } catch (IOException e) {
+      throw new VeniceException(
+          "Failed to peek the RMD timestamp for store: " + annotatedStoreSchemaCache.getStoreName()
+              + " with value schema ID: " + valueSchemaId,
+          e);
+    }
+  }
+
   /**
    * Given a value schema ID {@param valueSchemaID} and RMD bytes {@param rmdBytes}, find the RMD schema that corresponds
    * to the given value schema ID and use that RMD schema to deserialize RMD bytes in a RMD record.
@@ -0,0 +1,134 @@
+package com.linkedin.davinci.schema.merge;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import javax.annotation.concurrent.ThreadSafe;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * This class applies a field-level merge (e.g. {@link MergeRecordHelper#putOnField}) to each field of an incoming
+ * record, either serially on the calling thread, or split across a {@link ForkJoinPool} when the incoming record is
+ * wide enough, i.e. when it has at least {@link #minFieldCount} fields, or when its collection fields hold at least
+ * {@link #minCollectionSize} elements in total.
+ *
+ * The parallel merge produces exactly the same value and RMD records as the serial one, since the merge of a field only
+ * reads and writes the slot of that field in the value record and in the per-field timestamp record, and the element
+ * comparisons are deterministic. The only behavior which differs is on failure: the serial merge stops at the first
+ * field which fails, while the parallel one may have merged other fields before the exception is rethrown, which does
+ * not matter as the records of a failed merge are discarded.
+ */
+@ThreadSafe
+public class ParallelFieldMerger {
+  /**
+   * Merges all the fields serially, on the calling thread.
+   */
+  public static final ParallelFieldMerger SERIAL = new ParallelFieldMerger(null, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+  @FunctionalInterface
+  public interface FieldMergeFunction {
+    UpdateResultStatus merge(Schema.Field incomingRecordField);
+  }
+
+  private final ForkJoinPool forkJoinPool;
+  private final int minFieldCount;
+  private final int minCollectionSize;
+
+  public ParallelFieldMerger(ForkJoinPool forkJoinPool, int minFieldCount, int minCollectionSize) {
+    this.forkJoinPool = forkJoinPool;
+    this.minFieldCount = minFieldCount;
+    this.minCollectionSize = minCollectionSize;
+  }
+
+  /**
+   * @param incomingRecord the new value or the write-compute record, whose fields are merged
+   * @return true if none of the fields got updated
+   */
+  public boolean mergeFields(GenericRecord incomingRecord, FieldMergeFunction fieldMergeFunction) {
+    List<Schema.Field> fields = incomingRecord.getSchema().getFields();
+    if (shouldMergeInParallel(incomingRecord, fields)) {
+      return forkJoinPool.invoke(new FieldMergeTask(fields, 0, fields.size(), fieldMergeFunction));
+    }
+    boolean noFieldUpdated = true;
+    for (Schema.Field field: fields) {
+      noFieldUpdated &= (fieldMergeFunction.merge(field) == UpdateResultStatus.NOT_UPDATED_AT_ALL);
+    }
+    return noFieldUpdated;
+  }
+
+  boolean shouldMergeInParallel(GenericRecord incomingRecord, List<Schema.Field> fields) {
+    if (forkJoinPool == null || fields.size() < 2) {
+      return false;
+    }
+    if (fields.size() >= minFieldCount) {
+      return true;
+    }
+    long collectionSize = 0;
+    for (Schema.Field field: fields) {
+      collectionSize += getCollectionSize(incomingRecord.get(field.pos()));
+      if (collectionSize >= minCollectionSize) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * For the collection merge operations of a write-compute record, this sums up the sizes of the collections of the
+   * operation record, e.g. setUnion and setDiff.
+   */
+  private static int getCollectionSize(Object fieldValue) {
+    if (fieldValue instanceof Collection) {
+      return ((Collection<?>) fieldValue).size();
+    }
+    if (fieldValue instanceof Map) {
+      return ((Map<?, ?>) fieldValue).size();
+    }
+    if (fieldValue instanceof GenericRecord) {
+      GenericRecord operationRecord = (GenericRecord) fieldValue;
+      int size = 0;
+      for (Schema.Field field: operationRecord.getSchema().getFields()) {
+        Object value = operationRecord.get(field.pos());
+        if (value instanceof Collection) {
+          size += ((Collection<?>) value).size();
+        } else if (value instanceof Map) {
+          size += ((Map<?, ?>) value).size();
+        }
+      }
+      return size;
+    }
+    return 0;
+  }
+
+  private static class FieldMergeTask extends RecursiveTask<Boolean> {
+    private static final long serialVersionUID = 1L;
+
+    private final List<Schema.Field> fields;
+    private final int start;
+    private final int end;
+    private final FieldMergeFunction fieldMergeFunction;
+
+    FieldMergeTask(List<Schema.Field> fields, int start, int end, FieldMergeFunction fieldMergeFunction) {
+      this.fields = fields;
+      this.start = start;
+      this.end = end;
+      this.fieldMergeFunction = fieldMergeFunction;
+    }
+
+    @Override
+    protected Boolean compute() {
+      if (end - start == 1) {
+        return fieldMergeFunction.merge(fields.get(start)) == UpdateResultStatus.NOT_UPDATED_AT_ALL;
+      }
+      int middle = (start + end) >>> 1;
+      FieldMergeTask left = new FieldMergeTask(fields, start, middle, fieldMergeFunction);
+      left.fork();
+      boolean rightNotUpdated = new FieldMergeTask(fields, middle, end, fieldMergeFunction).compute();
+      return left.join() & rightNotUpdated;
+    }
+  }
+}
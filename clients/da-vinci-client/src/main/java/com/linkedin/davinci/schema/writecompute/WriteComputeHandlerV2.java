@@ -7,6 +7,7 @@ import com.linkedin.davinci.schema.SchemaUtils;
 import com.linkedin.davinci.schema.merge.AvroCollectionElementComparator;
 import com.linkedin.davinci.schema.merge.CollectionFieldOperationHandler;
 import com.linkedin.davinci.schema.merge.MergeRecordHelper;
+import com.linkedin.davinci.schema.merge.ParallelFieldMerger;
 import com.linkedin.davinci.schema.merge.SortBasedCollectionFieldOpHandler;
 import com.linkedin.davinci.schema.merge.UpdateResultStatus;
 import com.linkedin.davinci.schema.merge.ValueAndRmd;
@@ -30,14 +31,24 @@ import org.apache.commons.lang.Validate;
 public class WriteComputeHandlerV2 extends WriteComputeHandlerV1 {
   private final MergeRecordHelper mergeRecordHelper;
   private final CollectionFieldOperationHandler collectionFieldOperationHandler;
+  private final ParallelFieldMerger parallelFieldMerger;
 
   WriteComputeHandlerV2(MergeRecordHelper mergeRecordHelper) {
     this(mergeRecordHelper, false);
   }
 
   WriteComputeHandlerV2(MergeRecordHelper mergeRecordHelper, boolean collectionFieldElementReplacementEnabled) {
+    this(mergeRecordHelper, collectionFieldElementReplacementEnabled, ParallelFieldMerger.SERIAL);
+  }
+
+  WriteComputeHandlerV2(
+      MergeRecordHelper mergeRecordHelper,
+      boolean collectionFieldElementReplacementEnabled,
+      ParallelFieldMerger parallelFieldMerger) {
     Validate.notNull(mergeRecordHelper);
+    Validate.notNull(parallelFieldMerger);
     this.mergeRecordHelper = mergeRecordHelper;
+    this.parallelFieldMerger = parallelFieldMerger;
     this.collectionFieldOperationHandler = new SortBasedCollectionFieldOpHandler(
         AvroCollectionElementComparator.INSTANCE,
         collectionFieldElementReplacementEnabled);
@@ -77,11 +88,10 @@ public class WriteComputeHandlerV2 extends WriteComputeHandlerV1 {
       throw new IllegalStateException(
           "Write Compute only support partial update. Got unexpected Write Compute record: " + writeComputeRecord);
     }
-    boolean notUpdated = true;
-    final Schema writeComputeSchema = writeComputeRecord.getSchema();
-    for (Schema.Field writeComputeField: writeComputeSchema.getFields()) {
+    final GenericRecord currValueRecordToUpdate = currRecordAndRmd.getValue();
+    boolean notUpdated = parallelFieldMerger.mergeFields(writeComputeRecord, writeComputeField -> {
       final String writeComputeFieldName = writeComputeField.name();
-      Schema.Field currentValueField = currRecordAndRmd.getValue().getSchema().getField(writeComputeFieldName);
+      Schema.Field currentValueField = currValueRecordToUpdate.getSchema().getField(writeComputeFieldName);
       if (currentValueField == null) {
         throw new IllegalStateException(
             "Current value record must have a schema that has the same field names as the "
@@ -93,33 +103,29 @@ public class WriteComputeHandlerV2 extends WriteComputeHandlerV1 {
       WriteComputeOperation operationType = WriteComputeOperation.getFieldOperationType(writeComputeFieldValue);
       switch (operationType) {
         case NO_OP_ON_FIELD:
-          continue; // Do nothing
+          return UpdateResultStatus.NOT_UPDATED_AT_ALL; // Do nothing
 
         case PUT_NEW_FIELD:
-          UpdateResultStatus putResult = mergeRecordHelper.putOnField(
-              currRecordAndRmd.getValue(),
+          return mergeRecordHelper.putOnField(
+              currValueRecordToUpdate,
               timestampRecord,
               currentValueField,
               writeComputeFieldValue,
               updateOperationTimestamp,
               coloID);
-          notUpdated &= (putResult.equals(UpdateResultStatus.NOT_UPDATED_AT_ALL));
-          continue;
 
         case LIST_OPS:
         case MAP_OPS:
-          UpdateResultStatus collectionMergeResult = modifyCollectionField(
+          return modifyCollectionField(
               assertAndGetTsRecordFieldIsRecord(timestampRecord, writeComputeFieldName),
               (GenericRecord) writeComputeFieldValue,
               updateOperationTimestamp,
-              currRecordAndRmd.getValue(),
+              currValueRecordToUpdate,
               currentValueField);
-          notUpdated &= (collectionMergeResult.equals(UpdateResultStatus.NOT_UPDATED_AT_ALL));
-          continue;
         default:
           throw new IllegalStateException("Unexpected write-compute operation: " + operationType);
       }
-    }
+    });
     if (notUpdated) {
       currRecordAndRmd.setUpdateIgnored(true);
     }
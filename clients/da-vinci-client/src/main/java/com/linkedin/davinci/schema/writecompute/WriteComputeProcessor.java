@@ -1,6 +1,7 @@
 package com.linkedin.davinci.schema.writecompute;
 
 import com.linkedin.davinci.schema.merge.MergeRecordHelper;
+import com.linkedin.davinci.schema.merge.ParallelFieldMerger;
 import com.linkedin.davinci.schema.merge.ValueAndRmd;
 import io.tehuti.utils.Utils;
 import javax.annotation.concurrent.ThreadSafe;
@@ -45,7 +46,19 @@ public class WriteComputeProcessor {
   }
 
   public WriteComputeProcessor(MergeRecordHelper mergeRecordHelper, boolean collectionFieldElementReplacementEnabled) {
-    this.writeComputeHandlerV2 = new WriteComputeHandlerV2(mergeRecordHelper, collectionFieldElementReplacementEnabled);
+    this(mergeRecordHelper, collectionFieldElementReplacementEnabled, ParallelFieldMerger.SERIAL);
+  }
+
+  /**
+   * @param parallelFieldMerger merges the fields of the partial updates with replication metadata, see
+   *                            {@link #updateRecordWithRmd}
+   */
+  public WriteComputeProcessor(
+      MergeRecordHelper mergeRecordHelper,
+      boolean collectionFieldElementReplacementEnabled,
+      ParallelFieldMerger parallelFieldMerger) {
+    this.writeComputeHandlerV2 =
+        new WriteComputeHandlerV2(mergeRecordHelper, collectionFieldElementReplacementEnabled, parallelFieldMerger);
   }
 
   /**
@@ -2,7 +2,9 @@ package com.linkedin.davinci.stats;
 
 import static com.linkedin.venice.meta.Store.NON_EXISTING_VERSION;
 
+import com.linkedin.davinci.store.DelegatingStorageEngine;
 import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.davinci.store.cache.RowCache;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
@@ -300,6 +302,35 @@ public class AggVersionedStorageEngineStats extends
       return storageEngine != null ? storageEngine.getStats().getKeyCountEstimate() : 0;
     }
 
+    /**
+     * @return the row cache of the storage engine, or null if it is not enabled for this store-version, see
+     *         {@link DelegatingStorageEngine#enableRowCache(long)}
+     */
+    private RowCache getRowCache() {
+      StorageEngine engine = storageEngine;
+      return engine instanceof DelegatingStorageEngine ? ((DelegatingStorageEngine) engine).getRowCache() : null;
+    }
+
+    public long getRowCacheHitCount() {
+      RowCache rowCache = getRowCache();
+      return rowCache != null ? rowCache.hitCount() : 0;
+    }
+
+    public long getRowCacheMissCount() {
+      RowCache rowCache = getRowCache();
+      return rowCache != null ? rowCache.missCount() : 0;
+    }
+
+    public long getRowCacheEvictionCount() {
+      RowCache rowCache = getRowCache();
+      return rowCache != null ? rowCache.evictionCount() : 0;
+    }
+
+    public long getRowCacheEntryCount() {
+      RowCache rowCache = getRowCache();
+      return rowCache != null ? rowCache.size() : 0;
+    }
+
     public void recordRocksDBOpenFailure() {
       rocksDBOpenFailureCount.incrementAndGet();
     }
@@ -348,6 +379,38 @@ public class AggVersionedStorageEngineStats extends
           return stats.getKeyCountEstimate();
         }
       }, "rocksdb_key_count_estimate"));
+      registerSensor(new AsyncGauge((ignored, ignored2) -> {
+        StorageEngineStatsWrapper stats = getStats();
+        if (stats == null) {
+          return StatsErrorCode.NULL_STORAGE_ENGINE_STATS.code;
+        } else {
+          return stats.getRowCacheHitCount();
+        }
+      }, "row_cache_hit_count"));
+      registerSensor(new AsyncGauge((ignored, ignored2) -> {
+        StorageEngineStatsWrapper stats = getStats();
+        if (stats == null) {
+          return StatsErrorCode.NULL_STORAGE_ENGINE_STATS.code;
+        } else {
+          return stats.getRowCacheMissCount();
+        }
+      }, "row_cache_miss_count"));
+      registerSensor(new AsyncGauge((ignored, ignored2) -> {
+        StorageEngineStatsWrapper stats = getStats();
+        if (stats == null) {
+          return StatsErrorCode.NULL_STORAGE_ENGINE_STATS.code;
+        } else {
+          return stats.getRowCacheEvictionCount();
+        }
+      }, "row_cache_eviction_count"));
+      registerSensor(new AsyncGauge((ignored, ignored2) -> {
+        StorageEngineStatsWrapper stats = getStats();
+        if (stats == null) {
+          return StatsErrorCode.NULL_STORAGE_ENGINE_STATS.code;
+        } else {
+          return stats.getRowCacheEntryCount();
+        }
+      }, "row_cache_entry_count"));
     }
   }
 }
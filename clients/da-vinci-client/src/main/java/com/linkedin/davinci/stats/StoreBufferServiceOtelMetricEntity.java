@@ -31,6 +31,11 @@ public enum StoreBufferServiceOtelMetricEntity implements ModuleMetricEntityInte
       "drainer.writer.memory.min_used", MetricType.ASYNC_GAUGE, MetricUnit.BYTES,
       "Minimum memory used by any single drainer writer", setOf(VENICE_CLUSTER_NAME, VENICE_DRAINER_TYPE)
   ),
+  MEMORY_USED_PER_WRITER_IMBALANCE(
+      "drainer.writer.memory.imbalance", MetricType.ASYNC_GAUGE, MetricUnit.BYTES,
+      "Difference between the maximum and minimum memory used by any single drainer writer",
+      setOf(VENICE_CLUSTER_NAME, VENICE_DRAINER_TYPE)
+  ),
   PROCESSING_TIME(
       "drainer.record.processing.time", MetricType.MIN_MAX_COUNT_SUM_AGGREGATIONS, MetricUnit.MILLISECOND,
       "Time spent processing each record in the drainer",
@@ -40,6 +45,11 @@ public enum StoreBufferServiceOtelMetricEntity implements ModuleMetricEntityInte
       "drainer.record.processing.error_count", MetricType.COUNTER, MetricUnit.NUMBER,
       "Count of errors encountered while processing records in the drainer",
       setOf(VENICE_CLUSTER_NAME, VENICE_DRAINER_TYPE, VENICE_STORE_NAME)
+  ),
+  PARTITION_CLAIM_COUNT(
+      "drainer.partition.claim_count", MetricType.COUNTER, MetricUnit.NUMBER,
+      "Count of buffered partitions claimed by a drainer writer from another drainer writer",
+      setOf(VENICE_CLUSTER_NAME, VENICE_DRAINER_TYPE)
   );
 
   private final MetricEntity metricEntity;
@@ -28,7 +28,7 @@ import java.util.function.LongSupplier;
 public class StoreBufferServiceStats extends AbstractVeniceStats {
   enum TehutiMetricName implements TehutiMetricNameEnum {
     TOTAL_MEMORY_USAGE, TOTAL_REMAINING_MEMORY, MAX_MEMORY_USAGE_PER_WRITER, MIN_MEMORY_USAGE_PER_WRITER,
-    INTERNAL_PROCESSING_LATENCY, INTERNAL_PROCESSING_ERROR;
+    MEMORY_USAGE_IMBALANCE_PER_WRITER, INTERNAL_PROCESSING_LATENCY, INTERNAL_PROCESSING_ERROR, PARTITION_CLAIM;
   }
 
   private final VeniceOpenTelemetryMetricsRepository otelRepository;
@@ -48,6 +48,8 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
    */
   private final VeniceConcurrentHashMap<String, MetricEntityStateBase> errorPerStore = new VeniceConcurrentHashMap<>();
 
+  private final MetricEntityStateBase partitionClaimCount;
+
   public StoreBufferServiceStats(
       MetricsRepository metricsRepository,
       String metricNamePrefix,
@@ -56,7 +58,8 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
       LongSupplier totalMemoryUsageSupplier,
       LongSupplier totalRemainingMemorySupplier,
       LongSupplier maxMemoryUsagePerDrainerSupplier,
-      LongSupplier minMemoryUsagePerDrainerSupplier) {
+      LongSupplier minMemoryUsagePerDrainerSupplier,
+      LongSupplier memoryUsageImbalancePerDrainerSupplier) {
     super(metricsRepository, metricNamePrefix);
 
     VeniceDrainerType bufferType = sorted ? VeniceDrainerType.SORTED : VeniceDrainerType.UNSORTED;
@@ -67,11 +70,11 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
             .build();
     this.otelRepository = otelData.getOtelRepository();
     this.baseDimensionsMap = otelData.getBaseDimensionsMap();
-    // All 4 memory metrics share the same dimension set {CLUSTER_NAME, STORE_BUFFER_SERVICE_TYPE},
-    // so baseAttributes built from any one of them is valid for all four.
+    // All memory metrics share the same dimension set {CLUSTER_NAME, STORE_BUFFER_SERVICE_TYPE},
+    // so baseAttributes built from any one of them is valid for all of them.
     this.baseAttributes = otelData.getBaseAttributes();
 
-    // Memory metrics (#1-4): joint Tehuti+OTel AsyncGauge.
+    // Memory metrics (#1-5): joint Tehuti+OTel AsyncGauge.
     // Return values are intentionally discarded — the gauge callback is registered internally
     // by the Tehuti sensor and OTel SDK during create(). No per-recording state is needed.
     registerMemoryGauge(
@@ -90,6 +93,19 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
         StoreBufferServiceOtelMetricEntity.MEMORY_USED_PER_WRITER_MIN,
         TehutiMetricName.MIN_MEMORY_USAGE_PER_WRITER,
         minMemoryUsagePerDrainerSupplier);
+    registerMemoryGauge(
+        StoreBufferServiceOtelMetricEntity.MEMORY_USED_PER_WRITER_IMBALANCE,
+        TehutiMetricName.MEMORY_USAGE_IMBALANCE_PER_WRITER,
+        memoryUsageImbalancePerDrainerSupplier);
+
+    this.partitionClaimCount = MetricEntityStateBase.create(
+        StoreBufferServiceOtelMetricEntity.PARTITION_CLAIM_COUNT.getMetricEntity(),
+        otelRepository,
+        this::registerSensorIfAbsent,
+        TehutiMetricName.PARTITION_CLAIM,
+        Collections.singletonList(new OccurrenceRate()),
+        baseDimensionsMap,
+        baseAttributes);
   }
 
   private void registerMemoryGauge(
@@ -147,4 +163,12 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
   public void recordInternalProcessingError(String storeName) {
     getOrCreateErrorState(storeName).record(1);
   }
+
+  /**
+   * Records that a drainer claimed a buffered partition of another drainer, which is only possible when the store
+   * writer work stealing is enabled.
+   */
+  public void recordPartitionClaim() {
+    partitionClaimCount.record(1);
+  }
 }
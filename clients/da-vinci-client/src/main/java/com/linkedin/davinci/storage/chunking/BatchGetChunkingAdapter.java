@@ -5,7 +5,10 @@ import com.linkedin.davinci.store.StorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
@@ -68,4 +71,27 @@ public class BatchGetChunkingAdapter implements ChunkingAdapter<ByteBuffer, Mult
     }
     return ChunkingUtils.getFromStorage(BATCH_GET_CHUNKING_ADAPTER, store, partition, key, response);
   }
+
+  /**
+   * Batched variant of {@link #get(StorageEngine, int, ByteBuffer, boolean, ReadResponseStats)}, which looks up all the
+   * keys (which must belong to the same {@param partition}) with a single storage engine multiGet, and then fetches
+   * the chunks of all the large values with another one.
+   *
+   * @return a list of the same size as {@param keys}, containing null for the keys which do not exist.
+   */
+  public static List<MultiGetResponseRecordV1> multiGet(
+      StorageEngine store,
+      int partition,
+      List<ByteBuffer> keys,
+      boolean isChunked,
+      ReadResponseStats response) {
+    List<byte[]> keyBytesList = new ArrayList<>(keys.size());
+    for (ByteBuffer key: keys) {
+      if (isChunked) {
+        key = ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key);
+      }
+      keyBytesList.add(ByteUtils.extractByteArray(key));
+    }
+    return ChunkingUtils.multiGetFromStorage(BATCH_GET_CHUNKING_ADAPTER, store, partition, keyBytesList, response);
+  }
 }
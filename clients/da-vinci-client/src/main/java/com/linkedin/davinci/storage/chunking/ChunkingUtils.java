@@ -17,8 +17,11 @@ import com.linkedin.venice.serialization.avro.ChunkedValueManifestSerializer;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.writer.VeniceWriter;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
@@ -115,6 +118,105 @@ public class ChunkingUtils {
         manifestContainer);
   }
 
+  /**
+   * Batched counterpart of {@link #getFromStorage(ChunkingAdapter, StorageEngine, int, ByteBuffer, ReadResponseStats)}.
+   *
+   * The top-level keys are all queried with a single {@link StorageEngine#multiGet(int, List)} call. Then, if some of
+   * them turn out to be {@link ChunkedValueManifest}s, the chunks of all these large values are queried together with
+   * a second {@link StorageEngine#multiGet(int, List)} call, so that the number of storage engine round-trips stays
+   * constant regardless of the number of keys and chunks.
+   *
+   * @param keys top-level keys, already properly formatted (i.e. with the chunking suffix if applicable)
+   * @return a list of the same size as {@param keys}, containing null for the keys which do not exist.
+   */
+  static <VALUE, CHUNKS_CONTAINER> List<VALUE> multiGetFromStorage(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      StorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      ReadResponseStats responseStats) {
+    long databaseLookupStartTimeInNS = responseStats.getCurrentTimeInNanos();
+    List<byte[]> values = store.multiGet(partition, keys);
+    int keyCount = keys.size();
+    List<VALUE> results = new ArrayList<>(keyCount);
+
+    // Positions and manifests of the large values found in the first pass, which need a second pass
+    List<Integer> manifestPositions = null;
+    List<ChunkedValueManifest> manifests = null;
+    List<byte[]> chunkKeys = null;
+
+    byte[] value;
+    for (int i = 0; i < keyCount; i++) {
+      value = values.get(i);
+      if (value == null) {
+        results.add(null);
+        continue;
+      }
+      int writerSchemaId = ValueRecord.parseSchemaId(value);
+      if (writerSchemaId > 0) {
+        // User-defined schema, thus not a chunked value.
+        responseStats.addValueSize(value.length);
+        results.add(
+            adapter.constructValue(value, value.length, null, null, responseStats, writerSchemaId, -1, null, null));
+      } else if (writerSchemaId != AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion()) {
+        throw new VeniceException("Found a record with invalid schema ID: " + writerSchemaId);
+      } else {
+        if (manifests == null) {
+          manifestPositions = new ArrayList<>();
+          manifests = new ArrayList<>();
+          chunkKeys = new ArrayList<>();
+        }
+        ChunkedValueManifest chunkedValueManifest =
+            CHUNKED_VALUE_MANIFEST_SERIALIZER.deserialize(value, writerSchemaId);
+        manifestPositions.add(i);
+        manifests.add(chunkedValueManifest);
+        for (ByteBuffer chunkKey: chunkedValueManifest.keysWithChunkIdSuffix) {
+          chunkKeys.add(ByteUtils.extractByteArray(chunkKey));
+        }
+        // Placeholder, filled in once the chunks have been fetched
+        results.add(null);
+      }
+    }
+
+    if (manifests == null) {
+      responseStats.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
+      return results;
+    }
+
+    List<byte[]> valueChunks = store.multiGet(partition, chunkKeys);
+    responseStats.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
+
+    int chunkCursor = 0;
+    for (int manifestIndex = 0; manifestIndex < manifests.size(); manifestIndex++) {
+      ChunkedValueManifest chunkedValueManifest = manifests.get(manifestIndex);
+      CHUNKS_CONTAINER assembledValueContainer = adapter.constructChunksContainer(chunkedValueManifest);
+      int actualSize = 0;
+      int chunkCount = chunkedValueManifest.keysWithChunkIdSuffix.size();
+      for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+        byte[] valueChunk = valueChunks.get(chunkCursor++);
+        validateChunk(valueChunk, store.getStoreVersionName(), partition, chunkIndex);
+        actualSize += valueChunk.length - ValueRecord.SCHEMA_HEADER_LENGTH;
+        adapter.addChunkIntoContainer(assembledValueContainer, chunkIndex, valueChunk);
+      }
+      validateAssembledSize(actualSize, chunkedValueManifest, store.getStoreVersionName(), partition);
+
+      responseStats.addValueSize(actualSize);
+      responseStats.incrementMultiChunkLargeValueCount();
+      results.set(
+          manifestPositions.get(manifestIndex),
+          adapter.constructValue(
+              assembledValueContainer,
+              null,
+              null,
+              responseStats,
+              chunkedValueManifest.schemaId,
+              -1,
+              null,
+              null));
+    }
+    return results;
+  }
+
   static <VALUE, CHUNKS_CONTAINER> VALUE getFromStorage(
       ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
       StorageEngine store,
@@ -355,28 +457,13 @@ public class ChunkingUtils {
       // is optimal (as opposed to streaming the response out incrementally, for example). Since this is a
       // premature optimization, we are not addressing it right now.
       valueChunk = storageGetFunction.apply(partition, chunkedValueManifest.keysWithChunkIdSuffix.get(chunkIndex));
-
-      if (valueChunk == null) {
-        throw new VeniceException(
-            "Chunk not found in " + getExceptionMessageDetails(storeVersionName, partition, chunkIndex));
-      } else if (ValueRecord.parseSchemaId(valueChunk) != AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion()) {
-        throw new VeniceException(
-            "Did not get the chunk schema ID while attempting to retrieve a chunk! " + "Instead, got schema ID: "
-                + ValueRecord.parseSchemaId(valueChunk) + " from "
-                + getExceptionMessageDetails(storeVersionName, partition, chunkIndex));
-      }
+      validateChunk(valueChunk, storeVersionName, partition, chunkIndex);
 
       actualSize += valueChunk.length - ValueRecord.SCHEMA_HEADER_LENGTH;
       adapter.addChunkIntoContainer(assembledValueContainer, chunkIndex, valueChunk);
     }
 
-    // Sanity check based on size...
-    if (actualSize != chunkedValueManifest.size) {
-      throw new VeniceException(
-          "The fully assembled large value does not have the expected size! " + "actualSize: " + actualSize
-              + ", chunkedValueManifest.size: " + chunkedValueManifest.size + ", "
-              + getExceptionMessageDetails(storeVersionName, partition, null));
-    }
+    validateAssembledSize(actualSize, chunkedValueManifest, storeVersionName, partition);
 
     responseStats.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
     responseStats.addValueSize(actualSize);
@@ -393,6 +480,32 @@ public class ChunkingUtils {
         compressor);
   }
 
+  private static void validateChunk(byte[] valueChunk, String storeVersionName, int partition, int chunkIndex) {
+    if (valueChunk == null) {
+      throw new VeniceException(
+          "Chunk not found in " + getExceptionMessageDetails(storeVersionName, partition, chunkIndex));
+    } else if (ValueRecord.parseSchemaId(valueChunk) != AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion()) {
+      throw new VeniceException(
+          "Did not get the chunk schema ID while attempting to retrieve a chunk! " + "Instead, got schema ID: "
+              + ValueRecord.parseSchemaId(valueChunk) + " from "
+              + getExceptionMessageDetails(storeVersionName, partition, chunkIndex));
+    }
+  }
+
+  private static void validateAssembledSize(
+      int actualSize,
+      ChunkedValueManifest chunkedValueManifest,
+      String storeVersionName,
+      int partition) {
+    // Sanity check based on size...
+    if (actualSize != chunkedValueManifest.size) {
+      throw new VeniceException(
+          "The fully assembled large value does not have the expected size! " + "actualSize: " + actualSize
+              + ", chunkedValueManifest.size: " + chunkedValueManifest.size + ", "
+              + getExceptionMessageDetails(storeVersionName, partition, null));
+    }
+  }
+
   private static String getExceptionMessageDetails(String storeVersionName, int partition, Integer chunkIndex) {
     String message = "store-version: " + storeVersionName + ", partition: " + partition;
     if (chunkIndex != null) {
@@ -1,9 +1,12 @@
 package com.linkedin.davinci.storage.chunking;
 
 import com.linkedin.davinci.listener.response.ReadResponseStats;
+import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import java.nio.ByteBuffer;
@@ -15,6 +18,12 @@ import java.nio.ByteBuffer;
 public class SingleGetChunkingAdapter implements ChunkingAdapter<CompositeByteBuf, ValueRecord> {
   private static final SingleGetChunkingAdapter SINGLE_GET_CHUNKING_ADAPTER = new SingleGetChunkingAdapter();
 
+  /**
+   * Initial capacity of the pooled buffer used by {@link #getIntoPooledBuffer}. Values which do not fit are read again
+   * into a buffer of the exact size.
+   */
+  static final int INITIAL_POOLED_VALUE_BUFFER_SIZE = 4 * 1024;
+
   /** Singleton */
   private SingleGetChunkingAdapter() {
   }
@@ -51,6 +60,65 @@ public class SingleGetChunkingAdapter implements ChunkingAdapter<CompositeByteBu
     return ChunkingUtils.getFromStorage(SINGLE_GET_CHUNKING_ADAPTER, store, partition, keyBuffer, response);
   }
 
+  /**
+   * Variant of {@link #get(StorageEngine, int, byte[], boolean, ReadResponseStats)} which reads the value straight into
+   * a direct {@link ByteBuf} obtained from {@param allocator}, so that the returned {@link ValueRecord} can be handed
+   * over to Netty without any intermediate heap copy.
+   *
+   * The caller owns the data of the returned {@link ValueRecord} and is responsible for releasing it, which Netty takes
+   * care of once it has been written as the content of a response. Large values are still re-assembled from their
+   * chunks via the regular code path.
+   */
+  public static ValueRecord getIntoPooledBuffer(
+      StorageEngine store,
+      int partition,
+      byte[] key,
+      boolean isChunked,
+      ByteBufAllocator allocator,
+      ReadResponseStats response) {
+    long databaseLookupStartTimeInNS = response.getCurrentTimeInNanos();
+    byte[] keyBytes = isChunked ? ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key) : key;
+    ByteBuf keyBuf = allocator.directBuffer(keyBytes.length);
+    ByteBuf valueBuf = null;
+    try {
+      keyBuf.writeBytes(keyBytes);
+      int valueSize;
+      int capacity = INITIAL_POOLED_VALUE_BUFFER_SIZE;
+      do {
+        if (valueBuf != null) {
+          valueBuf.release();
+        }
+        valueBuf = allocator.directBuffer(capacity);
+        valueSize = store.getIntoDirectBuffer(partition, keyBuf.nioBuffer(), valueBuf.nioBuffer(0, capacity));
+        if (valueSize == AbstractStoragePartition.VALUE_NOT_FOUND) {
+          return null;
+        }
+        // The value did not fit, so we need a bigger buffer
+        capacity = valueSize;
+      } while (valueSize > valueBuf.capacity());
+      valueBuf.writerIndex(valueSize);
+
+      int writerSchemaId = valueBuf.getInt(0);
+      if (writerSchemaId > 0) {
+        response.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
+        response.addValueSize(valueSize);
+        ValueRecord valueRecord = ValueRecord.create(
+            writerSchemaId,
+            valueBuf.slice(ValueRecord.SCHEMA_HEADER_LENGTH, valueSize - ValueRecord.SCHEMA_HEADER_LENGTH));
+        // The ownership of the buffer is transferred to the returned record
+        valueBuf = null;
+        return valueRecord;
+      }
+    } finally {
+      keyBuf.release();
+      if (valueBuf != null) {
+        valueBuf.release();
+      }
+    }
+    // Not a full value, most likely a chunked value manifest, which is handled by the regular code path
+    return get(store, partition, key, isChunked, response);
+  }
+
   public static ValueRecord getReplicationMetadata(
       StorageEngine store,
       int partition,
@@ -519,6 +519,22 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     }
   }
 
+  @Override
+  public void beginWriteBatch(int partitionId) {
+    executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      partition.beginWriteBatch();
+    });
+  }
+
+  @Override
+  public void commitWriteBatch(int partitionId) {
+    executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      partition.commitWriteBatch();
+    });
+  }
+
   /**
    * Reopen the underlying database.
    */
@@ -599,6 +615,23 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  @Override
+  public int getIntoDirectBuffer(int partitionId, ByteBuffer directKey, ByteBuffer directValue)
+      throws VeniceException {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.getIntoDirectBuffer(directKey, directValue);
+    });
+  }
+
+  @Override
+  public List<byte[]> multiGet(int partitionId, List<byte[]> keys) throws VeniceException {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.multiGet(keys);
+    });
+  }
+
   @Override
   public void getByKeyPrefix(int partitionId, byte[] partialKey, BytesStreamingCallback bytesStreamingCallback) {
     executeWithSafeGuard(partitionId, () -> {
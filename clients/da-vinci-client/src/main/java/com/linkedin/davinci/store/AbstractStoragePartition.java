@@ -3,7 +3,10 @@ package com.linkedin.davinci.store;
 import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import com.linkedin.venice.utils.ByteUtils;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -15,6 +18,12 @@ import java.util.function.Supplier;
  * on the storage-partition model.
  */
 public abstract class AbstractStoragePartition {
+  /**
+   * Returned by {@link #getIntoDirectBuffer(ByteBuffer, ByteBuffer)} when the key does not exist. Same value as
+   * {@link org.rocksdb.RocksDB#NOT_FOUND}.
+   */
+  public static final int VALUE_NOT_FOUND = -1;
+
   protected final Integer partitionId;
 
   public AbstractStoragePartition(Integer partitionId) {
@@ -72,6 +81,44 @@ public abstract class AbstractStoragePartition {
 
   public abstract byte[] get(ByteBuffer key);
 
+  /**
+   * Get a value from the partition database straight into a direct {@link ByteBuffer}, without materializing it on
+   * heap. The value is written starting at the current position of {@param directValue}, whose position is left
+   * unchanged and whose limit is set to the end of the written bytes.
+   *
+   * @return the full size of the value, which is bigger than the number of written bytes if {@param directValue} does
+   *         not have enough space remaining, or {@link #VALUE_NOT_FOUND} if the key does not exist.
+   */
+  public int getIntoDirectBuffer(ByteBuffer key, ByteBuffer directValue) {
+    // Naive default impl is not optimized... only storage engines that support the optimization implement it.
+    byte[] value = get(ByteUtils.extractByteArray(key));
+    if (value == null) {
+      return VALUE_NOT_FOUND;
+    }
+    int position = directValue.position();
+    int length = Math.min(value.length, directValue.remaining());
+    directValue.put(value, 0, length);
+    directValue.position(position);
+    directValue.limit(position + length);
+    return value.length;
+  }
+
+  /**
+   * Get the values of multiple keys from the partition database.
+   * Naive default impl performs one lookup per key... only storage engines that support a native batched lookup
+   * override it.
+   *
+   * @param keys keys to be retrieved
+   * @return a list of the same size as {@param keys}, containing null for the keys which do not exist.
+   */
+  public List<byte[]> multiGet(List<byte[]> keys) {
+    List<byte[]> values = new ArrayList<>(keys.size());
+    for (byte[] key: keys) {
+      values.add(get(key));
+    }
+    return values;
+  }
+
   /**
    * Populate provided callback with key-value pairs from the partition database where the keys have provided prefix.
    * If prefix is null, callback will be populated will all key-value pairs from the partition database.
@@ -139,6 +186,22 @@ public abstract class AbstractStoragePartition {
   public void endBatchWrite() {
   }
 
+  /**
+   * Starts buffering the subsequent writes (puts and deletes) of this partition in memory, so that they are applied to
+   * the database at once by {@link #commitWriteBatch()}, or by {@link #sync()}. Unlike {@link #beginBatchWrite}, this
+   * is meant for the transactional mode, and the buffered writes are not visible to the reads until they are applied.
+   * Storage engines which do not support it apply the writes one at a time.
+   */
+  public void beginWriteBatch() {
+  }
+
+  /**
+   * Applies the writes buffered since {@link #beginWriteBatch()} atomically, and goes back to applying the writes one
+   * at a time.
+   */
+  public void commitWriteBatch() {
+  }
+
   /**
    * Get the partition database size in bytes
    * @return partition database size
@@ -1,22 +1,30 @@
 package com.linkedin.davinci.store;
 
 import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.store.cache.RowCache;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.pubsub.PubSubContext;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 
 public class DelegatingStorageEngine<P extends AbstractStoragePartition> implements StorageEngine<P> {
   private volatile @Nonnull StorageEngine<P> delegate;
+  private volatile RowCache rowCache;
+  /** The write batches begun on the delegate, by partition, see {@link #commitWriteBatch(int)}. */
+  private final Map<Integer, WriteBatch> writeBatches = new VeniceConcurrentHashMap<>();
 
   public DelegatingStorageEngine(@Nonnull StorageEngine<P> delegate) {
     this.delegate = Objects.requireNonNull(delegate);
@@ -31,6 +39,55 @@ public class DelegatingStorageEngine<P extends AbstractStoragePartition> impleme
    */
   public void setDelegate(@Nonnull StorageEngine<P> delegate) {
     this.delegate = Objects.requireNonNull(delegate);
+    invalidateRowCache();
+  }
+
+  /**
+   * Enables a {@link RowCache} in front of the reads of this storage engine, if it was not enabled already. The cache
+   * is kept consistent by all the writes going through this class, but it is only consulted by the readers which
+   * explicitly opt into it, via {@link com.linkedin.davinci.store.cache.RowCachingStorageEngine}.
+   *
+   * @return the row cache of this storage engine
+   */
+  public synchronized RowCache enableRowCache(long capacityInBytes) {
+    if (this.rowCache == null) {
+      this.rowCache = new RowCache(capacityInBytes);
+    }
+    return this.rowCache;
+  }
+
+  @Nullable
+  public RowCache getRowCache() {
+    return this.rowCache;
+  }
+
+  private void invalidateRowCache(byte[] key) {
+    RowCache cache = this.rowCache;
+    if (cache != null) {
+      cache.invalidate(key);
+    }
+  }
+
+  /**
+   * Invalidates the cached row of a key written by the given partition, and tracks the key if it was written within a
+   * write batch, so that it gets invalidated again once the batch is committed.
+   */
+  private void invalidateRowCache(int partitionId, byte[] key) {
+    RowCache cache = this.rowCache;
+    if (cache != null) {
+      cache.invalidate(key);
+      WriteBatch writeBatch = this.writeBatches.get(partitionId);
+      if (writeBatch != null && writeBatch.keys != null) {
+        writeBatch.keys.add(key.clone());
+      }
+    }
+  }
+
+  private void invalidateRowCache() {
+    RowCache cache = this.rowCache;
+    if (cache != null) {
+      cache.invalidateAll();
+    }
   }
 
   /**
@@ -68,11 +125,13 @@ public class DelegatingStorageEngine<P extends AbstractStoragePartition> impleme
   @Override
   public void addStoragePartitionIfAbsent(int partitionId) {
     this.delegate.addStoragePartitionIfAbsent(partitionId);
+    invalidateRowCache();
   }
 
   @Override
   public void addStoragePartition(StoragePartitionConfig storagePartitionConfig) {
     this.delegate.addStoragePartition(storagePartitionConfig);
+    invalidateRowCache();
   }
 
   @Override
@@ -88,16 +147,19 @@ public class DelegatingStorageEngine<P extends AbstractStoragePartition> impleme
   @Override
   public void dropPartition(int partitionId) {
     this.delegate.dropPartition(partitionId);
+    invalidateRowCache();
   }
 
   @Override
   public void dropPartition(int partitionId, boolean dropMetadataPartitionWhenEmpty) {
     this.delegate.dropPartition(partitionId, dropMetadataPartitionWhenEmpty);
+    invalidateRowCache();
   }
 
   @Override
   public void drop() {
     this.delegate.drop();
+    invalidateRowCache();
   }
 
   @Override
@@ -120,6 +182,39 @@ public class DelegatingStorageEngine<P extends AbstractStoragePartition> impleme
     this.delegate.endBatchWrite(storagePartitionConfig);
   }
 
+  /**
+   * When the {@link RowCache} is enabled, the keys written within the batch are tracked, since the cached rows are
+   * invalidated when the writes are issued, and a read racing with a buffered write may then cache the value it
+   * overwrites, see {@link #commitWriteBatch(int)}.
+   */
+  @Override
+  public void beginWriteBatch(int partitionId) {
+    this.writeBatches.putIfAbsent(partitionId, new WriteBatch(this.rowCache != null));
+    this.delegate.beginWriteBatch(partitionId);
+  }
+
+  /**
+   * Invalidates again the cached rows of the keys written within the batch, which may have been re-populated with the
+   * values they overwrite by the reads issued before the commit. The {@link RowCache} is enabled lazily by the read
+   * path, possibly while a write batch is open, in which case the keys of the batch are not tracked, and the whole
+   * cache is invalidated instead.
+   */
+  @Override
+  public void commitWriteBatch(int partitionId) {
+    try {
+      this.delegate.commitWriteBatch(partitionId);
+    } finally {
+      WriteBatch writeBatch = this.writeBatches.remove(partitionId);
+      if (writeBatch != null) {
+        if (writeBatch.keys == null) {
+          invalidateRowCache();
+        } else {
+          writeBatch.keys.forEach(this::invalidateRowCache);
+        }
+      }
+    }
+  }
+
   @Override
   public void reopenStoragePartition(int partitionId) {
     this.delegate.reopenStoragePartition(partitionId);
@@ -128,17 +223,20 @@ public class DelegatingStorageEngine<P extends AbstractStoragePartition> impleme
   @Override
   public void put(int partitionId, byte[] key, byte[] value) throws VeniceException {
     this.delegate.put(partitionId, key, value);
+    invalidateRowCache(partitionId, key);
   }
 
   @Override
   public void put(int partitionId, byte[] key, ByteBuffer value) throws VeniceException {
     this.delegate.put(partitionId, key, value);
+    invalidateRowCache(partitionId, key);
   }
 
   @Override
   public void putWithReplicationMetadata(int partitionId, byte[] key, ByteBuffer value, byte[] replicationMetadata)
       throws VeniceException {
     this.delegate.putWithReplicationMetadata(partitionId, key, value, replicationMetadata);
+    invalidateRowCache(partitionId, key);
   }
 
   @Override
@@ -166,6 +264,17 @@ public class DelegatingStorageEngine<P extends AbstractStoragePartition> impleme
     return this.delegate.get(partitionId, keyBuffer);
   }
 
+  @Override
+  public int getIntoDirectBuffer(int partitionId, ByteBuffer directKey, ByteBuffer directValue)
+      throws VeniceException {
+    return this.delegate.getIntoDirectBuffer(partitionId, directKey, directValue);
+  }
+
+  @Override
+  public List<byte[]> multiGet(int partitionId, List<byte[]> keys) throws VeniceException {
+    return this.delegate.multiGet(partitionId, keys);
+  }
+
   @Override
   public void getByKeyPrefix(int partitionId, byte[] partialKey, BytesStreamingCallback bytesStreamingCallback) {
     this.delegate.getByKeyPrefix(partitionId, partialKey, bytesStreamingCallback);
@@ -174,12 +283,14 @@ public class DelegatingStorageEngine<P extends AbstractStoragePartition> impleme
   @Override
   public void delete(int partitionId, byte[] key) throws VeniceException {
     this.delegate.delete(partitionId, key);
+    invalidateRowCache(partitionId, key);
   }
 
   @Override
   public void deleteWithReplicationMetadata(int partitionId, byte[] key, byte[] replicationMetadata)
       throws VeniceException {
     this.delegate.deleteWithReplicationMetadata(partitionId, key, replicationMetadata);
+    invalidateRowCache(partitionId, key);
   }
 
   @Override
@@ -282,4 +393,13 @@ public class DelegatingStorageEngine<P extends AbstractStoragePartition> impleme
       StoragePartitionConfig storagePartitionConfig) {
     return this.delegate.checkDatabaseIntegrity(partitionId, checkpointedInfo, storagePartitionConfig);
   }
+
+  private static final class WriteBatch {
+    /** The keys written within the batch, or null if the {@link RowCache} was not enabled when it was begun. */
+    private final List<byte[]> keys;
+
+    WriteBatch(boolean trackKeys) {
+      this.keys = trackKeys ? new ArrayList<>() : null;
+    }
+  }
 }
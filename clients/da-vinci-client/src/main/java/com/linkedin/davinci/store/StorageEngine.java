@@ -8,6 +8,7 @@ import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.pubsub.PubSubContext;
 import java.io.Closeable;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -92,6 +93,16 @@ public interface StorageEngine<Partition extends AbstractStoragePartition> exten
    */
   void endBatchWrite(StoragePartitionConfig storagePartitionConfig);
 
+  /**
+   * @see AbstractStoragePartition#beginWriteBatch()
+   */
+  void beginWriteBatch(int partitionId);
+
+  /**
+   * @see AbstractStoragePartition#commitWriteBatch()
+   */
+  void commitWriteBatch(int partitionId);
+
   /**
    * Reopen the underlying database.
    */
@@ -121,6 +132,20 @@ public interface StorageEngine<Partition extends AbstractStoragePartition> exten
 
   byte[] get(int partitionId, ByteBuffer keyBuffer) throws VeniceException;
 
+  /**
+   * Look up a key and write its value into a direct {@link ByteBuffer}.
+   *
+   * @see AbstractStoragePartition#getIntoDirectBuffer(ByteBuffer, ByteBuffer)
+   */
+  int getIntoDirectBuffer(int partitionId, ByteBuffer directKey, ByteBuffer directValue) throws VeniceException;
+
+  /**
+   * Look up multiple keys of the given partition in one call.
+   *
+   * @return a list of the same size as {@param keys}, containing null for the keys which do not exist.
+   */
+  List<byte[]> multiGet(int partitionId, List<byte[]> keys) throws VeniceException;
+
   void getByKeyPrefix(int partitionId, byte[] partialKey, BytesStreamingCallback bytesStreamingCallback);
 
   void delete(int partitionId, byte[] key) throws VeniceException;
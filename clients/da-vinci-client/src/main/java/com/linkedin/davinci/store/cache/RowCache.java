@@ -0,0 +1,118 @@
+package com.linkedin.davinci.store.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.venice.utils.ByteUtils;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+
+/**
+ * A size-bounded cache of the serialized values (schema header included) of a single store-version, keyed by the keys
+ * used in the storage engine (i.e. including the chunking suffix, if any).
+ *
+ * The admission and eviction are delegated to Caffeine's W-TinyLFU policy, which tracks key frequencies with a
+ * count-min sketch, so that the capacity is spent on the hot keys rather than on the most recently read ones.
+ *
+ * Consistency with the storage engine is maintained by {@link #invalidate(byte[])}, which must be called after every
+ * write of a key. In order not to re-populate the cache with a value read before a concurrent write, each key maps to
+ * a stripe whose generation is bumped by every invalidation, and a freshly loaded value is discarded if the generation
+ * of its stripe changed while it was being loaded.
+ */
+public class RowCache {
+  private static final int GENERATION_STRIPES = 1024;
+
+  private final Cache<ByteBuffer, byte[]> cache;
+  private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+  public RowCache(long capacityInBytes) {
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(capacityInBytes)
+        .weigher((ByteBuffer key, byte[] value) -> key.remaining() + value.length)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * @param key    the storage key, which is not modified
+   * @param loader used to look up the storage engine in case of a cache miss
+   * @return the cached or loaded value, or null if the key does not exist. The returned array is shared, and must not
+   *         be mutated.
+   */
+  public byte[] get(ByteBuffer key, Function<ByteBuffer, byte[]> loader) {
+    byte[] value = getIfPresent(key);
+    if (value != null) {
+      return value;
+    }
+    long generation = getGeneration(key);
+    value = loader.apply(key);
+    if (value != null) {
+      putIfNotInvalidated(key, value, generation);
+    }
+    return value;
+  }
+
+  public byte[] getIfPresent(ByteBuffer key) {
+    return cache.getIfPresent(key);
+  }
+
+  /**
+   * @return the generation to pass to {@link #putIfNotInvalidated(ByteBuffer, byte[], long)}, which must be taken
+   *         before looking up the storage engine.
+   */
+  public long getGeneration(ByteBuffer key) {
+    return generations.get(getStripe(key));
+  }
+
+  /**
+   * Caches a value looked up from the storage engine, unless the key may have been written since {@code generation}
+   * was taken, in which case the value may be stale.
+   */
+  public void putIfNotInvalidated(ByteBuffer key, byte[] value, long generation) {
+    int stripe = getStripe(key);
+    if (generations.get(stripe) != generation) {
+      return;
+    }
+    ByteBuffer cacheKey = ByteBuffer.wrap(ByteUtils.copyByteArray(key));
+    cache.put(cacheKey, value);
+    if (generations.get(stripe) != generation) {
+      // The key was invalidated concurrently with the insertion
+      cache.invalidate(cacheKey);
+    }
+  }
+
+  public void invalidate(byte[] key) {
+    ByteBuffer keyBuffer = ByteBuffer.wrap(key);
+    generations.incrementAndGet(getStripe(keyBuffer));
+    cache.invalidate(keyBuffer);
+  }
+
+  public void invalidateAll() {
+    for (int i = 0; i < GENERATION_STRIPES; i++) {
+      generations.incrementAndGet(i);
+    }
+    cache.invalidateAll();
+  }
+
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  public long hitCount() {
+    return cache.stats().hitCount();
+  }
+
+  public long missCount() {
+    return cache.stats().missCount();
+  }
+
+  public long evictionCount() {
+    return cache.stats().evictionCount();
+  }
+
+  private static int getStripe(ByteBuffer key) {
+    // ByteBuffer::hashCode only depends on the remaining bytes
+    return (key.hashCode() & Integer.MAX_VALUE) % GENERATION_STRIPES;
+  }
+}
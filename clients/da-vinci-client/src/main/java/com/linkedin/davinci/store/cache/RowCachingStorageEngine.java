@@ -0,0 +1,89 @@
+package com.linkedin.davinci.store.cache;
+
+import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.DelegatingStorageEngine;
+import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * A read-side view of a storage engine which serves the point lookups from the {@link RowCache} of the underlying
+ * {@link DelegatingStorageEngine}, and populates it on misses. All other calls, including the writes (which take care
+ * of invalidating the cache), are forwarded untouched.
+ *
+ * This view is meant to be handed to the read path only, so that the lookups done by ingestion (e.g. for partial
+ * updates or for chunk cleanup) neither pollute the cache nor skew its frequency statistics.
+ */
+public class RowCachingStorageEngine<P extends AbstractStoragePartition> extends DelegatingStorageEngine<P> {
+  private final RowCache rowCache;
+
+  public RowCachingStorageEngine(DelegatingStorageEngine<P> storageEngine, RowCache rowCache) {
+    super(storageEngine);
+    this.rowCache = Objects.requireNonNull(rowCache);
+  }
+
+  public RowCache getRowCache() {
+    return this.rowCache;
+  }
+
+  @Override
+  public byte[] get(int partitionId, byte[] key) throws VeniceException {
+    return this.rowCache.get(ByteBuffer.wrap(key), k -> getDelegate().get(partitionId, key));
+  }
+
+  @Override
+  public byte[] get(int partitionId, ByteBuffer keyBuffer) throws VeniceException {
+    return this.rowCache.get(keyBuffer, k -> getDelegate().get(partitionId, keyBuffer));
+  }
+
+  @Override
+  public ByteBuffer get(int partitionId, byte[] key, ByteBuffer valueToBePopulated) throws VeniceException {
+    byte[] value = get(partitionId, key);
+    if (value == null) {
+      return null;
+    }
+    if (valueToBePopulated == null || !valueToBePopulated.hasArray() || valueToBePopulated.capacity() < value.length) {
+      return ByteBuffer.wrap(value);
+    }
+    valueToBePopulated.clear();
+    System.arraycopy(value, 0, valueToBePopulated.array(), valueToBePopulated.arrayOffset(), value.length);
+    valueToBePopulated.limit(value.length);
+    return valueToBePopulated;
+  }
+
+  @Override
+  public List<byte[]> multiGet(int partitionId, List<byte[]> keys) throws VeniceException {
+    List<byte[]> values = new ArrayList<>(keys.size());
+    List<Integer> missingIndexes = new ArrayList<>();
+    List<byte[]> missingKeys = new ArrayList<>();
+    List<Long> missingKeyGenerations = new ArrayList<>();
+    for (int i = 0; i < keys.size(); i++) {
+      ByteBuffer key = ByteBuffer.wrap(keys.get(i));
+      byte[] value = this.rowCache.getIfPresent(key);
+      if (value == null) {
+        missingIndexes.add(i);
+        missingKeys.add(keys.get(i));
+        missingKeyGenerations.add(this.rowCache.getGeneration(key));
+      }
+      values.add(value);
+    }
+    if (missingKeys.isEmpty()) {
+      return values;
+    }
+    StorageEngine<P> storageEngine = getDelegate();
+    List<byte[]> missingValues = storageEngine.multiGet(partitionId, missingKeys);
+    for (int i = 0; i < missingKeys.size(); i++) {
+      byte[] missingValue = missingValues.get(i);
+      if (missingValue != null) {
+        this.rowCache
+            .putIfNotInvalidated(ByteBuffer.wrap(missingKeys.get(i)), missingValue, missingKeyGenerations.get(i));
+        values.set(missingIndexes.get(i), missingValue);
+      }
+    }
+    return values;
+  }
+}
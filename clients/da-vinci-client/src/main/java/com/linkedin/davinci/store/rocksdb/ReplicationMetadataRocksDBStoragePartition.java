@@ -91,13 +91,18 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     }
 
     if (!deferredWrite) {
-      withSynchronizedDatabaseVoid(db -> {
-        try (WriteBatch writeBatch = new WriteBatch()) {
-          writeBatch.put(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key, value);
-          writeBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, metadata);
-          db.write(writeOptions, writeBatch);
-        }
-      });
+      WriteBatchOperation operation = writeBatch -> {
+        writeBatch.put(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key, value);
+        writeBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, metadata);
+      };
+      if (!addToPendingWriteBatch(operation)) {
+        withSynchronizedDatabaseVoid(db -> {
+          try (WriteBatch writeBatch = new WriteBatch()) {
+            operation.execute(writeBatch);
+            db.write(writeOptions, writeBatch);
+          }
+        });
+      }
       return;
     }
 
@@ -124,6 +129,11 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     }
 
     if (!deferredWrite) {
+      WriteBatchOperation operation = writeBatch -> writeBatch
+          .put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, metadata);
+      if (addToPendingWriteBatch(operation)) {
+        return;
+      }
       withSynchronizedDatabaseVoid(
           db -> db
               .put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), writeOptions, key, metadata));
@@ -180,14 +190,18 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     }
 
     if (!deferredWrite) {
-      withSynchronizedDatabaseVoid(db -> {
-        try (WriteBatch writeBatch = new WriteBatch()) {
-          writeBatch.delete(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
-          writeBatch
-              .put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, replicationMetadata);
-          db.write(writeOptions, writeBatch);
-        }
-      });
+      WriteBatchOperation operation = writeBatch -> {
+        writeBatch.delete(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
+        writeBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, replicationMetadata);
+      };
+      if (!addToPendingWriteBatch(operation)) {
+        withSynchronizedDatabaseVoid(db -> {
+          try (WriteBatch writeBatch = new WriteBatch()) {
+            operation.execute(writeBatch);
+            db.write(writeOptions, writeBatch);
+          }
+        });
+      }
       return;
     }
 
@@ -54,6 +54,7 @@ import org.rocksdb.Slice;
 import org.rocksdb.SstFileWriter;
 import org.rocksdb.Statistics;
 import org.rocksdb.Status;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 
 
@@ -99,6 +100,11 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
    * We will use {@link #isClosed} to indicate whether the current RocksDB is closed or not.
    */
   private boolean isClosed = false;
+  /**
+   * The writes buffered since {@link #beginWriteBatch()}, or null if the writes are applied one at a time.
+   * Guarded by the monitor of this partition, like all the other modification functions.
+   */
+  private WriteBatch pendingWriteBatch = null;
   /**
    * Since all the modification functions are synchronized, we don't need any other synchronization for the update path
    * to guard RocksDB closing behavior.
@@ -348,6 +354,38 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     void execute(RocksDB db) throws RocksDBException;
   }
 
+  /**
+   * A function that adds some writes to a {@link WriteBatch}.
+   */
+  @FunctionalInterface
+  protected interface WriteBatchOperation {
+    void execute(WriteBatch writeBatch) throws RocksDBException;
+  }
+
+  /**
+   * Adds the writes to the pending write batch, if any. Must be invoked while holding the monitor of this partition.
+   *
+   * @return false if there is no pending write batch, in which case the writes must be applied to the database directly
+   */
+  protected boolean addToPendingWriteBatch(WriteBatchOperation operation) {
+    if (pendingWriteBatch == null) {
+      return false;
+    }
+    try {
+      operation.execute(pendingWriteBatch);
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to add writes to the pending write batch for replica: " + replicaId, e);
+    }
+    return true;
+  }
+
+  private void flushPendingWriteBatch() {
+    if (pendingWriteBatch != null && pendingWriteBatch.count() > 0) {
+      withSynchronizedDatabaseVoid(db -> db.write(writeOptions, pendingWriteBatch));
+      pendingWriteBatch.clear();
+    }
+  }
+
   /**
    * Executes a read operation against the RocksDB handle with full lifecycle guards.
    * Acquires {@link #readCloseRWLock}, verifies DB is open, executes, releases lock.
@@ -559,6 +597,31 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     withSynchronizedDatabaseVoid(db -> rocksDBSstFileWriter.ingestSSTFiles(db, columnFamilyHandleList));
   }
 
+  /**
+   * Only the transactional mode buffers the writes, since the 'deferredWrite' mode already appends them to SST files.
+   */
+  @Override
+  public synchronized void beginWriteBatch() {
+    makeSureRocksDBIsStillOpen();
+    if (deferredWrite || readOnly || pendingWriteBatch != null) {
+      return;
+    }
+    pendingWriteBatch = new WriteBatch();
+  }
+
+  @Override
+  public synchronized void commitWriteBatch() {
+    if (pendingWriteBatch == null) {
+      return;
+    }
+    try {
+      flushPendingWriteBatch();
+    } finally {
+      pendingWriteBatch.close();
+      pendingWriteBatch = null;
+    }
+  }
+
   @Override
   public synchronized void createSnapshot() {
     makeSureRocksDBIsStillOpen();
@@ -601,6 +664,9 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
 
     if (!deferredWrite) {
+      if (addToPendingWriteBatch(writeBatch -> writeBatch.put(key, getValueBytes(valueBuffer)))) {
+        return;
+      }
       withSynchronizedDatabaseVoid(
           db -> db.put(
               writeOptions,
@@ -621,6 +687,17 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  private static byte[] getValueBytes(ByteBuffer valueBuffer) {
+    if (valueBuffer.arrayOffset() == 0 && valueBuffer.position() == 0
+        && valueBuffer.remaining() == valueBuffer.array().length) {
+      return valueBuffer.array();
+    }
+    return Arrays.copyOfRange(
+        valueBuffer.array(),
+        valueBuffer.arrayOffset() + valueBuffer.position(),
+        valueBuffer.arrayOffset() + valueBuffer.limit());
+  }
+
   @Override
   public <K, V> void put(K key, V value) {
     throw new UnsupportedOperationException("Method not implemented!!");
@@ -685,6 +762,11 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     });
   }
 
+  @Override
+  public int getIntoDirectBuffer(ByteBuffer key, ByteBuffer directValue) {
+    return withOpenDatabase(db -> db.get(READ_OPTIONS_DEFAULT, key, directValue));
+  }
+
   @Override
   public <K, V> V get(K key) {
     throw new UnsupportedOperationException("Method not implemented!!");
@@ -695,6 +777,11 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     return withOpenDatabase(db -> db.get(keyBuffer.array(), keyBuffer.position(), keyBuffer.remaining()));
   }
 
+  /**
+   * Looks up all the keys with a single RocksDB multiGet call, which amortizes the JNI crossing and lets RocksDB
+   * coalesce the block cache lookups of keys living in the same data blocks.
+   */
+  @Override
   public List<byte[]> multiGet(List<byte[]> keys) {
     return withOpenDatabase(db -> db.multiGetAsList(keys));
   }
@@ -834,6 +921,9 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     if (deferredWrite) {
       throw new VeniceException("Deletion is unexpected in 'deferredWrite' mode");
     }
+    if (addToPendingWriteBatch(writeBatch -> writeBatch.delete(key))) {
+      return;
+    }
     withSynchronizedDatabaseVoid(db -> db.delete(key));
   }
 
@@ -851,6 +941,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       if (this.readOnly) {
         LOGGER.debug("Unexpected sync in RocksDB read-only mode for replica: {}", replicaId);
       } else {
+        // The pending writes must be flushed as well, since the caller checkpoints the offset of the last write
+        flushPendingWriteBatch();
         withSynchronizedDatabaseVoid(db -> db.flush(WAIT_FOR_FLUSH_OPTIONS, columnFamilyHandleList));
       }
       return Collections.emptyMap();
@@ -921,6 +1013,13 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       return;
     }
     long startTimeInMs = System.currentTimeMillis();
+    if (pendingWriteBatch != null) {
+      try {
+        commitWriteBatch();
+      } catch (Exception e) {
+        LOGGER.error("Failed to commit the pending write batch while closing replica: {}", replicaId, e);
+      }
+    }
     /**
      * The following operations are used to free up memory.
      */
@@ -2,6 +2,11 @@ package com.linkedin.davinci.blobtransfer;
 
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -24,4 +29,34 @@ public class BlobTransferUtilsTest {
     Mockito.when(serverConfig.isBlobTransferAclEnabled()).thenReturn(false);
     Assert.expectThrows(VeniceException.class, () -> BlobTransferUtils.isBlobTransferManagerEnabled(serverConfig));
   }
+
+  @Test
+  public void testLinkReusableFiles() throws IOException {
+    Path baseDir = Files.createTempDirectory("tmp");
+    try {
+      Path partitionDir = Files.createDirectories(baseDir.resolve("partition"));
+      Files.write(partitionDir.resolve("000001.sst"), "sst1".getBytes());
+      Files.write(partitionDir.resolve("000002.sst"), "sst2".getBytes());
+      Files.write(partitionDir.resolve("MANIFEST-000003"), "manifest".getBytes());
+      Path tempPartitionDir = Files.createDirectories(baseDir.resolve("temp_partition"));
+      // A file left in the temp partition dir by a previous transfer is kept
+      Files.write(tempPartitionDir.resolve("000002.sst"), "previous".getBytes());
+
+      Assert.assertEquals(BlobTransferUtils.linkReusableFiles(partitionDir.toString(), tempPartitionDir.toString()), 1);
+      Assert.assertEquals(new String(Files.readAllBytes(tempPartitionDir.resolve("000001.sst"))), "sst1");
+      Assert.assertEquals(new String(Files.readAllBytes(tempPartitionDir.resolve("000002.sst"))), "previous");
+      Assert.assertFalse(Files.exists(tempPartitionDir.resolve("MANIFEST-000003")));
+
+      // The linked files survive the partition dir being deleted
+      RocksDBUtils.deleteDirectory(partitionDir.toString());
+      Map<String, String> checksums = BlobTransferUtils.generateReusableFileChecksums(tempPartitionDir.toString());
+      Assert.assertEquals(checksums.size(), 2);
+      Assert.assertEquals(
+          checksums.get("000001.sst"),
+          BlobTransferUtils.generateFileChecksum(tempPartitionDir.resolve("000001.sst")));
+      Assert.assertTrue(BlobTransferUtils.generateReusableFileChecksums(partitionDir.toString()).isEmpty());
+    } finally {
+      RocksDBUtils.deleteDirectory(baseDir.toString());
+    }
+  }
 }
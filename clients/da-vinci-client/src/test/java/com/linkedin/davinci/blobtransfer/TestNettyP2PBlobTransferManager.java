@@ -65,6 +65,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.testng.Assert;
@@ -410,6 +411,53 @@ public class TestNettyP2PBlobTransferManager {
         .get("server-host", TEST_STORE, TEST_VERSION, TEST_PARTITION, BlobTransferTableFormat.BLOCK_BASED_TABLE);
   }
 
+  /**
+   * When the peer order does not need to be preserved, a replica transfer should start from the peer with the fewest
+   * transfers in progress, instead of piling up on the peer already serving another replica.
+   */
+  @Test
+  public void testConcurrentReplicaTransfersSpreadAcrossPeers() throws Exception {
+    List<String> hostlist = Arrays.asList("host1", "host2");
+    BlobPeersDiscoveryResponse response = new BlobPeersDiscoveryResponse();
+    response.setDiscoveryResult(hostlist);
+    doReturn(response).when(finder).discoverBlobPeers(eq(TEST_STORE), eq(TEST_VERSION), anyInt());
+    doReturn(new HashSet<>(hostlist)).when(client)
+        .getConnectableHosts(any(), eq(TEST_STORE), eq(TEST_VERSION), anyInt());
+
+    CompletableFuture<InputStream> firstTransfer = new CompletableFuture<>();
+    doReturn(firstTransfer).when(client)
+        .get(anyString(), eq(TEST_STORE), eq(TEST_VERSION), eq(0), eq(BlobTransferTableFormat.BLOCK_BASED_TABLE));
+    InputStream secondResponse = mock(InputStream.class);
+    doReturn(CompletableFuture.completedFuture(secondResponse)).when(client)
+        .get(anyString(), eq(TEST_STORE), eq(TEST_VERSION), eq(1), eq(BlobTransferTableFormat.BLOCK_BASED_TABLE));
+
+    CompletableFuture<InputStream> first =
+        manager.get(TEST_STORE, TEST_VERSION, 0, BlobTransferTableFormat.BLOCK_BASED_TABLE).toCompletableFuture();
+    ArgumentCaptor<String> firstHost = ArgumentCaptor.forClass(String.class);
+    Mockito.verify(client, Mockito.timeout(10000))
+        .get(
+            firstHost.capture(),
+            eq(TEST_STORE),
+            eq(TEST_VERSION),
+            eq(0),
+            eq(BlobTransferTableFormat.BLOCK_BASED_TABLE));
+    Assert.assertEquals(manager.getInFlightTransferCount(firstHost.getValue()), 1);
+
+    InputStream result = manager.get(TEST_STORE, TEST_VERSION, 1, BlobTransferTableFormat.BLOCK_BASED_TABLE)
+        .toCompletableFuture()
+        .get(10, TimeUnit.SECONDS);
+    Assert.assertSame(result, secondResponse);
+    String otherHost = firstHost.getValue().equals("host1") ? "host2" : "host1";
+    Mockito.verify(client).get(otherHost, TEST_STORE, TEST_VERSION, 1, BlobTransferTableFormat.BLOCK_BASED_TABLE);
+    Mockito.verify(client, Mockito.never())
+        .get(firstHost.getValue(), TEST_STORE, TEST_VERSION, 1, BlobTransferTableFormat.BLOCK_BASED_TABLE);
+
+    firstTransfer.complete(mock(InputStream.class));
+    first.get(10, TimeUnit.SECONDS);
+    Assert.assertEquals(manager.getInFlightTransferCount("host1"), 0);
+    Assert.assertEquals(manager.getInFlightTransferCount("host2"), 0);
+  }
+
   /**
    * The client is initialized with host freshness 30 sec, so when purgeStaleConnectivityRecords is called,
    * All hosts connectivity records older than 30s should be purged.
@@ -489,6 +489,83 @@ public class TestP2PFileTransferClientHandler {
     Assert.assertTrue(inputStreamFuture.toCompletableFuture().isDone());
   }
 
+  @Test
+  public void testIncrementalTransferReusesLocalFiles()
+      throws ExecutionException, InterruptedException, IOException, TimeoutException {
+    BlobTransferPayload payload = new BlobTransferPayload(
+        baseDir.toString(),
+        TEST_STORE,
+        TEST_VERSION,
+        TEST_PARTITION,
+        BlobTransferUtils.BlobTransferTableFormat.BLOCK_BASED_TABLE);
+    // The files kept from the stale local copy of the partition
+    Path tempDir = Files.createDirectories(Paths.get(payload.getTempPartitionDir()));
+    Files.write(tempDir.resolve("000001.sst"), "12345".getBytes());
+    Files.write(tempDir.resolve("000002.sst"), "stale".getBytes());
+    Map<String, String> reusableFileChecksums = BlobTransferUtils.generateReusableFileChecksums(tempDir.toString());
+    Assert.assertEquals(reusableFileChecksums.size(), 2);
+
+    CompletableFuture<InputStream> transferFuture = new CompletableFuture<>();
+    EmbeddedChannel channel = new EmbeddedChannel(
+        new P2PFileTransferClientHandler(
+            baseDir.toString(),
+            transferFuture,
+            TEST_STORE,
+            TEST_VERSION,
+            TEST_PARTITION,
+            BlobTransferUtils.BlobTransferTableFormat.BLOCK_BASED_TABLE,
+            blobTransferStats,
+            checksumValidationExecutorService,
+            reusableFileChecksums));
+
+    // The peer skips the first file, and sends the manifest, but not the second file which it doesn't have
+    DefaultHttpResponse reusedFileResponse = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    reusedFileResponse.headers().add("Content-Disposition", "filename=\"000001.sst\"");
+    reusedFileResponse.headers().add("Content-Length", "0");
+    reusedFileResponse.headers().add(BLOB_TRANSFER_TYPE, BlobTransferType.REUSED_FILE);
+    reusedFileResponse.headers().add("Content-MD5", reusableFileChecksums.get("000001.sst"));
+    DefaultHttpResponse manifestResponse = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    manifestResponse.headers().add("Content-Disposition", "filename=\"MANIFEST-000003\"");
+    manifestResponse.headers().add("Content-Length", "5");
+    manifestResponse.headers().add(BLOB_TRANSFER_TYPE, BlobTransferType.FILE);
+    manifestResponse.headers().add("Content-MD5", checksumGenerateHelper("67890"));
+    DefaultHttpResponse endOfTransfer = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    endOfTransfer.headers().add(BLOB_TRANSFER_STATUS, BLOB_TRANSFER_COMPLETED);
+
+    channel.writeInbound(reusedFileResponse);
+    channel.writeInbound(LastHttpContent.EMPTY_LAST_CONTENT);
+    channel.writeInbound(manifestResponse);
+    channel.writeInbound(new DefaultLastHttpContent(Unpooled.copiedBuffer("67890", CharsetUtil.UTF_8)));
+    channel.writeInbound(endOfTransfer);
+    transferFuture.get(1, TimeUnit.MINUTES);
+
+    Path dest = Paths.get(payload.getPartitionDir());
+    Assert.assertEquals(new String(Files.readAllBytes(dest.resolve("000001.sst"))), "12345");
+    Assert.assertEquals(new String(Files.readAllBytes(dest.resolve("MANIFEST-000003"))), "67890");
+    Assert.assertFalse(Files.exists(dest.resolve("000002.sst")), "Files missing from the peer snapshot are deleted");
+    Assert.assertFalse(Files.exists(tempDir));
+    channel.close();
+  }
+
+  @Test
+  public void testReusedFileWithoutLocalCopyFails() throws IOException {
+    DefaultHttpResponse reusedFileResponse = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    reusedFileResponse.headers().add("Content-Disposition", "filename=\"000001.sst\"");
+    reusedFileResponse.headers().add("Content-Length", "0");
+    reusedFileResponse.headers().add(BLOB_TRANSFER_TYPE, BlobTransferType.REUSED_FILE);
+    reusedFileResponse.headers().add("Content-MD5", checksumGenerateHelper("12345"));
+
+    ch.writeInbound(reusedFileResponse);
+
+    try {
+      inputStreamFuture.toCompletableFuture().get(1, TimeUnit.SECONDS);
+      Assert.fail("Expected exception not thrown");
+    } catch (Exception e) {
+      Assert.assertTrue(e.getCause() instanceof VeniceException);
+      Assert.assertTrue(e.getCause().getMessage().contains("the local copy is missing"));
+    }
+  }
+
   @Test
   public void testChannelInactiveBeforeTransferComplete() throws IOException {
     // Prepare, response is not complete yet.
@@ -26,16 +26,19 @@ import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
-import io.netty.handler.codec.http.HttpChunkedInput;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.IdleStateEvent;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -44,7 +47,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import org.mockito.Mockito;
 import org.testng.Assert;
@@ -80,7 +85,7 @@ public class TestP2PFileTransferServerHandler {
         maxAllowedConcurrentSnapshotUsers,
         new BlobTransferAdmissionController(maxAllowedConcurrentSnapshotUsers, 25),
         true);
-    ch = new EmbeddedChannel(serverHandler);
+    ch = new EmbeddedChannel(new ChunkedWriteHandler(), serverHandler);
   }
 
   @AfterMethod
@@ -212,7 +217,7 @@ public class TestP2PFileTransferServerHandler {
 
   @Test
   public void testRejectNonGETMethod() {
-    FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/test");
+    FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.PUT, "/test");
     ch.writeInbound(request);
     FullHttpResponse response = ch.readOutbound();
     Assert.assertEquals(response.status().code(), 405);
@@ -400,10 +405,14 @@ public class TestP2PFileTransferServerHandler {
         httpResponse.headers().get(HttpHeaderNames.CONTENT_DISPOSITION),
         "attachment; filename=\"file1\"");
     Assert.assertEquals(httpResponse.headers().get(HttpHeaderNames.CONTENT_MD5), file1ChecksumHeader);
+    // the checksum is computed when the snapshot is created
+    Assert.assertEquals(blobSnapshotManager.getSnapshotFileChecksum("myStore_v1", 10, "file1"), file1ChecksumHeader);
     Assert.assertEquals(httpResponse.headers().get(BLOB_TRANSFER_TYPE), BlobTransferType.FILE.toString());
     // send the content in one chunk
     response = ch.readOutbound();
-    Assert.assertTrue(response instanceof HttpChunkedInput);
+    Assert.assertTrue(response instanceof DefaultFileRegion);
+    response = ch.readOutbound();
+    Assert.assertEquals(response, LastHttpContent.EMPTY_LAST_CONTENT);
     // end of file1
 
     // start of metadata
@@ -425,6 +434,47 @@ public class TestP2PFileTransferServerHandler {
     Assert.assertEquals(blobSnapshotManager.getConcurrentSnapshotUsers("myStore_v1", 10), 0);
   }
 
+  /**
+   * Without TLS, the file is sent with sendfile as a series of bounded regions, which the traffic shaper can throttle.
+   */
+  @Test
+  public void testTransferFileInBoundedRegions() throws IOException {
+    StorageEngine localStorageEngine = Mockito.mock(StorageEngine.class);
+    Mockito.doReturn(localStorageEngine).when(storageEngineRepository).getLocalStorageEngine(Mockito.any());
+    Mockito.doReturn(true).when(localStorageEngine).containsPartition(Mockito.anyInt());
+    Mockito.doReturn(new StoreVersionState()).when(storageMetadataService).getStoreVersionState(Mockito.any());
+    OffsetRecord offsetRecord = new OffsetRecord(
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer(),
+        DEFAULT_PUBSUB_CONTEXT_FOR_UNIT_TESTING);
+    Mockito.doReturn(offsetRecord).when(storageMetadataService).getLastOffset(Mockito.any(), Mockito.anyInt(), any());
+
+    Path snapshotDir = Paths.get(RocksDBUtils.composeSnapshotDir(baseDir.toString(), "myStore_v1", 10));
+    Files.createDirectories(snapshotDir);
+    // The minimum chunk size is 16 KB, so the file is sent as two full regions and a partial one
+    int fileLength = 40000;
+    Files.write(snapshotDir.resolve("file1").toAbsolutePath(), new byte[fileLength]);
+    Mockito.doNothing().when(blobSnapshotManager).createSnapshot(Mockito.anyString(), Mockito.anyInt());
+
+    ch.writeInbound(
+        new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/myStore/1/10/BLOCK_BASED_TABLE"));
+    Assert.assertTrue(ch.readOutbound() instanceof DefaultHttpResponse);
+    long[] expectedRegionCounts = { 16384, 16384, fileLength - 2 * 16384 };
+    long position = 0;
+    for (long expectedRegionCount: expectedRegionCounts) {
+      Object response = ch.readOutbound();
+      Assert.assertTrue(response instanceof DefaultFileRegion);
+      DefaultFileRegion region = (DefaultFileRegion) response;
+      Assert.assertEquals(region.position(), position);
+      Assert.assertEquals(region.count(), expectedRegionCount);
+      position += expectedRegionCount;
+      region.release();
+    }
+    Assert.assertEquals(ch.readOutbound(), LastHttpContent.EMPTY_LAST_CONTENT);
+    Assert.assertTrue(ch.readOutbound() instanceof FullHttpResponse);
+    DefaultHttpResponse endOfTransfer = ch.readOutbound();
+    Assert.assertEquals(endOfTransfer.headers().get(BLOB_TRANSFER_STATUS), BLOB_TRANSFER_COMPLETED);
+  }
+
   @Test
   public void testTransferMultipleFiles() throws IOException {
     StorageEngine localStorageEngine = Mockito.mock(StorageEngine.class);
@@ -472,7 +522,9 @@ public class TestP2PFileTransferServerHandler {
     fileNames.remove(httpResponse.headers().get(HttpHeaderNames.CONTENT_DISPOSITION));
     fileChecksums.remove(httpResponse.headers().get(HttpHeaderNames.CONTENT_MD5));
     response = ch.readOutbound();
-    Assert.assertTrue(response instanceof HttpChunkedInput);
+    Assert.assertTrue(response instanceof DefaultFileRegion);
+    response = ch.readOutbound();
+    Assert.assertEquals(response, LastHttpContent.EMPTY_LAST_CONTENT);
     // end of file1
 
     // start of file2
@@ -482,7 +534,9 @@ public class TestP2PFileTransferServerHandler {
     Assert.assertTrue(fileNames.contains(httpResponse.headers().get(HttpHeaderNames.CONTENT_DISPOSITION)));
     Assert.assertTrue(fileChecksums.contains(httpResponse.headers().get(HttpHeaderNames.CONTENT_MD5)));
     response = ch.readOutbound();
-    Assert.assertTrue(response instanceof HttpChunkedInput);
+    Assert.assertTrue(response instanceof DefaultFileRegion);
+    response = ch.readOutbound();
+    Assert.assertEquals(response, LastHttpContent.EMPTY_LAST_CONTENT);
     // end of a file2
 
     // start of metadata
@@ -520,6 +574,89 @@ public class TestP2PFileTransferServerHandler {
     Assert.assertEquals(blobSnapshotManager.getConcurrentSnapshotUsers("myStore_v1", 10), 0);
   }
 
+  /**
+   * With an incremental transfer request, the files the requester already has an identical copy of are not sent.
+   */
+  @Test
+  public void testIncrementalTransferSkipsReusedFiles() throws IOException {
+    StorageEngine localStorageEngine = Mockito.mock(StorageEngine.class);
+    Mockito.doReturn(localStorageEngine).when(storageEngineRepository).getLocalStorageEngine(Mockito.any());
+    Mockito.doReturn(true).when(localStorageEngine).containsPartition(Mockito.anyInt());
+    Mockito.doReturn(new StoreVersionState()).when(storageMetadataService).getStoreVersionState(Mockito.any());
+    InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer =
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer();
+    OffsetRecord offsetRecord = new OffsetRecord(partitionStateSerializer, DEFAULT_PUBSUB_CONTEXT_FOR_UNIT_TESTING);
+    Mockito.doReturn(offsetRecord).when(storageMetadataService).getLastOffset(Mockito.any(), Mockito.anyInt(), any());
+
+    Path snapshotDir = Paths.get(RocksDBUtils.composeSnapshotDir(baseDir.toString(), "myStore_v1", 10));
+    Files.createDirectories(snapshotDir);
+    Path reusedFile = snapshotDir.resolve("000001.sst");
+    Files.write(reusedFile.toAbsolutePath(), "hello".getBytes());
+    Path changedFile = snapshotDir.resolve("000002.sst");
+    Files.write(changedFile.toAbsolutePath(), "world".getBytes());
+    Path manifestFile = snapshotDir.resolve("MANIFEST-000003");
+    Files.write(manifestFile.toAbsolutePath(), "manifest".getBytes());
+
+    // The requester has an identical copy of the first file only, and the manifest is never reused
+    Map<String, String> requesterFileChecksums = new HashMap<>();
+    requesterFileChecksums.put("000001.sst", BlobTransferUtils.generateFileChecksum(reusedFile));
+    requesterFileChecksums.put("000002.sst", "stale_checksum");
+    requesterFileChecksums.put("MANIFEST-000003", BlobTransferUtils.generateFileChecksum(manifestFile));
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "/myStore/1/10/BLOCK_BASED_TABLE",
+        Unpooled.wrappedBuffer(new ObjectMapper().writeValueAsBytes(requesterFileChecksums)));
+    Mockito.doNothing().when(blobSnapshotManager).createSnapshot(Mockito.anyString(), Mockito.anyInt());
+
+    ch.writeInbound(request);
+
+    // the order of file transfer is not guaranteed
+    Map<String, String> transferTypes = new HashMap<>();
+    for (int i = 0; i < 3; i++) {
+      Object response = ch.readOutbound();
+      Assert.assertTrue(response instanceof DefaultHttpResponse);
+      DefaultHttpResponse httpResponse = (DefaultHttpResponse) response;
+      String transferType = httpResponse.headers().get(BLOB_TRANSFER_TYPE);
+      transferTypes.put(httpResponse.headers().get(HttpHeaderNames.CONTENT_DISPOSITION), transferType);
+      if (transferType.equals(BlobTransferType.FILE.toString())) {
+        Assert.assertTrue(ch.readOutbound() instanceof DefaultFileRegion);
+        Assert.assertEquals(ch.readOutbound(), LastHttpContent.EMPTY_LAST_CONTENT);
+      } else {
+        Assert.assertTrue(response instanceof FullHttpResponse);
+        Assert.assertEquals(httpResponse.headers().get(HttpHeaderNames.CONTENT_LENGTH), "0");
+        Assert.assertEquals(
+            httpResponse.headers().get(HttpHeaderNames.CONTENT_MD5),
+            requesterFileChecksums.get("000001.sst"));
+      }
+    }
+    Assert.assertEquals(
+        transferTypes.get("attachment; filename=\"000001.sst\""),
+        BlobTransferType.REUSED_FILE.toString());
+    Assert.assertEquals(transferTypes.get("attachment; filename=\"000002.sst\""), BlobTransferType.FILE.toString());
+    Assert.assertEquals(
+        transferTypes.get("attachment; filename=\"MANIFEST-000003\""),
+        BlobTransferType.FILE.toString());
+
+    // metadata and end of transfer
+    FullHttpResponse metadataResponse = ch.readOutbound();
+    Assert.assertEquals(metadataResponse.headers().get(BLOB_TRANSFER_TYPE), BlobTransferType.METADATA.toString());
+    DefaultHttpResponse endOfTransfer = ch.readOutbound();
+    Assert.assertEquals(endOfTransfer.headers().get(BLOB_TRANSFER_STATUS), BLOB_TRANSFER_COMPLETED);
+  }
+
+  @Test
+  public void testRejectInvalidRequesterFileChecksums() {
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "/myStore/1/10/BLOCK_BASED_TABLE",
+        Unpooled.wrappedBuffer("not json".getBytes()));
+    ch.writeInbound(request);
+    FullHttpResponse response = ch.readOutbound();
+    Assert.assertEquals(response.status().code(), 400);
+  }
+
   /**
    * Server rejects a request whose advertised PartitionState/StoreVersionState
    * schema versions don't match the local binary's, with a 412 PRECONDITION_FAILED,
@@ -599,7 +736,9 @@ public class TestP2PFileTransferServerHandler {
     Assert.assertNotEquals(fileResponse.status(), HttpResponseStatus.PRECONDITION_FAILED);
     // File chunk
     response = ch.readOutbound();
-    Assert.assertTrue(response instanceof HttpChunkedInput);
+    Assert.assertTrue(response instanceof DefaultFileRegion);
+    response = ch.readOutbound();
+    Assert.assertEquals(response, LastHttpContent.EMPTY_LAST_CONTENT);
 
     // Metadata response — request matched, so status is OK (not the mismatch status).
     response = ch.readOutbound();
@@ -0,0 +1,84 @@
+package com.linkedin.davinci.compression;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.davinci.listener.response.ReadResponseStats;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.compression.VeniceCompressor;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.testng.annotations.Test;
+
+
+public class DecompressedValueCacheTest {
+  private static final String STORE_VERSION = "test_store_v1";
+
+  /**
+   * A fake decompression, which simply strips the first byte of the compressed bytes.
+   */
+  private static VeniceCompressor getCompressor() throws Exception {
+    VeniceCompressor compressor = mock(VeniceCompressor.class);
+    doAnswer(invocation -> {
+      byte[] data = invocation.getArgument(0);
+      int offset = invocation.getArgument(1);
+      int length = invocation.getArgument(2);
+      return ByteBuffer.wrap(Arrays.copyOfRange(data, offset + 1, offset + length));
+    }).when(compressor).decompress(any(byte[].class), anyInt(), anyInt());
+    return compressor;
+  }
+
+  private static byte[] getRawValue(int schemaId, String compressedValue) {
+    return ValueRecord.create(schemaId, ("x" + compressedValue).getBytes()).serialize();
+  }
+
+  @Test
+  public void testDecompress() throws Exception {
+    VeniceCompressor compressor = getCompressor();
+    ReadResponseStats stats = mock(ReadResponseStats.class);
+    DecompressedValueCache cache = new DecompressedValueCache(1024 * 1024);
+    byte[] key = "key".getBytes();
+
+    byte[] rawValue = getRawValue(1, "value");
+    assertEquals(cache.decompress(STORE_VERSION, 0, key, rawValue, compressor, stats), "value".getBytes());
+    assertEquals(cache.decompress(STORE_VERSION, 0, key, rawValue.clone(), compressor, stats), "value".getBytes());
+    verify(compressor, times(1)).decompress(any(byte[].class), anyInt(), anyInt());
+    verify(stats, times(1)).incrementDecompressedValueCacheMissCount();
+    verify(stats, times(1)).incrementDecompressedValueCacheHitCount();
+
+    // A different partition or store version is a different entry
+    cache.decompress(STORE_VERSION, 1, key, rawValue, compressor, stats);
+    cache.decompress("test_store_v2", 0, key, rawValue, compressor, stats);
+    verify(compressor, times(3)).decompress(any(byte[].class), anyInt(), anyInt());
+
+    // A write of the key must not lead to serving the stale decompressed value
+    byte[] newRawValue = getRawValue(1, "newValue");
+    assertEquals(cache.decompress(STORE_VERSION, 0, key, newRawValue, compressor, stats), "newValue".getBytes());
+    assertEquals(cache.decompress(STORE_VERSION, 0, key, newRawValue, compressor, stats), "newValue".getBytes());
+    verify(compressor, times(4)).decompress(any(byte[].class), anyInt(), anyInt());
+    verify(stats, times(4)).incrementDecompressedValueCacheMissCount();
+    verify(stats, times(2)).incrementDecompressedValueCacheHitCount();
+  }
+
+  @Test
+  public void testEvictionCount() throws Exception {
+    VeniceCompressor compressor = getCompressor();
+    ReadResponseStats stats = mock(ReadResponseStats.class);
+    DecompressedValueCache cache = new DecompressedValueCache(1024);
+    for (int i = 0; i < 100; i++) {
+      cache.decompress(STORE_VERSION, 0, ("key" + i).getBytes(), getRawValue(1, "value" + i), compressor, stats);
+    }
+    assertEquals(cache.pollEvictionCount("another_store"), 0);
+    int evictionCount = cache.pollEvictionCount("test_store");
+    assertTrue(evictionCount > 0, "Inserting more than the capacity should evict entries");
+    assertTrue(cache.size() < 100);
+    // The count is reset by each poll
+    assertEquals(cache.pollEvictionCount("test_store"), 0);
+  }
+}
@@ -30,10 +30,17 @@ import com.linkedin.venice.pubsub.api.PubSubPosition;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 import org.testng.annotations.Test;
 
@@ -114,6 +121,7 @@ public class IngestionBatchProcessorTest {
         "store_v1",
         mock(ExecutorService.class),
         mockKeyLevelLocksManager,
+        null,
         (ignored1, ignored2, ignored3, ignored4, ignored5, ignored6, ignored7) -> null,
         true,
         true,
@@ -182,6 +190,7 @@ public class IngestionBatchProcessorTest {
         "store_v1",
         Executors.newFixedThreadPool(1, new DaemonThreadFactory("test")),
         mockKeyLevelLocksManager,
+        null,
         (consumerRecord, ignored2, ignored3, ignored4, ignored5, ignored6, ignored7) -> {
           if (Arrays.equals(consumerRecord.getKey().getKey(), "key1".getBytes())) {
             Put put = new Put();
@@ -229,6 +238,7 @@ public class IngestionBatchProcessorTest {
         "store_v1",
         Executors.newFixedThreadPool(1, new DaemonThreadFactory("test")),
         mockKeyLevelLocksManager,
+        null,
         (consumerRecord, ignored2, ignored3, ignored4, ignored5, ignored6, ignored7) -> {
           if (Arrays.equals(consumerRecord.getKey().getKey(), "key1".getBytes())) {
             Put put = new Put();
@@ -260,4 +270,64 @@ public class IngestionBatchProcessorTest {
     verify(mockHostLevelIngestionStats).recordBatchProcessingRequestError();
   }
 
+  @Test
+  public void processWithKeyLanesTest() {
+    PubSubTopic rtTopic = TOPIC_REPOSITORY.getTopic("store_rt");
+    PubSubTopicPartition rtTopicPartition = new PubSubTopicPartitionImpl(rtTopic, 1);
+    KeyLanes keyLanes = new KeyLanes(4);
+    List<DefaultPubSubMessage> records = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      records.add(
+          new ImmutablePubSubMessage(
+              new KafkaKey(MessageType.PUT, ("key" + (i % 10)).getBytes()),
+              mock(KafkaMessageEnvelope.class),
+              rtTopicPartition,
+              mock(PubSubPosition.class),
+              i,
+              100));
+    }
+    Map<Integer, Set<String>> threadsPerLane = new VeniceConcurrentHashMap<>();
+    Map<String, List<Long>> timestampsPerKey = new VeniceConcurrentHashMap<>();
+    IngestionBatchProcessor batchProcessor = new IngestionBatchProcessor(
+        "store_v1",
+        Executors.newFixedThreadPool(4, new DaemonThreadFactory("test")),
+        null,
+        keyLanes,
+        (consumerRecord, ignored2, ignored3, ignored4, ignored5, ignored6, ignored7) -> {
+          byte[] key = consumerRecord.getKey().getKey();
+          threadsPerLane.computeIfAbsent(keyLanes.getLane(key), k -> ConcurrentHashMap.newKeySet())
+              .add(Thread.currentThread().getName());
+          timestampsPerKey.computeIfAbsent(new String(key), k -> Collections.synchronizedList(new ArrayList<>()))
+              .add(consumerRecord.getPubSubMessageTime());
+          return null;
+        },
+        true,
+        true,
+        mock(AggVersionedIngestionStats.class),
+        mock(HostLevelIngestionStats.class));
+
+    BitSet lockedLanes = batchProcessor.lockLanes(records);
+    for (DefaultPubSubMessage record: records) {
+      int lane = keyLanes.getLane(record.getKey().getKey());
+      assertTrue(lockedLanes.get(lane));
+      assertTrue(keyLanes.getLaneLock(lane).isHeldByCurrentThread());
+    }
+    List<PubSubMessageProcessedResultWrapper> result =
+        batchProcessor.process(records, mock(PartitionConsumptionState.class), 1, "test_kafka", 1, 1, 1);
+    batchProcessor.unlockLanes(lockedLanes);
+    for (int lane = 0; lane < keyLanes.getLaneCount(); lane++) {
+      assertFalse(keyLanes.getLaneLock(lane).isLocked());
+    }
+
+    assertEquals(result.size(), records.size());
+    // Each lane is processed by a single worker, in the order of the batch
+    threadsPerLane.values().forEach(threads -> assertEquals(threads.size(), 1));
+    assertEquals(timestampsPerKey.size(), 10);
+    timestampsPerKey.forEach((key, timestamps) -> {
+      assertEquals(timestamps.size(), 10);
+      for (int i = 1; i < timestamps.size(); i++) {
+        assertTrue(timestamps.get(i - 1) < timestamps.get(i));
+      }
+    });
+  }
 }
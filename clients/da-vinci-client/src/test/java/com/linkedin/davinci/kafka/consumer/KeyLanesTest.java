@@ -0,0 +1,85 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.ImmutablePubSubMessage;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.DefaultPubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubPosition;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class KeyLanesTest {
+  private static final PubSubTopicPartition RT_TOPIC_PARTITION =
+      new PubSubTopicPartitionImpl(new PubSubTopicRepository().getTopic("store_rt"), 1);
+
+  private static DefaultPubSubMessage getRecord(KafkaKey key) {
+    return new ImmutablePubSubMessage(
+        key,
+        mock(KafkaMessageEnvelope.class),
+        RT_TOPIC_PARTITION,
+        mock(PubSubPosition.class),
+        0,
+        0);
+  }
+
+  @Test
+  public void testLaneCount() {
+    Assert.assertEquals(new KeyLanes(1).getLaneCount(), 1);
+    Assert.assertEquals(new KeyLanes(16).getLaneCount(), 16);
+    Assert.assertEquals(new KeyLanes(17).getLaneCount(), 32);
+    Assert.assertThrows(IllegalArgumentException.class, () -> new KeyLanes(0));
+  }
+
+  @Test
+  public void testSameLaneForSameKeyBytes() {
+    KeyLanes keyLanes = new KeyLanes(64);
+    byte[] rawKeyBytes = { 'a', 'b', 'c' };
+    byte[] sameRawKeyBytes = "abc".getBytes(StandardCharsets.UTF_8);
+    Assert.assertEquals(keyLanes.getLane(rawKeyBytes), keyLanes.getLane(sameRawKeyBytes));
+    for (int i = 0; i < 1000; i++) {
+      int lane = keyLanes.getLane(("key" + i).getBytes());
+      Assert.assertTrue(lane >= 0 && lane < keyLanes.getLaneCount());
+    }
+  }
+
+  @Test
+  public void testLockLanes() throws Exception {
+    KeyLanes keyLanes = new KeyLanes(8);
+    KafkaKey key1 = new KafkaKey(MessageType.PUT, "key1".getBytes());
+    KafkaKey key2 = new KafkaKey(MessageType.PUT, "key2".getBytes());
+    int lane1 = keyLanes.getLane(key1.getKey());
+    int lane2 = keyLanes.getLane(key2.getKey());
+
+    BitSet lockedLanes = keyLanes.lockLanes(
+        Arrays.asList(getRecord(key1), getRecord(key2), getRecord(key1), getRecord(KafkaKey.HEART_BEAT)));
+    BitSet expectedLanes = new BitSet();
+    expectedLanes.set(lane1);
+    expectedLanes.set(lane2);
+    Assert.assertEquals(lockedLanes, expectedLanes, "Control messages should not lock any lane");
+    // Each lane is locked once, whatever the number of records in it
+    Assert.assertEquals(keyLanes.getLaneLock(lane1).getHoldCount(), 1);
+    Assert.assertEquals(keyLanes.getLaneLock(lane2).getHoldCount(), 1);
+
+    // Another consumer has to wait for the lane to be unlocked
+    CompletableFuture<BitSet> otherLockedLanes =
+        CompletableFuture.supplyAsync(() -> keyLanes.lockLanes(Arrays.asList(getRecord(key1))));
+    Thread.sleep(50);
+    Assert.assertFalse(otherLockedLanes.isDone());
+    keyLanes.unlockLanes(lockedLanes);
+    Assert.assertFalse(keyLanes.getLaneLock(lane1).isHeldByCurrentThread());
+    Assert.assertFalse(keyLanes.getLaneLock(lane2).isHeldByCurrentThread());
+    Assert.assertTrue(otherLockedLanes.get(10, TimeUnit.SECONDS).get(lane1));
+  }
+}
@@ -6,9 +6,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
@@ -42,6 +44,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -110,6 +116,185 @@ public class StoreBufferServiceTest {
         () -> bufferService.drainBufferedRecordsFromTopicPartition(pubSubTopicPartition1, 50000));
   }
 
+  @Test
+  public void testWriteBatch() throws Exception {
+    StoreBufferService bufferService = new StoreBufferService(1, 10000, 1000, false, mockedStats, null, false, 2);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    PartitionConsumptionState mockPcs = mock(PartitionConsumptionState.class);
+    doReturn(mockPcs).when(mockTask).getPartitionConsumptionState(0);
+    PubSubTopic pubSubTopic = pubSubTopicRepository.getTopic(Utils.getUniqueString("test_topic") + "_v1");
+    PubSubTopicPartition pubSubTopicPartition = new PubSubTopicPartitionImpl(pubSubTopic, 0);
+    String kafkaUrl = "blah";
+    List<DefaultPubSubMessage> records = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      records.add(new ImmutablePubSubMessage(key, value, pubSubTopicPartition, mockPosition, 0, 0));
+    }
+
+    // Block the drainer on the first record, so that the next ones are buffered
+    CountDownLatch unblockLatch = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      unblockLatch.await();
+      return null;
+    }).when(mockTask).processConsumerRecord(records.get(0), null, 0, kafkaUrl, 0L);
+
+    bufferService.start();
+    for (DefaultPubSubMessage record: records) {
+      bufferService.putConsumerRecord(record, mockTask, null, 0, kafkaUrl, 0L);
+    }
+    ArgumentCaptor<CompletableFuture<Void>> futureCaptor = ArgumentCaptor.forClass(CompletableFuture.class);
+    verify(mockPcs, times(3)).setLastQueuedRecordPersistedFuture(futureCaptor.capture());
+    List<CompletableFuture<Void>> recordFutures = futureCaptor.getAllValues();
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).beginWriteBatch(0);
+    Assert.assertFalse(recordFutures.get(0).isDone());
+
+    // The first two records are committed together, and the last one on its own once the buffer is empty
+    unblockLatch.countDown();
+    InOrder inOrder = inOrder(mockTask);
+    inOrder.verify(mockTask, timeout(TIMEOUT_IN_MS)).beginWriteBatch(0);
+    inOrder.verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(records.get(0), null, 0, kafkaUrl, 0L);
+    inOrder.verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(records.get(1), null, 0, kafkaUrl, 0L);
+    inOrder.verify(mockTask, timeout(TIMEOUT_IN_MS)).commitWriteBatch(0);
+    inOrder.verify(mockTask, timeout(TIMEOUT_IN_MS)).beginWriteBatch(0);
+    inOrder.verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(records.get(2), null, 0, kafkaUrl, 0L);
+    inOrder.verify(mockTask, timeout(TIMEOUT_IN_MS)).commitWriteBatch(0);
+    for (CompletableFuture<Void> recordFuture: recordFutures) {
+      recordFuture.get(TIMEOUT_IN_MS, MILLISECONDS);
+    }
+
+    // A failed commit fails the records of the batch
+    VeniceException commitException = new VeniceException("Failed to commit");
+    doThrow(commitException).when(mockTask).commitWriteBatch(0);
+    clearInvocations(mockPcs);
+    DefaultPubSubMessage failedRecord =
+        new ImmutablePubSubMessage(key, value, pubSubTopicPartition, mockPosition, 0, 0);
+    bufferService.putConsumerRecord(failedRecord, mockTask, null, 0, kafkaUrl, 0L);
+    verify(mockPcs).setLastQueuedRecordPersistedFuture(futureCaptor.capture());
+    CompletableFuture<Void> failedRecordFuture = futureCaptor.getValue();
+    Assert.assertThrows(ExecutionException.class, () -> failedRecordFuture.get(TIMEOUT_IN_MS, MILLISECONDS));
+    verify(mockTask).setIngestionException(0, commitException);
+    verify(mockedStats).recordInternalProcessingError(any());
+    bufferService.stop();
+  }
+
+  @Test
+  public void testWorkStealing() throws Exception {
+    StoreBufferService bufferService = new StoreBufferService(2, 10000, 1000, false, mockedStats, null, true);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    PubSubTopic pubSubTopic = pubSubTopicRepository.getTopic(Utils.getUniqueString("test_topic") + "_v1");
+    String kafkaUrl = "blah";
+
+    // Find two partitions which are assigned to the same drainer
+    int blockedPartition = 0;
+    List<DefaultPubSubMessage> blockedPartitionRecords = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      blockedPartitionRecords.add(
+          new ImmutablePubSubMessage(
+              key,
+              value,
+              new PubSubTopicPartitionImpl(pubSubTopic, blockedPartition),
+              mockPosition,
+              0,
+              0));
+    }
+    DefaultPubSubMessage blockedRecord = blockedPartitionRecords.get(0);
+    int drainerIndex = bufferService.getDrainerIndexForConsumerRecord(blockedRecord, blockedPartition);
+    int otherPartition = blockedPartition;
+    DefaultPubSubMessage otherRecord;
+    do {
+      otherPartition++;
+      otherRecord = new ImmutablePubSubMessage(
+          key,
+          value,
+          new PubSubTopicPartitionImpl(pubSubTopic, otherPartition),
+          mockPosition,
+          0,
+          0);
+    } while (bufferService.getDrainerIndexForConsumerRecord(otherRecord, otherPartition) != drainerIndex);
+
+    CountDownLatch unblockLatch = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      unblockLatch.await();
+      return null;
+    }).when(mockTask).processConsumerRecord(blockedRecord, null, blockedPartition, kafkaUrl, 0L);
+
+    bufferService.start();
+    for (DefaultPubSubMessage record: blockedPartitionRecords) {
+      bufferService.putConsumerRecord(record, mockTask, null, blockedPartition, kafkaUrl, 0L);
+    }
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(blockedRecord, null, blockedPartition, kafkaUrl, 0L);
+    bufferService.putConsumerRecord(otherRecord, mockTask, null, otherPartition, kafkaUrl, 0L);
+
+    // The record of the other partition is processed by the idle drainer while its home drainer is blocked
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(otherRecord, null, otherPartition, kafkaUrl, 0L);
+    verify(mockedStats, timeout(TIMEOUT_IN_MS).atLeastOnce()).recordPartitionClaim();
+    verify(mockTask, never())
+        .processConsumerRecord(blockedPartitionRecords.get(1), null, blockedPartition, kafkaUrl, 0L);
+    Assert.assertTrue(bufferService.getTotalMemoryUsage() > 0);
+
+    // The records of the blocked partition are still processed in order
+    unblockLatch.countDown();
+    InOrder inOrder = inOrder(mockTask);
+    for (DefaultPubSubMessage record: blockedPartitionRecords) {
+      inOrder.verify(mockTask, timeout(TIMEOUT_IN_MS))
+          .processConsumerRecord(record, null, blockedPartition, kafkaUrl, 0L);
+    }
+    bufferService.drainBufferedRecordsFromTopicPartition(
+        new PubSubTopicPartitionImpl(pubSubTopic, blockedPartition),
+        TIMEOUT_IN_MS);
+    bufferService.stop();
+  }
+
+  @Test
+  public void testWorkStealingPartitionStaysClaimedUntilTake() throws Exception {
+    WorkStealingDrainerQueues queues = new WorkStealingDrainerQueues(2, 10000, 1000, () -> {});
+    Object partitionKey = "partition";
+    StoreBufferService.QueueNode firstNode = mock(StoreBufferService.QueueNode.class);
+    StoreBufferService.QueueNode secondNode = mock(StoreBufferService.QueueNode.class);
+    queues.put(0, partitionKey, firstNode);
+    Assert.assertSame(queues.take(1), firstNode);
+
+    // A record put after poll() found the partition empty, but before the drainer committed its write batch and called
+    // take(), must not make the partition claimable by another drainer
+    Assert.assertNull(queues.poll(1));
+    queues.put(0, partitionKey, secondNode);
+    Assert.assertEquals(queues.getRunQueueSize(0), 0);
+    Assert.assertEquals(queues.getRunQueueSize(1), 0);
+    Assert.assertSame(queues.take(1), secondNode);
+
+    // Once take() finds the partition empty, it releases it, so that the next record schedules it again
+    CompletableFuture<StoreBufferService.QueueNode> takeFuture = CompletableFuture.supplyAsync(() -> {
+      try {
+        return queues.take(1);
+      } catch (InterruptedException e) {
+        throw new VeniceException(e);
+      }
+    });
+    StoreBufferService.QueueNode thirdNode = mock(StoreBufferService.QueueNode.class);
+    queues.put(0, partitionKey, thirdNode);
+    Assert.assertSame(takeFuture.get(TIMEOUT_IN_MS, MILLISECONDS), thirdNode);
+  }
+
+  @Test
+  public void testIdleDrainerIsWokenUpToClaimPartitionOfBusyDrainer() throws Exception {
+    WorkStealingDrainerQueues queues = new WorkStealingDrainerQueues(2, 10000, 1000, () -> {});
+    StoreBufferService.QueueNode busyNode = mock(StoreBufferService.QueueNode.class);
+    queues.put(0, "busyPartition", busyNode);
+    Assert.assertSame(queues.take(0), busyNode);
+
+    // Drainer 1 waits for work, and is woken up once drainer 0, which is still busy, gets another partition
+    CompletableFuture<StoreBufferService.QueueNode> takeFuture = CompletableFuture.supplyAsync(() -> {
+      try {
+        return queues.take(1);
+      } catch (InterruptedException e) {
+        throw new VeniceException(e);
+      }
+    });
+    StoreBufferService.QueueNode otherNode = mock(StoreBufferService.QueueNode.class);
+    queues.put(0, "otherPartition", otherNode);
+    Assert.assertSame(takeFuture.get(TIMEOUT_IN_MS, MILLISECONDS), otherNode);
+    Assert.assertEquals(queues.getRunQueueSize(0), 0);
+  }
+
   @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
   public void testRunWhenThrowException(boolean queueLeaderWrites) throws Exception {
     StoreBufferService bufferService = new StoreBufferService(1, 10000, 1000, queueLeaderWrites, mockedStats, null);
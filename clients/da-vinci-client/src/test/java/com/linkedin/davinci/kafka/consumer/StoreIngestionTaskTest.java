@@ -521,7 +521,9 @@ public abstract class StoreIngestionTaskTest {
         null,
         mockMetricRepo,
         true,
-        "test-cluster");
+        "test-cluster",
+        false,
+        1);
     storeBufferService.start();
   }
 
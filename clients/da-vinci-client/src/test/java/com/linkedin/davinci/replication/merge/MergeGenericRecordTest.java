@@ -2,21 +2,33 @@ package com.linkedin.davinci.replication.merge;
 
 import static com.linkedin.venice.schema.rmd.RmdConstants.REPLICATION_CHECKPOINT_VECTOR_FIELD_NAME;
 import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.PUT_ONLY_PART_LENGTH_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.TOP_LEVEL_COLO_ID_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.TOP_LEVEL_TS_FIELD_NAME;
 import static com.linkedin.venice.schema.writecompute.WriteComputeConstants.SET_DIFF;
 import static com.linkedin.venice.schema.writecompute.WriteComputeConstants.SET_UNION;
 
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.davinci.schema.merge.CollectionTimestampMergeRecordHelper;
 import com.linkedin.davinci.schema.merge.MergeRecordHelper;
+import com.linkedin.davinci.schema.merge.ParallelFieldMerger;
 import com.linkedin.davinci.schema.merge.ValueAndRmd;
 import com.linkedin.davinci.schema.writecompute.WriteComputeProcessor;
+import com.linkedin.davinci.serializer.avro.MapOrderPreservingSerDeFactory;
+import com.linkedin.davinci.utils.IndexedHashMap;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
 import com.linkedin.venice.schema.writecompute.WriteComputeSchemaConverter;
+import com.linkedin.venice.utils.AvroSchemaUtils;
 import com.linkedin.venice.utils.lazy.Lazy;
+import com.linkedin.venice.writer.update.UpdateBuilder;
+import com.linkedin.venice.writer.update.UpdateBuilderImpl;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -285,6 +297,176 @@ public class MergeGenericRecordTest {
 
   }
 
+  @Test
+  public void testParallelFieldMergeMatchesSerialMerge() {
+    Schema schema = AvroCompatibilityHelper.parse(getWideRecordSchemaStr(48));
+    Schema rmdSchema = RmdSchemaGenerator.generateMetadataSchema(schema, 1);
+    Schema updateSchema = WriteComputeSchemaConverter.getInstance().convertFromValueRecordSchema(schema);
+    MergeRecordHelper mergeRecordHelper = new CollectionTimestampMergeRecordHelper();
+    Merge<GenericRecord> serialMerge = createMergeGenericRecord();
+    ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+    try {
+      ParallelFieldMerger parallelFieldMerger = new ParallelFieldMerger(forkJoinPool, 2, Integer.MAX_VALUE);
+      Merge<GenericRecord> parallelMerge = new MergeGenericRecord(
+          new WriteComputeProcessor(mergeRecordHelper, false, parallelFieldMerger),
+          mergeRecordHelper,
+          parallelFieldMerger);
+      long seed = System.nanoTime();
+      Random random = new Random(seed);
+      // Both sides get structurally identical, but distinct, inputs generated from the same seed.
+      Random serialRandom = new Random(seed + 1);
+      Random parallelRandom = new Random(seed + 1);
+      ValueAndRmd<GenericRecord> serialValueAndRmd = createWideValueAndRmd(serialRandom, schema, rmdSchema);
+      ValueAndRmd<GenericRecord> parallelValueAndRmd = createWideValueAndRmd(parallelRandom, schema, rmdSchema);
+
+      for (int i = 0; i < 200; i++) {
+        // A narrow timestamp range, to get timestamp ties as well
+        long timestamp = random.nextInt(100);
+        int coloID = random.nextInt(3) - 1;
+        if (random.nextBoolean()) {
+          GenericRecord serialNewValue = createWideValue(serialRandom, schema);
+          GenericRecord parallelNewValue = createWideValue(parallelRandom, schema);
+          serialValueAndRmd = serialMerge.put(serialValueAndRmd, serialNewValue, timestamp, coloID);
+          parallelValueAndRmd = parallelMerge.put(parallelValueAndRmd, parallelNewValue, timestamp, coloID);
+        } else {
+          GenericRecord serialUpdate = createWideUpdate(serialRandom, schema, updateSchema);
+          GenericRecord parallelUpdate = createWideUpdate(parallelRandom, schema, updateSchema);
+          serialValueAndRmd =
+              serialMerge.update(serialValueAndRmd, Lazy.of(() -> serialUpdate), schema, timestamp, coloID);
+          parallelValueAndRmd =
+              parallelMerge.update(parallelValueAndRmd, Lazy.of(() -> parallelUpdate), schema, timestamp, coloID);
+        }
+        Assert.assertEquals(
+            parallelValueAndRmd.isUpdateIgnored(),
+            serialValueAndRmd.isUpdateIgnored(),
+            "Seed: " + seed);
+        Assert.assertEquals(
+            MapOrderPreservingSerDeFactory.getSerializer(schema).serialize(parallelValueAndRmd.getValue()),
+            MapOrderPreservingSerDeFactory.getSerializer(schema).serialize(serialValueAndRmd.getValue()),
+            "Seed: " + seed);
+        Assert.assertEquals(
+            MapOrderPreservingSerDeFactory.getSerializer(rmdSchema).serialize(parallelValueAndRmd.getRmd()),
+            MapOrderPreservingSerDeFactory.getSerializer(rmdSchema).serialize(serialValueAndRmd.getRmd()),
+            "Seed: " + seed);
+        serialValueAndRmd.setUpdateIgnored(false);
+        parallelValueAndRmd.setUpdateIgnored(false);
+      }
+    } finally {
+      forkJoinPool.shutdownNow();
+    }
+  }
+
+  /**
+   * The fields of the wide record are, in turn, an int, a list of ints and a map of ints.
+   */
+  private static String getWideRecordSchemaStr(int fieldCount) {
+    StringBuilder schemaStr = new StringBuilder("{\"type\":\"record\",\"name\":\"WideRecord\",\"fields\":[");
+    for (int i = 0; i < fieldCount; i++) {
+      if (i > 0) {
+        schemaStr.append(',');
+      }
+      schemaStr.append("{\"name\":\"f").append(i).append("\",");
+      switch (i % 3) {
+        case 0:
+          schemaStr.append("\"type\":\"int\",\"default\":0}");
+          break;
+        case 1:
+          schemaStr.append("\"type\":{\"type\":\"array\",\"items\":\"int\"},\"default\":[]}");
+          break;
+        default:
+          schemaStr.append("\"type\":{\"type\":\"map\",\"values\":\"int\"},\"default\":{}}");
+      }
+    }
+    return schemaStr.append("]}").toString();
+  }
+
+  private static List<Integer> createIntList(Random random) {
+    List<Integer> list = new ArrayList<>();
+    for (int i = random.nextInt(8); i > 0; i--) {
+      list.add(random.nextInt(16));
+    }
+    return list;
+  }
+
+  private static IndexedHashMap<String, Integer> createIntMap(Random random) {
+    IndexedHashMap<String, Integer> map = new IndexedHashMap<>();
+    for (int i = random.nextInt(8); i > 0; i--) {
+      map.put("k" + random.nextInt(16), random.nextInt(16));
+    }
+    return map;
+  }
+
+  private static GenericRecord createWideValue(Random random, Schema schema) {
+    GenericRecord value = new GenericData.Record(schema);
+    for (Schema.Field field: schema.getFields()) {
+      switch (field.schema().getType()) {
+        case INT:
+          value.put(field.pos(), random.nextInt(16));
+          break;
+        case ARRAY:
+          value.put(field.pos(), createIntList(random));
+          break;
+        default:
+          value.put(field.pos(), createIntMap(random));
+      }
+    }
+    return value;
+  }
+
+  private static ValueAndRmd<GenericRecord> createWideValueAndRmd(Random random, Schema schema, Schema rmdSchema) {
+    GenericRecord value = createWideValue(random, schema);
+    Schema timestampRecordSchema = rmdSchema.getField(TIMESTAMP_FIELD_NAME).schema().getTypes().get(1);
+    GenericRecord timestampRecord = new GenericData.Record(timestampRecordSchema);
+    for (Schema.Field field: timestampRecordSchema.getFields()) {
+      if (field.schema().getType() == Schema.Type.LONG) {
+        timestampRecord.put(field.pos(), 0L);
+      } else {
+        GenericRecord collectionTimestampRecord = AvroSchemaUtils.createGenericRecord(field.schema());
+        collectionTimestampRecord.put(TOP_LEVEL_TS_FIELD_NAME, 0L);
+        collectionTimestampRecord.put(TOP_LEVEL_COLO_ID_FIELD_NAME, -1);
+        Object collection = value.get(field.name());
+        collectionTimestampRecord.put(
+            PUT_ONLY_PART_LENGTH_FIELD_NAME,
+            collection instanceof List ? ((List) collection).size() : ((Map) collection).size());
+        timestampRecord.put(field.pos(), collectionTimestampRecord);
+      }
+    }
+    GenericRecord rmd = new GenericData.Record(rmdSchema);
+    rmd.put(TIMESTAMP_FIELD_NAME, timestampRecord);
+    rmd.put(REPLICATION_CHECKPOINT_VECTOR_FIELD_NAME, new ArrayList<>());
+    return new ValueAndRmd<>(Lazy.of(() -> value), rmd);
+  }
+
+  private static GenericRecord createWideUpdate(Random random, Schema schema, Schema updateSchema) {
+    UpdateBuilder updateBuilder = new UpdateBuilderImpl(updateSchema);
+    // At least the first field is updated, so that the update is not empty.
+    updateBuilder.setNewFieldValue(schema.getFields().get(0).name(), random.nextInt(16));
+    for (Schema.Field field: schema.getFields().subList(1, schema.getFields().size())) {
+      int operation = random.nextInt(3);
+      switch (field.schema().getType()) {
+        case INT:
+          if (operation > 0) {
+            updateBuilder.setNewFieldValue(field.name(), random.nextInt(16));
+          }
+          break;
+        case ARRAY:
+          if (operation == 1) {
+            updateBuilder.setNewFieldValue(field.name(), createIntList(random));
+          } else if (operation == 2) {
+            updateBuilder.setElementsToAddToListField(field.name(), createIntList(random));
+            updateBuilder.setElementsToRemoveFromListField(field.name(), createIntList(random));
+          }
+          break;
+        default:
+          if (operation > 0) {
+            updateBuilder.setEntriesToAddToMapField(field.name(), createIntMap(random));
+            updateBuilder.setKeysToRemoveFromMapField(field.name(), new ArrayList<>(createIntMap(random).keySet()));
+          }
+      }
+    }
+    return updateBuilder.build();
+  }
+
   private Merge<GenericRecord> createMergeGenericRecord() {
     MergeRecordHelper mergeRecordHelper = new CollectionTimestampMergeRecordHelper();
     WriteComputeProcessor writeComputeProcessor = new WriteComputeProcessor(mergeRecordHelper);
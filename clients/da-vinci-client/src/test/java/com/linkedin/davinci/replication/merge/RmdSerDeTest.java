@@ -52,6 +52,46 @@ public class RmdSerDeTest {
     Assert.assertEquals(rmdAndValueID.getRmdRecord(), rmd);
   }
 
+  @Test
+  public void testLazilyDeserializeRmd() {
+    setupTestEnv();
+
+    // The per-field timestamps cannot be peeked, so the RMD record is only deserialized when accessed.
+    RmdWithValueSchemaId rmdAndValueID = new RmdWithValueSchemaId();
+    rmdSerDe.lazilyDeserializeValueSchemaIdPrependedRmdBytes(rmdAndValueSchemaIDBytes.array(), rmdAndValueID);
+    Assert.assertEquals(rmdAndValueID.getValueSchemaId(), valueSchemaID);
+    Assert.assertEquals(rmdAndValueID.getRmdProtocolVersionId(), rmdVersionID);
+    Assert.assertFalse(rmdAndValueID.hasValueLevelTimestamp());
+    Assert.assertEquals(rmdAndValueID.getRmdTimestampObject(), rmd.get("timestamp"));
+    Assert.assertEquals(rmdAndValueID.getRmdRecord(), rmd);
+
+    // The value-level timestamp is peeked without deserializing the RMD record.
+    GenericRecord valueLevelRmd = new GenericData.Record(rmdSerDe.getRmdSchema(valueSchemaID));
+    valueLevelRmd.put("timestamp", 123456789L);
+    valueLevelRmd.put("replication_checkpoint_vector", Arrays.asList(1L, 2L));
+    ByteBuffer valueLevelRmdBytes = rmdSerDe.serializeRmdRecord(valueSchemaID, valueLevelRmd);
+    ByteBuffer valueLevelRmdAndValueSchemaIDBytes = ByteBuffer.allocate(Integer.BYTES + valueLevelRmdBytes.remaining());
+    valueLevelRmdAndValueSchemaIDBytes.putInt(valueSchemaID);
+    valueLevelRmdAndValueSchemaIDBytes.put(valueLevelRmdBytes.array());
+
+    BiIntKeyCache<RecordDeserializer<GenericRecord>> mockDeserializerCache = mock(BiIntKeyCache.class);
+    RecordDeserializer mockDes = mock(RecordDeserializer.class);
+    Mockito.doReturn(valueLevelRmd).when(mockDes).deserialize((BinaryDecoder) Mockito.any());
+    Mockito.doReturn(mockDes).when(mockDeserializerCache).get(Mockito.anyInt(), Mockito.anyInt());
+    rmdSerDe.setDeserializerCache(mockDeserializerCache);
+
+    rmdAndValueID = new RmdWithValueSchemaId();
+    rmdSerDe.lazilyDeserializeValueSchemaIdPrependedRmdBytes(valueLevelRmdAndValueSchemaIDBytes.array(), rmdAndValueID);
+    Assert.assertTrue(rmdAndValueID.hasValueLevelTimestamp());
+    Assert.assertEquals(rmdAndValueID.getValueLevelTimestamp(), 123456789L);
+    Assert.assertEquals(rmdAndValueID.getRmdTimestampObject(), 123456789L);
+    Mockito.verify(mockDes, Mockito.never()).deserialize((BinaryDecoder) Mockito.any());
+
+    Assert.assertEquals(rmdAndValueID.getRmdRecord(), valueLevelRmd);
+    Assert.assertEquals(rmdAndValueID.getRmdRecord(), valueLevelRmd);
+    Mockito.verify(mockDes, Mockito.times(1)).deserialize((BinaryDecoder) Mockito.any());
+  }
+
   private void setupTestEnv() {
     // Generate RMD schema and record from value schema.
     Schema valueSchema = AvroCompatibilityHelper.parse(VALUE_SCHEMA_STR);
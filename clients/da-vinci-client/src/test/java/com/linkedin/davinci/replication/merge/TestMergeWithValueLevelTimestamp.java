@@ -244,6 +244,63 @@ public class TestMergeWithValueLevelTimestamp extends TestMergeConflictResolver
     Assert.assertEquals(GenericData.get().compare(result1, result2, userSchemaV1), 0);
   }
 
+  /**
+   * The RMD whose value-level timestamp is peeked from its serialized bytes resolves the conflicts without being
+   * deserialized when the timestamps differ, and the results should be the same as with the deserialized RMD.
+   */
+  @Test
+  public void testPeekedValueLevelTimestampMatchesDeserializedRmd() {
+    StringAnnotatedStoreSchemaCache schemaCache = new StringAnnotatedStoreSchemaCache(storeName, schemaRepository);
+    RmdSerDe rmdSerDe = new RmdSerDe(schemaCache, RMD_VERSION_ID);
+    MergeConflictResolver mergeConflictResolver =
+        MergeConflictResolverFactory.getInstance().createMergeConflictResolver(schemaCache, rmdSerDe, storeName);
+    ByteBuffer oldValue = userValue("old", 0);
+    ByteBuffer newValue = userValue("new", 1);
+
+    for (long timestamp: new long[] { 10L, 20L, 30L }) {
+      MergeConflictResult expectedPutResult =
+          mergeConflictResolver.put(Lazy.of(() -> oldValue), rmdAt(20L), newValue, timestamp, 1, 0);
+      RmdWithValueSchemaId peekedRmd = peekedRmdAt(rmdSerDe, 20L);
+      Assert.assertTrue(peekedRmd.hasValueLevelTimestamp());
+      MergeConflictResult putResult =
+          mergeConflictResolver.put(Lazy.of(() -> oldValue), peekedRmd, newValue, timestamp, 1, 0);
+      assertSameMergeConflictResult(rmdSerDe, putResult, expectedPutResult);
+
+      MergeConflictResult expectedDeleteResult =
+          mergeConflictResolver.delete(Lazy.of(() -> oldValue), rmdAt(20L), timestamp, 0);
+      MergeConflictResult deleteResult =
+          mergeConflictResolver.delete(Lazy.of(() -> oldValue), peekedRmdAt(rmdSerDe, 20L), timestamp, 0);
+      assertSameMergeConflictResult(rmdSerDe, deleteResult, expectedDeleteResult);
+    }
+  }
+
+  private RmdWithValueSchemaId peekedRmdAt(RmdSerDe rmdSerDe, long timestamp) {
+    ByteBuffer rmdBytes = rmdSerDe.serializeRmdRecord(1, createRmdWithValueLevelTimestamp(userRmdSchemaV1, timestamp));
+    ByteBuffer valueSchemaIdPrependedRmdBytes = ByteBuffer.allocate(Integer.BYTES + rmdBytes.remaining());
+    valueSchemaIdPrependedRmdBytes.putInt(1);
+    valueSchemaIdPrependedRmdBytes.put(rmdBytes);
+    RmdWithValueSchemaId rmdWithValueSchemaId = new RmdWithValueSchemaId();
+    rmdSerDe
+        .lazilyDeserializeValueSchemaIdPrependedRmdBytes(valueSchemaIdPrependedRmdBytes.array(), rmdWithValueSchemaId);
+    return rmdWithValueSchemaId;
+  }
+
+  private void assertSameMergeConflictResult(
+      RmdSerDe rmdSerDe,
+      MergeConflictResult actual,
+      MergeConflictResult expected) {
+    Assert.assertEquals(actual.isUpdateIgnored(), expected.isUpdateIgnored());
+    if (expected.isUpdateIgnored()) {
+      return;
+    }
+    Assert.assertEquals(actual.getNewValue(), expected.getNewValue());
+    Assert.assertEquals(actual.getValueSchemaId(), expected.getValueSchemaId());
+    Assert.assertEquals(actual.doesResultReuseInput(), expected.doesResultReuseInput());
+    Assert.assertEquals(
+        rmdSerDe.serializeRmdRecord(actual.getValueSchemaId(), actual.getRmdRecord()),
+        rmdSerDe.serializeRmdRecord(expected.getValueSchemaId(), expected.getRmdRecord()));
+  }
+
   /**
    * TEST-ONLY A/A DCR bug injection: the injection reflects the DCR write timestamp via {@code Long.MAX_VALUE - ts} on
    * a single region, so that region resolves conflicts as "older wins" while the others resolve "newer wins", causing
@@ -0,0 +1,80 @@
+package com.linkedin.davinci.schema.merge;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+
+public class ParallelFieldMergerTest {
+  private static final Schema SCHEMA = AvroCompatibilityHelper.parse(
+      "{\"type\":\"record\",\"name\":\"TestRecord\",\"fields\":["
+          + "{\"name\":\"intField\",\"type\":\"int\",\"default\":0},"
+          + "{\"name\":\"stringField\",\"type\":\"string\",\"default\":\"\"},"
+          + "{\"name\":\"listField\",\"type\":{\"type\":\"array\",\"items\":\"int\"},\"default\":[]}]}");
+
+  private final ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+
+  @AfterClass
+  public void cleanUp() {
+    forkJoinPool.shutdownNow();
+  }
+
+  private static GenericRecord createRecord(Integer... listElements) {
+    GenericRecord record = new GenericData.Record(SCHEMA);
+    record.put("intField", 1);
+    record.put("stringField", "a");
+    record.put("listField", Arrays.asList(listElements));
+    return record;
+  }
+
+  @Test
+  public void testShouldMergeInParallel() {
+    GenericRecord narrowRecord = createRecord(1);
+    GenericRecord recordWithLargeList = createRecord(1, 2, 3, 4);
+
+    Assert.assertFalse(ParallelFieldMerger.SERIAL.shouldMergeInParallel(narrowRecord, SCHEMA.getFields()));
+    Assert.assertFalse(ParallelFieldMerger.SERIAL.shouldMergeInParallel(recordWithLargeList, SCHEMA.getFields()));
+
+    ParallelFieldMerger fieldCountMerger = new ParallelFieldMerger(forkJoinPool, 3, Integer.MAX_VALUE);
+    Assert.assertTrue(fieldCountMerger.shouldMergeInParallel(narrowRecord, SCHEMA.getFields()));
+    Assert.assertFalse(fieldCountMerger.shouldMergeInParallel(narrowRecord, SCHEMA.getFields().subList(0, 2)));
+    Assert.assertFalse(fieldCountMerger.shouldMergeInParallel(narrowRecord, Collections.emptyList()));
+
+    ParallelFieldMerger collectionSizeMerger = new ParallelFieldMerger(forkJoinPool, Integer.MAX_VALUE, 4);
+    Assert.assertFalse(collectionSizeMerger.shouldMergeInParallel(narrowRecord, SCHEMA.getFields()));
+    Assert.assertTrue(collectionSizeMerger.shouldMergeInParallel(recordWithLargeList, SCHEMA.getFields()));
+  }
+
+  @Test
+  public void testMergeFields() {
+    ParallelFieldMerger parallelFieldMerger = new ParallelFieldMerger(forkJoinPool, 2, Integer.MAX_VALUE);
+    for (ParallelFieldMerger merger: Arrays.asList(ParallelFieldMerger.SERIAL, parallelFieldMerger)) {
+      Set<String> mergedFields = ConcurrentHashMap.newKeySet();
+      Assert.assertTrue(merger.mergeFields(createRecord(), field -> {
+        mergedFields.add(field.name());
+        return UpdateResultStatus.NOT_UPDATED_AT_ALL;
+      }));
+      Assert.assertEquals(mergedFields.size(), SCHEMA.getFields().size());
+
+      Assert.assertFalse(
+          merger.mergeFields(
+              createRecord(),
+              field -> field.name().equals("listField")
+                  ? UpdateResultStatus.PARTIALLY_UPDATED
+                  : UpdateResultStatus.NOT_UPDATED_AT_ALL));
+
+      Assert.assertThrows(IllegalStateException.class, () -> merger.mergeFields(createRecord(), field -> {
+        throw new IllegalStateException("Failed to merge field: " + field.name());
+      }));
+    }
+  }
+}
@@ -8,8 +8,10 @@ import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 
+import com.linkedin.davinci.store.DelegatingStorageEngine;
 import com.linkedin.davinci.store.StorageEngine;
 import com.linkedin.davinci.store.StorageEngineStats;
+import com.linkedin.davinci.store.cache.RowCache;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
@@ -28,6 +30,7 @@ import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import io.tehuti.Metric;
 import io.tehuti.metrics.MetricsRepository;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -56,6 +59,41 @@ public class AggVersionedStorageEngineStatsTest {
       assertNotNull(metricsRepository.getMetric(".testStore_total--disk_usage_in_bytes.Gauge"));
       assertNotNull(metricsRepository.getMetric(".testStore_total--rmd_disk_usage_in_bytes.Gauge"));
       assertNotNull(metricsRepository.getMetric(".testStore_total--rocksdb_open_failure_count.Gauge"));
+      assertNotNull(metricsRepository.getMetric(".testStore_total--row_cache_hit_count.Gauge"));
+      assertNotNull(metricsRepository.getMetric(".testStore_total--row_cache_miss_count.Gauge"));
+      assertNotNull(metricsRepository.getMetric(".testStore_total--row_cache_eviction_count.Gauge"));
+      assertNotNull(metricsRepository.getMetric(".testStore_total--row_cache_entry_count.Gauge"));
+    } finally {
+      metricsRepository.close();
+    }
+  }
+
+  @Test
+  public void testRowCacheStats() {
+    String storeName = "testStore";
+    MetricsRepository metricsRepository = MetricsRepositoryUtils.createSingleThreadedMetricsRepository();
+    try {
+      ReadOnlyStoreRepository metadataRepository = mock(ReadOnlyStoreRepository.class);
+      Store mockStore = createMockStoreWithVersions(storeName, 1, 2);
+      doReturn(mockStore).when(metadataRepository).getStoreOrThrow(anyString());
+      AggVersionedStorageEngineStats stats =
+          new AggVersionedStorageEngineStats(metricsRepository, metadataRepository, false, "test-cluster");
+      stats.addStore(mockStore);
+
+      DelegatingStorageEngine storageEngine = new DelegatingStorageEngine(mock(StorageEngine.class));
+      AggVersionedStorageEngineStats.StorageEngineStatsWrapper wrapper = stats.getStats(storeName, 1);
+      wrapper.setStorageEngine(storageEngine);
+      // The row cache is only enabled lazily by the read path
+      assertEquals(wrapper.getRowCacheEntryCount(), 0);
+
+      RowCache rowCache = storageEngine.enableRowCache(1024 * 1024);
+      ByteBuffer key = ByteBuffer.wrap("key".getBytes());
+      rowCache.get(key, k -> "value".getBytes());
+      rowCache.get(key, k -> "value".getBytes());
+      assertEquals(wrapper.getRowCacheHitCount(), 1);
+      assertEquals(wrapper.getRowCacheMissCount(), 1);
+      assertEquals(wrapper.getRowCacheEntryCount(), 1);
+      assertEquals(wrapper.getRowCacheEvictionCount(), 0);
     } finally {
       metricsRepository.close();
     }
@@ -54,6 +54,14 @@ public class StoreBufferServiceOtelMetricEntityTest {
             MetricUnit.BYTES,
             "Minimum memory used by any single drainer writer",
             setOf(VENICE_CLUSTER_NAME, VENICE_DRAINER_TYPE)));
+    map.put(
+        StoreBufferServiceOtelMetricEntity.MEMORY_USED_PER_WRITER_IMBALANCE,
+        new MetricEntityExpectation(
+            "drainer.writer.memory.imbalance",
+            MetricType.ASYNC_GAUGE,
+            MetricUnit.BYTES,
+            "Difference between the maximum and minimum memory used by any single drainer writer",
+            setOf(VENICE_CLUSTER_NAME, VENICE_DRAINER_TYPE)));
     map.put(
         StoreBufferServiceOtelMetricEntity.PROCESSING_TIME,
         new MetricEntityExpectation(
@@ -70,6 +78,14 @@ public class StoreBufferServiceOtelMetricEntityTest {
             MetricUnit.NUMBER,
             "Count of errors encountered while processing records in the drainer",
             setOf(VENICE_CLUSTER_NAME, VENICE_DRAINER_TYPE, VENICE_STORE_NAME)));
+    map.put(
+        StoreBufferServiceOtelMetricEntity.PARTITION_CLAIM_COUNT,
+        new MetricEntityExpectation(
+            "drainer.partition.claim_count",
+            MetricType.COUNTER,
+            MetricUnit.NUMBER,
+            "Count of buffered partitions claimed by a drainer writer from another drainer writer",
+            setOf(VENICE_CLUSTER_NAME, VENICE_DRAINER_TYPE)));
     return map;
   }
 }
@@ -72,7 +72,8 @@ public class StoreBufferServiceStatsOtelTest {
         totalUsage::get,
         totalRemaining::get,
         maxPerWriter::get,
-        minPerWriter::get);
+        minPerWriter::get,
+        () -> maxPerWriter.get() - minPerWriter.get());
 
     Attributes expectedAttrs = Attributes.builder()
         .put(VENICE_CLUSTER_NAME.getDimensionNameInDefaultFormat(), TEST_CLUSTER_NAME)
@@ -83,6 +84,7 @@ public class StoreBufferServiceStatsOtelTest {
     validateGauge("drainer.memory.remaining", 9000, expectedAttrs);
     validateGauge("drainer.writer.memory.max_used", 500, expectedAttrs);
     validateGauge("drainer.writer.memory.min_used", 100, expectedAttrs);
+    validateGauge("drainer.writer.memory.imbalance", 400, expectedAttrs);
 
     // Test live value updates
     totalUsage.set(2000L);
@@ -101,7 +103,8 @@ public class StoreBufferServiceStatsOtelTest {
         () -> 500L,
         () -> 9500L,
         () -> 250L,
-        () -> 50L);
+        () -> 50L,
+        () -> 200L);
 
     Attributes expectedAttrs = Attributes.builder()
         .put(VENICE_CLUSTER_NAME.getDimensionNameInDefaultFormat(), TEST_CLUSTER_NAME)
@@ -158,6 +161,26 @@ public class StoreBufferServiceStatsOtelTest {
         TEST_METRIC_PREFIX);
   }
 
+  @Test
+  public void testPartitionClaimCounter() {
+    StoreBufferServiceStats stats = createSortedStats();
+
+    stats.recordPartitionClaim();
+    stats.recordPartitionClaim();
+
+    Attributes expectedAttrs = Attributes.builder()
+        .put(VENICE_CLUSTER_NAME.getDimensionNameInDefaultFormat(), TEST_CLUSTER_NAME)
+        .put(VENICE_DRAINER_TYPE.getDimensionNameInDefaultFormat(), "sorted")
+        .build();
+
+    OpenTelemetryDataTestUtils.validateObservableCounterValue(
+        inMemoryMetricReader,
+        2,
+        expectedAttrs,
+        "drainer.partition.claim_count",
+        TEST_METRIC_PREFIX);
+  }
+
   @Test
   public void testMultiStoreIsolation() {
     StoreBufferServiceStats stats = createSortedStats();
@@ -364,11 +387,13 @@ public class StoreBufferServiceStatsOtelTest {
         () -> 100L,
         () -> 900L,
         () -> 50L,
-        () -> 10L);
+        () -> 10L,
+        () -> 40L);
     stats.recordInternalProcessingLatency(10, "test-store");
     stats.recordInternalProcessingError("test-store");
     stats.recordInternalProcessingLatency(20, OpenTelemetryMetricsSetup.UNKNOWN_STORE_NAME);
     stats.recordInternalProcessingError(OpenTelemetryMetricsSetup.UNKNOWN_STORE_NAME);
+    stats.recordPartitionClaim();
   }
 
   private StoreBufferServiceStats createSortedStats() {
@@ -380,7 +405,8 @@ public class StoreBufferServiceStatsOtelTest {
         () -> 100L,
         () -> 900L,
         () -> 50L,
-        () -> 10L);
+        () -> 10L,
+        () -> 40L);
   }
 
   private Attributes buildStoreAttrs(String storeName) {
@@ -19,8 +19,12 @@ public class StoreBufferServiceTehutiMetricNameTest {
     map.put(StoreBufferServiceStats.TehutiMetricName.TOTAL_REMAINING_MEMORY, "total_remaining_memory");
     map.put(StoreBufferServiceStats.TehutiMetricName.MAX_MEMORY_USAGE_PER_WRITER, "max_memory_usage_per_writer");
     map.put(StoreBufferServiceStats.TehutiMetricName.MIN_MEMORY_USAGE_PER_WRITER, "min_memory_usage_per_writer");
+    map.put(
+        StoreBufferServiceStats.TehutiMetricName.MEMORY_USAGE_IMBALANCE_PER_WRITER,
+        "memory_usage_imbalance_per_writer");
     map.put(StoreBufferServiceStats.TehutiMetricName.INTERNAL_PROCESSING_LATENCY, "internal_processing_latency");
     map.put(StoreBufferServiceStats.TehutiMetricName.INTERNAL_PROCESSING_ERROR, "internal_processing_error");
+    map.put(StoreBufferServiceStats.TehutiMetricName.PARTITION_CLAIM, "partition_claim");
     return map;
   }
 }
@@ -1,19 +1,28 @@
 package com.linkedin.davinci.storage.chunking;
 
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.github.luben.zstd.Zstd;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.listener.response.NoOpReadResponseStats;
 import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StorageEngine;
 import com.linkedin.davinci.store.record.ByteBufferValueRecord;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.helix.HelixReadOnlySchemaRepository;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
 import com.linkedin.venice.serialization.RawBytesStoreDeserializerCache;
@@ -22,9 +31,12 @@ import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
+import io.netty.buffer.PooledByteBufAllocator;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
@@ -295,4 +307,132 @@ public class ChunkingTest {
       return null;
     }, true);
   }
+
+  @Test
+  public void testBatchGetChunkingAdapterMultiGet() {
+    int partition = 9;
+    StorageEngine storageEngine = mock(StorageEngine.class);
+    doReturn("test_store_v1").when(storageEngine).getStoreVersionName();
+    Map<ByteBuffer, byte[]> storage = new HashMap<>();
+
+    byte[] smallKey = "small".getBytes();
+    byte[] smallValue = "small_value".getBytes();
+    storage.put(
+        ByteBuffer.wrap(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(smallKey)),
+        ValueRecord.create(SCHEMA_ID, smallValue).serialize());
+
+    byte[] largeKey = "large".getBytes();
+    byte[] firstChunk = "first_chunk_".getBytes();
+    byte[] secondChunk = "second_chunk".getBytes();
+    ByteBuffer firstChunkKey = ByteBuffer.wrap("chunk_key_1".getBytes());
+    ByteBuffer secondChunkKey = ByteBuffer.wrap("chunk_key_2".getBytes());
+    int chunkSchemaId = AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion();
+    storage.put(firstChunkKey, ValueRecord.create(chunkSchemaId, firstChunk).serialize());
+    storage.put(secondChunkKey, ValueRecord.create(chunkSchemaId, secondChunk).serialize());
+
+    ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
+    chunkedValueManifest.keysWithChunkIdSuffix = new ArrayList<>(2);
+    chunkedValueManifest.keysWithChunkIdSuffix.add(firstChunkKey);
+    chunkedValueManifest.keysWithChunkIdSuffix.add(secondChunkKey);
+    chunkedValueManifest.schemaId = SCHEMA_ID;
+    chunkedValueManifest.size = firstChunk.length + secondChunk.length;
+    byte[] serializedCVM = SerializerDeserializerFactory.getAvroGenericSerializer(ChunkedValueManifest.SCHEMA$)
+        .serialize(chunkedValueManifest);
+    storage.put(
+        ByteBuffer.wrap(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(largeKey)),
+        ValueRecord.create(AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion(), serializedCVM)
+            .serialize());
+
+    doAnswer(invocation -> {
+      List<byte[]> keys = invocation.getArgument(1);
+      List<byte[]> values = new ArrayList<>(keys.size());
+      for (byte[] key: keys) {
+        values.add(storage.get(ByteBuffer.wrap(key)));
+      }
+      return values;
+    }).when(storageEngine).multiGet(eq(partition), anyList());
+
+    List<ByteBuffer> keys = new ArrayList<>();
+    keys.add(ByteBuffer.wrap(largeKey));
+    keys.add(ByteBuffer.wrap("missing".getBytes()));
+    keys.add(ByteBuffer.wrap(smallKey));
+    List<MultiGetResponseRecordV1> records =
+        BatchGetChunkingAdapter.multiGet(storageEngine, partition, keys, true, NoOpReadResponseStats.SINGLETON);
+
+    Assert.assertEquals(records.size(), 3);
+    Assert.assertEquals(records.get(0).schemaId, SCHEMA_ID);
+    Assert.assertEquals(
+        ByteUtils.extractByteArray(records.get(0).value),
+        ("first_chunk_" + "second_chunk").getBytes());
+    Assert.assertNull(records.get(1));
+    Assert.assertEquals(records.get(2).schemaId, SCHEMA_ID);
+    Assert.assertEquals(ByteUtils.extractByteArray(records.get(2).value), smallValue);
+    // One lookup for the top-level keys, and one for the chunks of the large value
+    verify(storageEngine, times(2)).multiGet(eq(partition), anyList());
+    verify(storageEngine, never()).get(anyInt(), any(ByteBuffer.class));
+  }
+
+  @Test
+  public void testSingleGetChunkingAdapterGetIntoPooledBuffer() {
+    int partition = 3;
+    StorageEngine storageEngine = mock(StorageEngine.class);
+    byte[] smallKey = "small".getBytes();
+    byte[] largeKey = "large".getBytes();
+    byte[] smallValue = "small_value".getBytes();
+    // Bigger than the initial buffer, to exercise the re-allocation
+    byte[] largeValue = new byte[SingleGetChunkingAdapter.INITIAL_POOLED_VALUE_BUFFER_SIZE * 2];
+    ThreadLocalRandom.current().nextBytes(largeValue);
+    Map<ByteBuffer, byte[]> storage = new HashMap<>();
+    storage.put(ByteBuffer.wrap(smallKey), ValueRecord.create(SCHEMA_ID, smallValue).serialize());
+    storage.put(ByteBuffer.wrap(largeKey), ValueRecord.create(SCHEMA_ID, largeValue).serialize());
+
+    doAnswer(invocation -> {
+      ByteBuffer directKey = invocation.getArgument(1);
+      ByteBuffer directValue = invocation.getArgument(2);
+      Assert.assertTrue(directKey.isDirect());
+      Assert.assertTrue(directValue.isDirect());
+      byte[] value = storage.get(ByteBuffer.wrap(ByteUtils.extractByteArray(directKey)));
+      if (value == null) {
+        return AbstractStoragePartition.VALUE_NOT_FOUND;
+      }
+      int length = Math.min(value.length, directValue.remaining());
+      directValue.duplicate().put(value, 0, length);
+      return value.length;
+    }).when(storageEngine).getIntoDirectBuffer(eq(partition), any(), any());
+
+    ValueRecord smallRecord = SingleGetChunkingAdapter.getIntoPooledBuffer(
+        storageEngine,
+        partition,
+        smallKey,
+        false,
+        PooledByteBufAllocator.DEFAULT,
+        NoOpReadResponseStats.SINGLETON);
+    Assert.assertEquals(smallRecord.getSchemaId(), SCHEMA_ID);
+    Assert.assertTrue(smallRecord.getData().isDirect());
+    Assert.assertEquals(smallRecord.getDataInBytes(), smallValue);
+
+    ValueRecord largeRecord = SingleGetChunkingAdapter.getIntoPooledBuffer(
+        storageEngine,
+        partition,
+        largeKey,
+        false,
+        PooledByteBufAllocator.DEFAULT,
+        NoOpReadResponseStats.SINGLETON);
+    Assert.assertEquals(largeRecord.getSchemaId(), SCHEMA_ID);
+    Assert.assertEquals(largeRecord.getDataInBytes(), largeValue);
+    verify(storageEngine, times(3)).getIntoDirectBuffer(eq(partition), any(), any());
+
+    Assert.assertNull(
+        SingleGetChunkingAdapter.getIntoPooledBuffer(
+            storageEngine,
+            partition,
+            "missing".getBytes(),
+            false,
+            PooledByteBufAllocator.DEFAULT,
+            NoOpReadResponseStats.SINGLETON));
+
+    // The caller owns the returned buffers
+    Assert.assertTrue(smallRecord.getData().release());
+    Assert.assertTrue(largeRecord.getData().release());
+  }
 }
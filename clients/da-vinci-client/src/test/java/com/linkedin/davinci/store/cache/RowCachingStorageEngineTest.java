@@ -0,0 +1,150 @@
+package com.linkedin.davinci.store.cache;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import com.linkedin.davinci.store.DelegatingStorageEngine;
+import com.linkedin.davinci.store.StorageEngine;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.testng.annotations.Test;
+
+
+public class RowCachingStorageEngineTest {
+  private static final int PARTITION = 0;
+
+  @Test
+  public void testGetIsCachedAndInvalidatedByWrites() {
+    StorageEngine storageEngine = mock(StorageEngine.class);
+    byte[] key = "key".getBytes();
+    byte[] value = "value".getBytes();
+    when(storageEngine.get(eq(PARTITION), any(byte[].class))).thenReturn(value);
+    when(storageEngine.get(eq(PARTITION), any(ByteBuffer.class))).thenReturn(value);
+
+    DelegatingStorageEngine delegatingStorageEngine = new DelegatingStorageEngine(storageEngine);
+    RowCache rowCache = delegatingStorageEngine.enableRowCache(1024 * 1024);
+    assertSame(delegatingStorageEngine.enableRowCache(1024 * 1024), rowCache);
+    RowCachingStorageEngine cachingStorageEngine = new RowCachingStorageEngine(delegatingStorageEngine, rowCache);
+
+    assertEquals(cachingStorageEngine.get(PARTITION, key), value);
+    assertEquals(cachingStorageEngine.get(PARTITION, ByteBuffer.wrap(key)), value);
+    assertEquals(cachingStorageEngine.get(PARTITION, key, ByteBuffer.allocate(16)), ByteBuffer.wrap(value));
+    verify(storageEngine, times(1)).get(eq(PARTITION), any(byte[].class));
+    verify(storageEngine, never()).get(eq(PARTITION), any(ByteBuffer.class));
+    assertEquals(rowCache.hitCount(), 2);
+
+    // Writes must invalidate the cached row
+    delegatingStorageEngine.put(PARTITION, key, "value2".getBytes());
+    assertEquals(rowCache.size(), 0);
+    cachingStorageEngine.get(PARTITION, key);
+    verify(storageEngine, times(2)).get(eq(PARTITION), any(byte[].class));
+
+    delegatingStorageEngine.delete(PARTITION, key);
+    cachingStorageEngine.get(PARTITION, key);
+    verify(storageEngine, times(3)).get(eq(PARTITION), any(byte[].class));
+
+    // Missing keys are not cached
+    byte[] missingKey = "missing".getBytes();
+    when(storageEngine.get(PARTITION, missingKey)).thenReturn(null);
+    assertNull(cachingStorageEngine.get(PARTITION, missingKey));
+    assertNull(cachingStorageEngine.get(PARTITION, missingKey));
+    verify(storageEngine, times(2)).get(PARTITION, missingKey);
+
+    // Swapping the underlying storage engine drops all the cached rows
+    delegatingStorageEngine.setDelegate(mock(StorageEngine.class));
+    assertEquals(rowCache.size(), 0);
+  }
+
+  @Test
+  public void testStaleValueIsNotCached() {
+    StorageEngine storageEngine = mock(StorageEngine.class);
+    DelegatingStorageEngine delegatingStorageEngine = new DelegatingStorageEngine(storageEngine);
+    RowCache rowCache = delegatingStorageEngine.enableRowCache(1024 * 1024);
+    RowCachingStorageEngine cachingStorageEngine = new RowCachingStorageEngine(delegatingStorageEngine, rowCache);
+    byte[] key = "key".getBytes();
+    // Simulate a write landing between the lookup and the population of the cache
+    doAnswer(invocation -> {
+      delegatingStorageEngine.put(PARTITION, key, "newValue".getBytes());
+      return "oldValue".getBytes();
+    }).when(storageEngine).get(PARTITION, key);
+
+    assertEquals(cachingStorageEngine.get(PARTITION, key), "oldValue".getBytes());
+    assertNull(rowCache.getIfPresent(ByteBuffer.wrap(key)));
+  }
+
+  @Test
+  public void testWriteBatchOpenWhenRowCacheIsEnabled() {
+    StorageEngine storageEngine = mock(StorageEngine.class);
+    byte[] key = "key".getBytes();
+    when(storageEngine.get(PARTITION, key)).thenReturn("oldValue".getBytes());
+    DelegatingStorageEngine delegatingStorageEngine = new DelegatingStorageEngine(storageEngine);
+    delegatingStorageEngine.beginWriteBatch(PARTITION);
+    verify(storageEngine).beginWriteBatch(PARTITION);
+    delegatingStorageEngine.put(PARTITION, key, "newValue".getBytes());
+
+    // The cache is enabled by the read path while the write is still buffered, so the old value gets cached
+    RowCache rowCache = delegatingStorageEngine.enableRowCache(1024 * 1024);
+    RowCachingStorageEngine cachingStorageEngine = new RowCachingStorageEngine(delegatingStorageEngine, rowCache);
+    assertEquals(cachingStorageEngine.get(PARTITION, key), "oldValue".getBytes());
+    assertEquals(rowCache.size(), 1);
+
+    // Committing the batch drops it
+    when(storageEngine.get(PARTITION, key)).thenReturn("newValue".getBytes());
+    delegatingStorageEngine.commitWriteBatch(PARTITION);
+    assertEquals(rowCache.size(), 0);
+    assertEquals(cachingStorageEngine.get(PARTITION, key), "newValue".getBytes());
+
+    // Once the cache is enabled, committing a batch only drops the keys written within it
+    byte[] otherKey = "otherKey".getBytes();
+    when(storageEngine.get(PARTITION, otherKey)).thenReturn("otherValue".getBytes());
+    cachingStorageEngine.get(PARTITION, otherKey);
+    delegatingStorageEngine.beginWriteBatch(PARTITION);
+    verify(storageEngine, times(2)).beginWriteBatch(PARTITION);
+    delegatingStorageEngine.put(PARTITION, key, "newerValue".getBytes());
+    assertEquals(cachingStorageEngine.get(PARTITION, key), "newValue".getBytes());
+    assertEquals(rowCache.size(), 2);
+    delegatingStorageEngine.commitWriteBatch(PARTITION);
+    assertNull(rowCache.getIfPresent(ByteBuffer.wrap(key)));
+    assertEquals(rowCache.getIfPresent(ByteBuffer.wrap(otherKey)), "otherValue".getBytes());
+  }
+
+  @Test
+  public void testMultiGet() {
+    StorageEngine storageEngine = mock(StorageEngine.class);
+    byte[] cachedKey = "cachedKey".getBytes();
+    byte[] cachedValue = "cachedValue".getBytes();
+    byte[] key = "key".getBytes();
+    byte[] value = "value".getBytes();
+    byte[] missingKey = "missingKey".getBytes();
+    when(storageEngine.get(PARTITION, cachedKey)).thenReturn(cachedValue);
+    when(storageEngine.multiGet(anyInt(), any())).thenReturn(Arrays.asList(value, null));
+
+    DelegatingStorageEngine delegatingStorageEngine = new DelegatingStorageEngine(storageEngine);
+    RowCache rowCache = delegatingStorageEngine.enableRowCache(1024 * 1024);
+    RowCachingStorageEngine cachingStorageEngine = new RowCachingStorageEngine(delegatingStorageEngine, rowCache);
+    cachingStorageEngine.get(PARTITION, cachedKey);
+
+    List<byte[]> values = cachingStorageEngine.multiGet(PARTITION, Arrays.asList(key, cachedKey, missingKey));
+    assertEquals(values.size(), 3);
+    assertEquals(values.get(0), value);
+    assertEquals(values.get(1), cachedValue);
+    assertNull(values.get(2));
+    // Only the keys which were not cached are looked up
+    List<byte[]> expectedLookedUpKeys = new ArrayList<>(Arrays.asList(key, missingKey));
+    verify(storageEngine).multiGet(eq(PARTITION), eq(expectedLookedUpKeys));
+    assertEquals(rowCache.getIfPresent(ByteBuffer.wrap(key)), value);
+    assertNull(rowCache.getIfPresent(ByteBuffer.wrap(missingKey)));
+  }
+}
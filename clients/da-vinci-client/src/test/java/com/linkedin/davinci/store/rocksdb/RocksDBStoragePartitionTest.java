@@ -1442,6 +1442,41 @@ public class RocksDBStoragePartitionTest {
     }
   }
 
+  @Test
+  public void testWriteBatch() {
+    RocksDBStoragePartition partition = createPartition(false);
+    String storeDir = lastCreatedStoreDir;
+    try {
+      byte[] key1 = "key1".getBytes();
+      byte[] key2 = "key2".getBytes();
+      byte[] value = "value".getBytes();
+      partition.put(key2, value);
+
+      partition.beginWriteBatch();
+      partition.put(key1, ByteBuffer.wrap(value));
+      partition.delete(key2);
+      // The writes are not visible until the batch is committed
+      Assert.assertNull(partition.get(key1));
+      assertEquals(partition.get(key2), value);
+      partition.commitWriteBatch();
+      assertEquals(partition.get(key1), value);
+      Assert.assertNull(partition.get(key2));
+
+      // A sync applies the pending writes, since the offset checkpointed after it covers them
+      partition.beginWriteBatch();
+      partition.put(key2, value);
+      partition.sync();
+      assertEquals(partition.get(key2), value);
+      partition.commitWriteBatch();
+
+      // Committing without a pending batch is a no-op
+      partition.commitWriteBatch();
+    } finally {
+      partition.drop();
+      removeDir(storeDir);
+    }
+  }
+
   /** Tracks the storeDir from the most recent {@link #createPartition} call for cleanup. */
   private String lastCreatedStoreDir;
 
@@ -0,0 +1,177 @@
+package com.linkedin.venice.fastclient;
+
+import com.linkedin.venice.annotation.VisibleForTesting;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Derives the long tail retry thresholds of a store from the recent latencies of its original requests. A streaming
+ * {@link LatencySketch} is kept for every request type and key count bucket, and the threshold of a request is the
+ * target percentile of the latencies recorded by its sketch, so that only the slowest requests get hedged while the
+ * latency profile of the store drifts.
+ *
+ * Until a sketch has recorded the configured minimum number of latencies, the static threshold passed by the caller
+ * is returned instead. The retry amplification is still bounded by the long tail
+ * {@link com.linkedin.venice.meta.RetryManager} budget, which is enforced by the caller regardless of the threshold.
+ */
+public class AdaptiveLongTailRetryThresholds {
+  /**
+   * How often the percentile of a sketch is recomputed, the thresholds returned in between are cached.
+   */
+  static final long THRESHOLD_REFRESH_INTERVAL_IN_MS = 1000;
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  // Latencies are capped to Integer.MAX_VALUE microseconds, whose highest bit is bit 30
+  private static final int BUCKET_COUNT = (30 - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+  private final double percentile;
+  private final int minSampleCount;
+  private final long windowInMs;
+  private final Time time;
+  private final Map<RequestType, Map<Integer, LatencySketch>> sketches = new EnumMap<>(RequestType.class);
+
+  public AdaptiveLongTailRetryThresholds(double percentile, int minSampleCount, long windowInMs, Time time) {
+    this.percentile = percentile;
+    this.minSampleCount = minSampleCount;
+    this.windowInMs = windowInMs;
+    this.time = time;
+    // Populated upfront, so that the enum map is only read concurrently
+    for (RequestType requestType: RequestType.values()) {
+      sketches.put(requestType, new VeniceConcurrentHashMap<>());
+    }
+  }
+
+  /**
+   * @param keyCountBucket the key count range of the request, 1 for single gets
+   * @param staticThresholdInMicroSeconds the threshold to return until enough latencies have been recorded
+   */
+  public int getThresholdInMicroSeconds(
+      RequestType requestType,
+      int keyCountBucket,
+      int staticThresholdInMicroSeconds) {
+    LatencySketch sketch = sketches.get(requestType).get(keyCountBucket);
+    if (sketch == null) {
+      return staticThresholdInMicroSeconds;
+    }
+    int threshold = sketch.getPercentileInMicroSeconds(time.getMilliseconds());
+    return threshold > 0 ? threshold : staticThresholdInMicroSeconds;
+  }
+
+  public void recordLatency(RequestType requestType, int keyCountBucket, long latencyInMicroSeconds) {
+    sketches.get(requestType)
+        .computeIfAbsent(keyCountBucket, k -> new LatencySketch(time.getMilliseconds()))
+        .record(latencyInMicroSeconds, time.getMilliseconds());
+  }
+
+  /**
+   * A lock-free log-linear histogram of latencies in microseconds. Every power of two is split into
+   * {@link #SUB_BUCKET_COUNT} buckets, which bounds the relative error of the percentiles to 12.5% with a fixed
+   * footprint of {@link #BUCKET_COUNT} counters per window.
+   *
+   * The latencies are recorded into the current window, and the percentiles are computed over the current and the
+   * previous windows, so that they reflect between one and two windows worth of recent latencies.
+   */
+  class LatencySketch {
+    private volatile AtomicLongArray currentWindow = new AtomicLongArray(BUCKET_COUNT);
+    private volatile AtomicLongArray previousWindow = new AtomicLongArray(BUCKET_COUNT);
+    private volatile long currentWindowStartMs;
+    private volatile long nextThresholdComputationMs = Long.MIN_VALUE;
+    private volatile int cachedThresholdInMicroSeconds = -1;
+
+    LatencySketch(long nowMs) {
+      this.currentWindowStartMs = nowMs;
+    }
+
+    void record(long latencyInMicroSeconds, long nowMs) {
+      maybeRotate(nowMs);
+      currentWindow.incrementAndGet(getBucketIndex(latencyInMicroSeconds));
+    }
+
+    /**
+     * @return the target percentile of the recent latencies, or -1 if not enough latencies have been recorded
+     */
+    int getPercentileInMicroSeconds(long nowMs) {
+      maybeRotate(nowMs);
+      if (nowMs >= nextThresholdComputationMs) {
+        cachedThresholdInMicroSeconds = computePercentile();
+        nextThresholdComputationMs = nowMs + THRESHOLD_REFRESH_INTERVAL_IN_MS;
+      }
+      return cachedThresholdInMicroSeconds;
+    }
+
+    private int computePercentile() {
+      AtomicLongArray current = currentWindow;
+      AtomicLongArray previous = previousWindow;
+      long[] counts = new long[BUCKET_COUNT];
+      long total = 0;
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        counts[i] = current.get(i) + previous.get(i);
+        total += counts[i];
+      }
+      if (total == 0 || total < minSampleCount) {
+        return -1;
+      }
+      long rank = (long) Math.ceil(percentile * total);
+      long cumulativeCount = 0;
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        cumulativeCount += counts[i];
+        if (cumulativeCount >= rank) {
+          return getBucketUpperBound(i);
+        }
+      }
+      return getBucketUpperBound(BUCKET_COUNT - 1);
+    }
+
+    private void maybeRotate(long nowMs) {
+      if (nowMs - currentWindowStartMs < windowInMs) {
+        return;
+      }
+      synchronized (this) {
+        long elapsedMs = nowMs - currentWindowStartMs;
+        if (elapsedMs < windowInMs) {
+          return;
+        }
+        // After an idle period longer than two windows, the latencies of the current window are stale too
+        previousWindow = elapsedMs < 2 * windowInMs ? currentWindow : new AtomicLongArray(BUCKET_COUNT);
+        currentWindow = new AtomicLongArray(BUCKET_COUNT);
+        currentWindowStartMs = nowMs;
+        // Recompute the threshold with the rotated windows on the next lookup
+        nextThresholdComputationMs = Long.MIN_VALUE;
+      }
+    }
+  }
+
+  @VisibleForTesting
+  static int getBucketIndex(long latencyInMicroSeconds) {
+    long value = Math.min(Math.max(latencyInMicroSeconds, 0), Integer.MAX_VALUE);
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int highestBit = 63 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (highestBit - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (highestBit - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /**
+   * @return the largest latency falling into the given bucket, so that the thresholds err on the side of fewer retries
+   */
+  @VisibleForTesting
+  static int getBucketUpperBound(int bucketIndex) {
+    return (int) Math.min(getBucketLowerBound(bucketIndex + 1) - 1, Integer.MAX_VALUE);
+  }
+
+  private static long getBucketLowerBound(int bucketIndex) {
+    if (bucketIndex < SUB_BUCKET_COUNT) {
+      return bucketIndex;
+    }
+    int highestBit = bucketIndex / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+    long subBucket = bucketIndex % SUB_BUCKET_COUNT;
+    return (SUB_BUCKET_COUNT + subBucket) << (highestBit - SUB_BUCKET_BITS);
+  }
+}
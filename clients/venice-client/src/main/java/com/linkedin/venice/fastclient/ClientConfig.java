@@ -75,6 +75,16 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
   private final int longTailRetryThresholdForBatchGetInMicroSeconds;
   private final String longTailRangeBasedRetryThresholdForBatchGetInMilliSeconds;
   private final String longTailRangeBasedRetryThresholdForComputeInMilliSeconds;
+  /**
+   * When enabled, the long tail retry thresholds are derived from the {@link #adaptiveLongTailRetryPercentile} of the
+   * recent latencies of the original requests, tracked per request type and key count range, instead of the static
+   * thresholds above. The static thresholds are still used until enough latencies have been recorded, and the retry
+   * budget still bounds the number of retries. See {@link AdaptiveLongTailRetryThresholds}.
+   */
+  private final boolean adaptiveLongTailRetryEnabled;
+  private final double adaptiveLongTailRetryPercentile;
+  private final int adaptiveLongTailRetryMinSampleCount;
+  private final long adaptiveLongTailRetryWindowInMs;
   private final ClusterStats clusterStats;
   private final boolean isVsonStore;
   private final StoreMetadataFetchMode storeMetadataFetchMode;
@@ -235,6 +245,19 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
         builder.longTailRangeBasedRetryThresholdForBatchGetInMilliSeconds;
     this.longTailRangeBasedRetryThresholdForComputeInMilliSeconds =
         builder.longTailRangeBasedRetryThresholdForComputeInMilliSeconds;
+    this.adaptiveLongTailRetryEnabled = builder.adaptiveLongTailRetryEnabled;
+    this.adaptiveLongTailRetryPercentile = builder.adaptiveLongTailRetryPercentile;
+    if (adaptiveLongTailRetryPercentile >= 1.0 || adaptiveLongTailRetryPercentile <= 0.0) {
+      throw new VeniceClientException(
+          "Invalid adaptiveLongTailRetryPercentile value: " + adaptiveLongTailRetryPercentile
+              + ", should be in (0.0, 1.0)");
+    }
+    this.adaptiveLongTailRetryMinSampleCount = builder.adaptiveLongTailRetryMinSampleCount;
+    this.adaptiveLongTailRetryWindowInMs = builder.adaptiveLongTailRetryWindowInMs;
+    if (adaptiveLongTailRetryWindowInMs <= 0) {
+      throw new VeniceClientException(
+          "Invalid adaptiveLongTailRetryWindowInMs value: " + adaptiveLongTailRetryWindowInMs + ", should be positive");
+    }
     this.keySerializerFactory = Optional.ofNullable(builder.keySerializerFactory);
     this.valueDeserializerFactory = Optional.ofNullable(builder.valueDeserializerFactory);
   }
@@ -421,6 +444,22 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return longTailRangeBasedRetryThresholdForComputeInMilliSeconds;
   }
 
+  public boolean isAdaptiveLongTailRetryEnabled() {
+    return adaptiveLongTailRetryEnabled;
+  }
+
+  public double getAdaptiveLongTailRetryPercentile() {
+    return adaptiveLongTailRetryPercentile;
+  }
+
+  public int getAdaptiveLongTailRetryMinSampleCount() {
+    return adaptiveLongTailRetryMinSampleCount;
+  }
+
+  public long getAdaptiveLongTailRetryWindowInMs() {
+    return adaptiveLongTailRetryWindowInMs;
+  }
+
   public Optional<SerializerFactory<K>> getKeySerializerFactory() {
     return keySerializerFactory;
   }
@@ -462,6 +501,11 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     private String longTailRangeBasedRetryThresholdForComputeInMilliSeconds =
         LONG_TAIL_RANGE_BASED_RETRY_THRESHOLD_FOR_COMPUTE_IN_MILLI_SECONDS;
 
+    private boolean adaptiveLongTailRetryEnabled = false;
+    private double adaptiveLongTailRetryPercentile = 0.95d;
+    private int adaptiveLongTailRetryMinSampleCount = 100;
+    private long adaptiveLongTailRetryWindowInMs = 60000; // 1 minute
+
     private boolean isVsonStore = false;
     private StoreMetadataFetchMode storeMetadataFetchMode = StoreMetadataFetchMode.SERVER_BASED_METADATA;
     private D2Client d2Client;
@@ -712,6 +756,27 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    public ClientConfigBuilder<K, V, T> setAdaptiveLongTailRetryEnabled(boolean adaptiveLongTailRetryEnabled) {
+      this.adaptiveLongTailRetryEnabled = adaptiveLongTailRetryEnabled;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setAdaptiveLongTailRetryPercentile(double adaptiveLongTailRetryPercentile) {
+      this.adaptiveLongTailRetryPercentile = adaptiveLongTailRetryPercentile;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setAdaptiveLongTailRetryMinSampleCount(
+        int adaptiveLongTailRetryMinSampleCount) {
+      this.adaptiveLongTailRetryMinSampleCount = adaptiveLongTailRetryMinSampleCount;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setAdaptiveLongTailRetryWindowInMs(long adaptiveLongTailRetryWindowInMs) {
+      this.adaptiveLongTailRetryWindowInMs = adaptiveLongTailRetryWindowInMs;
+      return this;
+    }
+
     /**
      * Set a custom key serializer factory.
      * This allows using custom serialization formats (e.g., Protocol Buffers) instead of Avro.
@@ -779,6 +844,10 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
               longTailRangeBasedRetryThresholdForBatchGetInMilliSeconds)
           .setLongTailRangeBasedRetryThresholdForComputeInMilliSeconds(
               longTailRangeBasedRetryThresholdForComputeInMilliSeconds)
+          .setAdaptiveLongTailRetryEnabled(adaptiveLongTailRetryEnabled)
+          .setAdaptiveLongTailRetryPercentile(adaptiveLongTailRetryPercentile)
+          .setAdaptiveLongTailRetryMinSampleCount(adaptiveLongTailRetryMinSampleCount)
+          .setAdaptiveLongTailRetryWindowInMs(adaptiveLongTailRetryWindowInMs)
           .setStoreLoadControllerAcceptMultiplier(storeLoadControllerAcceptMultiplier)
           .setKeySerializerFactory(keySerializerFactory)
           .setValueDeserializerFactory(valueDeserializerFactory);
@@ -539,7 +539,11 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
         keys,
         callback,
         requestContext,
-        RequestHeadersProvider.getStreamingComputeHeaderMap(keys.size(), computeRequest.getValueSchemaID(), true),
+        RequestHeadersProvider.getStreamingComputeHeaderMap(
+            keys.size(),
+            computeRequest.getValueSchemaID(),
+            true,
+            computeRequest.getComputeRequestVersion()),
         (keysForRoutes) -> serializeComputeRequest(computeRequest, keysForRoutes),
         (MultiKeyStreamingRouteResponseHandler<K>) (keysForRoutes, response, throwable) -> {
           ComputeRecordStreamDecoder decoder = getComputeDecoderForRoute(
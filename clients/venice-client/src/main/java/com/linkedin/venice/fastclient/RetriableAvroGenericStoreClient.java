@@ -12,6 +12,7 @@ import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.utils.BatchGetConfigUtils;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.ExceptionUtils;
+import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.Collections;
 import java.util.Map;
@@ -60,6 +61,11 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
   private final RetryManager multiKeyLongTailRetryManager;
   private final TreeMap<Integer, Integer> batchGetLongTailRetryThresholdMap;
   private final TreeMap<Integer, Integer> computeLongTailRetryThresholdMap;
+  /**
+   * Only set when the adaptive long tail retry is enabled, in which case the thresholds above are only used until
+   * enough latencies have been recorded for a given request type and key count range.
+   */
+  private final AdaptiveLongTailRetryThresholds adaptiveLongTailRetryThresholds;
 
   public RetriableAvroGenericStoreClient(
       InternalAvroStoreClient<K, V> delegate,
@@ -110,6 +116,16 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     // Use range-based config
     computeLongTailRetryThresholdMap =
         BatchGetConfigUtils.parseRetryThresholdForBatchGet(longTailComputeRangeBasedRetryThresholdInMilliSeconds);
+
+    if (clientConfig.isAdaptiveLongTailRetryEnabled()) {
+      this.adaptiveLongTailRetryThresholds = new AdaptiveLongTailRetryThresholds(
+          clientConfig.getAdaptiveLongTailRetryPercentile(),
+          clientConfig.getAdaptiveLongTailRetryMinSampleCount(),
+          clientConfig.getAdaptiveLongTailRetryWindowInMs(),
+          SystemTime.INSTANCE);
+    } else {
+      this.adaptiveLongTailRetryThresholds = null;
+    }
   }
 
   @VisibleForTesting
@@ -159,6 +175,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
    */
   @Override
   protected CompletableFuture<V> get(GetRequestContext<K> requestContext, K key) throws VeniceClientException {
+    final long startTimeInNS = System.nanoTime();
     final CompletableFuture<V> originalRequestFuture = super.get(requestContext, key);
     if (singleKeyLongTailRetryManager != null) {
       singleKeyLongTailRetryManager.recordRequest();
@@ -208,11 +225,21 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     // Schedule the created task for long-tail retry
     TimeoutProcessor.TimeoutFuture timeoutFuture = timeoutProcessor.schedule(
         new RetryRunnable(requestContext, RetryType.LONG_TAIL_RETRY, retryTask),
-        longTailRetryThresholdForSingleGetInMicroSeconds,
+        getAdaptiveLongTailRetryThresholdInMicroSeconds(
+            RequestType.SINGLE_GET,
+            1,
+            longTailRetryThresholdForSingleGetInMicroSeconds),
         TimeUnit.MICROSECONDS);
 
     originalRequestFuture.whenComplete((value, throwable) -> {
       if (throwable == null) {
+        if (adaptiveLongTailRetryThresholds != null) {
+          // The original latency is recorded even if the retry won, otherwise the percentile would be skewed low
+          adaptiveLongTailRetryThresholds.recordLatency(
+              RequestType.SINGLE_GET,
+              1,
+              TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTimeInNS));
+        }
         if (!timeoutFuture.isDone()) {
           timeoutFuture.cancel();
         }
@@ -259,13 +286,18 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       BatchGetRequestContext<K, V> requestContext,
       Set<K> keys,
       StreamingCallback<K, V> callback) throws VeniceClientException {
-    int longTailRetryThresholdForBatchGetInMicroSeconds =
-        getLongTailRetryThresholdForBatchGetInMicroSeconds(keys.size());
+    int keyCountBucket = getKeyCountBucket(batchGetLongTailRetryThresholdMap, keys.size());
+    int longTailRetryThresholdForBatchGetInMicroSeconds = getAdaptiveLongTailRetryThresholdInMicroSeconds(
+        RequestType.MULTI_GET,
+        keyCountBucket,
+        getLongTailRetryThresholdForBatchGetInMicroSeconds(keys.size()));
     retryStreamingMultiKeyRequest(
         requestContext,
         keys,
         callback,
         longTailRetryThresholdForBatchGetInMicroSeconds,
+        RequestType.MULTI_GET,
+        keyCountBucket,
         requestContext::createRetryRequestContext,
         super::streamingBatchGet);
   }
@@ -278,13 +310,27 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       Schema resultSchema,
       StreamingCallback<K, ComputeGenericRecord> callback,
       long preRequestTimeInNS) throws VeniceClientException {
-    int longTailRetryThresholdForComputeInMicroSeconds = getLongTailRetryThresholdForComputeInMicroSeconds(keys.size());
+    if (computeRequestWrapper.hasCountAggregation()) {
+      /**
+       * The count aggregations are returned as the partial counts of a whole chunk of keys, carried by one of its
+       * records, so the records of a retried chunk can't be mixed with the ones of the original request.
+       */
+      super.compute(requestContext, computeRequestWrapper, keys, resultSchema, callback, preRequestTimeInNS);
+      return;
+    }
+    int keyCountBucket = getKeyCountBucket(computeLongTailRetryThresholdMap, keys.size());
+    int longTailRetryThresholdForComputeInMicroSeconds = getAdaptiveLongTailRetryThresholdInMicroSeconds(
+        RequestType.COMPUTE,
+        keyCountBucket,
+        getLongTailRetryThresholdForComputeInMicroSeconds(keys.size()));
 
     retryStreamingMultiKeyRequest(
         requestContext,
         keys,
         callback,
         longTailRetryThresholdForComputeInMicroSeconds,
+        RequestType.COMPUTE,
+        keyCountBucket,
         requestContext::createRetryRequestContext,
         (requestContextInternal, internalKeys, internalCallback) -> {
           super.compute(
@@ -308,9 +354,12 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       Set<K> keys,
       StreamingCallback<K, RESPONSE> callback,
       int longTailRetryThresholdInMicroSeconds,
+      RequestType requestType,
+      int keyCountBucket,
       RequestContextConstructor<K, V, R> requestContextConstructor,
       StreamingRequestExecutor<K, V, R, RESPONSE> streamingRequestExecutor) throws VeniceClientException {
     requestContext.retryContext = new MultiKeyRequestContext.RetryContext<K, V>();
+    final long startTimeInNS = System.nanoTime();
 
     /** Track the final completion of the request. It will be completed normally if
      1. the original requests calls onCompletion with no exception
@@ -357,6 +406,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
                   finalRequestCompletionFuture,
                   savedException,
                   pendingKeysFuture,
+                  null,
                   null));
         }
       } else {
@@ -386,7 +436,13 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
             finalRequestCompletionFuture,
             savedException,
             pendingKeysFuture,
-            scheduledRetryTask));
+            scheduledRetryTask,
+            adaptiveLongTailRetryThresholds == null
+                ? null
+                : () -> adaptiveLongTailRetryThresholds.recordLatency(
+                    requestType,
+                    keyCountBucket,
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTimeInNS))));
     if (multiKeyLongTailRetryManager != null) {
       multiKeyLongTailRetryManager.recordRequests(requestContext.numKeysInRequest);
     }
@@ -422,7 +478,8 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       CompletableFuture<Void> finalRequestCompletionFuture,
       AtomicReference<Throwable> savedException,
       VeniceConcurrentHashMap<K, CompletableFuture<RESPONSE>> pendingKeysFuture,
-      TimeoutProcessor.TimeoutFuture scheduledRetryTask) {
+      TimeoutProcessor.TimeoutFuture scheduledRetryTask,
+      Runnable successfulCompletionListener) {
     return new StreamingCallback<K, RESPONSE>() {
       @Override
       public void onRecordReceived(K key, RESPONSE value) {
@@ -445,6 +502,10 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         routes might still be pending. We just save the exception and move on.
         If there is no exception then we are surely done because this request was for all original keys.
          */
+        if (successfulCompletionListener != null && !exception.isPresent()) {
+          // The original latency is recorded even if the retry won, otherwise the percentile would be skewed low
+          successfulCompletionListener.run();
+        }
         if (!finalRequestCompletionFuture.isDone()) {
           exception.ifPresent(requestContext::setPartialResponseExceptionIfNull);
           Optional<Throwable> exceptionToSave = requestContext.getPartialResponseException();
@@ -495,6 +556,26 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     }
   }
 
+  private int getAdaptiveLongTailRetryThresholdInMicroSeconds(
+      RequestType requestType,
+      int keyCountBucket,
+      int staticThresholdInMicroSeconds) {
+    if (adaptiveLongTailRetryThresholds == null) {
+      return staticThresholdInMicroSeconds;
+    }
+    return adaptiveLongTailRetryThresholds
+        .getThresholdInMicroSeconds(requestType, keyCountBucket, staticThresholdInMicroSeconds);
+  }
+
+  /**
+   * The latencies of multi-key requests are tracked per key count range of the range-based threshold config, or per
+   * power of two when a fixed threshold is configured instead.
+   */
+  private static int getKeyCountBucket(TreeMap<Integer, Integer> retryThresholdMap, int numKeys) {
+    Integer floorKey = retryThresholdMap.floorKey(numKeys);
+    return floorKey != null ? floorKey : Integer.highestOneBit(numKeys);
+  }
+
   private int getLongTailRetryThresholdForComputeInMicroSeconds(int numKeys) {
     Map.Entry<Integer, Integer> retryThresholdEntry = computeLongTailRetryThresholdMap.floorEntry(numKeys);
     if (retryThresholdEntry == null) {
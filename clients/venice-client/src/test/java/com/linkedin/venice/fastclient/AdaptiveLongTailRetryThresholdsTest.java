@@ -0,0 +1,81 @@
+package com.linkedin.venice.fastclient;
+
+import static com.linkedin.venice.fastclient.AdaptiveLongTailRetryThresholds.THRESHOLD_REFRESH_INTERVAL_IN_MS;
+
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.utils.TestMockTime;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class AdaptiveLongTailRetryThresholdsTest {
+  private static final long WINDOW_IN_MS = 10000;
+  private static final int STATIC_THRESHOLD = 8000;
+
+  @Test
+  public void testBuckets() {
+    int previousIndex = -1;
+    for (long latency = 0; latency < 100000; latency++) {
+      int index = AdaptiveLongTailRetryThresholds.getBucketIndex(latency);
+      Assert.assertTrue(index == previousIndex || index == previousIndex + 1, "Buckets should be contiguous");
+      int upperBound = AdaptiveLongTailRetryThresholds.getBucketUpperBound(index);
+      Assert.assertTrue(upperBound >= latency);
+      // The relative error is bounded by the sub-buckets
+      Assert.assertTrue(upperBound - latency <= latency / 8, "Bucket too wide for latency: " + latency);
+      previousIndex = index;
+    }
+    int maxIndex = AdaptiveLongTailRetryThresholds.getBucketIndex(Long.MAX_VALUE);
+    Assert.assertEquals(AdaptiveLongTailRetryThresholds.getBucketIndex(Integer.MAX_VALUE), maxIndex);
+    Assert.assertEquals(AdaptiveLongTailRetryThresholds.getBucketUpperBound(maxIndex), Integer.MAX_VALUE);
+    Assert.assertEquals(AdaptiveLongTailRetryThresholds.getBucketIndex(-1), 0);
+  }
+
+  @Test
+  public void testThresholdTracksPercentile() {
+    TestMockTime time = new TestMockTime();
+    AdaptiveLongTailRetryThresholds thresholds = new AdaptiveLongTailRetryThresholds(0.9, 100, WINDOW_IN_MS, time);
+
+    // Falls back to the static threshold until enough latencies are recorded
+    Assert.assertEquals(thresholds.getThresholdInMicroSeconds(RequestType.SINGLE_GET, 1, STATIC_THRESHOLD), 8000);
+    for (int i = 1; i <= 99; i++) {
+      thresholds.recordLatency(RequestType.SINGLE_GET, 1, i * 100);
+    }
+    Assert.assertEquals(thresholds.getThresholdInMicroSeconds(RequestType.SINGLE_GET, 1, STATIC_THRESHOLD), 8000);
+
+    thresholds.recordLatency(RequestType.SINGLE_GET, 1, 10000);
+    time.addMilliseconds(THRESHOLD_REFRESH_INTERVAL_IN_MS);
+    int threshold = thresholds.getThresholdInMicroSeconds(RequestType.SINGLE_GET, 1, STATIC_THRESHOLD);
+    Assert.assertTrue(threshold >= 9000 && threshold <= 9000 * 1.125, "Unexpected p90: " + threshold);
+
+    // Other request types and key count buckets are tracked separately
+    Assert.assertEquals(thresholds.getThresholdInMicroSeconds(RequestType.SINGLE_GET, 2, STATIC_THRESHOLD), 8000);
+    Assert.assertEquals(thresholds.getThresholdInMicroSeconds(RequestType.MULTI_GET, 1, STATIC_THRESHOLD), 8000);
+  }
+
+  @Test
+  public void testThresholdFollowsLatencyDrift() {
+    TestMockTime time = new TestMockTime();
+    AdaptiveLongTailRetryThresholds thresholds = new AdaptiveLongTailRetryThresholds(0.5, 10, WINDOW_IN_MS, time);
+
+    for (int i = 0; i < 100; i++) {
+      thresholds.recordLatency(RequestType.COMPUTE, 13, 1000);
+    }
+    int threshold = thresholds.getThresholdInMicroSeconds(RequestType.COMPUTE, 13, STATIC_THRESHOLD);
+    Assert.assertTrue(threshold >= 1000 && threshold < 1125, "Unexpected p50: " + threshold);
+
+    // The cached threshold is kept until the refresh interval elapses
+    for (int i = 0; i < 300; i++) {
+      thresholds.recordLatency(RequestType.COMPUTE, 13, 4000);
+    }
+    Assert.assertEquals(thresholds.getThresholdInMicroSeconds(RequestType.COMPUTE, 13, STATIC_THRESHOLD), threshold);
+    time.addMilliseconds(THRESHOLD_REFRESH_INTERVAL_IN_MS);
+    threshold = thresholds.getThresholdInMicroSeconds(RequestType.COMPUTE, 13, STATIC_THRESHOLD);
+    Assert.assertTrue(threshold >= 4000 && threshold < 4500, "Unexpected p50: " + threshold);
+
+    // The latencies of the previous window still count after a rotation, but not after an idle period of two windows
+    time.addMilliseconds(WINDOW_IN_MS);
+    Assert.assertEquals(thresholds.getThresholdInMicroSeconds(RequestType.COMPUTE, 13, STATIC_THRESHOLD), threshold);
+    time.addMilliseconds(2 * WINDOW_IN_MS);
+    Assert.assertEquals(thresholds.getThresholdInMicroSeconds(RequestType.COMPUTE, 13, STATIC_THRESHOLD), 8000);
+  }
+}
@@ -80,6 +80,14 @@ public class ClientConfigTest {
     clientConfigBuilder.build();
   }
 
+  @Test(expectedExceptions = VeniceClientException.class, expectedExceptionsMessageRegExp = "Invalid adaptiveLongTailRetryPercentile value.*")
+  public void testClientWithInvalidAdaptiveLongTailRetryPercentile() {
+    ClientConfig.ClientConfigBuilder clientConfigBuilder = getClientConfigWithMinimumRequiredInputs();
+    clientConfigBuilder.setAdaptiveLongTailRetryEnabled(true);
+    clientConfigBuilder.setAdaptiveLongTailRetryPercentile(1.0);
+    clientConfigBuilder.build();
+  }
+
   @Test
   public void testLongTailRetryWithDualRead() {
     ClientConfig.ClientConfigBuilder clientConfigBuilder = getClientConfigWithMinimumRequiredInputs();
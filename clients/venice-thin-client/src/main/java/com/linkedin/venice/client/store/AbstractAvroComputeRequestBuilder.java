@@ -3,6 +3,8 @@ package com.linkedin.venice.client.store;
 import static com.linkedin.venice.VeniceConstants.VENICE_COMPUTATION_ERROR_MAP_FIELD_NAME;
 import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.COSINE_SIMILARITY;
 import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.COUNT;
+import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.COUNT_GROUP_BY_BUCKET;
+import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.COUNT_GROUP_BY_VALUE;
 import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.DOT_PRODUCT;
 import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.HADAMARD_PRODUCT;
 
@@ -10,15 +12,20 @@ import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.schema.SchemaAndToString;
 import com.linkedin.venice.client.stats.ClientStats;
+import com.linkedin.venice.client.store.predicate.ComputePredicateConverter;
+import com.linkedin.venice.client.store.predicate.Predicate;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.client.store.streaming.VeniceResponseCompletableFuture;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMapImpl;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.compute.ComputeUtils;
+import com.linkedin.venice.compute.CountGroupByValueOperator;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.ComputePredicate;
 import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
 import com.linkedin.venice.compute.protocol.request.DotProduct;
+import com.linkedin.venice.compute.protocol.request.FieldFilter;
 import com.linkedin.venice.compute.protocol.request.HadamardProduct;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import com.linkedin.venice.exceptions.InvalidVeniceSchemaException;
@@ -79,6 +86,7 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
   private List<DotProduct> dotProducts = new LinkedList<>();
   private List<CosineSimilarity> cosineSimilarities = new LinkedList<>();
   private List<HadamardProduct> hadamardProducts = new LinkedList<>();
+  private List<FieldFilter> filters = new LinkedList<>();
   private SchemaReader schemaReader;
 
   public AbstractAvroComputeRequestBuilder(AvroGenericReadComputeStoreClient storeClient, SchemaReader schemaReader) {
@@ -421,6 +429,13 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
         throw new InvalidVeniceSchemaException(
             computeType + " field: " + computeFieldName + " isn't 'ARRAY' or 'MAP' type");
       }
+    } else if (computeType == COUNT_GROUP_BY_VALUE) {
+      if (!CountGroupByValueOperator.isSupportedFieldSchema(fieldSchema.schema())) {
+        throw new InvalidVeniceSchemaException(
+            computeType + " field: " + computeFieldName + " isn't a primitive type. Got: " + fieldSchema.schema());
+      }
+    } else if (computeType == COUNT_GROUP_BY_BUCKET) {
+      // The bucket predicates are evaluated against the field values of any type
     } else {
       if (fieldType == Schema.Type.ARRAY) {
         // TODO: is it necessary to be 'FLOAT' only?
@@ -515,6 +530,24 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
     return this;
   }
 
+  @Override
+  public ComputeRequestBuilder<K> filter(String fieldName, Predicate<?> fieldPredicate) throws VeniceClientException {
+    if (latestValueSchema.getField(fieldName) == null) {
+      throw new VeniceClientException("Filter field: " + fieldName + " doesn't exist in value schema");
+    }
+    ComputePredicate computePredicate = ComputePredicateConverter.convert(fieldPredicate);
+    if (computePredicate == null) {
+      throw new VeniceClientException(
+          "The predicate of filter field: " + fieldName + " can't be evaluated by the servers: " + fieldPredicate);
+    }
+    FieldFilter filter = new FieldFilter();
+    filter.field = fieldName;
+    filter.predicate = computePredicate;
+    filters.add(filter);
+
+    return this;
+  }
+
   protected ComputeRequestWrapper generateComputeRequest(SchemaAndToString resultSchema, boolean originallyStreaming) {
     return new ComputeRequestWrapper(
         latestValueSchemaId,
@@ -522,6 +555,7 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
         resultSchema.getSchema(),
         resultSchema.getToString(),
         getComputeRequestOperations(),
+        filters,
         originallyStreaming);
   }
 }
@@ -492,6 +492,11 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
     return getClientConfig().isProjectionFieldValidationEnabled();
   }
 
+  @Override
+  public boolean isComputeAggregationPushDownEnabled() {
+    return getClientConfig().isComputeAggregationPushDownEnabled();
+  }
+
   @Override
   public void compute(
       ComputeRequestWrapper computeRequest,
@@ -512,7 +517,10 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
 
           @Override
           public void onRawRecordReceived(K key, GenericRecord value) {
-            if (value != null) {
+            if (value != null && !computeRequest.matchesValueFilter(value)) {
+              // Same as the servers, the records which fail the value filter are returned as non-existing keys
+              value = null;
+            } else if (value != null) {
               value = ComputeUtils.computeResult(
                   computeRequest.getOperations(),
                   computeRequest.getOperationResultFields(),
@@ -566,7 +574,8 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
         RequestHeadersProvider.getStreamingComputeHeaderMap(
             keyList.size(),
             computeRequest.getValueSchemaID(),
-            clientConfig.isRemoteComputationOnly()),
+            clientConfig.isRemoteComputationOnly(),
+            computeRequest.getComputeRequestVersion()),
         serializedRequest,
         callback,
         keyList.size());
@@ -755,7 +764,8 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
         getDeserializationExecutor(),
         streamingFooterRecordDeserializer,
         this::getDataRecordDeserializerFromCache,
-        this::decompressRecord);
+        this::decompressRecord,
+        getClientConfig().isMultiGetEnvelopeInPlaceDecodingEnabled());
     streamingBatchGet(keyList, decoder, decoderCallback.getStats());
   }
 
@@ -1,9 +1,14 @@
 package com.linkedin.venice.client.store;
 
 import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.predicate.ComputePredicateConverter;
 import com.linkedin.venice.client.store.predicate.Predicate;
+import com.linkedin.venice.compute.CountGroupByValueOperator;
+import com.linkedin.venice.compute.protocol.request.ComputePredicate;
 import com.linkedin.venice.schema.SchemaReader;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -13,18 +18,37 @@ import org.apache.avro.Schema;
 /**
  * Implementation of {@link ComputeAggregationRequestBuilder} that supports counting field values
  * and grouping them by their values and buckets.
+ *
+ * If enabled by {@link ClientConfig#setComputeAggregationPushDownEnabled(boolean)}, the counting is pushed down to the
+ * servers whenever possible, which then only return the partial counts of each chunk of keys instead of the values of
+ * the counted fields. The fields whose type isn't supported by {@link CountGroupByValueOperator}, and the buckets whose
+ * predicates can't be converted by {@link ComputePredicateConverter}, are projected and counted on the client side
+ * instead, as are all the fields if the push down is disabled.
  */
 public class AvroComputeAggregationRequestBuilder<K> implements ComputeAggregationRequestBuilder<K> {
+  static final String VALUE_COUNTS_FIELD_SUFFIX = "_valueCounts";
+  static final String BUCKET_COUNTS_FIELD_SUFFIX = "_bucketCounts";
+
   private final AvroComputeRequestBuilderV3<K> delegate;
   private final Map<String, Integer> fieldTopKMap = new HashMap<>();
   private final Map<String, Map<String, Predicate>> fieldBucketMap = new HashMap<>();
+  private final Map<String, String> valueCountsResultFieldMap = new HashMap<>();
   private final SchemaReader schemaReader;
+  private final boolean pushDownEnabled;
 
   public AvroComputeAggregationRequestBuilder(
       AvroGenericReadComputeStoreClient storeClient,
       SchemaReader schemaReader) {
+    this(storeClient, schemaReader, false);
+  }
+
+  public AvroComputeAggregationRequestBuilder(
+      AvroGenericReadComputeStoreClient storeClient,
+      SchemaReader schemaReader,
+      boolean pushDownEnabled) {
     this.delegate = (AvroComputeRequestBuilderV3<K>) storeClient.compute();
     this.schemaReader = schemaReader;
+    this.pushDownEnabled = pushDownEnabled;
   }
 
   /**
@@ -97,10 +121,21 @@ public class AvroComputeAggregationRequestBuilder<K> implements ComputeAggregati
     // Validate fields exist in schema
     validateFieldNames(fieldNames);
 
-    // Store topK value for each field and project the field
+    // Store topK value for each field, and push the counting down or project the field
+    Schema valueSchema = schemaReader.getValueSchema(schemaReader.getLatestValueSchemaId());
     for (String fieldName: fieldNames) {
       fieldTopKMap.put(fieldName, topK);
-      delegate.project(fieldName);
+      if (valueCountsResultFieldMap.containsKey(fieldName)) {
+        continue;
+      }
+      String resultFieldName = fieldName + VALUE_COUNTS_FIELD_SUFFIX;
+      if (pushDownEnabled && valueSchema.getField(resultFieldName) == null
+          && CountGroupByValueOperator.isSupportedFieldSchema(valueSchema.getField(fieldName).schema())) {
+        valueCountsResultFieldMap.put(fieldName, resultFieldName);
+        delegate.countGroupByValue(fieldName, resultFieldName);
+      } else {
+        delegate.project(fieldName);
+      }
     }
     return this;
   }
@@ -130,7 +165,7 @@ public class AvroComputeAggregationRequestBuilder<K> implements ComputeAggregati
     // Validate predicate types match field schema types
     validatePredicateTypes(bucketNameToPredicate, fieldNames);
 
-    // Store bucket predicates for each field and project the field
+    // Store bucket predicates for each field, the buckets are pushed down or projected once all of them are known
     for (String fieldName: fieldNames) {
       Map<String, Predicate> existingBuckets = fieldBucketMap.get(fieldName);
       if (existingBuckets == null) {
@@ -142,8 +177,6 @@ public class AvroComputeAggregationRequestBuilder<K> implements ComputeAggregati
       for (Map.Entry<String, Predicate<T>> entry: bucketNameToPredicate.entrySet()) {
         existingBuckets.put(entry.getKey(), entry.getValue());
       }
-
-      delegate.project(fieldName);
     }
     return this;
   }
@@ -154,8 +187,53 @@ public class AvroComputeAggregationRequestBuilder<K> implements ComputeAggregati
       throw new VeniceClientException("keys cannot be null or empty");
     }
 
+    Map<String, String> bucketCountsResultFieldMap = pushDownBuckets();
+
     // Execute the compute request
     return delegate.execute(keys)
-        .thenApply(result -> new AvroComputeAggregationResponse<>(result, fieldTopKMap, fieldBucketMap));
+        .thenApply(
+            result -> new AvroComputeAggregationResponse<>(
+                result,
+                fieldTopKMap,
+                fieldBucketMap,
+                valueCountsResultFieldMap,
+                bucketCountsResultFieldMap));
+  }
+
+  /**
+   * Pushes down the buckets of each field whose predicates can all be evaluated by the servers, and projects the other
+   * fields.
+   *
+   * @return the map from the pushed down fields to the result fields holding their bucket counts
+   */
+  private Map<String, String> pushDownBuckets() {
+    Map<String, String> bucketCountsResultFieldMap = new HashMap<>();
+    if (fieldBucketMap.isEmpty()) {
+      return bucketCountsResultFieldMap;
+    }
+    Schema valueSchema = schemaReader.getValueSchema(schemaReader.getLatestValueSchemaId());
+    for (Map.Entry<String, Map<String, Predicate>> fieldEntry: fieldBucketMap.entrySet()) {
+      String fieldName = fieldEntry.getKey();
+      String resultFieldName = fieldName + BUCKET_COUNTS_FIELD_SUFFIX;
+      List<String> bucketNames = new ArrayList<>(fieldEntry.getValue().size());
+      List<ComputePredicate> bucketPredicates = new ArrayList<>(fieldEntry.getValue().size());
+      boolean pushDown = pushDownEnabled && valueSchema.getField(resultFieldName) == null;
+      for (Map.Entry<String, Predicate> bucketEntry: fieldEntry.getValue().entrySet()) {
+        ComputePredicate bucketPredicate = pushDown ? ComputePredicateConverter.convert(bucketEntry.getValue()) : null;
+        if (bucketPredicate == null) {
+          pushDown = false;
+          break;
+        }
+        bucketNames.add(bucketEntry.getKey());
+        bucketPredicates.add(bucketPredicate);
+      }
+      if (pushDown) {
+        bucketCountsResultFieldMap.put(fieldName, resultFieldName);
+        delegate.countGroupByBucket(fieldName, bucketNames, bucketPredicates, resultFieldName);
+      } else {
+        delegate.project(fieldName);
+      }
+    }
+    return bucketCountsResultFieldMap;
   }
 }
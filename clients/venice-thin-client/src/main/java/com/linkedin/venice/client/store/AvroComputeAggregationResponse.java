@@ -13,6 +13,8 @@ public class AvroComputeAggregationResponse<K> implements ComputeAggregationResp
   private final Map<K, ComputeGenericRecord> computeResults;
   private final Map<String, Integer> fieldTopKMap;
   private final Map<String, Map<String, Predicate>> fieldBucketMap;
+  private final Map<String, String> valueCountsResultFieldMap;
+  private final Map<String, String> bucketCountsResultFieldMap;
 
   public AvroComputeAggregationResponse(
       Map<K, ComputeGenericRecord> computeResults,
@@ -24,9 +26,26 @@ public class AvroComputeAggregationResponse<K> implements ComputeAggregationResp
       Map<K, ComputeGenericRecord> computeResults,
       Map<String, Integer> fieldTopKMap,
       Map<String, Map<String, Predicate>> fieldBucketMap) {
+    this(computeResults, fieldTopKMap, fieldBucketMap, Collections.emptyMap(), Collections.emptyMap());
+  }
+
+  /**
+   * @param valueCountsResultFieldMap the map from the fields whose values were counted by the servers to the result
+   *                                  fields holding their partial counts
+   * @param bucketCountsResultFieldMap the map from the fields whose buckets were counted by the servers to the result
+   *                                   fields holding their partial counts
+   */
+  public AvroComputeAggregationResponse(
+      Map<K, ComputeGenericRecord> computeResults,
+      Map<String, Integer> fieldTopKMap,
+      Map<String, Map<String, Predicate>> fieldBucketMap,
+      Map<String, String> valueCountsResultFieldMap,
+      Map<String, String> bucketCountsResultFieldMap) {
     this.computeResults = computeResults;
     this.fieldTopKMap = fieldTopKMap;
     this.fieldBucketMap = fieldBucketMap;
+    this.valueCountsResultFieldMap = valueCountsResultFieldMap;
+    this.bucketCountsResultFieldMap = bucketCountsResultFieldMap;
   }
 
   @Override
@@ -38,6 +57,10 @@ public class AvroComputeAggregationResponse<K> implements ComputeAggregationResp
 
     // Use utility method - original logic moved to FacetCountingUtils
     int topK = fieldTopKMap.get(field);
+    String resultFieldName = valueCountsResultFieldMap.get(field);
+    if (resultFieldName != null) {
+      return FacetCountingUtils.getPushedDownValueToCount(computeResults.values(), resultFieldName, topK);
+    }
     return FacetCountingUtils.getValueToCount(computeResults.values(), field, topK);
   }
 
@@ -49,6 +72,12 @@ public class AvroComputeAggregationResponse<K> implements ComputeAggregationResp
       throw new IllegalArgumentException("No count-by-bucket aggregation was requested for field: " + fieldName);
     }
 
+    String resultFieldName = bucketCountsResultFieldMap.get(fieldName);
+    if (resultFieldName != null) {
+      return FacetCountingUtils
+          .getPushedDownBucketNameToCount(computeResults.values(), resultFieldName, buckets.keySet());
+    }
+
     // Use utility method - original logic moved to FacetCountingUtils
     return FacetCountingUtils.getBucketNameToCount(computeResults.values(), fieldName, buckets);
   }
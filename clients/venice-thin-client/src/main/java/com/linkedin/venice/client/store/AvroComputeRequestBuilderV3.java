@@ -1,17 +1,25 @@
 package com.linkedin.venice.client.store;
 
 import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.COUNT;
+import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.COUNT_GROUP_BY_BUCKET;
+import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.COUNT_GROUP_BY_VALUE;
 
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.client.schema.SchemaAndToString;
 import com.linkedin.venice.client.store.predicate.Predicate;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
+import com.linkedin.venice.compute.CountGroupByBucketOperator;
+import com.linkedin.venice.compute.CountGroupByValueOperator;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.ComputePredicate;
 import com.linkedin.venice.compute.protocol.request.Count;
+import com.linkedin.venice.compute.protocol.request.CountGroupByBucket;
+import com.linkedin.venice.compute.protocol.request.CountGroupByValue;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.schema.SchemaReader;
 import com.linkedin.venice.utils.Pair;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
@@ -31,9 +39,13 @@ import org.apache.avro.generic.GenericRecord;
  */
 public class AvroComputeRequestBuilderV3<K> extends AbstractAvroComputeRequestBuilder<K> {
   private static final String COUNT_SPEC = "count_spec";
+  private static final String COUNT_GROUP_BY_VALUE_SPEC = "countGroupByValue_spec";
+  private static final String COUNT_GROUP_BY_BUCKET_SPEC = "countGroupByBucket_spec";
   private static final Schema COUNT_RESULT_SCHEMA =
       Schema.createUnion(Arrays.asList(Schema.create(Schema.Type.NULL), Schema.create(Schema.Type.INT)));
   private final List<Count> countOperations = new LinkedList<>();
+  private final List<CountGroupByValue> countGroupByValueOperations = new LinkedList<>();
+  private final List<CountGroupByBucket> countGroupByBucketOperations = new LinkedList<>();
 
   public AvroComputeRequestBuilderV3(AvroGenericReadComputeStoreClient storeClient, SchemaReader schemaReader) {
     super(storeClient, schemaReader);
@@ -48,6 +60,19 @@ public class AvroComputeRequestBuilderV3<K> extends AbstractAvroComputeRequestBu
       countPairs.add(Pair.create(count.field, count.resultFieldName));
     });
     computeSpec.put(COUNT_SPEC, countPairs);
+    List<Pair<CharSequence, CharSequence>> countGroupByValuePairs = new LinkedList<>();
+    countGroupByValueOperations.forEach(countGroupByValue -> {
+      countGroupByValuePairs.add(Pair.create(countGroupByValue.field, countGroupByValue.resultFieldName));
+    });
+    computeSpec.put(COUNT_GROUP_BY_VALUE_SPEC, countGroupByValuePairs);
+    /**
+     * The bucket predicates are not part of the spec, since the schema of the bucket counts doesn't depend on them.
+     */
+    List<Pair<CharSequence, CharSequence>> countGroupByBucketPairs = new LinkedList<>();
+    countGroupByBucketOperations.forEach(countGroupByBucket -> {
+      countGroupByBucketPairs.add(Pair.create(countGroupByBucket.field, countGroupByBucket.resultFieldName));
+    });
+    computeSpec.put(COUNT_GROUP_BY_BUCKET_SPEC, countGroupByBucketPairs);
 
     return RESULT_SCHEMA_CACHE.computeIfAbsent(computeSpec, spec -> {
       /**
@@ -63,6 +88,18 @@ public class AvroComputeRequestBuilderV3<K> extends AbstractAvroComputeRequestBu
               count.resultFieldName.toString(),
               computeResultFields,
               COUNT));
+      countGroupByValueOperations.forEach(
+          countGroupByValue -> checkComputeFieldValidity(
+              countGroupByValue.field.toString(),
+              countGroupByValue.resultFieldName.toString(),
+              computeResultFields,
+              COUNT_GROUP_BY_VALUE));
+      countGroupByBucketOperations.forEach(
+          countGroupByBucket -> checkComputeFieldValidity(
+              countGroupByBucket.field.toString(),
+              countGroupByBucket.resultFieldName.toString(),
+              computeResultFields,
+              COUNT_GROUP_BY_BUCKET));
 
       // Generate result schema
       List<Schema.Field> resultSchemaFields = getCommonResultFields();
@@ -71,6 +108,24 @@ public class AvroComputeRequestBuilderV3<K> extends AbstractAvroComputeRequestBu
             AvroCompatibilityHelper.createSchemaField(count.resultFieldName.toString(), COUNT_RESULT_SCHEMA, "", null);
         resultSchemaFields.add(countField);
       });
+      countGroupByValueOperations.forEach(countGroupByValue -> {
+        String resultFieldName = countGroupByValue.resultFieldName.toString();
+        Schema fieldSchema = latestValueSchema.getField(countGroupByValue.field.toString()).schema();
+        resultSchemaFields.add(
+            AvroCompatibilityHelper.createSchemaField(
+                resultFieldName,
+                CountGroupByValueOperator.getResultSchema(resultFieldName, fieldSchema),
+                "",
+                null));
+      });
+      countGroupByBucketOperations.forEach(countGroupByBucket -> {
+        resultSchemaFields.add(
+            AvroCompatibilityHelper.createSchemaField(
+                countGroupByBucket.resultFieldName.toString(),
+                CountGroupByBucketOperator.RESULT_SCHEMA,
+                "",
+                null));
+      });
 
       Schema generatedResultSchema = Schema.createRecord(resultSchemaName, "", "", false);
       generatedResultSchema.setFields(resultSchemaFields);
@@ -87,6 +142,18 @@ public class AvroComputeRequestBuilderV3<K> extends AbstractAvroComputeRequestBu
       computeOperation.operation = count;
       operations.add(computeOperation);
     });
+    countGroupByValueOperations.forEach(countGroupByValue -> {
+      ComputeOperation computeOperation = new ComputeOperation();
+      computeOperation.operationType = COUNT_GROUP_BY_VALUE.getValue();
+      computeOperation.operation = countGroupByValue;
+      operations.add(computeOperation);
+    });
+    countGroupByBucketOperations.forEach(countGroupByBucket -> {
+      ComputeOperation computeOperation = new ComputeOperation();
+      computeOperation.operationType = COUNT_GROUP_BY_BUCKET.getValue();
+      computeOperation.operation = countGroupByBucket;
+      operations.add(computeOperation);
+    });
     return operations;
   }
 
@@ -99,6 +166,37 @@ public class AvroComputeRequestBuilderV3<K> extends AbstractAvroComputeRequestBu
     return this;
   }
 
+  /**
+   * Counts the records by the value of the given field, which must be of a primitive type. The servers only return
+   * the counts of each chunk of keys, in the result of one of the records of the chunk, see
+   * {@link AvroComputeAggregationResponse} for how they are merged.
+   */
+  public AvroComputeRequestBuilderV3<K> countGroupByValue(String inputFieldName, String resultFieldName) {
+    CountGroupByValue countGroupByValue = (CountGroupByValue) COUNT_GROUP_BY_VALUE.getNewInstance();
+    countGroupByValue.field = inputFieldName;
+    countGroupByValue.resultFieldName = resultFieldName;
+    countGroupByValueOperations.add(countGroupByValue);
+    return this;
+  }
+
+  /**
+   * Counts the records whose value of the given field matches the predicate of each bucket. The servers only return
+   * the counts of each chunk of keys, in the same way as {@link #countGroupByValue(String, String)}.
+   */
+  public AvroComputeRequestBuilderV3<K> countGroupByBucket(
+      String inputFieldName,
+      List<String> bucketNames,
+      List<ComputePredicate> bucketPredicates,
+      String resultFieldName) {
+    CountGroupByBucket countGroupByBucket = (CountGroupByBucket) COUNT_GROUP_BY_BUCKET.getNewInstance();
+    countGroupByBucket.field = inputFieldName;
+    countGroupByBucket.bucketNames = new ArrayList<>(bucketNames);
+    countGroupByBucket.bucketPredicates = bucketPredicates;
+    countGroupByBucket.resultFieldName = resultFieldName;
+    countGroupByBucketOperations.add(countGroupByBucket);
+    return this;
+  }
+
   @Override
   public void executeWithFilter(
       Predicate<GenericRecord> predicate,
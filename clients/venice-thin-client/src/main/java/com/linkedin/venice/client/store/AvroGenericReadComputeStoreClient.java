@@ -21,6 +21,14 @@ public interface AvroGenericReadComputeStoreClient<K, V> extends AvroGenericStor
 
   boolean isProjectionFieldValidationEnabled();
 
+  /**
+   * @return whether {@link #computeAggregation()} pushes the counting down to the servers, see
+   *         {@link ClientConfig#setComputeAggregationPushDownEnabled(boolean)}
+   */
+  default boolean isComputeAggregationPushDownEnabled() {
+    return false;
+  }
+
   @Override
   default ComputeRequestBuilder<K> compute() throws VeniceClientException {
     return compute(Optional.empty(), this);
@@ -68,6 +76,6 @@ public interface AvroGenericReadComputeStoreClient<K, V> extends AvroGenericStor
    * @throws VeniceClientException if there is an error creating the builder.
    */
   default ComputeAggregationRequestBuilder<K> computeAggregation() throws VeniceClientException {
-    return new AvroComputeAggregationRequestBuilder<>(this, getSchemaReader());
+    return new AvroComputeAggregationRequestBuilder<>(this, getSchemaReader(), isComputeAggregationPushDownEnabled());
   }
 }
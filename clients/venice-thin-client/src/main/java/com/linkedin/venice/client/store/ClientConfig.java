@@ -55,9 +55,11 @@ public class ClientConfig<T extends SpecificRecord> {
   private long retryBackOffInMs = 0;
   private Executor retryExecutor = null;
   private boolean useBlackHoleDeserializer = false;
+  private boolean multiGetEnvelopeInPlaceDecodingEnabled = false;
   private boolean forceClusterDiscoveryAtStartTime = false;
   private boolean projectionFieldValidation = true;
   private boolean remoteComputationOnly = false;
+  private boolean computeAggregationPushDownEnabled = false;
   private Duration schemaRefreshPeriod = DEFAULT_SCHEMA_REFRESH_PERIOD;
   private Optional<Predicate<Schema>> preferredSchemaFilter = Optional.empty();
 
@@ -123,11 +125,13 @@ public class ClientConfig<T extends SpecificRecord> {
         .setRetryBackOffInMs(config.getRetryBackOffInMs())
         .setRetryExecutor(config.getRetryExecutor())
         .setUseBlackHoleDeserializer(config.isUseBlackHoleDeserializer())
+        .setMultiGetEnvelopeInPlaceDecodingEnabled(config.isMultiGetEnvelopeInPlaceDecodingEnabled())
         // Security settings
         .setHttps(config.isHttps())
         .setSslFactory(config.getSslFactory())
         .setForceClusterDiscoveryAtStartTime(config.isForceClusterDiscoveryAtStartTime())
         .setProjectionFieldValidationEnabled(config.isProjectionFieldValidationEnabled())
+        .setComputeAggregationPushDownEnabled(config.isComputeAggregationPushDownEnabled())
         .setPreferredSchemaFilter(config.getPreferredSchemaFilter().orElse(null))
         .setSchemaRefreshPeriod(config.getSchemaRefreshPeriod())
 
@@ -482,6 +486,19 @@ public class ClientConfig<T extends SpecificRecord> {
     return this;
   }
 
+  public boolean isMultiGetEnvelopeInPlaceDecodingEnabled() {
+    return multiGetEnvelopeInPlaceDecodingEnabled;
+  }
+
+  /**
+   * When enabled, the envelopes of the streaming batch-get responses are parsed in place over the received bytes,
+   * instead of allocating an envelope record and a copy of the value per record before the value deserialization.
+   */
+  public ClientConfig<T> setMultiGetEnvelopeInPlaceDecodingEnabled(boolean multiGetEnvelopeInPlaceDecodingEnabled) {
+    this.multiGetEnvelopeInPlaceDecodingEnabled = multiGetEnvelopeInPlaceDecodingEnabled;
+    return this;
+  }
+
   public boolean isProjectionFieldValidationEnabled() {
     return projectionFieldValidation;
   }
@@ -500,6 +517,22 @@ public class ClientConfig<T extends SpecificRecord> {
     return this;
   }
 
+  public boolean isComputeAggregationPushDownEnabled() {
+    return computeAggregationPushDownEnabled;
+  }
+
+  /**
+   * When enabled, the counts of {@link ComputeAggregationRequestBuilder} are computed by the servers, which only return
+   * the partial counts of each chunk of keys, instead of the values of the counted fields. Such requests are sent with
+   * the compute request version 4, which older routers and servers reject, so this must only be enabled once all the
+   * routers and servers of the cluster are upgraded to a release supporting it. When disabled, the counted fields are
+   * projected and counted on the client side, as before.
+   */
+  public ClientConfig<T> setComputeAggregationPushDownEnabled(boolean computeAggregationPushDownEnabled) {
+    this.computeAggregationPushDownEnabled = computeAggregationPushDownEnabled;
+    return this;
+  }
+
   public Optional<Predicate<Schema>> getPreferredSchemaFilter() {
     return preferredSchemaFilter;
   }
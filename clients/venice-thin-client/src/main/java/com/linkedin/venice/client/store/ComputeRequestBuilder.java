@@ -69,6 +69,23 @@ public interface ComputeRequestBuilder<K> extends ExecutableRequestBuilder<K, Ma
       List<Float> hadamardProductParam,
       String resultFieldName);
 
+  /**
+   * Setup a value filter, which is evaluated by the servers before the compute operations, so that the records whose
+   * field value doesn't match the predicate are neither computed nor returned, and show up as non-existing keys
+   * instead. When invoked several times, the records must match all the filters.
+   *
+   * This experimental feature is subject to backwards-incompatible changes in the future.
+   *
+   * @param fieldName : top-level field in the value record whose value is tested against the predicate
+   * @param fieldPredicate : predicate on the field value, built with the factory methods of {@link Predicate} and
+   *                         its typed variants, such as {@link com.linkedin.venice.client.store.predicate.IntPredicate}
+   * @return
+   */
+  @Experimental
+  default ComputeRequestBuilder<K> filter(String fieldName, Predicate<?> fieldPredicate) {
+    throw new VeniceClientException("Value filters are not supported by this compute request builder");
+  }
+
   /**
    * Send compute request to Venice, and this should be the last step of the compute specification.
    * The difference between this function and the previous {@link #execute(Set)} is that this function will return
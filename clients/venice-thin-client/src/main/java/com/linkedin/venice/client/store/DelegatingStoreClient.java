@@ -38,6 +38,11 @@ public class DelegatingStoreClient<K, V> extends InternalAvroStoreClient<K, V> {
     return innerStoreClient.isProjectionFieldValidationEnabled();
   }
 
+  @Override
+  public boolean isComputeAggregationPushDownEnabled() {
+    return innerStoreClient.isComputeAggregationPushDownEnabled();
+  }
+
   @Override
   public ComputeRequestBuilder<K> compute(
       Optional<ClientStats> stats,
@@ -5,6 +5,10 @@ import com.linkedin.venice.client.store.predicate.FloatPredicate;
 import com.linkedin.venice.client.store.predicate.IntPredicate;
 import com.linkedin.venice.client.store.predicate.LongPredicate;
 import com.linkedin.venice.client.store.predicate.Predicate;
+import com.linkedin.venice.compute.ComputePredicateEvaluator;
+import com.linkedin.venice.compute.CountGroupByBucketOperator;
+import com.linkedin.venice.compute.CountGroupByValueOperator;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -42,6 +46,34 @@ public class FacetCountingUtils {
       valueToCount.merge(key, 1, Integer::sum);
     }
 
+    return getTopK(valueToCount, topK);
+  }
+
+  /**
+   * Get value counts for a single field with TopK filtering, out of the partial counts computed by the servers.
+   * The TopK filtering can only be applied once the partial counts of all the records are merged.
+   *
+   * @param records Collection of GenericRecord results
+   * @param resultFieldName The name of the {@link CountGroupByValueOperator} result field
+   * @param topK Maximum number of top values to return
+   * @return Map of values to their counts, limited to topK entries
+   */
+  public static <T> Map<T, Integer> getPushedDownValueToCount(
+      Iterable<? extends GenericRecord> records,
+      String resultFieldName,
+      int topK) {
+    CountGroupByValueOperator operator =
+        (CountGroupByValueOperator) ComputeOperationType.COUNT_GROUP_BY_VALUE.getOperator();
+    Map<Object, Integer> valueToCount = new HashMap<>();
+    for (GenericRecord record: records) {
+      if (record != null) {
+        operator.accumulate(record.get(resultFieldName), valueToCount);
+      }
+    }
+    return getTopK((Map<T, Integer>) valueToCount, topK);
+  }
+
+  private static <T> Map<T, Integer> getTopK(Map<T, Integer> valueToCount, int topK) {
     // Sort by count in descending order
     Map<T, Integer> sortedMap = valueToCount.entrySet()
         .stream()
@@ -124,64 +156,39 @@ public class FacetCountingUtils {
   }
 
   /**
-   * Generic method to convert value to the target type for predicate evaluation.
-   * Supports Integer, Long, Float, and Double conversions.
+   * Get bucket counts for a single field, out of the partial counts computed by the servers.
+   *
+   * @param records Collection of GenericRecord results
+   * @param resultFieldName The name of the {@link CountGroupByBucketOperator} result field
+   * @param bucketNames The names of all the buckets, including the ones without any match
+   * @return Map of bucket names to their counts
    */
-  @SuppressWarnings("unchecked")
-  public static <T> T convertToType(Object value, Class<T> targetType) {
-    if (value == null) {
-      return null;
-    }
-
-    // If already the target type, return as is
-    if (targetType.isInstance(value)) {
-      return (T) value;
+  public static Map<String, Integer> getPushedDownBucketNameToCount(
+      Iterable<? extends GenericRecord> records,
+      String resultFieldName,
+      Iterable<String> bucketNames) {
+    CountGroupByBucketOperator operator =
+        (CountGroupByBucketOperator) ComputeOperationType.COUNT_GROUP_BY_BUCKET.getOperator();
+    Map<Object, Integer> partialCounts = new HashMap<>();
+    for (GenericRecord record: records) {
+      if (record != null) {
+        operator.accumulate(record.get(resultFieldName), partialCounts);
+      }
     }
 
-    // Handle numeric conversions
-    if (targetType == Integer.class) {
-      if (value instanceof Long) {
-        return (T) Integer.valueOf(((Long) value).intValue());
-      } else if (value instanceof String) {
-        try {
-          return (T) Integer.valueOf(Integer.parseInt((String) value));
-        } catch (NumberFormatException e) {
-          return null;
-        }
-      }
-    } else if (targetType == Long.class) {
-      if (value instanceof Integer) {
-        return (T) Long.valueOf(((Integer) value).longValue());
-      } else if (value instanceof String) {
-        try {
-          return (T) Long.valueOf(Long.parseLong((String) value));
-        } catch (NumberFormatException e) {
-          return null;
-        }
-      }
-    } else if (targetType == Float.class) {
-      if (value instanceof Integer) {
-        return (T) Float.valueOf(((Integer) value).floatValue());
-      } else if (value instanceof String) {
-        try {
-          return (T) Float.valueOf(Float.parseFloat((String) value));
-        } catch (NumberFormatException e) {
-          return null;
-        }
-      }
-    } else if (targetType == Double.class) {
-      if (value instanceof Integer) {
-        return (T) Double.valueOf(((Integer) value).doubleValue());
-      } else if (value instanceof String) {
-        try {
-          return (T) Double.valueOf(Double.parseDouble((String) value));
-        } catch (NumberFormatException e) {
-          return null;
-        }
-      }
+    Map<String, Integer> bucketCounts = new LinkedHashMap<>();
+    for (String bucketName: bucketNames) {
+      bucketCounts.put(bucketName, partialCounts.getOrDefault(bucketName, 0));
     }
+    return bucketCounts;
+  }
 
-    return null;
+  /**
+   * Generic method to convert value to the target type for predicate evaluation.
+   * Supports Integer, Long, Float, and Double conversions.
+   */
+  public static <T> T convertToType(Object value, Class<T> targetType) {
+    return ComputePredicateEvaluator.convertToType(value, targetType);
   }
 
   /**
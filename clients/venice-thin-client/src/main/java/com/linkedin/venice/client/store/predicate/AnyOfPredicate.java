@@ -4,7 +4,7 @@ import java.util.Objects;
 
 
 public class AnyOfPredicate<T> implements Predicate<T> {
-  private final T[] expectedValues;
+  final T[] expectedValues;
 
   AnyOfPredicate(T... expectedValues) {
     /**
@@ -0,0 +1,167 @@
+package com.linkedin.venice.client.store.predicate;
+
+import com.linkedin.venice.compute.protocol.request.ComputePredicate;
+import com.linkedin.venice.compute.protocol.request.enums.ComputePredicateType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Converts the client-side {@link Predicate} into the {@link ComputePredicate} which the servers can evaluate, see
+ * {@link com.linkedin.venice.compute.ComputePredicateEvaluator} for the semantics of the operands.
+ */
+public class ComputePredicateConverter {
+  private ComputePredicateConverter() {
+  }
+
+  /**
+   * @return the equivalent {@link ComputePredicate}, or null if the predicate, or any of its nested predicates, cannot
+   *         be evaluated by the servers
+   */
+  public static ComputePredicate convert(Predicate<?> predicate) {
+    if (predicate instanceof AndPredicate) {
+      return convertComposite(ComputePredicateType.AND, (CompositePredicate<?>) predicate);
+    } else if (predicate instanceof OrPredicate) {
+      return convertComposite(ComputePredicateType.OR, (CompositePredicate<?>) predicate);
+    } else if (predicate instanceof EqualsPredicate) {
+      Object expectedValue = ((EqualsPredicate<?>) predicate).expectedValue;
+      return convertGeneric(ComputePredicateType.EQUALS, new Object[] { expectedValue });
+    } else if (predicate instanceof AnyOfPredicate) {
+      return convertGeneric(ComputePredicateType.ANY_OF, ((AnyOfPredicate<?>) predicate).expectedValues);
+    } else if (predicate instanceof IntEqualsPredicate) {
+      return leaf(ComputePredicateType.EQUALS, ((IntEqualsPredicate) predicate).expectedValue);
+    } else if (predicate instanceof IntGreaterThanPredicate) {
+      return leaf(ComputePredicateType.GREATER_THAN, ((IntGreaterThanPredicate) predicate).threshold);
+    } else if (predicate instanceof IntGreaterOrEqualsPredicate) {
+      return leaf(ComputePredicateType.GREATER_OR_EQUALS, ((IntGreaterOrEqualsPredicate) predicate).threshold);
+    } else if (predicate instanceof IntLowerThanPredicate) {
+      return leaf(ComputePredicateType.LOWER_THAN, ((IntLowerThanPredicate) predicate).threshold);
+    } else if (predicate instanceof IntLowerOrEqualsPredicate) {
+      return leaf(ComputePredicateType.LOWER_OR_EQUALS, ((IntLowerOrEqualsPredicate) predicate).threshold);
+    } else if (predicate instanceof IntAnyOfPredicate) {
+      List<Object> operands = new ArrayList<>();
+      for (int expectedValue: ((IntAnyOfPredicate) predicate).expectedValues) {
+        operands.add(expectedValue);
+      }
+      return newComputePredicate(ComputePredicateType.ANY_OF, operands);
+    } else if (predicate instanceof LongEqualsPredicate) {
+      return leaf(ComputePredicateType.EQUALS, ((LongEqualsPredicate) predicate).expectedValue);
+    } else if (predicate instanceof LongGreaterThanPredicate) {
+      return leaf(ComputePredicateType.GREATER_THAN, ((LongGreaterThanPredicate) predicate).threshold);
+    } else if (predicate instanceof LongGreaterOrEqualsPredicate) {
+      return leaf(ComputePredicateType.GREATER_OR_EQUALS, ((LongGreaterOrEqualsPredicate) predicate).threshold);
+    } else if (predicate instanceof LongLowerThanPredicate) {
+      return leaf(ComputePredicateType.LOWER_THAN, ((LongLowerThanPredicate) predicate).threshold);
+    } else if (predicate instanceof LongLowerOrEqualsPredicate) {
+      return leaf(ComputePredicateType.LOWER_OR_EQUALS, ((LongLowerOrEqualsPredicate) predicate).threshold);
+    } else if (predicate instanceof LongAnyOfPredicate) {
+      List<Object> operands = new ArrayList<>();
+      for (long expectedValue: ((LongAnyOfPredicate) predicate).expectedValues) {
+        operands.add(expectedValue);
+      }
+      return newComputePredicate(ComputePredicateType.ANY_OF, operands);
+    } else if (predicate instanceof FloatEqualsPredicate) {
+      FloatEqualsPredicate floatPredicate = (FloatEqualsPredicate) predicate;
+      return leaf(ComputePredicateType.EQUALS, floatPredicate.expectedValue, floatPredicate.epsilon);
+    } else if (predicate instanceof FloatGreaterThanPredicate) {
+      FloatGreaterThanPredicate floatPredicate = (FloatGreaterThanPredicate) predicate;
+      return leaf(ComputePredicateType.GREATER_THAN, floatPredicate.threshold, floatPredicate.epsilon);
+    } else if (predicate instanceof FloatGreaterOrEqualsPredicate) {
+      FloatGreaterOrEqualsPredicate floatPredicate = (FloatGreaterOrEqualsPredicate) predicate;
+      return leaf(ComputePredicateType.GREATER_OR_EQUALS, floatPredicate.threshold, floatPredicate.epsilon);
+    } else if (predicate instanceof FloatLowerThanPredicate) {
+      FloatLowerThanPredicate floatPredicate = (FloatLowerThanPredicate) predicate;
+      return leaf(ComputePredicateType.LOWER_THAN, floatPredicate.threshold, floatPredicate.epsilon);
+    } else if (predicate instanceof FloatLowerOrEqualsPredicate) {
+      FloatLowerOrEqualsPredicate floatPredicate = (FloatLowerOrEqualsPredicate) predicate;
+      return leaf(ComputePredicateType.LOWER_OR_EQUALS, floatPredicate.threshold, floatPredicate.epsilon);
+    } else if (predicate instanceof FloatAnyOfPredicate) {
+      FloatAnyOfPredicate floatPredicate = (FloatAnyOfPredicate) predicate;
+      List<Object> operands = new ArrayList<>();
+      for (float expectedValue: floatPredicate.expectedValues) {
+        operands.add(expectedValue);
+      }
+      operands.add(floatPredicate.epsilon);
+      return newComputePredicate(ComputePredicateType.ANY_OF, operands);
+    } else if (predicate instanceof DoubleEqualsPredicate) {
+      DoubleEqualsPredicate doublePredicate = (DoubleEqualsPredicate) predicate;
+      return leaf(ComputePredicateType.EQUALS, doublePredicate.expectedValue, doublePredicate.epsilon);
+    } else if (predicate instanceof DoubleGreaterThanPredicate) {
+      DoubleGreaterThanPredicate doublePredicate = (DoubleGreaterThanPredicate) predicate;
+      return leaf(ComputePredicateType.GREATER_THAN, doublePredicate.threshold, doublePredicate.epsilon);
+    } else if (predicate instanceof DoubleGreaterOrEqualsPredicate) {
+      DoubleGreaterOrEqualsPredicate doublePredicate = (DoubleGreaterOrEqualsPredicate) predicate;
+      return leaf(ComputePredicateType.GREATER_OR_EQUALS, doublePredicate.threshold, doublePredicate.epsilon);
+    } else if (predicate instanceof DoubleLowerThanPredicate) {
+      DoubleLowerThanPredicate doublePredicate = (DoubleLowerThanPredicate) predicate;
+      return leaf(ComputePredicateType.LOWER_THAN, doublePredicate.threshold, doublePredicate.epsilon);
+    } else if (predicate instanceof DoubleLowerOrEqualsPredicate) {
+      DoubleLowerOrEqualsPredicate doublePredicate = (DoubleLowerOrEqualsPredicate) predicate;
+      return leaf(ComputePredicateType.LOWER_OR_EQUALS, doublePredicate.threshold, doublePredicate.epsilon);
+    } else if (predicate instanceof DoubleAnyOfPredicate) {
+      DoubleAnyOfPredicate doublePredicate = (DoubleAnyOfPredicate) predicate;
+      List<Object> operands = new ArrayList<>();
+      for (double expectedValue: doublePredicate.expectedValues) {
+        operands.add(expectedValue);
+      }
+      operands.add(doublePredicate.epsilon);
+      return newComputePredicate(ComputePredicateType.ANY_OF, operands);
+    }
+    return null;
+  }
+
+  private static ComputePredicate convertComposite(ComputePredicateType type, CompositePredicate<?> predicate) {
+    List<ComputePredicate> children = new ArrayList<>();
+    for (Predicate<?> child: predicate) {
+      ComputePredicate convertedChild = convert(child);
+      if (convertedChild == null) {
+        return null;
+      }
+      children.add(convertedChild);
+    }
+    ComputePredicate computePredicate = newComputePredicate(type, Collections.emptyList());
+    computePredicate.children = children;
+    return computePredicate;
+  }
+
+  /**
+   * The generic predicates compare the values with {@link Object#equals}, so their floating point values are sent
+   * along with a zero epsilon.
+   */
+  private static ComputePredicate convertGeneric(ComputePredicateType type, Object[] expectedValues) {
+    List<Object> operands = new ArrayList<>(expectedValues.length + 1);
+    boolean hasFloatingPointValue = false;
+    for (Object expectedValue: expectedValues) {
+      if (expectedValue instanceof Float || expectedValue instanceof Double) {
+        hasFloatingPointValue = true;
+        operands.add(expectedValue);
+      } else if (expectedValue instanceof CharSequence) {
+        operands.add(expectedValue.toString());
+      } else if (expectedValue == null || expectedValue instanceof Boolean || expectedValue instanceof Integer
+          || expectedValue instanceof Long) {
+        operands.add(expectedValue);
+      } else {
+        return null;
+      }
+    }
+    if (hasFloatingPointValue) {
+      operands.add(0.0d);
+    }
+    return newComputePredicate(type, operands);
+  }
+
+  private static ComputePredicate leaf(ComputePredicateType type, Object... operands) {
+    List<Object> operandList = new ArrayList<>(operands.length);
+    Collections.addAll(operandList, operands);
+    return newComputePredicate(type, operandList);
+  }
+
+  private static ComputePredicate newComputePredicate(ComputePredicateType type, List<Object> operands) {
+    ComputePredicate computePredicate = new ComputePredicate();
+    computePredicate.predicateType = type.getValue();
+    computePredicate.operands = operands;
+    computePredicate.children = Collections.emptyList();
+    return computePredicate;
+  }
+}
@@ -1,8 +1,8 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class DoubleAnyOfPredicate implements DoublePredicate {
-  private final double[] expectedValues;
-  private final double epsilon;
+  final double[] expectedValues;
+  final double epsilon;
 
   private static final double DEFAULT_EPSILON = 1e-10;
 
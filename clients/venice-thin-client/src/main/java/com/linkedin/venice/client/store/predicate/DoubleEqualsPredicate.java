@@ -1,8 +1,8 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class DoubleEqualsPredicate implements DoublePredicate {
-  private final double expectedValue;
-  private final double epsilon;
+  final double expectedValue;
+  final double epsilon;
 
   DoubleEqualsPredicate(double expectedValue, double epsilon) {
     this.expectedValue = expectedValue;
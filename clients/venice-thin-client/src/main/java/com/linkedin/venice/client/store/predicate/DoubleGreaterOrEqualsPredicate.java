@@ -1,8 +1,8 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class DoubleGreaterOrEqualsPredicate implements DoublePredicate {
-  private final double threshold;
-  private final double epsilon;
+  final double threshold;
+  final double epsilon;
 
   private static final double DEFAULT_EPSILON = 1e-10;
 
@@ -5,7 +5,7 @@ import org.apache.avro.Schema;
 
 
 public class EqualsPredicate<T> implements Predicate<T> {
-  private final T expectedValue;
+  final T expectedValue;
 
   EqualsPredicate(T expectedValue) {
     this.expectedValue = expectedValue;
@@ -1,8 +1,8 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class FloatAnyOfPredicate implements FloatPredicate {
-  private final float[] expectedValues;
-  private final float epsilon;
+  final float[] expectedValues;
+  final float epsilon;
 
   private static final float DEFAULT_EPSILON = 1e-6f;
 
@@ -1,8 +1,8 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class FloatEqualsPredicate implements FloatPredicate {
-  private final float expectedValue;
-  private final float epsilon;
+  final float expectedValue;
+  final float epsilon;
 
   FloatEqualsPredicate(float expectedValue, float epsilon) {
     this.expectedValue = expectedValue;
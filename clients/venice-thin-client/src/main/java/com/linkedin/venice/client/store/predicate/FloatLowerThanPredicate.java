@@ -1,8 +1,8 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class FloatLowerThanPredicate implements FloatPredicate {
-  private final float threshold;
-  private final float epsilon;
+  final float threshold;
+  final float epsilon;
 
   private static final float DEFAULT_EPSILON = 1e-6f;
 
@@ -1,7 +1,7 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class IntAnyOfPredicate implements IntPredicate {
-  private final int[] expectedValues;
+  final int[] expectedValues;
 
   IntAnyOfPredicate(int... expectedValues) {
     /**
@@ -1,7 +1,7 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class IntEqualsPredicate implements IntPredicate {
-  private final int expectedValue;
+  final int expectedValue;
 
   IntEqualsPredicate(int expectedValue) {
     this.expectedValue = expectedValue;
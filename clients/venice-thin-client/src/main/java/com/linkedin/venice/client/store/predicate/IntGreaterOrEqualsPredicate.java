@@ -1,7 +1,7 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class IntGreaterOrEqualsPredicate implements IntPredicate {
-  private final int threshold;
+  final int threshold;
 
   IntGreaterOrEqualsPredicate(int threshold) {
     this.threshold = threshold;
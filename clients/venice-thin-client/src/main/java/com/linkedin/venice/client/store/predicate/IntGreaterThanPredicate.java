@@ -1,7 +1,7 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class IntGreaterThanPredicate implements IntPredicate {
-  private final int threshold;
+  final int threshold;
 
   IntGreaterThanPredicate(int threshold) {
     this.threshold = threshold;
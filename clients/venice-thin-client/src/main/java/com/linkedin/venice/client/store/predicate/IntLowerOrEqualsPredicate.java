@@ -1,7 +1,7 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class IntLowerOrEqualsPredicate implements IntPredicate {
-  private final int threshold;
+  final int threshold;
 
   IntLowerOrEqualsPredicate(int threshold) {
     this.threshold = threshold;
@@ -1,7 +1,7 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class IntLowerThanPredicate implements IntPredicate {
-  private final int threshold;
+  final int threshold;
 
   IntLowerThanPredicate(int threshold) {
     this.threshold = threshold;
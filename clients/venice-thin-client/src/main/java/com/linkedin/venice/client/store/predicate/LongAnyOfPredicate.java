@@ -1,7 +1,7 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class LongAnyOfPredicate implements LongPredicate {
-  private final long[] expectedValues;
+  final long[] expectedValues;
 
   LongAnyOfPredicate(long... expectedValues) {
     /**
@@ -1,7 +1,7 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class LongEqualsPredicate implements LongPredicate {
-  private final long expectedValue;
+  final long expectedValue;
 
   LongEqualsPredicate(long expectedValue) {
     this.expectedValue = expectedValue;
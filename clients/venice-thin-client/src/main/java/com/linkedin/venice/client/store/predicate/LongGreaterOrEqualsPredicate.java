@@ -1,7 +1,7 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class LongGreaterOrEqualsPredicate implements LongPredicate {
-  private final long threshold;
+  final long threshold;
 
   LongGreaterOrEqualsPredicate(long threshold) {
     this.threshold = threshold;
@@ -1,7 +1,7 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class LongGreaterThanPredicate implements LongPredicate {
-  private final long threshold;
+  final long threshold;
 
   LongGreaterThanPredicate(long threshold) {
     this.threshold = threshold;
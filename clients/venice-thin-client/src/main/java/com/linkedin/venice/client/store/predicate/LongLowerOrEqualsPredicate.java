@@ -1,7 +1,7 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class LongLowerOrEqualsPredicate implements LongPredicate {
-  private final long threshold;
+  final long threshold;
 
   LongLowerOrEqualsPredicate(long threshold) {
     this.threshold = threshold;
@@ -1,7 +1,7 @@
 package com.linkedin.venice.client.store.predicate;
 
 public class LongLowerThanPredicate implements LongPredicate {
-  private final long threshold;
+  final long threshold;
 
   LongLowerThanPredicate(long threshold) {
     this.threshold = threshold;
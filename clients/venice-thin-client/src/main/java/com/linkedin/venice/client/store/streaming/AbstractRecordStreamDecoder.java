@@ -14,6 +14,7 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -54,7 +55,7 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
   private boolean isStreamingResponse = false;
   private int responseSchemaId = SchemaData.INVALID_VALUE_SCHEMA_ID;
   private CompressionStrategy compressionStrategy = CompressionStrategy.NO_OP;
-  private ReadEnvelopeChunkedDeserializer<ENVELOPE> envelopeDeserializer = null;
+  private ReadEnvelopeDeserializer<ENVELOPE> envelopeDeserializer = null;
 
   public AbstractRecordStreamDecoder(
       List<K> keyList,
@@ -106,14 +107,19 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
     }
     envelopeDeserializer.write(chunk);
     // Envelope deserialization has to happen sequentially
-    final List<ENVELOPE> availableRecords = envelopeDeserializer.consume();
-    if (availableRecords.isEmpty()) {
+    final Iterator<ENVELOPE> availableRecords = envelopeDeserializer.consume().iterator();
+    if (!availableRecords.hasNext()) {
       // no full record is available
       return;
     }
     CompletableFuture<Void> deserializationFuture = CompletableFuture.runAsync(() -> {
       Map<K, V> resultMap = new HashMap<>();
-      for (ENVELOPE record: availableRecords) {
+      while (availableRecords.hasNext()) {
+        /**
+         * The envelope might be a holder reused by the following records, see
+         * {@link MultiGetResponseRecordV1InPlaceDeserializer}, so it must not be kept beyond this iteration.
+         */
+        ENVELOPE record = availableRecords.next();
         final int keyIdx = getKeyIndex(record);
         validateKeyIdx(keyIdx);
         if (KEY_ID_FOR_STREAMING_FOOTER == keyIdx) {
@@ -229,7 +235,7 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
         });
   }
 
-  protected abstract ReadEnvelopeChunkedDeserializer<ENVELOPE> getEnvelopeDeserializer(int schemaId);
+  protected abstract ReadEnvelopeDeserializer<ENVELOPE> getEnvelopeDeserializer(int schemaId);
 
   protected abstract StreamingFooterRecordV1 getStreamingFooterRecord(ENVELOPE envelope);
 
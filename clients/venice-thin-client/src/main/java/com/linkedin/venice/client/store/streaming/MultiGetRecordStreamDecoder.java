@@ -17,6 +17,7 @@ public class MultiGetRecordStreamDecoder<K, V> extends AbstractRecordStreamDecod
   private final RecordDeserializer<StreamingFooterRecordV1> streamingFooterDeserializer;
   private final Function<Integer, RecordDeserializer<V>> valueDeserializerProvider;
   private final BiFunction<CompressionStrategy, ByteBuffer, ByteBuffer> decompressor;
+  private final boolean inPlaceEnvelopeDecodingEnabled;
 
   public MultiGetRecordStreamDecoder(
       List<K> keyList,
@@ -25,19 +26,44 @@ public class MultiGetRecordStreamDecoder<K, V> extends AbstractRecordStreamDecod
       RecordDeserializer<StreamingFooterRecordV1> streamingFooterDeserializer,
       Function<Integer, RecordDeserializer<V>> valueDeserializerProvider,
       BiFunction<CompressionStrategy, ByteBuffer, ByteBuffer> decompressor) {
+    this(
+        keyList,
+        callback,
+        deserializationExecutor,
+        streamingFooterDeserializer,
+        valueDeserializerProvider,
+        decompressor,
+        false);
+  }
+
+  /**
+   * @param inPlaceEnvelopeDecodingEnabled whether to parse the envelopes in place with
+   *                                       {@link MultiGetResponseRecordV1InPlaceDeserializer}
+   */
+  public MultiGetRecordStreamDecoder(
+      List<K> keyList,
+      TrackingStreamingCallback<K, V> callback,
+      Executor deserializationExecutor,
+      RecordDeserializer<StreamingFooterRecordV1> streamingFooterDeserializer,
+      Function<Integer, RecordDeserializer<V>> valueDeserializerProvider,
+      BiFunction<CompressionStrategy, ByteBuffer, ByteBuffer> decompressor,
+      boolean inPlaceEnvelopeDecodingEnabled) {
     super(keyList, callback, deserializationExecutor);
     this.streamingFooterDeserializer = streamingFooterDeserializer;
     this.valueDeserializerProvider = valueDeserializerProvider;
     this.decompressor = decompressor;
+    this.inPlaceEnvelopeDecodingEnabled = inPlaceEnvelopeDecodingEnabled;
   }
 
   @Override
-  protected ReadEnvelopeChunkedDeserializer<MultiGetResponseRecordV1> getEnvelopeDeserializer(int schemaId) {
+  protected ReadEnvelopeDeserializer<MultiGetResponseRecordV1> getEnvelopeDeserializer(int schemaId) {
     int protocolVersion = ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion();
     if (protocolVersion != schemaId) {
       throw new VeniceClientException("schemaId: " + schemaId + " is not expected, should be " + protocolVersion);
     }
-    return new MultiGetResponseRecordV1ChunkedDeserializer();
+    return inPlaceEnvelopeDecodingEnabled
+        ? new MultiGetResponseRecordV1InPlaceDeserializer()
+        : new MultiGetResponseRecordV1ChunkedDeserializer();
   }
 
   @Override
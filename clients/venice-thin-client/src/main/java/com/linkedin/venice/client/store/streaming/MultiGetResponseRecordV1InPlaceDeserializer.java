@@ -0,0 +1,203 @@
+package com.linkedin.venice.client.store.streaming;
+
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+
+/**
+ * An allocation-free alternative to {@link MultiGetResponseRecordV1ChunkedDeserializer}, which parses the envelopes
+ * in place over the received data chunks instead of creating a {@link MultiGetResponseRecordV1} and copying the value
+ * of every record.
+ *
+ * {@link #write(ByteBuffer)} only looks for the boundaries of the full records, and keeps track of the byte ranges
+ * containing them. The envelopes are parsed when the records returned by {@link #consume()} are iterated, which fills
+ * in a single {@link MultiGetResponseRecordV1} holder per thread, whose value is a view over the received bytes. So the
+ * returned record, along with its value, is only valid until the next record is read in the same thread, and must
+ * not be kept by the caller.
+ *
+ * The chunks backed by an array, like the ones of
+ * {@link com.linkedin.venice.client.store.transport.HttpTransportClient}, are read in place. Since the value
+ * deserializers and the decompressors need array-backed buffers, the read-only chunks of
+ * {@link com.linkedin.venice.client.store.transport.D2TransportClient} are copied with a single bulk copy per chunk
+ * instead, which still avoids any per-record allocation.
+ */
+public class MultiGetResponseRecordV1InPlaceDeserializer implements ReadEnvelopeDeserializer<MultiGetResponseRecordV1> {
+  private static final byte[] EMPTY_BYTES = new byte[0];
+  private static final ThreadLocal<MultiGetResponseRecordV1> RECORD_HOLDER =
+      ThreadLocal.withInitial(MultiGetResponseRecordV1::new);
+
+  private List<Segment> availableSegments = new ArrayList<>();
+  // Partial record at the end of the previous chunks
+  private byte[] pendingBytes = EMPTY_BYTES;
+
+  @Override
+  public void write(ByteBuffer bytes) {
+    if (!bytes.hasRemaining()) {
+      return;
+    }
+    byte[] array;
+    int start;
+    int end;
+    if (bytes.hasArray() && pendingBytes.length == 0) {
+      array = bytes.array();
+      start = bytes.arrayOffset() + bytes.position();
+      end = start + bytes.remaining();
+    } else {
+      array = Arrays.copyOf(pendingBytes, pendingBytes.length + bytes.remaining());
+      bytes.duplicate().get(array, pendingBytes.length, bytes.remaining());
+      start = 0;
+      end = array.length;
+    }
+
+    int fullRecordsEnd = start;
+    int recordEnd;
+    while ((recordEnd = getRecordEnd(array, fullRecordsEnd, end)) >= 0) {
+      fullRecordsEnd = recordEnd;
+    }
+    if (fullRecordsEnd > start) {
+      availableSegments.add(new Segment(array, start, fullRecordsEnd));
+    }
+    pendingBytes = fullRecordsEnd == end ? EMPTY_BYTES : Arrays.copyOfRange(array, fullRecordsEnd, end);
+  }
+
+  @Override
+  public Iterable<MultiGetResponseRecordV1> consume() {
+    if (availableSegments.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<Segment> segments = availableSegments;
+    availableSegments = new ArrayList<>();
+    return () -> new RecordIterator(segments);
+  }
+
+  /**
+   * @return the end offset of the record starting at {@param offset}, or -1 if it is not fully contained before
+   *         {@param limit}
+   */
+  private static int getRecordEnd(byte[] array, int offset, int limit) {
+    // keyIndex: int
+    long keyIndex = readInt(array, offset, limit);
+    if (keyIndex < 0) {
+      return -1;
+    }
+    // value: bytes
+    long valueLength = readInt(array, getNextOffset(keyIndex), limit);
+    if (valueLength < 0) {
+      return -1;
+    }
+    int valueEnd = getValueEnd(valueLength);
+    if (valueEnd >= limit) {
+      return -1;
+    }
+    // schemaId: int
+    long schemaId = readInt(array, valueEnd, limit);
+    if (schemaId < 0) {
+      return -1;
+    }
+    return getNextOffset(schemaId);
+  }
+
+  /**
+   * The following implementation is equivalent to {@link org.apache.avro.io.BinaryDecoder#readInt()}, and returns
+   * the offset following the int in the upper 32 bits along with the int in the lower 32 bits, to avoid allocating a
+   * container per int, or -1 if the int is not fully contained before {@param limit}.
+   */
+  private static long readInt(byte[] array, int offset, int limit) {
+    int n = 0;
+    for (int shift = 0; shift <= 28; shift += 7) {
+      if (offset >= limit) {
+        return -1;
+      }
+      int b = array[offset++] & 0xff;
+      n ^= (b & 0x7f) << shift;
+      if (b <= 0x7f) {
+        int intRes = (n >>> 1) ^ -(n & 1); // back to two's-complement
+        return ((long) offset << 32) | (intRes & 0xffffffffL);
+      }
+    }
+    throw new VeniceClientException("Invalid int encoding");
+  }
+
+  private static int getNextOffset(long readIntResult) {
+    return (int) (readIntResult >>> 32);
+  }
+
+  private static int getValueEnd(long valueLength) {
+    int length = (int) valueLength;
+    if (length < 0) {
+      throw new VeniceClientException("Invalid value length: " + length);
+    }
+    return getNextOffset(valueLength) + length;
+  }
+
+  /**
+   * A byte range containing full records only.
+   */
+  private static class Segment {
+    final byte[] array;
+    final int start;
+    final int end;
+
+    Segment(byte[] array, int start, int end) {
+      this.array = array;
+      this.start = start;
+      this.end = end;
+    }
+  }
+
+  private static class RecordIterator implements Iterator<MultiGetResponseRecordV1> {
+    private final List<Segment> segments;
+    private int segmentIndex = 0;
+    private Segment currentSegment = null;
+    private ByteBuffer currentValue = null;
+    private int currentOffset = 0;
+
+    RecordIterator(List<Segment> segments) {
+      this.segments = segments;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (currentSegment == null || currentOffset >= currentSegment.end) {
+        if (segmentIndex >= segments.size()) {
+          return false;
+        }
+        currentSegment = segments.get(segmentIndex++);
+        currentValue = ByteBuffer.wrap(currentSegment.array);
+        currentOffset = currentSegment.start;
+      }
+      return true;
+    }
+
+    @Override
+    public MultiGetResponseRecordV1 next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      byte[] array = currentSegment.array;
+      int end = currentSegment.end;
+      long keyIndex = readInt(array, currentOffset, end);
+      long valueLength = readInt(array, getNextOffset(keyIndex), end);
+      int valueStart = getNextOffset(valueLength);
+      int valueEnd = getValueEnd(valueLength);
+      long schemaId = readInt(array, valueEnd, end);
+      currentOffset = getNextOffset(schemaId);
+
+      // The value deserializers and the decompressors might have moved the position of the previous value
+      currentValue.limit(valueEnd);
+      currentValue.position(valueStart);
+      MultiGetResponseRecordV1 record = RECORD_HOLDER.get();
+      record.keyIndex = (int) keyIndex;
+      record.value = currentValue;
+      record.schemaId = (int) schemaId;
+      return record;
+    }
+  }
+}
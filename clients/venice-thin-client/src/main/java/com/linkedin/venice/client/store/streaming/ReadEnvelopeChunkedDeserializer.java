@@ -22,7 +22,7 @@ import org.apache.logging.log4j.Logger;
  *
  * @param <V>
  */
-public abstract class ReadEnvelopeChunkedDeserializer<V> {
+public abstract class ReadEnvelopeChunkedDeserializer<V> implements ReadEnvelopeDeserializer<V> {
   private static final Logger LOGGER = LogManager.getLogger(ReadEnvelopeChunkedDeserializer.class);
 
   // All available deserialized bytes
@@ -54,6 +54,7 @@ public abstract class ReadEnvelopeChunkedDeserializer<V> {
 
   public static final NotEnoughBytesException NOT_ENOUGH_BYTES_EXCEPTION = new NotEnoughBytesException();
 
+  @Override
   public List<V> consume() {
     tryDeserializeRecords();
     if (currentAvailableRecords.isEmpty()) {
@@ -65,6 +66,7 @@ public abstract class ReadEnvelopeChunkedDeserializer<V> {
     return returnedRecords;
   }
 
+  @Override
   public void write(ByteBuffer bytes) {
     if (!bytes.hasRemaining()) {
       return;
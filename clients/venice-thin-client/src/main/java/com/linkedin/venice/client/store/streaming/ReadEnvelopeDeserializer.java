@@ -0,0 +1,18 @@
+package com.linkedin.venice.client.store.streaming;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * Deserializes the read envelopes of a streaming response, whose data chunks might contain partial records.
+ *
+ * The user could use {@link #write(ByteBuffer)} to keep writing more data, and the user can use {@link #consume()}
+ * to consume all the available records so far. All the records can only be consumed once.
+ *
+ * @param <V>
+ */
+public interface ReadEnvelopeDeserializer<V> {
+  void write(ByteBuffer bytes);
+
+  Iterable<V> consume();
+}
@@ -1,8 +1,13 @@
 package com.linkedin.venice.client.store;
 
+import static com.linkedin.venice.client.store.AvroComputeAggregationRequestBuilder.BUCKET_COUNTS_FIELD_SUFFIX;
+import static com.linkedin.venice.client.store.AvroComputeAggregationRequestBuilder.VALUE_COUNTS_FIELD_SUFFIX;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
@@ -13,15 +18,20 @@ import static org.testng.Assert.expectThrows;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.predicate.IntPredicate;
 import com.linkedin.venice.client.store.predicate.Predicate;
+import com.linkedin.venice.compute.protocol.request.ComputePredicate;
 import com.linkedin.venice.schema.SchemaReader;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import org.apache.avro.Schema;
 import org.apache.avro.SchemaBuilder;
+import org.mockito.ArgumentCaptor;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -80,22 +90,22 @@ public class AvroComputeAggregationRequestBuilderTest {
     when(storeClient.compute()).thenReturn(delegate);
     when(storeClient.getSchemaReader()).thenReturn(schemaReader);
 
-    builder = new AvroComputeAggregationRequestBuilder<>(storeClient, schemaReader);
+    builder = new AvroComputeAggregationRequestBuilder<>(storeClient, schemaReader, true);
   }
 
-  @Test(description = "Should accept valid parameters and project fields")
+  @Test(description = "Should accept valid parameters and push down the counting")
   public void testValidParameters() {
     builder.countGroupByValue(10, JOB_TYPE_FIELD);
 
-    verify(delegate).project(JOB_TYPE_FIELD);
+    verify(delegate).countGroupByValue(JOB_TYPE_FIELD, JOB_TYPE_FIELD + VALUE_COUNTS_FIELD_SUFFIX);
   }
 
   @Test(description = "Should accept multiple fields")
   public void testMultipleFields() {
     builder.countGroupByValue(5, JOB_TYPE_FIELD, LOCATION_FIELD);
 
-    verify(delegate).project(JOB_TYPE_FIELD);
-    verify(delegate).project(LOCATION_FIELD);
+    verify(delegate).countGroupByValue(JOB_TYPE_FIELD, JOB_TYPE_FIELD + VALUE_COUNTS_FIELD_SUFFIX);
+    verify(delegate).countGroupByValue(LOCATION_FIELD, LOCATION_FIELD + VALUE_COUNTS_FIELD_SUFFIX);
   }
 
   @Test(description = "Should reject invalid topK values")
@@ -160,42 +170,42 @@ public class AvroComputeAggregationRequestBuilderTest {
         .countGroupByValue(3, LOCATION_FIELD)
         .countGroupByValue(2, EXPERIENCE_FIELD);
 
-    verify(delegate).project(JOB_TYPE_FIELD);
-    verify(delegate).project(LOCATION_FIELD);
-    verify(delegate).project(EXPERIENCE_FIELD);
+    verify(delegate).countGroupByValue(JOB_TYPE_FIELD, JOB_TYPE_FIELD + VALUE_COUNTS_FIELD_SUFFIX);
+    verify(delegate).countGroupByValue(LOCATION_FIELD, LOCATION_FIELD + VALUE_COUNTS_FIELD_SUFFIX);
+    verify(delegate).countGroupByValue(EXPERIENCE_FIELD, EXPERIENCE_FIELD + VALUE_COUNTS_FIELD_SUFFIX);
   }
 
   @Test(description = "Should handle single field with minimum topK value")
   public void testSingleFieldWithMinimumTopK() {
     builder.countGroupByValue(1, JOB_TYPE_FIELD);
 
-    verify(delegate).project(JOB_TYPE_FIELD);
+    verify(delegate).countGroupByValue(JOB_TYPE_FIELD, JOB_TYPE_FIELD + VALUE_COUNTS_FIELD_SUFFIX);
   }
 
   @Test(description = "Should handle large topK value")
   public void testLargeTopKValue() {
     builder.countGroupByValue(10000, JOB_TYPE_FIELD);
 
-    verify(delegate).project(JOB_TYPE_FIELD);
+    verify(delegate).countGroupByValue(JOB_TYPE_FIELD, JOB_TYPE_FIELD + VALUE_COUNTS_FIELD_SUFFIX);
   }
 
   @Test(description = "Should handle all schema fields")
   public void testAllSchemaFields() {
     builder.countGroupByValue(5, JOB_TYPE_FIELD, LOCATION_FIELD, EXPERIENCE_FIELD, SALARY_FIELD, AGE_FIELD);
 
-    verify(delegate).project(JOB_TYPE_FIELD);
-    verify(delegate).project(LOCATION_FIELD);
-    verify(delegate).project(EXPERIENCE_FIELD);
-    verify(delegate).project(SALARY_FIELD);
-    verify(delegate).project(AGE_FIELD);
+    verify(delegate).countGroupByValue(JOB_TYPE_FIELD, JOB_TYPE_FIELD + VALUE_COUNTS_FIELD_SUFFIX);
+    verify(delegate).countGroupByValue(LOCATION_FIELD, LOCATION_FIELD + VALUE_COUNTS_FIELD_SUFFIX);
+    verify(delegate).countGroupByValue(EXPERIENCE_FIELD, EXPERIENCE_FIELD + VALUE_COUNTS_FIELD_SUFFIX);
+    verify(delegate).countGroupByValue(SALARY_FIELD, SALARY_FIELD + VALUE_COUNTS_FIELD_SUFFIX);
+    verify(delegate).countGroupByValue(AGE_FIELD, AGE_FIELD + VALUE_COUNTS_FIELD_SUFFIX);
   }
 
   @Test(description = "Should handle duplicate field names")
   public void testDuplicateFieldNames() {
     builder.countGroupByValue(5, JOB_TYPE_FIELD, JOB_TYPE_FIELD, LOCATION_FIELD);
 
-    verify(delegate, times(2)).project(JOB_TYPE_FIELD);
-    verify(delegate).project(LOCATION_FIELD);
+    verify(delegate).countGroupByValue(JOB_TYPE_FIELD, JOB_TYPE_FIELD + VALUE_COUNTS_FIELD_SUFFIX);
+    verify(delegate).countGroupByValue(LOCATION_FIELD, LOCATION_FIELD + VALUE_COUNTS_FIELD_SUFFIX);
   }
 
   @Test(description = "Should handle schema reader returning null schema")
@@ -268,8 +278,9 @@ public class AvroComputeAggregationRequestBuilderTest {
         .countGroupByValue(3, JOB_TYPE_FIELD)
         .countGroupByValue(1, JOB_TYPE_FIELD);
 
-    // Should call project 3 times for the same field
-    verify(delegate, times(3)).project(JOB_TYPE_FIELD);
+    // Should push down the counting only once for the same field
+    verify(delegate).countGroupByValue(JOB_TYPE_FIELD, JOB_TYPE_FIELD + VALUE_COUNTS_FIELD_SUFFIX);
+    verify(delegate, never()).project(JOB_TYPE_FIELD);
   }
 
   @Test(description = "Should handle execution with single key")
@@ -306,15 +317,33 @@ public class AvroComputeAggregationRequestBuilderTest {
     verify(delegate).execute(keys);
   }
 
-  @Test(description = "Should accept valid bucket parameters and project fields")
+  @Test(description = "Should accept valid bucket parameters and push down the counting on execution")
   public void testValidBucketParameters() {
     Map<String, Predicate<Integer>> bucketPredicates = new HashMap<>();
     bucketPredicates.put("young", IntPredicate.lowerThan(30));
     bucketPredicates.put("senior", IntPredicate.greaterOrEquals(30));
 
     builder.countGroupByBucket(bucketPredicates, AGE_FIELD);
+    verify(delegate, never()).countGroupByBucket(anyString(), anyList(), anyList(), anyString());
+
+    executeWithEmptyResult();
+    verifyBucketsPushedDown(AGE_FIELD, "senior", "young");
+    verify(delegate, never()).project(AGE_FIELD);
+  }
 
+  @Test(description = "Should project and count on the client side when the push down is disabled")
+  public void testPushDownDisabled() {
+    builder = new AvroComputeAggregationRequestBuilder<>(storeClient, schemaReader);
+    Map<String, Predicate<Integer>> bucketPredicates = new HashMap<>();
+    bucketPredicates.put("young", IntPredicate.lowerThan(30));
+
+    builder.countGroupByValue(5, JOB_TYPE_FIELD).countGroupByBucket(bucketPredicates, AGE_FIELD);
+    executeWithEmptyResult();
+
+    verify(delegate).project(JOB_TYPE_FIELD);
     verify(delegate).project(AGE_FIELD);
+    verify(delegate, never()).countGroupByValue(anyString(), anyString());
+    verify(delegate, never()).countGroupByBucket(anyString(), anyList(), anyList(), anyString());
   }
 
   @Test(description = "Should accept multiple fields for bucket aggregation")
@@ -324,9 +353,10 @@ public class AvroComputeAggregationRequestBuilderTest {
     bucketPredicates.put("high", IntPredicate.greaterOrEquals(50));
 
     builder.countGroupByBucket(bucketPredicates, AGE_FIELD, SALARY_FIELD);
+    executeWithEmptyResult();
 
-    verify(delegate).project(AGE_FIELD);
-    verify(delegate).project(SALARY_FIELD);
+    verifyBucketsPushedDown(AGE_FIELD, "high", "low");
+    verifyBucketsPushedDown(SALARY_FIELD, "high", "low");
   }
 
   @Test(description = "Should reject invalid bucket predicates")
@@ -414,9 +444,10 @@ public class AvroComputeAggregationRequestBuilderTest {
     bucketPredicates.put("young", IntPredicate.lowerThan(30));
 
     builder.countGroupByValue(5, JOB_TYPE_FIELD).countGroupByBucket(bucketPredicates, AGE_FIELD);
+    executeWithEmptyResult();
 
-    verify(delegate).project(JOB_TYPE_FIELD);
-    verify(delegate).project(AGE_FIELD);
+    verify(delegate).countGroupByValue(JOB_TYPE_FIELD, JOB_TYPE_FIELD + VALUE_COUNTS_FIELD_SUFFIX);
+    verifyBucketsPushedDown(AGE_FIELD, "young");
   }
 
   @Test(description = "Should handle multiple countGroupByBucket calls")
@@ -431,17 +462,71 @@ public class AvroComputeAggregationRequestBuilderTest {
 
     // Test chaining different fields
     builder.countGroupByBucket(ageBuckets, AGE_FIELD).countGroupByBucket(jobBuckets, JOB_TYPE_FIELD);
-    verify(delegate).project(AGE_FIELD);
-    verify(delegate).project(JOB_TYPE_FIELD);
 
     // Test chaining same field
     Map<String, Predicate<Integer>> buckets1 = new HashMap<>();
-    buckets1.put("young", IntPredicate.lowerThan(30));
+    buckets1.put("junior", IntPredicate.lowerThan(20));
     Map<String, Predicate<Integer>> buckets2 = new HashMap<>();
-    buckets2.put("senior", IntPredicate.greaterOrEquals(30));
+    buckets2.put("retired", IntPredicate.greaterOrEquals(65));
 
     builder.countGroupByBucket(buckets1, AGE_FIELD).countGroupByBucket(buckets2, AGE_FIELD);
-    verify(delegate, times(3)).project(AGE_FIELD);
+    executeWithEmptyResult();
+
+    // The buckets of the same field are pushed down together
+    verifyBucketsPushedDown(AGE_FIELD, "junior", "retired", "senior", "young");
+    verifyBucketsPushedDown(JOB_TYPE_FIELD, "engineer", "manager");
+  }
+
+  @Test(description = "Should project the field when a bucket predicate can't be pushed down")
+  public void testBucketPredicateNotPushedDown() {
+    Map<String, Predicate<Integer>> bucketPredicates = new HashMap<>();
+    bucketPredicates.put("young", IntPredicate.lowerThan(30));
+    bucketPredicates.put("even", new Predicate<Integer>() {
+      @Override
+      public boolean evaluate(Integer value) {
+        return value % 2 == 0;
+      }
+
+      @Override
+      public boolean isCompatibleWithSchema(Schema schema) {
+        return schema.getType() == Schema.Type.INT;
+      }
+    });
+
+    builder.countGroupByBucket(bucketPredicates, AGE_FIELD);
+    executeWithEmptyResult();
+
+    verify(delegate).project(AGE_FIELD);
+    verify(delegate, never()).countGroupByBucket(anyString(), anyList(), anyList(), anyString());
+  }
+
+  @Test(description = "Should project the field when its values can't be counted by the servers")
+  public void testValueCountNotPushedDown() {
+    Schema schema = SchemaBuilder.record("Job")
+        .fields()
+        .name(JOB_TYPE_FIELD)
+        .type()
+        .stringType()
+        .noDefault()
+        .name("skills")
+        .type()
+        .array()
+        .items()
+        .stringType()
+        .noDefault()
+        .name(JOB_TYPE_FIELD + VALUE_COUNTS_FIELD_SUFFIX)
+        .type()
+        .intType()
+        .noDefault()
+        .endRecord();
+    when(schemaReader.getValueSchema(1)).thenReturn(schema);
+
+    builder.countGroupByValue(5, "skills", JOB_TYPE_FIELD);
+
+    // The array field isn't supported, and the result field name of the string field is already taken
+    verify(delegate).project("skills");
+    verify(delegate).project(JOB_TYPE_FIELD);
+    verify(delegate, never()).countGroupByValue(anyString(), anyString());
   }
 
   @Test(description = "Should handle edge cases for field names in bucket aggregation")
@@ -502,6 +587,26 @@ public class AvroComputeAggregationRequestBuilderTest {
 
     // This should work because AGE_FIELD is int type and we're using IntPredicate
     builder.countGroupByBucket(bucketPredicates, AGE_FIELD);
-    verify(delegate).project(AGE_FIELD);
+    executeWithEmptyResult();
+    verifyBucketsPushedDown(AGE_FIELD, "senior", "young");
+  }
+
+  private void executeWithEmptyResult() {
+    when(delegate.execute(any())).thenReturn(CompletableFuture.completedFuture(new HashMap<>()));
+    builder.execute(new HashSet<>(Arrays.asList("key1")));
+  }
+
+  private void verifyBucketsPushedDown(String fieldName, String... expectedBucketNames) {
+    ArgumentCaptor<List<String>> bucketNamesCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<ComputePredicate>> bucketPredicatesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(delegate).countGroupByBucket(
+        eq(fieldName),
+        bucketNamesCaptor.capture(),
+        bucketPredicatesCaptor.capture(),
+        eq(fieldName + BUCKET_COUNTS_FIELD_SUFFIX));
+    List<String> bucketNames = new ArrayList<>(bucketNamesCaptor.getValue());
+    Collections.sort(bucketNames);
+    assertEquals(bucketNames, Arrays.asList(expectedBucketNames));
+    assertEquals(bucketPredicatesCaptor.getValue().size(), expectedBucketNames.length);
   }
 }
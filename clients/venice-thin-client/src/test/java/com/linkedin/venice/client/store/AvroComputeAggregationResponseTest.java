@@ -13,13 +13,18 @@ import com.linkedin.venice.client.store.predicate.FloatPredicate;
 import com.linkedin.venice.client.store.predicate.IntPredicate;
 import com.linkedin.venice.client.store.predicate.LongPredicate;
 import com.linkedin.venice.client.store.predicate.Predicate;
+import com.linkedin.venice.compute.CountGroupByValueOperator;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.util.Utf8;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -715,6 +720,88 @@ public class AvroComputeAggregationResponseTest {
     assertEquals(bucketCounts.get("string_to_double"), Integer.valueOf(1));
   }
 
+  @Test(description = "Should merge the partial value counts computed by the servers before applying topK")
+  public void testPushedDownValueCounting() {
+    String resultFieldName = JOB_TYPE_FIELD + "_valueCounts";
+    Schema resultSchema = CountGroupByValueOperator.getResultSchema(resultFieldName, Schema.create(Schema.Type.STRING));
+
+    // The partial counts of each chunk of keys are carried by one of its records, the other records hold null
+    Map<String, ComputeGenericRecord> computeResults = new HashMap<>();
+    ComputeGenericRecord chunk1 = mock(ComputeGenericRecord.class);
+    when(chunk1.get(resultFieldName))
+        .thenReturn(createValueCounts(resultSchema, new Utf8("full-time"), 3, new Utf8("part-time"), 1));
+    computeResults.put("key1", chunk1);
+    computeResults.put("key2", mock(ComputeGenericRecord.class));
+    ComputeGenericRecord chunk2 = mock(ComputeGenericRecord.class);
+    when(chunk2.get(resultFieldName))
+        .thenReturn(createValueCounts(resultSchema, new Utf8("part-time"), 4, new Utf8("contract"), 2));
+    computeResults.put("key3", chunk2);
+
+    AvroComputeAggregationResponse<String> response = new AvroComputeAggregationResponse<>(
+        computeResults,
+        Collections.singletonMap(JOB_TYPE_FIELD, 2),
+        new HashMap<>(),
+        Collections.singletonMap(JOB_TYPE_FIELD, resultFieldName),
+        Collections.emptyMap());
+    Map<String, Integer> result = response.getValueToCount(JOB_TYPE_FIELD);
+
+    // part-time is only in the top 2 once the counts of both chunks are merged
+    List<Map.Entry<String, Integer>> entries = new ArrayList<>(result.entrySet());
+    assertEquals(entries.size(), 2);
+    assertEquals(entries.get(0).getKey(), "part-time");
+    assertEquals(entries.get(0).getValue(), Integer.valueOf(5));
+    assertEquals(entries.get(1).getKey(), "full-time");
+    assertEquals(entries.get(1).getValue(), Integer.valueOf(3));
+  }
+
+  @Test(description = "Should merge the partial bucket counts computed by the servers")
+  public void testPushedDownBucketCounting() {
+    String resultFieldName = AGE_FIELD + "_bucketCounts";
+    Map<String, Map<String, Predicate>> fieldBucketMap = new HashMap<>();
+    Map<String, Predicate> buckets = new LinkedHashMap<>();
+    buckets.put("young", IntPredicate.lowerThan(30));
+    buckets.put("senior", IntPredicate.greaterOrEquals(30));
+    buckets.put("retired", IntPredicate.greaterOrEquals(65));
+    fieldBucketMap.put(AGE_FIELD, buckets);
+
+    Map<String, ComputeGenericRecord> computeResults = new HashMap<>();
+    ComputeGenericRecord chunk1 = mock(ComputeGenericRecord.class);
+    Map<Utf8, Integer> partialCounts1 = new HashMap<>();
+    partialCounts1.put(new Utf8("young"), 2);
+    partialCounts1.put(new Utf8("senior"), 1);
+    when(chunk1.get(resultFieldName)).thenReturn(partialCounts1);
+    computeResults.put("key1", chunk1);
+    ComputeGenericRecord chunk2 = mock(ComputeGenericRecord.class);
+    when(chunk2.get(resultFieldName)).thenReturn(Collections.singletonMap(new Utf8("senior"), 3));
+    computeResults.put("key2", chunk2);
+
+    AvroComputeAggregationResponse<String> response = new AvroComputeAggregationResponse<>(
+        computeResults,
+        new HashMap<>(),
+        fieldBucketMap,
+        Collections.emptyMap(),
+        Collections.singletonMap(AGE_FIELD, resultFieldName));
+    Map<String, Integer> bucketCounts = response.getBucketNameToCount(AGE_FIELD);
+
+    assertEquals(bucketCounts.size(), 3);
+    assertEquals(bucketCounts.get("young"), Integer.valueOf(2));
+    assertEquals(bucketCounts.get("senior"), Integer.valueOf(4));
+    // The buckets without any match are still reported
+    assertEquals(bucketCounts.get("retired"), Integer.valueOf(0));
+  }
+
+  private List<GenericRecord> createValueCounts(Schema resultSchema, Object... valueCountPairs) {
+    Schema valueCountSchema = resultSchema.getTypes().get(1).getElementType();
+    List<GenericRecord> valueCounts = new ArrayList<>();
+    for (int i = 0; i < valueCountPairs.length; i += 2) {
+      GenericRecord valueCount = new GenericData.Record(valueCountSchema);
+      valueCount.put(CountGroupByValueOperator.VALUE_FIELD_NAME, valueCountPairs[i]);
+      valueCount.put(CountGroupByValueOperator.COUNT_FIELD_NAME, valueCountPairs[i + 1]);
+      valueCounts.add(valueCount);
+    }
+    return valueCounts;
+  }
+
   private Map<String, ComputeGenericRecord> createSimpleTestData() {
     Map<String, ComputeGenericRecord> data = new HashMap<>();
 
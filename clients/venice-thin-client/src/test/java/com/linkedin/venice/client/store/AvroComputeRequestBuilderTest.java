@@ -6,11 +6,16 @@ import static com.linkedin.venice.client.store.predicate.Predicate.equalTo;
 import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.COSINE_SIMILARITY;
 import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.DOT_PRODUCT;
 import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.HADAMARD_PRODUCT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import com.linkedin.venice.VeniceConstants;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.predicate.FloatPredicate;
+import com.linkedin.venice.client.store.predicate.IntPredicate;
 import com.linkedin.venice.client.store.predicate.Predicate;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
@@ -384,6 +389,50 @@ public class AvroComputeRequestBuilderTest {
     computeRequestBuilder.execute(keys);
   }
 
+  @Test
+  public void testValueFilters() {
+    AbstractAvroStoreClient mockClient = getMockClient(VALID_RECORD_SCHEMA);
+    doReturn("testStore").when(mockClient).getStoreName();
+    ArgumentCaptor<ComputeRequestWrapper> computeRequestCaptor = ArgumentCaptor.forClass(ComputeRequestWrapper.class);
+
+    new AvroComputeRequestBuilderV3<String>(mockClient, mockClient.getSchemaReader()).project("int_field")
+        .filter("int_field", IntPredicate.greaterThan(10))
+        .filter("float_field", FloatPredicate.lowerThan(1.0f))
+        .execute(keys);
+    verify(mockClient).compute(computeRequestCaptor.capture(), any(), any(), any(), anyLong());
+
+    ComputeRequestWrapper capturedComputeRequest = computeRequestCaptor.getValue();
+    Assert.assertEquals(capturedComputeRequest.getComputeRequestVersion(), VeniceConstants.COMPUTE_REQUEST_VERSION_V5);
+    Assert.assertEquals(capturedComputeRequest.getFilters().size(), 2);
+    Assert.assertEquals(capturedComputeRequest.getFilters().get(0).field.toString(), "int_field");
+    Assert.assertEquals(capturedComputeRequest.getFilters().get(1).field.toString(), "float_field");
+
+    GenericRecord valueRecord = new GenericData.Record(VALID_RECORD_SCHEMA);
+    valueRecord.put("int_field", 11);
+    valueRecord.put("float_field", 0.5f);
+    Assert.assertTrue(capturedComputeRequest.matchesValueFilter(valueRecord));
+    valueRecord.put("float_field", 1.5f);
+    Assert.assertFalse(capturedComputeRequest.matchesValueFilter(valueRecord));
+    valueRecord.put("float_field", 0.5f);
+    valueRecord.put("int_field", 10);
+    Assert.assertFalse(capturedComputeRequest.matchesValueFilter(valueRecord));
+  }
+
+  @Test
+  public void testInvalidValueFilters() {
+    AbstractAvroStoreClient mockClient = getMockClient(VALID_RECORD_SCHEMA);
+    AvroComputeRequestBuilderV3<String> computeRequestBuilder =
+        new AvroComputeRequestBuilderV3<>(mockClient, mockClient.getSchemaReader());
+    VeniceClientException e = Assert.expectThrows(
+        VeniceClientException.class,
+        () -> computeRequestBuilder.filter("some_unknown_field", IntPredicate.equalTo(1)));
+    Assert.assertTrue(e.getMessage().startsWith("Filter field: some_unknown_field doesn't exist"));
+    // The record field projections can't be evaluated by the servers
+    Assert.expectThrows(
+        VeniceClientException.class,
+        () -> computeRequestBuilder.filter("record_field", equalTo("nested_field1", 1.0d)));
+  }
+
   @Test
   public void testFilterExtractPrefixBytes() {
     AbstractAvroStoreClient mockClient = getMockClient(VALID_RECORD_SCHEMA);
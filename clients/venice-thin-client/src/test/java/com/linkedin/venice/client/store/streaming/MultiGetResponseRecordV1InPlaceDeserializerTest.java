@@ -0,0 +1,93 @@
+package com.linkedin.venice.client.store.streaming;
+
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.serializer.AvroSerializer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class MultiGetResponseRecordV1InPlaceDeserializerTest {
+  private static final MultiGetResponseRecordV1 RECORD_1 = createRecord(100000, "0123456789", 900232210);
+  private static final MultiGetResponseRecordV1 RECORD_2 =
+      createRecord(-100000, "abcdefghijklmn0123456789", -900232210);
+  private static final MultiGetResponseRecordV1 RECORD_3 = createRecord(0, "", 1);
+
+  @Test
+  public void testDeserializeReadOnlyChunks() {
+    byte[] serializedBytes = serializeRecords();
+    MultiGetResponseRecordV1InPlaceDeserializer deserializer = new MultiGetResponseRecordV1InPlaceDeserializer();
+    deserializer.write(ByteBuffer.wrap(serializedBytes, 0, 2).asReadOnlyBuffer());
+    Assert.assertFalse(deserializer.consume().iterator().hasNext(), "No record should be available at this moment");
+    deserializer.write(ByteBuffer.wrap(serializedBytes, 2, 10).asReadOnlyBuffer());
+    Assert.assertFalse(deserializer.consume().iterator().hasNext(), "No record should be available at this moment");
+    deserializer.write(ByteBuffer.wrap(serializedBytes, 12, 7).asReadOnlyBuffer());
+    assertRecords(deserializer.consume(), RECORD_1);
+    Assert.assertFalse(deserializer.consume().iterator().hasNext(), "record could only be consumed once");
+    deserializer.write(ByteBuffer.wrap(serializedBytes, 19, 2).asReadOnlyBuffer());
+    deserializer.write(ByteBuffer.wrap(serializedBytes, 21, 20).asReadOnlyBuffer());
+    Assert.assertFalse(deserializer.consume().iterator().hasNext(), "No record should be available at this moment");
+    deserializer.write(ByteBuffer.wrap(serializedBytes, 41, serializedBytes.length - 41).asReadOnlyBuffer());
+    assertRecords(deserializer.consume(), RECORD_2, RECORD_3);
+  }
+
+  @Test
+  public void testDeserializeArrayBackedChunks() {
+    byte[] serializedBytes = serializeRecords();
+    byte[] paddedBytes = new byte[serializedBytes.length + 10];
+    System.arraycopy(serializedBytes, 0, paddedBytes, 5, serializedBytes.length);
+
+    MultiGetResponseRecordV1InPlaceDeserializer deserializer = new MultiGetResponseRecordV1InPlaceDeserializer();
+    deserializer.write(ByteBuffer.wrap(paddedBytes, 5, serializedBytes.length).slice());
+    Iterable<MultiGetResponseRecordV1> records = deserializer.consume();
+    assertRecords(records, RECORD_1, RECORD_2, RECORD_3);
+    // The records can be iterated again, and the values are read in place
+    Iterator<MultiGetResponseRecordV1> iterator = records.iterator();
+    Assert.assertSame(iterator.next().value.array(), paddedBytes);
+
+    // Full records in an array-backed chunk following a partial record
+    deserializer = new MultiGetResponseRecordV1InPlaceDeserializer();
+    deserializer.write(ByteBuffer.wrap(serializedBytes, 0, 15));
+    assertRecords(deserializer.consume());
+    deserializer.write(ByteBuffer.wrap(serializedBytes, 15, serializedBytes.length - 15));
+    assertRecords(deserializer.consume(), RECORD_1, RECORD_2, RECORD_3);
+  }
+
+  private static byte[] serializeRecords() {
+    AvroSerializer<MultiGetResponseRecordV1> serializer = new AvroSerializer<>(MultiGetResponseRecordV1.SCHEMA$);
+    List<MultiGetResponseRecordV1> records = new ArrayList<>();
+    records.add(RECORD_1);
+    records.add(RECORD_2);
+    records.add(RECORD_3);
+    return serializer.serializeObjects(records);
+  }
+
+  private static MultiGetResponseRecordV1 createRecord(int keyIndex, String value, int schemaId) {
+    MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+    record.keyIndex = keyIndex;
+    record.value = ByteBuffer.wrap(value.getBytes());
+    record.schemaId = schemaId;
+    return record;
+  }
+
+  private static void assertRecords(
+      Iterable<MultiGetResponseRecordV1> records,
+      MultiGetResponseRecordV1... expectedRecords) {
+    Iterator<MultiGetResponseRecordV1> iterator = records.iterator();
+    MultiGetResponseRecordV1 previousRecord = null;
+    for (MultiGetResponseRecordV1 expectedRecord: expectedRecords) {
+      Assert.assertTrue(iterator.hasNext());
+      MultiGetResponseRecordV1 record = iterator.next();
+      Assert.assertTrue(record.value.hasArray(), "The values should be backed by an array");
+      Assert.assertEquals(record, expectedRecord);
+      if (previousRecord != null) {
+        Assert.assertSame(record, previousRecord, "The record holder should be reused");
+      }
+      previousRecord = record;
+    }
+    Assert.assertFalse(iterator.hasNext());
+  }
+}
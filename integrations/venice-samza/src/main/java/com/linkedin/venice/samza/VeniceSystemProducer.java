@@ -308,6 +308,9 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
         .setMaxBatchSizeInBytes(
             Integer.parseInt(
                 veniceWriterProperties.getProperty(ConfigKeys.WRITER_BATCHING_MAX_BUFFER_SIZE_IN_BYTES, "5242880")))
+        .setBatchFoldUpdatesIntoPutEnabled(
+            Boolean.parseBoolean(
+                veniceWriterProperties.getProperty(ConfigKeys.WRITER_BATCHING_FOLD_UPDATES_INTO_PUT_ENABLED, "false")))
         .setStoreSchemaFetcher(schemaFetcher)
         .setChunkingEnabled(isChunkingEnabled)
         .setWriterHook(writerHook);
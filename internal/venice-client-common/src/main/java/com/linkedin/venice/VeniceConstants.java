@@ -30,10 +30,15 @@ public class VeniceConstants {
   public static final int COMPUTE_REQUEST_VERSION_V3 = 3;
 
   /**
-   * V4 contains all V3 operators + executeWithFilter
+   * V4 contains all V3 operators + new CountGroupByValue and CountGroupByBucket operators
    */
   public static final int COMPUTE_REQUEST_VERSION_V4 = 4;
 
+  /**
+   * V5 contains all V4 operators + value filters, evaluated before the operators
+   */
+  public static final int COMPUTE_REQUEST_VERSION_V5 = 5;
+
   /**
    * The default SSL factory class name; this class is mostly used in test cases; products that uses Venice lib
    * should override the SSL factory class.
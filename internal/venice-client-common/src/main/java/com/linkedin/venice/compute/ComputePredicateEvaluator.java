@@ -0,0 +1,238 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.venice.compute.protocol.request.ComputePredicate;
+import com.linkedin.venice.compute.protocol.request.enums.ComputePredicateType;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+
+/**
+ * Compiles the {@link ComputePredicate} sent along with a compute request into a {@link Predicate} on field values.
+ *
+ * The semantics mirror the client-side predicates: the field value is converted to the type of the operands before
+ * being compared, and a field value which cannot be converted doesn't match. Float and double operands are followed
+ * by the epsilon used for the comparisons, e.g. [threshold, epsilon] or [value1, ..., valueN, epsilon]. A null operand
+ * is only equal to a null field value, like {@link java.util.Objects#equals}.
+ */
+public class ComputePredicateEvaluator {
+  private ComputePredicateEvaluator() {
+  }
+
+  public static Predicate<Object> compile(ComputePredicate predicate) {
+    ComputePredicateType predicateType = ComputePredicateType.valueOf(predicate);
+    switch (predicateType) {
+      case AND:
+        Predicate<Object>[] andChildren = compileChildren(predicate);
+        return value -> {
+          for (Predicate<Object> child: andChildren) {
+            if (!child.test(value)) {
+              return false;
+            }
+          }
+          return true;
+        };
+      case OR:
+        Predicate<Object>[] orChildren = compileChildren(predicate);
+        return value -> {
+          for (Predicate<Object> child: orChildren) {
+            if (child.test(value)) {
+              return true;
+            }
+          }
+          return false;
+        };
+      default:
+        return compileLeaf(predicateType, normalizeOperands(predicate.operands));
+    }
+  }
+
+  private static Predicate<Object>[] compileChildren(ComputePredicate predicate) {
+    Predicate<Object>[] children = new Predicate[predicate.children.size()];
+    for (int i = 0; i < children.length; i++) {
+      children[i] = compile(predicate.children.get(i));
+    }
+    return children;
+  }
+
+  private static List<Object> normalizeOperands(List<Object> operands) {
+    List<Object> normalizedOperands = new ArrayList<>(operands.size());
+    for (Object operand: operands) {
+      normalizedOperands.add(operand instanceof CharSequence ? operand.toString() : operand);
+    }
+    return normalizedOperands;
+  }
+
+  private static Predicate<Object> compileLeaf(ComputePredicateType predicateType, List<Object> operands) {
+    Object lastOperand = operands.isEmpty() ? null : operands.get(operands.size() - 1);
+    boolean hasEpsilon = lastOperand instanceof Float || lastOperand instanceof Double;
+    List<Object> values = hasEpsilon ? operands.subList(0, operands.size() - 1) : operands;
+    if (predicateType == ComputePredicateType.ANY_OF) {
+      Object[] expectedValues = values.toArray();
+      return value -> {
+        for (Object expectedValue: expectedValues) {
+          if (matches(ComputePredicateType.EQUALS, value, expectedValue, lastOperand, hasEpsilon)) {
+            return true;
+          }
+        }
+        return false;
+      };
+    }
+    if (values.size() != 1) {
+      throw new VeniceException(predicateType + " predicate expects exactly one operand, got: " + operands);
+    }
+    Object operand = values.get(0);
+    return value -> matches(predicateType, value, operand, lastOperand, hasEpsilon);
+  }
+
+  private static boolean matches(
+      ComputePredicateType predicateType,
+      Object value,
+      Object operand,
+      Object epsilon,
+      boolean hasEpsilon) {
+    if (value == null || operand == null) {
+      return predicateType == ComputePredicateType.EQUALS && value == operand;
+    }
+    Object convertedValue = convertToType(value instanceof CharSequence ? value.toString() : value, operand.getClass());
+    if (convertedValue == null) {
+      return false;
+    }
+    if (hasEpsilon && operand instanceof Float) {
+      return matchesFloat(predicateType, (Float) convertedValue, (Float) operand, ((Number) epsilon).floatValue());
+    }
+    if (hasEpsilon && operand instanceof Double) {
+      return matchesDouble(predicateType, (Double) convertedValue, (Double) operand, ((Number) epsilon).doubleValue());
+    }
+    if (predicateType == ComputePredicateType.EQUALS) {
+      return convertedValue.equals(operand);
+    }
+    if (!(convertedValue instanceof Comparable)) {
+      return false;
+    }
+    int comparison = ((Comparable<Object>) convertedValue).compareTo(operand);
+    switch (predicateType) {
+      case GREATER_THAN:
+        return comparison > 0;
+      case GREATER_OR_EQUALS:
+        return comparison >= 0;
+      case LOWER_THAN:
+        return comparison < 0;
+      case LOWER_OR_EQUALS:
+        return comparison <= 0;
+      default:
+        throw new VeniceException("Unsupported predicate type: " + predicateType);
+    }
+  }
+
+  private static boolean matchesFloat(ComputePredicateType predicateType, float value, float operand, float epsilon) {
+    switch (predicateType) {
+      case EQUALS:
+        if (value == operand) {
+          return true;
+        }
+        if (Float.isNaN(value)) {
+          return Float.isNaN(operand);
+        }
+        return Math.abs(value - operand) <= epsilon;
+      case GREATER_THAN:
+        return (value - operand) > epsilon;
+      case GREATER_OR_EQUALS:
+        return (value - operand) > -epsilon;
+      case LOWER_THAN:
+        return (operand - value) > epsilon;
+      case LOWER_OR_EQUALS:
+        return (operand - value) > -epsilon;
+      default:
+        throw new VeniceException("Unsupported predicate type: " + predicateType);
+    }
+  }
+
+  private static boolean matchesDouble(
+      ComputePredicateType predicateType,
+      double value,
+      double operand,
+      double epsilon) {
+    switch (predicateType) {
+      case EQUALS:
+        if (value == operand) {
+          return true;
+        }
+        if (Double.isNaN(value)) {
+          return Double.isNaN(operand);
+        }
+        return Math.abs(value - operand) <= epsilon;
+      case GREATER_THAN:
+        return (value - operand) > epsilon;
+      case GREATER_OR_EQUALS:
+        return (value - operand) > -epsilon;
+      case LOWER_THAN:
+        return (operand - value) > epsilon;
+      case LOWER_OR_EQUALS:
+        return (operand - value) > -epsilon;
+      default:
+        throw new VeniceException("Unsupported predicate type: " + predicateType);
+    }
+  }
+
+  /**
+   * Converts a value to the target type for predicate evaluation. Supports Integer, Long, Float, and Double
+   * conversions, and returns null if the value cannot be converted.
+   */
+  public static <T> T convertToType(Object value, Class<T> targetType) {
+    if (value == null) {
+      return null;
+    }
+
+    // If already the target type, return as is
+    if (targetType.isInstance(value)) {
+      return (T) value;
+    }
+
+    // Handle numeric conversions
+    if (targetType == Integer.class) {
+      if (value instanceof Long) {
+        return (T) Integer.valueOf(((Long) value).intValue());
+      } else if (value instanceof String) {
+        try {
+          return (T) Integer.valueOf(Integer.parseInt((String) value));
+        } catch (NumberFormatException e) {
+          return null;
+        }
+      }
+    } else if (targetType == Long.class) {
+      if (value instanceof Integer) {
+        return (T) Long.valueOf(((Integer) value).longValue());
+      } else if (value instanceof String) {
+        try {
+          return (T) Long.valueOf(Long.parseLong((String) value));
+        } catch (NumberFormatException e) {
+          return null;
+        }
+      }
+    } else if (targetType == Float.class) {
+      if (value instanceof Integer) {
+        return (T) Float.valueOf(((Integer) value).floatValue());
+      } else if (value instanceof String) {
+        try {
+          return (T) Float.valueOf(Float.parseFloat((String) value));
+        } catch (NumberFormatException e) {
+          return null;
+        }
+      }
+    } else if (targetType == Double.class) {
+      if (value instanceof Integer) {
+        return (T) Double.valueOf(((Integer) value).doubleValue());
+      } else if (value instanceof String) {
+        try {
+          return (T) Double.valueOf(Double.parseDouble((String) value));
+        } catch (NumberFormatException e) {
+          return null;
+        }
+      }
+    }
+
+    return null;
+  }
+}
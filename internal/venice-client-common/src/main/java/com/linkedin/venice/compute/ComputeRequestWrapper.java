@@ -2,28 +2,43 @@ package com.linkedin.venice.compute;
 
 import static com.linkedin.venice.serializer.FastSerializerDeserializerFactory.getFastAvroGenericSerializer;
 
+import com.linkedin.venice.VeniceConstants;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
-import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV4;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV5;
+import com.linkedin.venice.compute.protocol.request.FieldFilter;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import com.linkedin.venice.serializer.RecordSerializer;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
 
 
 /**
  * This class is used by the client to encapsulate the information it needs about a compute request.
  *
- * N.B.: This class used to contain multiple versions of the {@link ComputeRequestV3} but it was not necessary
- * since all the versions were anyway compatible with one another. We are now keeping only the latest version
- * used on the wire, which is 3 (version 4 was never used as a wire protocol). We can always revisit this if
- * the need to evolve read compute comes into play.
+ * N.B.: This class used to contain multiple versions of the {@link ComputeRequestV4} but it was not necessary
+ * since all the versions were anyway compatible with one another. We are now keeping only the latest version,
+ * which is 4. Version 4 only appends the count group by operators to version 3, so requests which do not use them
+ * are still sent as version 3, and can be served by routers and servers which are not aware of version 4 yet.
+ * Likewise, version 5 appends the value filters to version 4, and it is only used by the requests which have some.
  */
 public class ComputeRequestWrapper {
-  public static final int LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST = 3;
+  public static final int LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST = 5;
 
-  private static final RecordSerializer<ComputeRequestV3> SERIALIZER =
-      getFastAvroGenericSerializer(ComputeRequestV3.SCHEMA$);
+  private static final RecordSerializer<ComputeRequestV4> SERIALIZER =
+      getFastAvroGenericSerializer(ComputeRequestV4.SCHEMA$);
+  private static final RecordSerializer<ComputeRequestV5> SERIALIZER_V5 =
+      getFastAvroGenericSerializer(ComputeRequestV5.SCHEMA$);
 
-  private final ComputeRequestV3 computeRequest;
+  private final ComputeRequestV4 computeRequest;
+  /**
+   * The request sent instead of {@link #computeRequest} when there are value filters, null otherwise.
+   */
+  private final ComputeRequestV5 filteredComputeRequest;
+  private final Predicate<GenericRecord> valueFilter;
   private final int valueSchemaId;
   private final Schema valueSchema;
   private final List<Schema.Field> operationResultFields;
@@ -36,9 +51,36 @@ public class ComputeRequestWrapper {
       String resultSchemaString,
       List<ComputeOperation> operations,
       boolean originallyStreaming) {
-    this.computeRequest = new ComputeRequestV3();
+    this(
+        valueSchemaId,
+        valueSchema,
+        resultSchema,
+        resultSchemaString,
+        operations,
+        Collections.emptyList(),
+        originallyStreaming);
+  }
+
+  public ComputeRequestWrapper(
+      int valueSchemaId,
+      Schema valueSchema,
+      Schema resultSchema,
+      String resultSchemaString,
+      List<ComputeOperation> operations,
+      List<FieldFilter> filters,
+      boolean originallyStreaming) {
+    this.computeRequest = new ComputeRequestV4();
     this.computeRequest.setResultSchemaStr(resultSchemaString);
     this.computeRequest.setOperations((List) operations);
+    if (filters.isEmpty()) {
+      this.filteredComputeRequest = null;
+    } else {
+      this.filteredComputeRequest = new ComputeRequestV5();
+      this.filteredComputeRequest.setResultSchemaStr(resultSchemaString);
+      this.filteredComputeRequest.setOperations((List) operations);
+      this.filteredComputeRequest.setFilters(filters);
+    }
+    this.valueFilter = ComputeUtils.compileValueFilter(filters);
     this.valueSchemaId = valueSchemaId;
     this.valueSchema = valueSchema;
     this.operationResultFields = ComputeUtils.getOperationResultFields(operations, resultSchema);
@@ -46,6 +88,9 @@ public class ComputeRequestWrapper {
   }
 
   public byte[] serialize() {
+    if (this.filteredComputeRequest != null) {
+      return SERIALIZER_V5.serialize(this.filteredComputeRequest);
+    }
     return SERIALIZER.serialize(this.computeRequest);
   }
 
@@ -72,4 +117,39 @@ public class ComputeRequestWrapper {
   public boolean isRequestOriginallyStreaming() {
     return this.originallyStreaming;
   }
+
+  public List<FieldFilter> getFilters() {
+    return this.filteredComputeRequest == null ? Collections.emptyList() : this.filteredComputeRequest.getFilters();
+  }
+
+  /**
+   * Used by the paths which compute the results locally, rather than on the servers, to drop the same records.
+   *
+   * @return whether the value record matches all the value filters of this request
+   */
+  public boolean matchesValueFilter(GenericRecord valueRecord) {
+    return this.valueFilter == null || this.valueFilter.test(valueRecord);
+  }
+
+  /**
+   * @return the oldest compute request version which supports all the operations and filters of this request
+   */
+  public int getComputeRequestVersion() {
+    if (this.filteredComputeRequest != null) {
+      return VeniceConstants.COMPUTE_REQUEST_VERSION_V5;
+    }
+    if (hasCountAggregation()) {
+      return VeniceConstants.COMPUTE_REQUEST_VERSION_V4;
+    }
+    return VeniceConstants.COMPUTE_REQUEST_VERSION_V3;
+  }
+
+  public boolean hasCountAggregation() {
+    for (ComputeOperation operation: getOperations()) {
+      if (ComputeOperationType.valueOf(operation).isCountAggregation()) {
+        return true;
+      }
+    }
+    return false;
+  }
 }
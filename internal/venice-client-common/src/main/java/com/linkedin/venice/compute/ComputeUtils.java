@@ -3,13 +3,18 @@ package com.linkedin.venice.compute;
 import static com.linkedin.venice.serializer.FastSerializerDeserializerFactory.getFastAvroSpecificDeserializer;
 
 import com.linkedin.avro.api.PrimitiveFloatList;
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.VeniceConstants;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.ComputeRequest;
-import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV4;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV5;
 import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
 import com.linkedin.venice.compute.protocol.request.Count;
+import com.linkedin.venice.compute.protocol.request.CountGroupByBucket;
+import com.linkedin.venice.compute.protocol.request.CountGroupByValue;
 import com.linkedin.venice.compute.protocol.request.DotProduct;
+import com.linkedin.venice.compute.protocol.request.FieldFilter;
 import com.linkedin.venice.compute.protocol.request.HadamardProduct;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -21,9 +26,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -42,6 +49,7 @@ import org.apache.logging.log4j.Logger;
 public class ComputeUtils {
   private static final Logger LOGGER = LogManager.getLogger(ComputeUtils.class);
   public static final String CACHED_SQUARED_L2_NORM_KEY = "CACHED_SQUARED_L2_NORM_KEY";
+  public static final String CACHED_PRIMITIVE_PARAM_KEY = "CACHED_PRIMITIVE_PARAM_KEY";
   public static final Pattern VALID_AVRO_NAME_PATTERN = Pattern.compile("\\A[A-Za-z_][A-Za-z0-9_]*\\z");
   public static final String ILLEGAL_AVRO_CHARACTER = "[^A-Za-z0-9_]";
   public static final String ILLEGAL_AVRO_CHARACTER_REPLACEMENT = "_";
@@ -49,20 +57,65 @@ public class ComputeUtils {
       RedundantExceptionFilter.getRedundantExceptionFilter();
 
   /**
-   * N.B.: This deserializer performs an evolution from the schema of {@link ComputeRequestV3} to that of
+   * N.B.: This deserializer performs an evolution from the schema of {@link ComputeRequestV4} to that of
    * {@link ComputeRequest}, with the only difference between the two being that the items of the operations list
    * in the former are defined as a union of one type, which unfortunately results in the SpecificRecord typing this
    * as a {@link List<Object>}. This is a design shortcoming, but which we cannot easily fix, since there are already
    * clients using this protocol. On the server-side, however, we wish to use proper types without lots of casting,
-   * which we can achieve by letting Avro do the evolution.
+   * which we can achieve by letting Avro do the evolution. Since V4 only appends operations to the union of V3, the
+   * requests serialized with V3 can be decoded with the V4 schema as well.
    */
   private static final RecordDeserializer<ComputeRequest> DESERIALIZER =
-      getFastAvroSpecificDeserializer(ComputeRequestV3.SCHEMA$, ComputeRequest.class);
+      getFastAvroSpecificDeserializer(ComputeRequestV4.SCHEMA$, ComputeRequest.class);
+
+  /**
+   * V5 appends the filters field to V4, so unlike the previous versions, its requests must be decoded with the V5
+   * schema, see {@link #deserializeComputeRequest(BinaryDecoder, ComputeRequest, int)}.
+   */
+  private static final RecordDeserializer<ComputeRequest> DESERIALIZER_V5 =
+      getFastAvroSpecificDeserializer(ComputeRequestV5.SCHEMA$, ComputeRequest.class);
 
   public static ComputeRequest deserializeComputeRequest(BinaryDecoder decoder, ComputeRequest reuse) {
     return DESERIALIZER.deserialize(reuse, decoder);
   }
 
+  public static ComputeRequest deserializeComputeRequest(
+      BinaryDecoder decoder,
+      ComputeRequest reuse,
+      int computeRequestVersion) {
+    if (computeRequestVersion >= VeniceConstants.COMPUTE_REQUEST_VERSION_V5) {
+      return DESERIALIZER_V5.deserialize(reuse, decoder);
+    }
+    return DESERIALIZER.deserialize(reuse, decoder);
+  }
+
+  /**
+   * @return a predicate which only matches the value records whose fields match all the filters, or null if there
+   *         isn't any filter. A record which doesn't have the filtered field doesn't match.
+   */
+  public static Predicate<GenericRecord> compileValueFilter(List<FieldFilter> filters) {
+    if (filters == null || filters.isEmpty()) {
+      return null;
+    }
+    String[] fieldNames = new String[filters.size()];
+    Predicate<Object>[] fieldPredicates = new Predicate[filters.size()];
+    for (int i = 0; i < fieldNames.length; i++) {
+      FieldFilter filter = filters.get(i);
+      fieldNames[i] = filter.field.toString();
+      fieldPredicates[i] = ComputePredicateEvaluator.compile(filter.predicate);
+    }
+    return valueRecord -> {
+      Schema valueSchema = valueRecord.getSchema();
+      for (int i = 0; i < fieldNames.length; i++) {
+        Schema.Field field = valueSchema.getField(fieldNames[i]);
+        if (field == null || !fieldPredicates[i].test(valueRecord.get(field.pos()))) {
+          return false;
+        }
+      }
+      return true;
+    };
+  }
+
   public static void checkResultSchema(Schema resultSchema, Schema valueSchema, List<ComputeOperation> operations) {
     if (resultSchema.getType() != Schema.Type.RECORD || valueSchema.getType() != Schema.Type.RECORD) {
       throw new VeniceException("Compute result schema and value schema must be RECORD type");
@@ -106,6 +159,22 @@ public class ComputeUtils {
           }
           operationResultFields.add(new Pair<>(count.resultFieldName.toString(), Schema.Type.UNION));
           break;
+        case COUNT_GROUP_BY_VALUE:
+          CountGroupByValue countGroupByValue = (CountGroupByValue) operation.operation;
+          if (!valueFieldSchemaMap.containsKey(countGroupByValue.field.toString())) {
+            throw new VeniceException(
+                "The field " + countGroupByValue.field.toString() + " being operated on is not in value schema");
+          }
+          operationResultFields.add(new Pair<>(countGroupByValue.resultFieldName.toString(), Schema.Type.UNION));
+          break;
+        case COUNT_GROUP_BY_BUCKET:
+          CountGroupByBucket countGroupByBucket = (CountGroupByBucket) operation.operation;
+          if (!valueFieldSchemaMap.containsKey(countGroupByBucket.field.toString())) {
+            throw new VeniceException(
+                "The field " + countGroupByBucket.field.toString() + " being operated on is not in value schema");
+          }
+          operationResultFields.add(new Pair<>(countGroupByBucket.resultFieldName.toString(), Schema.Type.UNION));
+          break;
         default:
           throw new VeniceException("Compute operation type " + operation.operationType + " not supported");
       }
@@ -191,6 +260,141 @@ public class ComputeUtils {
     }
   }
 
+  /**
+   * Same as {@link #dotProduct(List, List)}, for a parameter already copied into a primitive array, see
+   * {@link #getPrimitiveParam(List, Map)}. The additions are done in the same order, so both return the same result.
+   */
+  public static float dotProduct(float[] param, List<Float> valueVector) {
+    if (param.length != valueVector.size()) {
+      throw new VeniceException(
+          "Two lists are with different dimensions: " + param.length + ", and " + valueVector.size());
+    }
+    if (valueVector instanceof PrimitiveFloatList) {
+      return dotProduct(param, (PrimitiveFloatList) valueVector);
+    } else {
+      return dotProduct(param.length, index -> param[index], valueVector::get);
+    }
+  }
+
+  /**
+   * Same as {@link #hadamardProduct(List, List)}, for a parameter already copied into a primitive array, see
+   * {@link #getPrimitiveParam(List, Map)}.
+   */
+  public static List<Float> hadamardProduct(float[] param, List<Float> valueVector) {
+    if (param.length != valueVector.size()) {
+      throw new VeniceException(
+          "Two lists are with different dimensions: " + param.length + ", and " + valueVector.size());
+    }
+    if (valueVector instanceof PrimitiveFloatList) {
+      PrimitiveFloatList primitiveValueVector = (PrimitiveFloatList) valueVector;
+      float[] floats = new float[param.length];
+      for (int i = 0; i < param.length; i++) {
+        floats[i] = param[i] * primitiveValueVector.getPrimitive(i);
+      }
+      return CollectionUtils.asUnmodifiableList(floats);
+    } else {
+      return hadamardProduct(param.length, index -> param[index], valueVector::get);
+    }
+  }
+
+  /**
+   * Same as {@link #squaredL2Norm(List)}, for a vector already copied into a primitive array.
+   */
+  public static float squaredL2Norm(float[] vector) {
+    float squaredL2Norm = 0.0f;
+    int i = 0;
+    int limit = (vector.length >> 2) << 2;
+    for (; i < limit; i += 4) {
+      float s0 = vector[i] * vector[i];
+      float s1 = vector[i + 1] * vector[i + 1];
+      float s2 = vector[i + 2] * vector[i + 2];
+      float s3 = vector[i + 3] * vector[i + 3];
+
+      squaredL2Norm += (s0 + s1 + s2 + s3);
+    }
+    for (; i < vector.length; i++) {
+      squaredL2Norm += vector[i] * vector[i];
+    }
+    return squaredL2Norm;
+  }
+
+  /**
+   * The float vector parameters of the operations are the same for all the records of a request, so they are copied
+   * into primitive arrays only once, and cached in the context by the identity of the parameter list. As for
+   * {@link #CACHED_SQUARED_L2_NORM_KEY}, this assumes that the parameters are immutable, which is the case for compute.
+   */
+  public static float[] getPrimitiveParam(List<Float> param, Map<String, Object> context) {
+    IdentityHashMap<List<Float>, float[]> cachedPrimitiveParams =
+        (IdentityHashMap<List<Float>, float[]>) context.get(CACHED_PRIMITIVE_PARAM_KEY);
+    if (cachedPrimitiveParams == null) {
+      cachedPrimitiveParams = new IdentityHashMap<>();
+      context.put(CACHED_PRIMITIVE_PARAM_KEY, cachedPrimitiveParams);
+    }
+    float[] primitiveParam = cachedPrimitiveParams.get(param);
+    if (primitiveParam == null) {
+      primitiveParam = toPrimitiveFloatArray(param);
+      cachedPrimitiveParams.put(param, primitiveParam);
+    }
+    return primitiveParam;
+  }
+
+  public static float[] toPrimitiveFloatArray(List<Float> list) {
+    float[] floats = new float[list.size()];
+    if (list instanceof PrimitiveFloatList) {
+      PrimitiveFloatList primitiveFloatList = (PrimitiveFloatList) list;
+      for (int i = 0; i < floats.length; i++) {
+        floats[i] = primitiveFloatList.getPrimitive(i);
+      }
+    } else {
+      for (int i = 0; i < floats.length; i++) {
+        floats[i] = list.get(i);
+      }
+    }
+    return floats;
+  }
+
+  /**
+   * Builds the schema to decode the value records of a compute request with, which only keeps the fields of the value
+   * schema the request needs: the projected fields, the operator input fields and the filtered fields. When used as
+   * the reader schema, the other fields are skipped over at the binary level instead of being materialized.
+   *
+   * @return the value schema itself if the request needs all its fields, or else a record schema with the same full
+   *         name, holding copies of the needed fields in the same order
+   */
+  public static Schema getProjectedValueSchema(
+      Schema valueSchema,
+      Schema resultSchema,
+      List<ComputeOperation> operations,
+      List<FieldFilter> filters) {
+    Set<String> neededFieldNames = new HashSet<>();
+    for (Schema.Field resultField: resultSchema.getFields()) {
+      neededFieldNames.add(resultField.name());
+    }
+    for (ComputeOperation operation: operations) {
+      ReadComputeOperator operator = ComputeOperationType.valueOf(operation).getOperator();
+      neededFieldNames.add(operator.getOperatorFieldName(operation));
+    }
+    if (filters != null) {
+      for (FieldFilter filter: filters) {
+        neededFieldNames.add(filter.field.toString());
+      }
+    }
+
+    List<Schema.Field> projectedFields = new ArrayList<>(valueSchema.getFields().size());
+    for (Schema.Field field: valueSchema.getFields()) {
+      if (neededFieldNames.contains(field.name())) {
+        projectedFields.add(AvroCompatibilityHelper.newField(field).build());
+      }
+    }
+    if (projectedFields.size() == valueSchema.getFields().size()) {
+      return valueSchema;
+    }
+    Schema projectedValueSchema = Schema
+        .createRecord(valueSchema.getName(), valueSchema.getDoc(), valueSchema.getNamespace(), valueSchema.isError());
+    projectedValueSchema.setFields(projectedFields);
+    return projectedValueSchema;
+  }
+
   public static List<Schema.Field> getOperationResultFields(List<ComputeOperation> operations, Schema resultSchema) {
     List<Schema.Field> operationResultFields = new ArrayList<>(operations.size());
     ComputeOperation computeOperation;
@@ -232,6 +436,30 @@ public class ComputeUtils {
     return dotProductResult;
   }
 
+  /**
+   * Unlike {@link #dotProduct(int, FloatSupplierByIndex, FloatSupplierByIndex)}, the parameter is read from the array
+   * and the value vector through its only implementation in practice, so that the JIT can inline both reads instead of
+   * going through the suppliers shared by all the call sites.
+   */
+  private static float dotProduct(float[] param, PrimitiveFloatList valueVector) {
+    float dotProductResult = 0.0f;
+    int size = param.length;
+    int i = 0;
+    int limit = (size >> 2) << 2;
+    for (; i < limit; i += 4) {
+      float s0 = param[i] * valueVector.getPrimitive(i);
+      float s1 = param[i + 1] * valueVector.getPrimitive(i + 1);
+      float s2 = param[i + 2] * valueVector.getPrimitive(i + 2);
+      float s3 = param[i + 3] * valueVector.getPrimitive(i + 3);
+
+      dotProductResult += (s0 + s1 + s2 + s3);
+    }
+    for (; i < size; i++) {
+      dotProductResult += param[i] * valueVector.getPrimitive(i);
+    }
+    return dotProductResult;
+  }
+
   private static List<Float> hadamardProduct(
       int size,
       FloatSupplierByIndex floatSupplier1,
@@ -261,9 +489,23 @@ public class ComputeUtils {
   public static float squaredL2Norm(List<Float> list) {
     if (list instanceof PrimitiveFloatList) {
       PrimitiveFloatList primitiveFloatList = (PrimitiveFloatList) list;
+      float squaredL2Norm = 0.0f;
       int size = primitiveFloatList.size();
-      FloatSupplierByIndex floatSupplierByIndex = primitiveFloatList::getPrimitive;
-      return dotProduct(size, floatSupplierByIndex, floatSupplierByIndex);
+      int i = 0;
+      int limit = (size >> 2) << 2;
+      for (; i < limit; i += 4) {
+        float f0 = primitiveFloatList.getPrimitive(i);
+        float f1 = primitiveFloatList.getPrimitive(i + 1);
+        float f2 = primitiveFloatList.getPrimitive(i + 2);
+        float f3 = primitiveFloatList.getPrimitive(i + 3);
+
+        squaredL2Norm += (f0 * f0 + f1 * f1 + f2 * f2 + f3 * f3);
+      }
+      for (; i < size; i++) {
+        float f = primitiveFloatList.getPrimitive(i);
+        squaredL2Norm += f * f;
+      }
+      return squaredL2Norm;
     } else {
       int size = list.size();
       FloatSupplierByIndex floatSupplierByIndex = list::get;
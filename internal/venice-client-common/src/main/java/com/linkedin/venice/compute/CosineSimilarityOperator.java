@@ -39,7 +39,8 @@ public class CosineSimilarityOperator implements ReadComputeOperator {
         return;
       }
 
-      float dotProductResult = ComputeUtils.dotProduct(cosSimilarityParam, valueVector);
+      float[] primitiveCosSimilarityParam = ComputeUtils.getPrimitiveParam(cosSimilarityParam, context);
+      float dotProductResult = ComputeUtils.dotProduct(primitiveCosSimilarityParam, valueVector);
       float valueVectorSquaredL2Norm = ComputeUtils.squaredL2Norm(valueVector);
       float cosSimilarityParamSquaredL2Norm;
       // Build the context as we go though all the computations
@@ -56,7 +57,7 @@ public class CosineSimilarityOperator implements ReadComputeOperator {
         cosSimilarityParamSquaredL2Norm = cachedResult;
       } else {
         // Cache the computed result
-        cosSimilarityParamSquaredL2Norm = ComputeUtils.squaredL2Norm(cosSimilarityParam);
+        cosSimilarityParamSquaredL2Norm = ComputeUtils.squaredL2Norm(primitiveCosSimilarityParam);
         cachedSquareL2Norm.put(cosSimilarityParam, cosSimilarityParamSquaredL2Norm);
       }
 
@@ -0,0 +1,26 @@
+package com.linkedin.venice.compute;
+
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * A {@link ReadComputeOperator} which counts the values of a field. The result computed for a single record is a
+ * partial count which can be folded into the counts of other records, so that the servers can return the counts of
+ * a whole chunk of keys in the result of one of its records, and the clients can merge the partial counts returned
+ * for all the chunks.
+ */
+public interface CountAggregationOperator extends ReadComputeOperator {
+  /**
+   * Folds the partial counts held by a result field into the given counts.
+   *
+   * @param partialCounts the value of the result field, which is ignored if null
+   */
+  void accumulate(Object partialCounts, Map<Object, Integer> counts);
+
+  /**
+   * Replaces the value of the result field by the given counts.
+   */
+  void putCounts(GenericRecord resultRecord, Schema.Field resultField, Map<Object, Integer> counts);
+}
@@ -0,0 +1,125 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.CountGroupByBucket;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Counts the records whose field value matches the predicate of each bucket. The result field holds a map from the
+ * bucket names to their counts, in which the buckets without any match may be omitted.
+ */
+public class CountGroupByBucketOperator implements CountAggregationOperator {
+  public static final Schema RESULT_SCHEMA = Schema.createUnion(
+      Arrays.asList(Schema.create(Schema.Type.NULL), Schema.createMap(Schema.create(Schema.Type.INT))));
+
+  private static final String CACHED_BUCKET_PREDICATES_KEY = "CACHED_BUCKET_PREDICATES_KEY";
+
+  @Override
+  public void compute(
+      ComputeOperation op,
+      Schema.Field operatorInputField,
+      Schema.Field resultField,
+      GenericRecord inputValueRecord,
+      GenericRecord resultRecord,
+      Map<String, String> computationErrorMap,
+      Map<String, Object> context) {
+    CountGroupByBucket countGroupByBucket = (CountGroupByBucket) op.operation;
+    try {
+      Object value = inputValueRecord.get(operatorInputField.pos());
+      if (value == null) {
+        putResult(resultRecord, resultField, Collections.emptyMap());
+        return;
+      }
+      Predicate<Object>[] bucketPredicates = getBucketPredicates(countGroupByBucket, context);
+      Map<String, Integer> bucketCounts = new HashMap<>();
+      for (int i = 0; i < bucketPredicates.length; i++) {
+        if (bucketPredicates[i].test(value)) {
+          bucketCounts.put(countGroupByBucket.bucketNames.get(i).toString(), 1);
+        }
+      }
+      putResult(resultRecord, resultField, bucketCounts);
+    } catch (Exception e) {
+      putResult(resultRecord, resultField, Collections.emptyMap());
+      String msg = e.getClass().getSimpleName() + " : "
+          + (e.getMessage() == null ? "Failed to execute count group by bucket operator." : e.getMessage());
+      computationErrorMap.put(resultField.name(), msg);
+    }
+  }
+
+  /**
+   * The bucket predicates are compiled once per request, and cached in the context by the identity of the operation.
+   */
+  private static Predicate<Object>[] getBucketPredicates(
+      CountGroupByBucket countGroupByBucket,
+      Map<String, Object> context) {
+    IdentityHashMap<CountGroupByBucket, Predicate<Object>[]> cachedBucketPredicates =
+        (IdentityHashMap<CountGroupByBucket, Predicate<Object>[]>) context.get(CACHED_BUCKET_PREDICATES_KEY);
+    if (cachedBucketPredicates == null) {
+      cachedBucketPredicates = new IdentityHashMap<>();
+      context.put(CACHED_BUCKET_PREDICATES_KEY, cachedBucketPredicates);
+    }
+    return cachedBucketPredicates.computeIfAbsent(countGroupByBucket, operation -> {
+      if (operation.bucketNames.size() != operation.bucketPredicates.size()) {
+        throw new VeniceException(
+            "Got " + operation.bucketNames.size() + " bucket names but " + operation.bucketPredicates.size()
+                + " bucket predicates");
+      }
+      Predicate<Object>[] predicates = new Predicate[operation.bucketPredicates.size()];
+      for (int i = 0; i < predicates.length; i++) {
+        predicates[i] = ComputePredicateEvaluator.compile(operation.bucketPredicates.get(i));
+      }
+      return predicates;
+    });
+  }
+
+  @Override
+  public void accumulate(Object partialCounts, Map<Object, Integer> counts) {
+    if (partialCounts == null) {
+      return;
+    }
+    for (Map.Entry<Object, Object> entry: ((Map<Object, Object>) partialCounts).entrySet()) {
+      counts.merge(entry.getKey().toString(), (Integer) entry.getValue(), Integer::sum);
+    }
+  }
+
+  @Override
+  public void putCounts(GenericRecord resultRecord, Schema.Field resultField, Map<Object, Integer> counts) {
+    putResult(resultRecord, resultField, new HashMap<>(counts));
+  }
+
+  @Override
+  public String getOperatorFieldName(ComputeOperation op) {
+    CountGroupByBucket operation = (CountGroupByBucket) op.operation;
+    return operation.field.toString();
+  }
+
+  @Override
+  public String getResultFieldName(ComputeOperation op) {
+    CountGroupByBucket operation = (CountGroupByBucket) op.operation;
+    return operation.resultFieldName.toString();
+  }
+
+  @Override
+  public void putDefaultResult(GenericRecord record, Schema.Field field) {
+    putResult(record, field, Collections.emptyMap());
+  }
+
+  @Override
+  public boolean allowFieldValueToBeNull() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "read-compute count group by bucket operator";
+  }
+}
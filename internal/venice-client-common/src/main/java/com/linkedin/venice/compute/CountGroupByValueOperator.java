@@ -0,0 +1,153 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.CountGroupByValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Counts the records by the value of a field. The result field holds a list of value and count pairs, see
+ * {@link #getResultSchema(String, Schema)}.
+ */
+public class CountGroupByValueOperator implements CountAggregationOperator {
+  public static final String VALUE_FIELD_NAME = "value";
+  public static final String COUNT_FIELD_NAME = "count";
+
+  /**
+   * @param resultFieldName the name of the result field, which is also used to name the value and count pair record
+   * @param fieldSchema the schema of the counted field, which must be a primitive or a nullable primitive
+   * @return the schema of the result field, a nullable array of value and count pairs
+   */
+  public static Schema getResultSchema(String resultFieldName, Schema fieldSchema) {
+    Schema valueCountSchema = Schema.createRecord(resultFieldName + "_ValueCount", "", "", false);
+    valueCountSchema.setFields(
+        Arrays.asList(
+            AvroCompatibilityHelper.createSchemaField(VALUE_FIELD_NAME, fieldSchema, "", null),
+            AvroCompatibilityHelper.createSchemaField(COUNT_FIELD_NAME, Schema.create(Schema.Type.INT), "", null)));
+    return Schema.createUnion(Arrays.asList(Schema.create(Schema.Type.NULL), Schema.createArray(valueCountSchema)));
+  }
+
+  /**
+   * @return whether the values of a field with the given schema can be counted, which is the case of the primitive
+   *         types other than bytes, whether nullable or not
+   */
+  public static boolean isSupportedFieldSchema(Schema fieldSchema) {
+    if (fieldSchema.getType() == Schema.Type.UNION) {
+      List<Schema> branches = fieldSchema.getTypes();
+      if (branches.size() != 2) {
+        return false;
+      }
+      Schema.Type firstType = branches.get(0).getType();
+      Schema.Type secondType = branches.get(1).getType();
+      return firstType == Schema.Type.NULL ? isSupportedType(secondType)
+          : secondType == Schema.Type.NULL && isSupportedType(firstType);
+    }
+    return isSupportedType(fieldSchema.getType());
+  }
+
+  private static boolean isSupportedType(Schema.Type type) {
+    switch (type) {
+      case BOOLEAN:
+      case INT:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+      case STRING:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  @Override
+  public void compute(
+      ComputeOperation op,
+      Schema.Field operatorInputField,
+      Schema.Field resultField,
+      GenericRecord inputValueRecord,
+      GenericRecord resultRecord,
+      Map<String, String> computationErrorMap,
+      Map<String, Object> context) {
+    Object value = inputValueRecord.get(operatorInputField.pos());
+    putCounts(resultRecord, resultField, Collections.singletonMap(normalize(value), 1));
+  }
+
+  @Override
+  public void accumulate(Object partialCounts, Map<Object, Integer> counts) {
+    if (partialCounts == null) {
+      return;
+    }
+    for (Object valueCount: (List<Object>) partialCounts) {
+      GenericRecord valueCountRecord = (GenericRecord) valueCount;
+      counts.merge(
+          normalize(valueCountRecord.get(VALUE_FIELD_NAME)),
+          (Integer) valueCountRecord.get(COUNT_FIELD_NAME),
+          Integer::sum);
+    }
+  }
+
+  @Override
+  public void putCounts(GenericRecord resultRecord, Schema.Field resultField, Map<Object, Integer> counts) {
+    Schema valueCountSchema = getValueCountSchema(resultField.schema());
+    List<GenericRecord> valueCounts = new ArrayList<>(counts.size());
+    for (Map.Entry<Object, Integer> entry: counts.entrySet()) {
+      GenericRecord valueCountRecord = new GenericData.Record(valueCountSchema);
+      valueCountRecord.put(VALUE_FIELD_NAME, entry.getKey());
+      valueCountRecord.put(COUNT_FIELD_NAME, entry.getValue());
+      valueCounts.add(valueCountRecord);
+    }
+    putResult(resultRecord, resultField, valueCounts);
+  }
+
+  private static Schema getValueCountSchema(Schema resultSchema) {
+    for (Schema branch: resultSchema.getTypes()) {
+      if (branch.getType() == Schema.Type.ARRAY) {
+        return branch.getElementType();
+      }
+    }
+    throw new IllegalArgumentException("Invalid count group by value result schema: " + resultSchema);
+  }
+
+  /**
+   * Strings are copied out of the reused {@link org.apache.avro.util.Utf8} instances of the value records, and they
+   * are counted as {@link String} on both the server and the client side.
+   */
+  private static Object normalize(Object value) {
+    return value instanceof CharSequence ? value.toString() : value;
+  }
+
+  @Override
+  public String getOperatorFieldName(ComputeOperation op) {
+    CountGroupByValue operation = (CountGroupByValue) op.operation;
+    return operation.field.toString();
+  }
+
+  @Override
+  public String getResultFieldName(ComputeOperation op) {
+    CountGroupByValue operation = (CountGroupByValue) op.operation;
+    return operation.resultFieldName.toString();
+  }
+
+  @Override
+  public void putDefaultResult(GenericRecord record, Schema.Field field) {
+    putResult(record, field, Collections.emptyList());
+  }
+
+  @Override
+  public boolean allowFieldValueToBeNull() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "read-compute count group by value operator";
+  }
+}
@@ -36,7 +36,8 @@ public class HadamardProductOperator implements ReadComputeOperator {
         return;
       }
 
-      List<Float> hadamardProductResult = ComputeUtils.hadamardProduct(dotProductParam, valueVector);
+      List<Float> hadamardProductResult =
+          ComputeUtils.hadamardProduct(ComputeUtils.getPrimitiveParam(dotProductParam, context), valueVector);
       putResult(resultRecord, resultField, hadamardProductResult);
     } catch (Exception e) {
       putResult(resultRecord, resultField, null);
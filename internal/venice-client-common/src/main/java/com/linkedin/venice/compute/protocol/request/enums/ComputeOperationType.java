@@ -1,6 +1,9 @@
 package com.linkedin.venice.compute.protocol.request.enums;
 
 import com.linkedin.venice.compute.CosineSimilarityOperator;
+import com.linkedin.venice.compute.CountAggregationOperator;
+import com.linkedin.venice.compute.CountGroupByBucketOperator;
+import com.linkedin.venice.compute.CountGroupByValueOperator;
 import com.linkedin.venice.compute.CountOperator;
 import com.linkedin.venice.compute.DotProductOperator;
 import com.linkedin.venice.compute.HadamardProductOperator;
@@ -8,6 +11,8 @@ import com.linkedin.venice.compute.ReadComputeOperator;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
 import com.linkedin.venice.compute.protocol.request.Count;
+import com.linkedin.venice.compute.protocol.request.CountGroupByBucket;
+import com.linkedin.venice.compute.protocol.request.CountGroupByValue;
 import com.linkedin.venice.compute.protocol.request.DotProduct;
 import com.linkedin.venice.compute.protocol.request.HadamardProduct;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -18,7 +23,8 @@ import java.util.List;
 
 public enum ComputeOperationType implements VeniceEnumValue {
   DOT_PRODUCT(0, new DotProductOperator()), COSINE_SIMILARITY(1, new CosineSimilarityOperator()),
-  HADAMARD_PRODUCT(2, new HadamardProductOperator()), COUNT(3, new CountOperator());
+  HADAMARD_PRODUCT(2, new HadamardProductOperator()), COUNT(3, new CountOperator()),
+  COUNT_GROUP_BY_VALUE(4, new CountGroupByValueOperator()), COUNT_GROUP_BY_BUCKET(5, new CountGroupByBucketOperator());
 
   private final ReadComputeOperator operator;
   private final int value;
@@ -39,6 +45,10 @@ public enum ComputeOperationType implements VeniceEnumValue {
         return new HadamardProduct();
       case COUNT:
         return new Count();
+      case COUNT_GROUP_BY_VALUE:
+        return new CountGroupByValue();
+      case COUNT_GROUP_BY_BUCKET:
+        return new CountGroupByBucket();
       default:
         throw new VeniceException("Unsupported " + getClass().getSimpleName() + " value: " + value);
     }
@@ -60,4 +70,11 @@ public enum ComputeOperationType implements VeniceEnumValue {
   public ReadComputeOperator getOperator() {
     return operator;
   }
+
+  /**
+   * @return whether the results of this operation are partial counts, which can be folded across records
+   */
+  public boolean isCountAggregation() {
+    return operator instanceof CountAggregationOperator;
+  }
 }
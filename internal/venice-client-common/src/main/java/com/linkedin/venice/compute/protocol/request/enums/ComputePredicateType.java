@@ -0,0 +1,34 @@
+package com.linkedin.venice.compute.protocol.request.enums;
+
+import com.linkedin.venice.compute.protocol.request.ComputePredicate;
+import com.linkedin.venice.utils.EnumUtils;
+import com.linkedin.venice.utils.VeniceEnumValue;
+import java.util.List;
+
+
+/**
+ * The types of the {@link ComputePredicate} which can be evaluated by the servers.
+ */
+public enum ComputePredicateType implements VeniceEnumValue {
+  EQUALS(0), GREATER_THAN(1), GREATER_OR_EQUALS(2), LOWER_THAN(3), LOWER_OR_EQUALS(4), ANY_OF(5), AND(6), OR(7);
+
+  private final int value;
+  private static final List<ComputePredicateType> TYPES = EnumUtils.getEnumValuesList(ComputePredicateType.class);
+
+  ComputePredicateType(int value) {
+    this.value = value;
+  }
+
+  public static ComputePredicateType valueOf(int value) {
+    return EnumUtils.valueOf(TYPES, value, ComputePredicateType.class);
+  }
+
+  public static ComputePredicateType valueOf(ComputePredicate predicate) {
+    return valueOf(predicate.predicateType);
+  }
+
+  @Override
+  public int getValue() {
+    return value;
+  }
+}
@@ -77,8 +77,24 @@ public class RequestHeadersProvider {
       int keyCount,
       int computeValueSchemaId,
       boolean isRemoteComputationOnly) {
+    return getStreamingComputeHeaderMap(
+        keyCount,
+        computeValueSchemaId,
+        isRemoteComputationOnly,
+        ReadAvroProtocolDefinition.COMPUTE_REQUEST_V3.getProtocolVersion());
+  }
+
+  /**
+   * @param computeRequestVersion the compute request protocol version required by the operations of the request
+   */
+  public static Map<String, String> getStreamingComputeHeaderMap(
+      int keyCount,
+      int computeValueSchemaId,
+      boolean isRemoteComputationOnly,
+      int computeRequestVersion) {
     Map<String, String> headers = new HashMap<>(STREAMING_COMPUTE_HEADER_MAP_V3.size() + 3);
     headers.putAll(STREAMING_COMPUTE_HEADER_MAP_V3);
+    headers.put(HttpConstants.VENICE_API_VERSION, Integer.toString(computeRequestVersion));
     headers.put(VENICE_KEY_COUNT, Integer.toString(keyCount));
     headers.put(VENICE_COMPUTE_VALUE_SCHEMA_ID, Integer.toString(computeValueSchemaId));
     if (!isRemoteComputationOnly) {
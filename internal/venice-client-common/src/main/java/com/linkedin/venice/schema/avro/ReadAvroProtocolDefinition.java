@@ -4,6 +4,7 @@ import com.linkedin.venice.compute.protocol.request.ComputeRequestV1;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV2;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV4;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV5;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -72,10 +73,15 @@ public enum ReadAvroProtocolDefinition {
   COMPUTE_REQUEST_V3(3, Optional.of(ComputeRequestV3.class), Optional.of(ComputeRequestV3.SCHEMA$)),
 
   /**
-   * Compute request v4. It includes support for Execute with Filter
+   * Compute request v4. It includes support for count group by value and count group by bucket operators.
    */
   COMPUTE_REQUEST_V4(4, Optional.of(ComputeRequestV4.class), Optional.of(ComputeRequestV4.SCHEMA$)),
 
+  /**
+   * Compute request v5. It includes support for value filters, which drop the records failing them from the response.
+   */
+  COMPUTE_REQUEST_V5(5, Optional.of(ComputeRequestV5.class), Optional.of(ComputeRequestV5.SCHEMA$)),
+
   /**
    * Response record for compute v1
    */
@@ -0,0 +1,127 @@
+package com.linkedin.venice.compute;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.compute.protocol.request.ComputePredicate;
+import com.linkedin.venice.compute.protocol.request.enums.ComputePredicateType;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Predicate;
+import org.apache.avro.util.Utf8;
+import org.testng.annotations.Test;
+
+
+public class ComputePredicateEvaluatorTest {
+  @Test
+  public void testIntComparisons() {
+    assertTrue(compile(ComputePredicateType.EQUALS, 30).test(30));
+    assertFalse(compile(ComputePredicateType.EQUALS, 30).test(31));
+    assertTrue(compile(ComputePredicateType.GREATER_THAN, 30).test(31));
+    assertFalse(compile(ComputePredicateType.GREATER_THAN, 30).test(30));
+    assertTrue(compile(ComputePredicateType.GREATER_OR_EQUALS, 30).test(30));
+    assertTrue(compile(ComputePredicateType.LOWER_THAN, 30).test(29));
+    assertFalse(compile(ComputePredicateType.LOWER_THAN, 30).test(30));
+    assertTrue(compile(ComputePredicateType.LOWER_OR_EQUALS, 30).test(30));
+    assertFalse(compile(ComputePredicateType.LOWER_OR_EQUALS, 30).test(31));
+  }
+
+  @Test
+  public void testFieldValueConversion() {
+    // The field value is converted to the type of the operand
+    assertTrue(compile(ComputePredicateType.GREATER_THAN, 10L).test(11));
+    assertTrue(compile(ComputePredicateType.EQUALS, 10).test(10L));
+    assertTrue(compile(ComputePredicateType.EQUALS, 10).test(new Utf8("10")));
+    assertTrue(compile(ComputePredicateType.EQUALS, "full-time").test(new Utf8("full-time")));
+    assertTrue(compile(ComputePredicateType.EQUALS, new Utf8("full-time")).test("full-time"));
+
+    // The field values which can't be converted don't match
+    assertFalse(compile(ComputePredicateType.EQUALS, 10).test(new Utf8("ten")));
+    assertFalse(compile(ComputePredicateType.EQUALS, 10).test(null));
+    assertFalse(compile(ComputePredicateType.EQUALS, true).test(1));
+
+    // Null is only equal to null
+    assertTrue(compile(ComputePredicateType.EQUALS, (Object) null).test(null));
+    assertFalse(compile(ComputePredicateType.EQUALS, (Object) null).test(10));
+    assertTrue(compile(ComputePredicateType.ANY_OF, null, 10).test(null));
+    assertFalse(compile(ComputePredicateType.GREATER_THAN, (Object) null).test(null));
+  }
+
+  @Test
+  public void testFloatingPointComparisons() {
+    assertTrue(compile(ComputePredicateType.EQUALS, 1.0f, 0.01f).test(1.005f));
+    assertFalse(compile(ComputePredicateType.EQUALS, 1.0f, 0.001f).test(1.005f));
+    assertTrue(compile(ComputePredicateType.EQUALS, Float.NaN, 0.0f).test(Float.NaN));
+    assertTrue(compile(ComputePredicateType.GREATER_THAN, 1.0d, 0.1d).test(1.2d));
+    assertFalse(compile(ComputePredicateType.GREATER_THAN, 1.0d, 0.1d).test(1.05d));
+    assertTrue(compile(ComputePredicateType.GREATER_OR_EQUALS, 1.0d, 0.1d).test(0.95d));
+    assertTrue(compile(ComputePredicateType.LOWER_THAN, 1.0d, 0.1d).test(0.8d));
+    assertFalse(compile(ComputePredicateType.LOWER_THAN, 1.0d, 0.1d).test(0.95d));
+    assertTrue(compile(ComputePredicateType.LOWER_OR_EQUALS, 1.0d, 0.1d).test(1.05d));
+    assertTrue(compile(ComputePredicateType.GREATER_THAN, 1.0d, 0.0d).test(2));
+  }
+
+  @Test
+  public void testAnyOf() {
+    Predicate<Object> anyOfStrings = compile(ComputePredicateType.ANY_OF, "engineer", "manager");
+    assertTrue(anyOfStrings.test(new Utf8("manager")));
+    assertFalse(anyOfStrings.test(new Utf8("designer")));
+
+    Predicate<Object> anyOfDoubles = compile(ComputePredicateType.ANY_OF, 1.0d, 2.0d, 0.1d);
+    assertTrue(anyOfDoubles.test(2.05d));
+    assertFalse(anyOfDoubles.test(0.1d));
+
+    // Values of mixed types, along with the zero epsilon of the floating point values
+    Predicate<Object> anyOfMixed = compile(ComputePredicateType.ANY_OF, 1, "two", 3.0d, 0.0d);
+    assertTrue(anyOfMixed.test(1));
+    assertTrue(anyOfMixed.test(new Utf8("two")));
+    assertTrue(anyOfMixed.test(3.0d));
+    assertFalse(anyOfMixed.test(4));
+  }
+
+  @Test
+  public void testComposite() {
+    ComputePredicate between = composite(
+        ComputePredicateType.AND,
+        leaf(ComputePredicateType.GREATER_OR_EQUALS, 30),
+        leaf(ComputePredicateType.LOWER_THAN, 65));
+    Predicate<Object> betweenPredicate = ComputePredicateEvaluator.compile(between);
+    assertTrue(betweenPredicate.test(30));
+    assertFalse(betweenPredicate.test(65));
+
+    Predicate<Object> outside = ComputePredicateEvaluator.compile(
+        composite(
+            ComputePredicateType.OR,
+            leaf(ComputePredicateType.LOWER_THAN, 18),
+            leaf(ComputePredicateType.GREATER_THAN, 65)));
+    assertTrue(outside.test(10));
+    assertTrue(outside.test(70));
+    assertFalse(outside.test(30));
+  }
+
+  @Test
+  public void testInvalidPredicates() {
+    assertThrows(VeniceException.class, () -> compile(ComputePredicateType.GREATER_THAN, 1, 2));
+    assertThrows(VeniceException.class, () -> compile(ComputePredicateType.EQUALS));
+  }
+
+  private static Predicate<Object> compile(ComputePredicateType predicateType, Object... operands) {
+    return ComputePredicateEvaluator.compile(leaf(predicateType, operands));
+  }
+
+  private static ComputePredicate leaf(ComputePredicateType predicateType, Object... operands) {
+    ComputePredicate predicate = new ComputePredicate();
+    predicate.predicateType = predicateType.getValue();
+    predicate.operands = Arrays.asList(operands);
+    predicate.children = Collections.emptyList();
+    return predicate;
+  }
+
+  private static ComputePredicate composite(ComputePredicateType predicateType, ComputePredicate... children) {
+    ComputePredicate predicate = leaf(predicateType);
+    predicate.children = Arrays.asList(children);
+    return predicate;
+  }
+}
@@ -2,6 +2,7 @@ package com.linkedin.venice.compute;
 
 import static com.linkedin.venice.utils.TestWriteUtils.loadFileAsString;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
@@ -11,8 +12,16 @@ import com.linkedin.avro.fastserde.primitive.PrimitiveFloatArrayList;
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.VeniceConstants;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.ComputePredicate;
+import com.linkedin.venice.compute.protocol.request.ComputeRequest;
 import com.linkedin.venice.compute.protocol.request.Count;
+import com.linkedin.venice.compute.protocol.request.DotProduct;
+import com.linkedin.venice.compute.protocol.request.FieldFilter;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
+import com.linkedin.venice.compute.protocol.request.enums.ComputePredicateType;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -20,10 +29,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.apache.avro.Schema;
 import org.apache.avro.SchemaBuilder;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.OptimizedBinaryDecoderFactory;
+import org.apache.avro.util.Utf8;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -162,6 +176,49 @@ public class ComputeUtilsTest {
     Assert.assertEquals(result, expectedOutput);
   }
 
+  @Test
+  public void testPrimitiveParamMatchesListResults() {
+    // Odd sizes exercise both the unrolled loops and their remainders
+    for (int size: new int[] { 1, 4, 7, 130 }) {
+      Random random = new Random(size);
+      float[] params = new float[size];
+      float[] values = new float[size];
+      for (int i = 0; i < size; i++) {
+        params[i] = random.nextFloat() - 0.5f;
+        values[i] = random.nextFloat() * 100;
+      }
+      List<Float> paramList = new ArrayList<>();
+      for (float param: params) {
+        paramList.add(param);
+      }
+      PrimitiveFloatList valueList = createPrimitiveFloatList(values);
+
+      Map<String, Object> context = new HashMap<>();
+      float[] primitiveParam = ComputeUtils.getPrimitiveParam(paramList, context);
+      assertTrue(Arrays.equals(primitiveParam, params));
+      // The parameter is copied only once per context
+      Assert.assertSame(ComputeUtils.getPrimitiveParam(paramList, context), primitiveParam);
+
+      // Both paths add the products in the same order, so their results are identical
+      assertEquals(
+          ComputeUtils.dotProduct(primitiveParam, valueList),
+          ComputeUtils.dotProduct(paramList, valueList),
+          0.0f);
+      assertEquals(
+          ComputeUtils.dotProduct(primitiveParam, new ArrayList<>(valueList)),
+          ComputeUtils.dotProduct(paramList, valueList),
+          0.0f);
+      assertEquals(ComputeUtils.squaredL2Norm(primitiveParam), ComputeUtils.squaredL2Norm(paramList), 0.0f);
+      assertEquals(ComputeUtils.squaredL2Norm(valueList), ComputeUtils.squaredL2Norm(new ArrayList<>(valueList)), 0.0f);
+      assertEquals(
+          ComputeUtils.hadamardProduct(primitiveParam, valueList),
+          ComputeUtils.hadamardProduct(paramList, valueList));
+    }
+    assertThrows(
+        VeniceException.class,
+        () -> ComputeUtils.dotProduct(new float[2], createPrimitiveFloatList(1.0f, 2.0f, 3.0f)));
+  }
+
   private static GenericRecord createGetNullableFieldValueAsListRecord() {
     Schema schema = SchemaBuilder.record("SampleSchema")
         .fields()
@@ -240,6 +297,147 @@ public class ComputeUtilsTest {
     Assert.assertNull(errorMsg);
   }
 
+  @Test
+  public void testCompileValueFilter() {
+    Schema valueSchema = SchemaBuilder.record("Member")
+        .fields()
+        .requiredInt("age")
+        .optionalString("title")
+        .endRecord();
+    assertNull(ComputeUtils.compileValueFilter(Collections.emptyList()));
+
+    Predicate<GenericRecord> valueFilter = ComputeUtils.compileValueFilter(
+        Arrays.asList(
+            fieldFilter("age", ComputePredicateType.GREATER_OR_EQUALS, 30),
+            fieldFilter("title", ComputePredicateType.ANY_OF, "engineer", "manager")));
+    GenericRecord valueRecord = new GenericData.Record(valueSchema);
+    valueRecord.put("age", 30);
+    valueRecord.put("title", new Utf8("manager"));
+    assertTrue(valueFilter.test(valueRecord));
+    valueRecord.put("age", 29);
+    assertFalse(valueFilter.test(valueRecord));
+    valueRecord.put("age", 30);
+    valueRecord.put("title", null);
+    assertFalse(valueFilter.test(valueRecord));
+
+    // The records which don't have the filtered field don't match
+    Predicate<GenericRecord> unknownFieldFilter = ComputeUtils
+        .compileValueFilter(Collections.singletonList(fieldFilter("salary", ComputePredicateType.LOWER_THAN, 10)));
+    assertFalse(unknownFieldFilter.test(valueRecord));
+  }
+
+  @Test
+  public void testDeserializeFilteredComputeRequest() {
+    Schema valueSchema = SchemaBuilder.record("Member").fields().requiredInt("age").endRecord();
+    ComputeRequestWrapper filteredRequest = new ComputeRequestWrapper(
+        1,
+        valueSchema,
+        valueSchema,
+        valueSchema.toString(),
+        Collections.emptyList(),
+        Collections.singletonList(fieldFilter("age", ComputePredicateType.EQUALS, 30)),
+        false);
+    assertEquals(filteredRequest.getComputeRequestVersion(), VeniceConstants.COMPUTE_REQUEST_VERSION_V5);
+    byte[] filteredRequestBytes = filteredRequest.serialize();
+    ComputeRequest computeRequest = ComputeUtils.deserializeComputeRequest(
+        OptimizedBinaryDecoderFactory.defaultFactory()
+            .createOptimizedBinaryDecoder(filteredRequestBytes, 0, filteredRequestBytes.length),
+        null,
+        filteredRequest.getComputeRequestVersion());
+    assertEquals(computeRequest.getFilters().size(), 1);
+    assertEquals(computeRequest.getFilters().get(0).field.toString(), "age");
+    assertEquals(computeRequest.getResultSchemaStr().toString(), valueSchema.toString());
+
+    // The requests without filters are still sent with the previous versions, and have no filters on the servers
+    ComputeRequestWrapper request =
+        new ComputeRequestWrapper(1, valueSchema, valueSchema, valueSchema.toString(), Collections.emptyList(), false);
+    assertEquals(request.getComputeRequestVersion(), VeniceConstants.COMPUTE_REQUEST_VERSION_V3);
+    byte[] requestBytes = request.serialize();
+    computeRequest = ComputeUtils.deserializeComputeRequest(
+        OptimizedBinaryDecoderFactory.defaultFactory()
+            .createOptimizedBinaryDecoder(requestBytes, 0, requestBytes.length),
+        null,
+        request.getComputeRequestVersion());
+    assertTrue(computeRequest.getFilters().isEmpty());
+  }
+
+  @Test
+  public void testGetProjectedValueSchema() {
+    Schema valueSchema = SchemaBuilder.record("Member")
+        .namespace("com.linkedin.test")
+        .fields()
+        .requiredString("name")
+        .requiredInt("age")
+        .name("embedding")
+        .type()
+        .array()
+        .items()
+        .floatType()
+        .noDefault()
+        .requiredString("bio")
+        .optionalString("title")
+        .endRecord();
+    Schema resultSchema = SchemaBuilder.record("Result")
+        .fields()
+        .requiredString("name")
+        .optionalFloat("embeddingScore")
+        .endRecord();
+    DotProduct dotProduct = new DotProduct();
+    dotProduct.field = "embedding";
+    dotProduct.dotProductParam = Arrays.asList(1.0f, 2.0f);
+    dotProduct.resultFieldName = "embeddingScore";
+    ComputeOperation operation = new ComputeOperation();
+    operation.operationType = ComputeOperationType.DOT_PRODUCT.getValue();
+    operation.operation = dotProduct;
+    List<ComputeOperation> operations = Collections.singletonList(operation);
+    List<FieldFilter> filters = Collections.singletonList(fieldFilter("age", ComputePredicateType.GREATER_THAN, 30));
+
+    // Only the projected, operator input and filtered fields are kept, in the order of the value schema
+    Schema projectedValueSchema = ComputeUtils.getProjectedValueSchema(valueSchema, resultSchema, operations, filters);
+    assertEquals(projectedValueSchema.getFullName(), valueSchema.getFullName());
+    assertEquals(
+        projectedValueSchema.getFields().stream().map(Schema.Field::name).collect(Collectors.toList()),
+        Arrays.asList("name", "age", "embedding"));
+
+    // The fields which are not part of the projection are skipped over when decoding
+    GenericRecord valueRecord = new GenericData.Record(valueSchema);
+    valueRecord.put("name", "Alice");
+    valueRecord.put("age", 40);
+    valueRecord.put("embedding", Arrays.asList(3.0f, 4.0f));
+    valueRecord.put("bio", "A long biography");
+    valueRecord.put("title", "engineer");
+    byte[] valueBytes = SerializerDeserializerFactory.getAvroGenericSerializer(valueSchema).serialize(valueRecord);
+    GenericRecord projectedValueRecord = FastSerializerDeserializerFactory
+        .<GenericRecord>getFastAvroGenericDeserializer(valueSchema, projectedValueSchema)
+        .deserialize(valueBytes);
+    assertEquals(projectedValueRecord.get("name").toString(), "Alice");
+    assertEquals(projectedValueRecord.get("age"), 40);
+    GenericRecord resultRecord = ComputeUtils.computeResult(
+        operations,
+        ComputeUtils.getOperationResultFields(operations, resultSchema),
+        new HashMap<>(),
+        projectedValueRecord,
+        resultSchema);
+    assertEquals(resultRecord.get("name").toString(), "Alice");
+    assertEquals(resultRecord.get("embeddingScore"), 11.0f);
+
+    // The value schema itself is used when all its fields are needed
+    assertEquals(
+        ComputeUtils.getProjectedValueSchema(valueSchema, valueSchema, Collections.emptyList(), null),
+        valueSchema);
+  }
+
+  private static FieldFilter fieldFilter(String field, ComputePredicateType predicateType, Object... operands) {
+    ComputePredicate predicate = new ComputePredicate();
+    predicate.predicateType = predicateType.getValue();
+    predicate.operands = Arrays.asList(operands);
+    predicate.children = Collections.emptyList();
+    FieldFilter fieldFilter = new FieldFilter();
+    fieldFilter.field = field;
+    fieldFilter.predicate = predicate;
+    return fieldFilter;
+  }
+
   private static class TestReadComputeOperator implements ReadComputeOperator {
     private final boolean allowFieldToBeNull;
     private final String operatorFieldName;
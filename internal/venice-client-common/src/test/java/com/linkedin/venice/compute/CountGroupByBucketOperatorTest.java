@@ -0,0 +1,105 @@
+package com.linkedin.venice.compute;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.ComputePredicate;
+import com.linkedin.venice.compute.protocol.request.CountGroupByBucket;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
+import com.linkedin.venice.compute.protocol.request.enums.ComputePredicateType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.util.Utf8;
+import org.testng.annotations.Test;
+
+
+public class CountGroupByBucketOperatorTest {
+  private static final Schema VALUE_SCHEMA =
+      SchemaBuilder.record("Job").fields().name("age").type().optional().intType().endRecord();
+  private static final Schema RESULT_SCHEMA = Schema.createRecord(
+      "Result",
+      "",
+      "",
+      false,
+      Collections.singletonList(
+          AvroCompatibilityHelper
+              .createSchemaField("age_bucketCounts", CountGroupByBucketOperator.RESULT_SCHEMA, "", null)));
+
+  private final CountGroupByBucketOperator operator =
+      (CountGroupByBucketOperator) ComputeOperationType.COUNT_GROUP_BY_BUCKET.getOperator();
+
+  @Test
+  public void testComputeAndMergePartialCounts() {
+    ComputeOperation op = createOperation();
+    Schema.Field resultField = RESULT_SCHEMA.getField("age_bucketCounts");
+
+    Map<String, Object> context = new HashMap<>();
+    Map<Object, Integer> counts = new HashMap<>();
+    for (Integer age: Arrays.asList(25, 40, 70, null)) {
+      GenericRecord inputRecord = new GenericData.Record(VALUE_SCHEMA);
+      inputRecord.put("age", age);
+      GenericRecord resultRecord = new GenericData.Record(RESULT_SCHEMA);
+      Map<String, String> errorMap = new HashMap<>();
+      operator.compute(op, VALUE_SCHEMA.getField("age"), resultField, inputRecord, resultRecord, errorMap, context);
+      assertTrue(errorMap.isEmpty());
+      operator.accumulate(resultRecord.get(resultField.pos()), counts);
+    }
+    assertEquals(counts.size(), 3);
+    assertEquals(counts.get("young"), Integer.valueOf(1));
+    assertEquals(counts.get("senior"), Integer.valueOf(2));
+    assertEquals(counts.get("adult"), Integer.valueOf(2));
+
+    // The bucket names come back as Utf8 once deserialized
+    Map<Object, Integer> mergedCounts = new HashMap<>(counts);
+    operator.accumulate(Collections.singletonMap(new Utf8("young"), 3), mergedCounts);
+    assertEquals(mergedCounts.get("young"), Integer.valueOf(4));
+  }
+
+  @Test
+  public void testMismatchedBuckets() {
+    ComputeOperation op = createOperation();
+    Schema.Field resultField = RESULT_SCHEMA.getField("age_bucketCounts");
+    GenericRecord inputRecord = new GenericData.Record(VALUE_SCHEMA);
+    inputRecord.put("age", 25);
+    GenericRecord resultRecord = new GenericData.Record(RESULT_SCHEMA);
+    Map<String, String> errorMap = new HashMap<>();
+
+    ((CountGroupByBucket) op.operation).bucketNames = Collections.singletonList("young");
+    Map<String, Object> context = new HashMap<>();
+    operator.compute(op, VALUE_SCHEMA.getField("age"), resultField, inputRecord, resultRecord, errorMap, context);
+
+    assertTrue(((Map) resultRecord.get(resultField.pos())).isEmpty());
+    assertTrue(errorMap.containsKey("age_bucketCounts"));
+  }
+
+  private static ComputeOperation createOperation() {
+    CountGroupByBucket countGroupByBucket = new CountGroupByBucket();
+    countGroupByBucket.field = "age";
+    countGroupByBucket.resultFieldName = "age_bucketCounts";
+    countGroupByBucket.bucketNames = Arrays.asList("young", "senior", "adult");
+    countGroupByBucket.bucketPredicates = Arrays.asList(
+        createPredicate(ComputePredicateType.LOWER_THAN, 30),
+        createPredicate(ComputePredicateType.GREATER_OR_EQUALS, 30),
+        createPredicate(ComputePredicateType.GREATER_OR_EQUALS, 18));
+    ComputeOperation op = new ComputeOperation();
+    op.operationType = ComputeOperationType.COUNT_GROUP_BY_BUCKET.getValue();
+    op.operation = countGroupByBucket;
+    return op;
+  }
+
+  private static ComputePredicate createPredicate(ComputePredicateType predicateType, Object operand) {
+    ComputePredicate predicate = new ComputePredicate();
+    predicate.predicateType = predicateType.getValue();
+    predicate.operands = Collections.singletonList(operand);
+    predicate.children = Collections.emptyList();
+    return predicate;
+  }
+}
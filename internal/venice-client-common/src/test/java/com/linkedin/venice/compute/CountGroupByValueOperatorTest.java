@@ -0,0 +1,102 @@
+package com.linkedin.venice.compute;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.CountGroupByValue;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.util.Utf8;
+import org.testng.annotations.Test;
+
+
+public class CountGroupByValueOperatorTest {
+  private static final Schema VALUE_SCHEMA = SchemaBuilder.record("Job")
+      .fields()
+      .name("jobType")
+      .type()
+      .optional()
+      .stringType()
+      .name("skills")
+      .type()
+      .array()
+      .items()
+      .stringType()
+      .noDefault()
+      .endRecord();
+  private static final Schema RESULT_FIELD_SCHEMA =
+      CountGroupByValueOperator.getResultSchema("jobType_valueCounts", VALUE_SCHEMA.getField("jobType").schema());
+  private static final Schema RESULT_SCHEMA = Schema.createRecord(
+      "Result",
+      "",
+      "",
+      false,
+      Collections.singletonList(
+          AvroCompatibilityHelper.createSchemaField("jobType_valueCounts", RESULT_FIELD_SCHEMA, "", null)));
+
+  private final CountGroupByValueOperator operator =
+      (CountGroupByValueOperator) ComputeOperationType.COUNT_GROUP_BY_VALUE.getOperator();
+
+  @Test
+  public void testIsSupportedFieldSchema() {
+    assertTrue(CountGroupByValueOperator.isSupportedFieldSchema(Schema.create(Schema.Type.INT)));
+    assertTrue(CountGroupByValueOperator.isSupportedFieldSchema(VALUE_SCHEMA.getField("jobType").schema()));
+    assertFalse(CountGroupByValueOperator.isSupportedFieldSchema(Schema.create(Schema.Type.BYTES)));
+    assertFalse(CountGroupByValueOperator.isSupportedFieldSchema(VALUE_SCHEMA.getField("skills").schema()));
+  }
+
+  @Test
+  public void testComputeAndMergePartialCounts() {
+    ComputeOperation op = new ComputeOperation();
+    op.operationType = ComputeOperationType.COUNT_GROUP_BY_VALUE.getValue();
+    CountGroupByValue countGroupByValue = new CountGroupByValue();
+    countGroupByValue.field = "jobType";
+    countGroupByValue.resultFieldName = "jobType_valueCounts";
+    op.operation = countGroupByValue;
+    Schema.Field resultField = RESULT_SCHEMA.getField("jobType_valueCounts");
+
+    // Each record holds the singleton count of its value, which are folded together
+    Map<Object, Integer> counts = new HashMap<>();
+    for (Object jobType: Arrays.asList(new Utf8("full-time"), new Utf8("part-time"), new Utf8("full-time"), null)) {
+      GenericRecord inputRecord = new GenericData.Record(VALUE_SCHEMA);
+      inputRecord.put("jobType", jobType);
+      GenericRecord resultRecord = new GenericData.Record(RESULT_SCHEMA);
+      operator.compute(
+          op,
+          VALUE_SCHEMA.getField("jobType"),
+          resultField,
+          inputRecord,
+          resultRecord,
+          new HashMap<>(),
+          new HashMap<>());
+      assertEquals(((List) resultRecord.get(resultField.pos())).size(), 1);
+      operator.accumulate(resultRecord.get(resultField.pos()), counts);
+    }
+    assertEquals(counts.size(), 3);
+    assertEquals(counts.get("full-time"), Integer.valueOf(2));
+    assertEquals(counts.get("part-time"), Integer.valueOf(1));
+    assertEquals(counts.get(null), Integer.valueOf(1));
+
+    // The folded counts are carried by a single result record, and merged again on the client side
+    GenericRecord carrier = new GenericData.Record(RESULT_SCHEMA);
+    operator.putCounts(carrier, resultField, counts);
+    Map<Object, Integer> mergedCounts = new HashMap<>();
+    operator.accumulate(carrier.get(resultField.pos()), mergedCounts);
+    operator.accumulate(carrier.get(resultField.pos()), mergedCounts);
+    operator.accumulate(null, mergedCounts);
+    assertEquals(mergedCounts.get("full-time"), Integer.valueOf(4));
+    assertEquals(mergedCounts.get("part-time"), Integer.valueOf(2));
+    assertEquals(mergedCounts.get(null), Integer.valueOf(2));
+  }
+}
@@ -17,6 +17,8 @@ public class ComputeOperationTypeTest extends VeniceEnumValueTest<ComputeOperati
         .put(1, ComputeOperationType.COSINE_SIMILARITY)
         .put(2, ComputeOperationType.HADAMARD_PRODUCT)
         .put(3, ComputeOperationType.COUNT)
+        .put(4, ComputeOperationType.COUNT_GROUP_BY_VALUE)
+        .put(5, ComputeOperationType.COUNT_GROUP_BY_BUCKET)
         .build();
   }
 }
@@ -0,0 +1,26 @@
+package com.linkedin.venice.compute.protocol.request.enums;
+
+import com.linkedin.venice.utils.CollectionUtils;
+import com.linkedin.venice.utils.VeniceEnumValueTest;
+import java.util.Map;
+
+
+public class ComputePredicateTypeTest extends VeniceEnumValueTest<ComputePredicateType> {
+  public ComputePredicateTypeTest() {
+    super(ComputePredicateType.class);
+  }
+
+  @Override
+  protected Map<Integer, ComputePredicateType> expectedMapping() {
+    return CollectionUtils.<Integer, ComputePredicateType>mapBuilder()
+        .put(0, ComputePredicateType.EQUALS)
+        .put(1, ComputePredicateType.GREATER_THAN)
+        .put(2, ComputePredicateType.GREATER_OR_EQUALS)
+        .put(3, ComputePredicateType.LOWER_THAN)
+        .put(4, ComputePredicateType.LOWER_OR_EQUALS)
+        .put(5, ComputePredicateType.ANY_OF)
+        .put(6, ComputePredicateType.AND)
+        .put(7, ComputePredicateType.OR)
+        .build();
+  }
+}
@@ -811,6 +811,18 @@ public class ConfigKeys {
   public static final String UNSORTED_INPUT_DRAINER_SIZE = "unsorted.input.drainer.size";
   public static final String STORE_WRITER_BUFFER_AFTER_LEADER_LOGIC_ENABLED =
       "store.writer.buffer.after.leader.logic.enabled";
+  /**
+   * Whether the store writers (a.k.a. drainers) should buffer records per partition, so that idle writers can claim the
+   * buffered partitions of busy writers, instead of each partition being pinned to a single writer. The records of a
+   * given partition are still processed one at a time and in order.
+   */
+  public static final String STORE_WRITER_WORK_STEALING_ENABLED = "store.writer.work.stealing.enabled";
+  /**
+   * The max number of consecutive records of a partition which the store writers (a.k.a. drainers) apply to RocksDB as
+   * a single write batch, with a single offset checkpoint check. Only the records which are not produced by the leader
+   * are batched. A value of 1 disables the batching.
+   */
+  public static final String STORE_WRITER_WRITE_BATCH_SIZE = "store.writer.write.batch.size";
 
   public static final String SERVER_INGESTION_TASK_MAX_IDLE_COUNT = "server.ingestion.task.max.idle.count";
   public static final String STORE_WRITER_BUFFER_MEMORY_CAPACITY = "store.writer.buffer.memory.capacity";
@@ -1110,6 +1122,29 @@ public class ConfigKeys {
   public static final String SERVER_AA_COLLECTION_FIELD_ELEMENT_REPLACEMENT_ENABLED =
       "server.aa.collection.field.element.replacement.enabled";
 
+  /**
+   * The size of the fork-join pool which merges the fields of wide Active/Active puts and partial updates in parallel,
+   * instead of one field after the other on the ingestion thread. The results are identical to the serial merge. 0
+   * disables the parallel merge.
+   */
+  public static final String SERVER_AA_PARALLEL_FIELD_MERGE_THREAD_POOL_SIZE =
+      "server.aa.parallel.field.merge.thread.pool.size";
+
+  /**
+   * The minimum number of fields of an incoming record to merge its fields in parallel, when
+   * {@link #SERVER_AA_PARALLEL_FIELD_MERGE_THREAD_POOL_SIZE} is positive.
+   */
+  public static final String SERVER_AA_PARALLEL_FIELD_MERGE_MIN_FIELD_COUNT =
+      "server.aa.parallel.field.merge.min.field.count";
+
+  /**
+   * The minimum number of collection elements of an incoming record (e.g. list elements to add or map entries to remove
+   * for a partial update) to merge its fields in parallel, whatever its field count, when
+   * {@link #SERVER_AA_PARALLEL_FIELD_MERGE_THREAD_POOL_SIZE} is positive.
+   */
+  public static final String SERVER_AA_PARALLEL_FIELD_MERGE_MIN_COLLECTION_SIZE =
+      "server.aa.parallel.field.merge.min.collection.size";
+
   /**
    * Whether to enable parallel lookup for batch-get.
    */
@@ -1120,6 +1155,39 @@ public class ConfigKeys {
    */
   public static final String SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE = "server.parallel.batch.get.chunk.size";
 
+  /**
+   * Whether to look up the keys of each batch-get chunk with a single storage engine multiGet per partition, instead of
+   * one lookup per key. Large values are then re-assembled with one more multiGet covering all of their chunks.
+   */
+  public static final String SERVER_BATCH_GET_STORAGE_MULTI_GET_ENABLED = "server.batch.get.storage.multi.get.enabled";
+
+  /**
+   * Whether single-get lookups should read values straight into pooled direct buffers, which are then written out as
+   * the response content without any intermediate heap copy, and released by Netty once written.
+   */
+  public static final String SERVER_SINGLE_GET_POOLED_BUFFER_ENABLED = "server.single.get.pooled.buffer.enabled";
+
+  /**
+   * A comma-separated list of stores whose hottest rows should be cached in memory by the servers, in front of the
+   * storage engine. The cache is kept consistent with the ingested writes.
+   */
+  public static final String SERVER_ROW_CACHE_STORES = "server.row.cache.stores";
+
+  /**
+   * The capacity of the row cache of each store-version hosted by a server, for the stores listed in
+   * {@link #SERVER_ROW_CACHE_STORES}.
+   */
+  public static final String SERVER_ROW_CACHE_CAPACITY_PER_STORE_VERSION_IN_BYTES =
+      "server.row.cache.capacity.per.store.version.in.bytes";
+
+  /**
+   * The capacity of the server-wide cache of decompressed values, which spares read compute requests on stores using
+   * {@link com.linkedin.venice.compression.CompressionStrategy#ZSTD_WITH_DICT} from decompressing their hottest values
+   * over and over again. The cache is disabled when the capacity is 0, which is the default.
+   */
+  public static final String SERVER_DECOMPRESSED_VALUE_CACHE_CAPACITY_IN_BYTES =
+      "server.decompressed.value.cache.capacity.in.bytes";
+
   /**
    * The request early termination threshold map:
    * The key will be store name, and the value will be the actual threshold.
@@ -2019,6 +2087,12 @@ public class ConfigKeys {
    */
   public static final String ROUTER_HTTP2_MAX_HEADER_LIST_SIZE = "router.http2.max.header.list.size";
 
+  /**
+   * The maximum size of the content of a response received from a storage node by the Netty HTTP/2 storage node
+   * client, in bytes. The requests whose response is larger fail.
+   */
+  public static final String ROUTER_HTTP2_CLIENT_MAX_RESPONSE_SIZE = "router.http2.client.max.response.size";
+
   /**
    * Whether to enable openssl in the Router http client when talking to server.
    */
@@ -2285,6 +2359,13 @@ public class ConfigKeys {
    */
   public static final String BLOB_TRANSFER_DISABLED_TIME_LAG_THRESHOLD_IN_MINUTES =
       "blob.transfer.disabled.time.lag.threshold.in.minutes";
+  /**
+   * This is a config to keep the immutable SST files of the stale local copy of a partition when it bootstraps from
+   * blob transfer, so that the peer only transfers the files which are missing locally or whose checksum differs.
+   * The peers which don't support it reject such requests, and the transfer falls back to the next peer with a full
+   * transfer, so it should only be enabled once all the peers support it.
+   */
+  public static final String BLOB_TRANSFER_INCREMENTAL_TRANSFER_ENABLED = "blob.transfer.incremental.transfer.enabled";
   // This is a freshness in sec to measure the connectivity between the peers,
   // if the connectivity is not fresh, then retry the connection.
   public static final String BLOB_TRANSFER_PEERS_CONNECTIVITY_FRESHNESS_IN_SECONDS =
@@ -2768,6 +2849,13 @@ public class ConfigKeys {
    */
   public static final String WRITER_BATCHING_MAX_BUFFER_SIZE_IN_BYTES = "writer.batching.max.buffer.size.in.bytes";
 
+  /**
+   * Whether Venice writer batching feature should fold a PUT or a DELETE followed by UPDATEs of the same key within a
+   * batch into a single PUT, instead of a single UPDATE.
+   */
+  public static final String WRITER_BATCHING_FOLD_UPDATES_INTO_PUT_ENABLED =
+      "writer.batching.fold.updates.into.put.enabled";
+
   /**
    * The maximum age (in milliseconds) of producer state retained by Data Ingestion Validation. Tuning this
    * can prevent OOMing in cases where there is a lot of historical churn in RT producers. The age of a given
@@ -3093,6 +3181,33 @@ public class ConfigKeys {
    */
   public static final String ROUTER_RESPONSE_AGGREGATION_QUEUE_CAPACITY = "router.response.aggregation.queue.capacity";
 
+  /**
+   * Comma separated list of the stores whose single-get responses are cached by the Router, keyed by store version and
+   * key. Since the entries are only dropped on version swap or expiry, this is only meant for batch-only stores, and
+   * the hybrid stores in the list are ignored. The cache is disabled when the list is empty, which is the default.
+   */
+  public static final String ROUTER_SINGLE_GET_CACHE_STORE_ALLOWLIST = "router.single.get.cache.store.allowlist";
+  /**
+   * Maximum total size of the keys and the still-compressed values held by the Router single-get cache.
+   */
+  public static final String ROUTER_SINGLE_GET_CACHE_CAPACITY_IN_BYTES = "router.single.get.cache.capacity.in.bytes";
+  /**
+   * Time to live of the Router single-get cache entries, counted from the time they were written.
+   */
+  public static final String ROUTER_SINGLE_GET_CACHE_TTL_MS = "router.single.get.cache.ttl.ms";
+
+  /**
+   * Whether the concurrent single-get requests of the same key in the same store version share a single request to
+   * the storage nodes, which cuts the load of the storage nodes during the traffic spikes on hot keys.
+   */
+  public static final String ROUTER_SINGLE_GET_COALESCING_ENABLED = "router.single.get.coalescing.enabled";
+  /**
+   * Maximum number of single-get requests waiting for the in-flight request of the same key, beyond which they are
+   * sent to the storage nodes as usual.
+   */
+  public static final String ROUTER_SINGLE_GET_COALESCING_MAX_WAITER_COUNT =
+      "router.single.get.coalescing.max.waiter.count";
+
   /**
    * Server configs to enable the topic partition re-subscription during ingestion to let bottom ingestion service aware
    * of store version's ingestion context changed (workload type {#@link PartitionReplicaIngestionContext.WorkloadType} or
@@ -3130,6 +3245,14 @@ public class ConfigKeys {
 
   public static final String SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_THREAD_POOL_SIZE =
       "server.aa.wc.workload.parallel.processing.thread.pool.size";
+
+  /**
+   * The number of key hash lanes used to serialize the A/A/WC records of the same key, instead of the key level locks
+   * pool. Each batch processed with {@link #SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_ENABLED} is partitioned by lane,
+   * and each lane is processed sequentially by a single worker. The value is rounded up to the next power of 2, and 0
+   * keeps using the key level locks.
+   */
+  public static final String SERVER_AA_WC_WORKLOAD_KEY_LANE_COUNT = "server.aa.wc.workload.key.lane.count";
   public static final String SERVER_GLOBAL_RT_DIV_ENABLED = "server.global.rt.div.enabled";
 
   /**
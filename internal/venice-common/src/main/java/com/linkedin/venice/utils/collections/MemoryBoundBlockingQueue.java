@@ -120,17 +120,7 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
       while ((record = this.queue.poll()) == null) {
         notEmpty.await();
       }
-      long recordSize = getRecordSize(record);
-      currentFreedMemoryInBytes += recordSize;
-      /**
-       * It won't notify the blocked {@link #put(Measurable)}  thread until the freed memory exceeds
-       * pre-defined {@link #notifyDeltaInByte}.
-       */
-      if (currentFreedMemoryInBytes >= notifyDeltaInByte) {
-        remainingMemoryCapacityInByte.getAndAdd(currentFreedMemoryInBytes);
-        currentFreedMemoryInBytes = 0;
-        hasEnoughMemory.signalAll();
-      }
+      freeMemory(record);
     } finally {
       memoryLock.unlock();
     }
@@ -138,6 +128,23 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
     return record;
   }
 
+  /**
+   * Must be invoked while holding {@link #memoryLock}.
+   */
+  private void freeMemory(T record) {
+    long recordSize = getRecordSize(record);
+    currentFreedMemoryInBytes += recordSize;
+    /**
+     * It won't notify the blocked {@link #put(Measurable)}  thread until the freed memory exceeds
+     * pre-defined {@link #notifyDeltaInByte}.
+     */
+    if (currentFreedMemoryInBytes >= notifyDeltaInByte) {
+      remainingMemoryCapacityInByte.getAndAdd(currentFreedMemoryInBytes);
+      currentFreedMemoryInBytes = 0;
+      hasEnoughMemory.signalAll();
+    }
+  }
+
   @Override
   public boolean offer(T t, long timeout, TimeUnit unit) throws InterruptedException {
     throw new VeniceException("Operation is not supported yet!");
@@ -158,9 +165,23 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
     throw new VeniceException("Operation is not supported yet!");
   }
 
+  /**
+   * The non-blocking counterpart of {@link #take()}.
+   *
+   * @return the head of the queue, or null if the queue is empty
+   */
   @Override
   public T poll() {
-    throw new VeniceException("Operation is not supported yet!");
+    this.memoryLock.lock();
+    try {
+      T record = this.queue.poll();
+      if (record != null) {
+        freeMemory(record);
+      }
+      return record;
+    } finally {
+      memoryLock.unlock();
+    }
   }
 
   @Override
@@ -54,12 +54,17 @@ import org.apache.logging.log4j.Logger;
  *
  * When the last message is produced, its callback will be completed (either successfully or exceptionally), all the
  * related messages' callbacks will also be completed with the same result.
+ *
+ * When the last message of a key is an UPDATE, it is merged with the previous UPDATE messages of the key in the batch.
+ * If {@link VeniceWriterOptions#isBatchFoldUpdatesIntoPutEnabled()} is set and these UPDATE messages follow a PUT or a
+ * DELETE message, they are applied to its value instead, and a single PUT message is produced.
  */
 public class BatchingVeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
   public static final Logger LOGGER = LogManager.getLogger(BatchingVeniceWriter.class);
 
   private final long batchIntervalInMs;
   private final int maxBatchSizeInBytes;
+  private final boolean foldUpdatesIntoPutEnabled;
   private final ReentrantLock lock = new ReentrantLock();
   private final ExecutorService checkServiceExecutor = Executors.newSingleThreadExecutor();
   private final List<ProducerBufferRecord> bufferRecordList = new ArrayList<>();
@@ -72,6 +77,7 @@ public class BatchingVeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U>
   private final BiIntKeyCache<RecordDeserializer<GenericRecord>> deserializerCacheForFullValue;
   private final Map<Schema, Map<Schema, RecordDeserializer<GenericRecord>>> deserializerCacheForUpdateValue;
   private final Map<Schema, RecordSerializer<GenericRecord>> updateSerializerMap = new VeniceConcurrentHashMap<>();
+  private final Map<Schema, RecordSerializer<GenericRecord>> valueSerializerMap = new VeniceConcurrentHashMap<>();
 
   private final AtomicBoolean isRunning = new AtomicBoolean(false);
   private final SchemaFetcherBackedStoreSchemaCache storeSchemaCache;
@@ -85,6 +91,7 @@ public class BatchingVeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U>
     super(params.getTopicName());
     this.batchIntervalInMs = params.getBatchIntervalInMs();
     this.maxBatchSizeInBytes = params.getMaxBatchSizeInBytes();
+    this.foldUpdatesIntoPutEnabled = params.isBatchFoldUpdatesIntoPutEnabled();
     this.keySerializer = params.getKeyPayloadSerializer();
     this.valueSerializer = params.getValuePayloadSerializer();
     this.updateSerializer = params.getWriteComputePayloadSerializer();
@@ -427,6 +434,10 @@ public class BatchingVeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U>
      */
     int supersetSchemaId = getStoreSchemaCache().getLatestOrSupersetSchemaId();
     Schema supersetSchema = getStoreSchemaCache().getSupersetSchema();
+    if (idx >= 0 && isFoldUpdatesIntoPutEnabled()) {
+      foldUpdatesIntoPut(producerBufferRecord, idx, supersetSchemaId, supersetSchema);
+      return;
+    }
     if (idx >= 0) {
       anchorPutRecord = dependentRecordList.get(idx);
       if (anchorPutRecord.getMessageType().equals(MessageType.PUT)) {
@@ -455,6 +466,37 @@ public class BatchingVeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U>
     producerBufferRecord.updateSerializedUpdate(serializeMergedValueRecord(resultUpdateRecord));
   }
 
+  /**
+   * Applies all the UPDATE messages following the last PUT / DELETE message at {@param anchorIdx} to its value, and
+   * converts the final to-be-produced record into a PUT message of the result, with the superset schema.
+   * A DELETE message is treated as an absent value, which the UPDATE messages are applied to in the same way as the
+   * Venice backend does, i.e. on top of a record with the default field values.
+   */
+  void foldUpdatesIntoPut(
+      ProducerBufferRecord producerBufferRecord,
+      int anchorIdx,
+      int supersetSchemaId,
+      Schema supersetSchema) {
+    List<ProducerBufferRecord> dependentRecordList = producerBufferRecord.getDependentRecordList();
+    ProducerBufferRecord anchorRecord = dependentRecordList.get(anchorIdx);
+    GenericRecord resultValueRecord = null;
+    if (anchorRecord.getMessageType().equals(MessageType.PUT)) {
+      resultValueRecord = getValueDeserializer(anchorRecord.getSchemaId(), supersetSchemaId)
+          .deserialize(anchorRecord.getSerializedValue());
+    }
+    for (int i = anchorIdx + 1; i < dependentRecordList.size(); i++) {
+      resultValueRecord = getUpdateHandler().updateValueRecord(
+          supersetSchema,
+          resultValueRecord,
+          deserializeUpdateBytes(dependentRecordList.get(i).getSerializedUpdate()));
+    }
+    resultValueRecord = getUpdateHandler().updateValueRecord(
+        supersetSchema,
+        resultValueRecord,
+        deserializeUpdateBytes(producerBufferRecord.getSerializedUpdate()));
+    producerBufferRecord.convertToPut(serializeValueRecord(supersetSchema, resultValueRecord), supersetSchemaId);
+  }
+
   private GenericRecord deserializeUpdateBytes(byte[] updateBytes) {
     // Use latest superset schema's update schema as both reader/writer schema to deserialize payload.
     Schema updateSchema = getStoreSchemaCache().getUpdateSchema();
@@ -490,6 +532,20 @@ public class BatchingVeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U>
     }
   }
 
+  private byte[] serializeValueRecord(Schema valueSchema, GenericRecord valueRecord) {
+    try {
+      RecordSerializer<GenericRecord> serializer = getValueSerializerMap().computeIfAbsent(
+          valueSchema,
+          ignored -> FastSerializerDeserializerFactory.getFastAvroGenericSerializer(valueSchema));
+      return serializer.serialize(valueRecord);
+    } catch (Exception e) {
+      LOGGER.error(
+          "Unable to serialize folded PUT payload with superset schema id: {}",
+          getStoreSchemaCache().getLatestOrSupersetSchemaId());
+      throw e;
+    }
+  }
+
   void maybeStartCheckExecutor() {
     // Start the service only once
     if (isRunning.compareAndSet(false, true)) {
@@ -551,6 +607,10 @@ public class BatchingVeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U>
     return updateSerializerMap;
   }
 
+  Map<Schema, RecordSerializer<GenericRecord>> getValueSerializerMap() {
+    return valueSerializerMap;
+  }
+
   Map<Schema, Map<Schema, RecordDeserializer<GenericRecord>>> getDeserializerCacheForUpdateValue() {
     return deserializerCacheForUpdateValue;
   }
@@ -559,6 +619,10 @@ public class BatchingVeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U>
     return getDeserializerCacheForFullValue().get(readerSchemaId, writerSchemaId);
   }
 
+  boolean isFoldUpdatesIntoPutEnabled() {
+    return foldUpdatesIntoPutEnabled;
+  }
+
   WriteComputeHandlerV1 getUpdateHandler() {
     return updateHandler;
   }
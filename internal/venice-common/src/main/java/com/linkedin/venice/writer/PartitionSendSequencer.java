@@ -0,0 +1,182 @@
+package com.linkedin.venice.writer;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+
+/**
+ * Hands the messages of a partition over to the {@link com.linkedin.venice.pubsub.api.PubSubProducerAdapter} in the
+ * order they were enqueued, without making the producing threads wait for each other, see
+ * {@link VeniceWriter#PARTITION_SEND_SEQUENCER_ENABLED}.
+ *
+ * The messages are enqueued into a lock-free queue by {@link #enqueue}, which must be called in the same critical
+ * section as the one assigning their DIV metadata, so that the queue order is the DIV order. After leaving it, the
+ * producing thread calls {@link #sendPendingMessages()}: the first thread which finds nobody sending becomes the sender,
+ * and sends the enqueued messages, including the ones enqueued by the other threads in the meantime, until the queue is
+ * empty. The other threads return right away, with a future which is completed along with the one returned by the
+ * producer once their message is sent, unless more than {@link #maxPendingMessages} messages are pending, in which case
+ * they wait for the sender to catch up, so that the queue stays bounded. The sender hands its role over to one of these
+ * waiting threads after sending {@link #maxMessagesPerDrain} messages, so that a single thread doesn't keep sending for
+ * everybody else under a sustained load.
+ *
+ * Since a message might be sent by another thread, the errors thrown by the producer when sending it are never thrown
+ * to the producing thread, but passed to the callback and to the future of the message instead.
+ */
+class PartitionSendSequencer {
+  private final Queue<PendingMessage> pendingMessages = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingMessageCount = new AtomicInteger();
+  private final AtomicLong enqueuedMessageCount = new AtomicLong();
+  private final AtomicLong sentMessageCount = new AtomicLong();
+  private final int maxPendingMessages;
+  private final int maxMessagesPerDrain;
+
+  // Only guards the sender role, the messages are enqueued and sent outside of it
+  private final Lock senderLock = new ReentrantLock();
+  // Signalled whenever the sender has sent a batch of messages or has given its role up
+  private final Condition messagesSent = senderLock.newCondition();
+  private boolean sending = false;
+  private int waitingThreadCount = 0;
+
+  PartitionSendSequencer(int maxPendingMessages, int maxMessagesPerDrain) {
+    this.maxPendingMessages = maxPendingMessages;
+    this.maxMessagesPerDrain = maxMessagesPerDrain;
+  }
+
+  /**
+   * @param send sends the message to the producer
+   * @param callback the callback of the message, which is completed with the error thrown by {@param send} if any
+   * @return the future of the message, completed along with the one returned by {@param send}
+   */
+  CompletableFuture<PubSubProduceResult> enqueue(
+      Supplier<CompletableFuture<PubSubProduceResult>> send,
+      PubSubProducerCallback callback) {
+    PendingMessage pendingMessage = new PendingMessage(send, callback);
+    pendingMessages.offer(pendingMessage);
+    pendingMessageCount.incrementAndGet();
+    enqueuedMessageCount.incrementAndGet();
+    return pendingMessage.future;
+  }
+
+  /**
+   * Sends the enqueued messages, unless another thread is already sending them, in which case this waits for it to
+   * catch up if too many messages are pending.
+   */
+  void sendPendingMessages() {
+    boolean interrupted = false;
+    senderLock.lock();
+    try {
+      while (sending) {
+        if (interrupted || pendingMessageCount.get() <= maxPendingMessages) {
+          // The current sender will pick up the messages enqueued before this call
+          return;
+        }
+        waitingThreadCount++;
+        try {
+          messagesSent.await();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } finally {
+          waitingThreadCount--;
+        }
+      }
+      if (pendingMessages.isEmpty()) {
+        return;
+      }
+      sending = true;
+    } finally {
+      senderLock.unlock();
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    drainPendingMessages();
+  }
+
+  private void drainPendingMessages() {
+    while (true) {
+      PendingMessage pendingMessage;
+      int sentMessages = 0;
+      while (sentMessages < maxMessagesPerDrain && (pendingMessage = pendingMessages.poll()) != null) {
+        pendingMessage.send();
+        sentMessages++;
+        pendingMessageCount.decrementAndGet();
+        sentMessageCount.incrementAndGet();
+      }
+      senderLock.lock();
+      try {
+        /**
+         * The queue is checked again while holding the lock, since the threads which found this one sending before it
+         * took the lock returned without sending their messages.
+         */
+        if (pendingMessages.isEmpty() || waitingThreadCount > 0) {
+          // Either done, or one of the waiting threads takes over once it's signalled
+          sending = false;
+          messagesSent.signalAll();
+          return;
+        }
+        messagesSent.signalAll();
+      } finally {
+        senderLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Waits until all the messages enqueued before this call are sent, which is needed before flushing the producer.
+   */
+  void waitForPendingMessages() {
+    long targetSentMessageCount = enqueuedMessageCount.get();
+    while (sentMessageCount.get() < targetSentMessageCount) {
+      sendPendingMessages();
+      senderLock.lock();
+      try {
+        while (sending && sentMessageCount.get() < targetSentMessageCount) {
+          messagesSent.await();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new VeniceException("Interrupted while waiting for the pending messages to be sent");
+      } finally {
+        senderLock.unlock();
+      }
+    }
+  }
+
+  private static class PendingMessage {
+    private final Supplier<CompletableFuture<PubSubProduceResult>> send;
+    private final PubSubProducerCallback callback;
+    private final CompletableFuture<PubSubProduceResult> future = new CompletableFuture<>();
+
+    PendingMessage(Supplier<CompletableFuture<PubSubProduceResult>> send, PubSubProducerCallback callback) {
+      this.send = send;
+      this.callback = callback;
+    }
+
+    void send() {
+      try {
+        send.get().whenComplete((result, throwable) -> {
+          if (throwable == null) {
+            future.complete(result);
+          } else {
+            future.completeExceptionally(throwable);
+          }
+        });
+      } catch (Exception e) {
+        future.completeExceptionally(e);
+        if (callback != null) {
+          callback.onCompletion(null, e);
+        }
+      }
+    }
+  }
+}
@@ -15,10 +15,10 @@ import java.util.concurrent.CompletableFuture;
 public class ProducerBufferRecord implements Measurable {
   private static final int SHALLOW_CLASS_OVERHEAD = getClassOverhead(ProducerBufferRecord.class);
   private final byte[] serializedKey;
-  private final byte[] serializedValue;
+  private byte[] serializedValue;
   private byte[] serializedUpdate;
-  private final MessageType messageType;
-  private final int schemaId;
+  private MessageType messageType;
+  private int schemaId;
   private final int protocolId;
   private final long timestamp;
   private final PubSubProducerCallback callback;
@@ -117,6 +117,16 @@ public class ProducerBufferRecord implements Measurable {
     this.serializedUpdate = serializedUpdate;
   }
 
+  /**
+   * This method converts an UPDATE message into a PUT message carrying the full value.
+   */
+  public void convertToPut(byte[] serializedValue, int schemaId) {
+    this.messageType = MessageType.PUT;
+    this.serializedValue = serializedValue;
+    this.serializedUpdate = null;
+    this.schemaId = schemaId;
+  }
+
   @Override
   public int getHeapSize() {
     int size = SHALLOW_CLASS_OVERHEAD;
@@ -171,6 +171,30 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
   public static final String PRODUCER_THREAD_COUNT = VENICE_WRITER_CONFIG_PREFIX + "producer.thread.count";
   public static final String PRODUCER_QUEUE_SIZE = VENICE_WRITER_CONFIG_PREFIX + "producer.queue.size";
 
+  /**
+   * Whether the messages of a partition should be handed over to the producer through a {@link PartitionSendSequencer},
+   * instead of within the per-partition critical section. When enabled, only the DIV metadata assignment and the
+   * enqueuing of the message are done within it, and the producing threads don't wait for each other's sends, which
+   * include the serialization of the messages by the producer. The errors thrown by the producer when sending a message
+   * are then passed to its callback and future, instead of being thrown. Default: false
+   */
+  public static final String PARTITION_SEND_SEQUENCER_ENABLED =
+      VENICE_WRITER_CONFIG_PREFIX + "partition.send.sequencer.enabled";
+
+  /**
+   * Number of messages pending in the {@link PartitionSendSequencer} of a partition above which the producing threads
+   * wait for them to be sent, instead of leaving them to the thread currently sending. Default: 1000
+   */
+  public static final String PARTITION_SEND_SEQUENCER_MAX_PENDING_MESSAGES =
+      VENICE_WRITER_CONFIG_PREFIX + "partition.send.sequencer.max.pending.messages";
+
+  /**
+   * Number of messages after which the thread sending the messages of a {@link PartitionSendSequencer} hands its role
+   * over to one of the producing threads waiting for them to be sent, if any. Default: 100
+   */
+  public static final String PARTITION_SEND_SEQUENCER_MAX_MESSAGES_PER_DRAIN =
+      VENICE_WRITER_CONFIG_PREFIX + "partition.send.sequencer.max.messages.per.drain";
+
   // Config value defaults
 
   /**
@@ -285,6 +309,8 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
   private final Map<CharSequence, CharSequence> defaultDebugInfo;
   private final boolean elapsedTimeForClosingSegmentEnabled;
   private final Object[] partitionLocks;
+  // Null unless PARTITION_SEND_SEQUENCER_ENABLED is true
+  private final PartitionSendSequencer[] partitionSendSequencers;
   private final String writerId;
 
   public static class DefaultLeaderMetadata extends LeaderMetadata {
@@ -459,8 +485,17 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
       // Prepare locks for all partitions instead of using map to avoid the searching and creation cost during
       // ingestion.
       this.partitionLocks = new Object[this.numberOfPartitions];
+      this.partitionSendSequencers = props.getBoolean(PARTITION_SEND_SEQUENCER_ENABLED, false)
+          ? new PartitionSendSequencer[this.numberOfPartitions]
+          : null;
+      int sequencerMaxPendingMessages = props.getInt(PARTITION_SEND_SEQUENCER_MAX_PENDING_MESSAGES, 1000);
+      int sequencerMaxMessagesPerDrain = props.getInt(PARTITION_SEND_SEQUENCER_MAX_MESSAGES_PER_DRAIN, 100);
       for (int i = 0; i < numberOfPartitions; i++) {
         partitionLocks[i] = new Object();
+        if (partitionSendSequencers != null) {
+          partitionSendSequencers[i] =
+              new PartitionSendSequencer(sequencerMaxPendingMessages, sequencerMaxMessagesPerDrain);
+        }
         segmentsStartTimeArray[i] = -1L;
       }
       this.segments = new Segment[this.numberOfPartitions];
@@ -588,10 +623,16 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
   }
 
   /**
-   * Call flush on the internal {@link PubSubProducerAdapter}.
+   * Call flush on the internal {@link PubSubProducerAdapter}, once all the messages enqueued into the
+   * {@link PartitionSendSequencer}s, if any, have been handed over to it.
    */
   @Override
   public void flush() {
+    if (partitionSendSequencers != null) {
+      for (PartitionSendSequencer partitionSendSequencer: partitionSendSequencers) {
+        partitionSendSequencer.waitForPendingMessages();
+      }
+    }
     producerAdapter.flush();
   }
 
@@ -1775,19 +1816,18 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
       PubSubProducerCallback callback,
       LeaderMetadataWrapper leaderMetadataWrapper,
       long logicalTs) {
-    synchronized (this.partitionLocks[partition]) {
-      return sendMessage(
-          keyProvider,
-          messageType,
-          payload,
-          false,
-          partition,
-          callback,
-          true,
-          leaderMetadataWrapper,
-          logicalTs,
-          EmptyPubSubMessageHeaders.SINGLETON);
-    }
+    // No outer synchronized needed — sendMessage already acquires partitionLocks[partition] internally.
+    return sendMessage(
+        keyProvider,
+        messageType,
+        payload,
+        false,
+        partition,
+        callback,
+        true,
+        leaderMetadataWrapper,
+        logicalTs,
+        EmptyPubSubMessageHeaders.SINGLETON);
   }
 
   private CompletableFuture<PubSubProduceResult> sendMessage(
@@ -1801,34 +1841,27 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
       LeaderMetadataWrapper leaderMetadataWrapper,
       long logicalTs,
       PubSubMessageHeaders pubSubMessageHeaders) {
-    synchronized (this.partitionLocks[partition]) {
-      KafkaMessageEnvelopeProvider kafkaMessageEnvelopeProvider = () -> {
-        KafkaMessageEnvelope kafkaValue = getKafkaMessageEnvelope(
-            messageType,
-            isEndOfSegment,
-            partition,
-            updateDIV,
-            leaderMetadataWrapper,
-            logicalTs);
-        kafkaValue.payloadUnion = payload;
-        return kafkaValue;
-      };
-      PubSubMessageHeader viewPartitionHeader =
-          ViewUtils.getViewDestinationPartitionHeader(leaderMetadataWrapper.getViewPartitionMap());
-      if (viewPartitionHeader != null) {
-        if (pubSubMessageHeaders instanceof EmptyPubSubMessageHeaders) {
-          pubSubMessageHeaders = new PubSubMessageHeaders();
-        }
-        pubSubMessageHeaders.add(viewPartitionHeader);
-      }
-      return sendMessage(
-          keyProvider,
-          kafkaMessageEnvelopeProvider,
+    // No outer synchronized needed — the envelope is only built by sendMessage, under partitionLocks[partition].
+    KafkaMessageEnvelopeProvider kafkaMessageEnvelopeProvider = () -> {
+      KafkaMessageEnvelope kafkaValue = getKafkaMessageEnvelope(
+          messageType,
+          isEndOfSegment,
           partition,
-          callback,
           updateDIV,
-          pubSubMessageHeaders);
+          leaderMetadataWrapper,
+          logicalTs);
+      kafkaValue.payloadUnion = payload;
+      return kafkaValue;
+    };
+    PubSubMessageHeader viewPartitionHeader =
+        ViewUtils.getViewDestinationPartitionHeader(leaderMetadataWrapper.getViewPartitionMap());
+    if (viewPartitionHeader != null) {
+      if (pubSubMessageHeaders instanceof EmptyPubSubMessageHeaders) {
+        pubSubMessageHeaders = new PubSubMessageHeaders();
+      }
+      pubSubMessageHeaders.add(viewPartitionHeader);
     }
+    return sendMessage(keyProvider, kafkaMessageEnvelopeProvider, partition, callback, updateDIV, pubSubMessageHeaders);
   }
 
   /**
@@ -1849,8 +1882,11 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
    *         have also updated the DIV.
    *         @see {@link #sendControlMessage(ControlMessage, int, Map, PubSubProducerCallback, LeaderMetadataWrapper)}
    *
-   * P.S. 2: If there is too much contention on this lock, then we can consider a finer locking strategy, where the
-   *         locking is per-partition, which would also be correct as far as DIV is concerned.
+   * P.S. 2: If {@link #PARTITION_SEND_SEQUENCER_ENABLED} is true, the write to Kafka itself happens after leaving the
+   *         synchronized block, through a {@link PartitionSendSequencer}, which preserves the order in which the
+   *         messages were enqueued within it. Callers must therefore not hold the partition lock around this
+   *         function, otherwise the write is deferred until the outermost of them releases it and calls
+   *         {@link #sendPendingMessages(int)}.
    *
    * @param updateDIV if true, the partition's segment's checksum will be updated and its sequence number incremented
    *                  if false, the checksum and seq# update are omitted, which is the right thing to do during retries
@@ -1867,6 +1903,7 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
       logger.warn("VeniceWriter already closed for replica: {}", Utils.getReplicaId(topicName, partition));
       return future;
     }
+    CompletableFuture<PubSubProduceResult> produceResultFuture;
     synchronized (this.partitionLocks[partition]) {
       KafkaMessageEnvelope kafkaValue = valueProvider.getKafkaMessageEnvelope();
       KafkaKey key = keyProvider.getKey(kafkaValue.producerMetadata);
@@ -1885,17 +1922,50 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
           false,
           LeaderCompleteState.LEADER_NOT_COMPLETED,
           pubSubMessageHeaders);
-      try {
-        return producerAdapter
-            .sendMessage(topicName, partition, key, kafkaValue, finalPubSubMessageHeaders, outputCallback);
-      } catch (Exception e) {
-        if (ExceptionUtils.recursiveClassEquals(e, PubSubTopicAuthorizationException.class)) {
-          throw new VeniceResourceAccessException(
-              "You do not have permission to write to this store. Please check that ACLs are set correctly.",
-              e);
-        } else {
-          throw e;
-        }
+      if (partitionSendSequencers == null) {
+        return sendMessageToProducer(partition, key, kafkaValue, finalPubSubMessageHeaders, outputCallback);
+      }
+      produceResultFuture = partitionSendSequencers[partition].enqueue(
+          () -> sendMessageToProducer(partition, key, kafkaValue, finalPubSubMessageHeaders, outputCallback),
+          outputCallback);
+    }
+    sendPendingMessages(partition);
+    return produceResultFuture;
+  }
+
+  /**
+   * Sends the messages enqueued into the {@link PartitionSendSequencer} of the partition, unless the current thread
+   * still holds the partition lock, e.g. for a {@link ControlMessageType#END_OF_SEGMENT} sent while building the
+   * envelope of another message, in which case they are sent by the outermost caller once it has released it.
+   */
+  private void sendPendingMessages(int partition) {
+    if (partitionSendSequencers != null && !Thread.holdsLock(this.partitionLocks[partition])) {
+      partitionSendSequencers[partition].sendPendingMessages();
+    }
+  }
+
+  /**
+   * @return the monitor guarding the DIV state of the partition, only exposed for tests.
+   */
+  Object getPartitionLock(int partition) {
+    return this.partitionLocks[partition];
+  }
+
+  private CompletableFuture<PubSubProduceResult> sendMessageToProducer(
+      int partition,
+      KafkaKey key,
+      KafkaMessageEnvelope kafkaValue,
+      PubSubMessageHeaders pubSubMessageHeaders,
+      PubSubProducerCallback callback) {
+    try {
+      return producerAdapter.sendMessage(topicName, partition, key, kafkaValue, pubSubMessageHeaders, callback);
+    } catch (Exception e) {
+      if (ExceptionUtils.recursiveClassEquals(e, PubSubTopicAuthorizationException.class)) {
+        throw new VeniceResourceAccessException(
+            "You do not have permission to write to this store. Please check that ACLs are set correctly.",
+            e);
+      } else {
+        throw e;
       }
     }
   }
@@ -2336,7 +2406,7 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
       // String implementation.
       while (true) {
         try {
-          sendMessage(
+          CompletableFuture<PubSubProduceResult> produceResultFuture = sendMessage(
               this::getControlMessageKey,
               MessageType.CONTROL_MESSAGE,
               controlMessage,
@@ -2346,7 +2416,15 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
               updateCheckSum,
               leaderMetadataWrapper,
               VENICE_DEFAULT_LOGICAL_TS,
-              EmptyPubSubMessageHeaders.SINGLETON).get();
+              EmptyPubSubMessageHeaders.SINGLETON);
+          if (partitionSendSequencers != null) {
+            /**
+             * The partition lock must be held until the message is acknowledged, so that no other message slips in
+             * before a retry, hence the enqueued messages have to be sent from within it here.
+             */
+            partitionSendSequencers[partition].sendPendingMessages();
+          }
+          produceResultFuture.get();
           return;
         } catch (InterruptedException | ExecutionException e) {
           if (ExceptionUtils.recursiveClassEquals(e, PubSubTopicDoesNotExistException.class)) {
@@ -2418,19 +2496,18 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
     // String implementation.
     controlMessage.debugInfo = getDebugInfo(debugInfo);
     boolean isEndOfSegment = ControlMessageType.valueOf(controlMessage).equals(ControlMessageType.END_OF_SEGMENT);
-    synchronized (this.partitionLocks[partition]) {
-      return sendMessage(
-          this::getControlMessageKey,
-          MessageType.CONTROL_MESSAGE,
-          controlMessage,
-          isEndOfSegment,
-          partition,
-          callback,
-          true,
-          leaderMetadataWrapper,
-          VENICE_DEFAULT_LOGICAL_TS,
-          pubSubMessageHeaders);
-    }
+    // No outer synchronized needed — sendMessage already acquires partitionLocks[partition] internally.
+    return sendMessage(
+        this::getControlMessageKey,
+        MessageType.CONTROL_MESSAGE,
+        controlMessage,
+        isEndOfSegment,
+        partition,
+        callback,
+        true,
+        leaderMetadataWrapper,
+        VENICE_DEFAULT_LOGICAL_TS,
+        pubSubMessageHeaders);
   }
 
   /**
@@ -2445,23 +2522,22 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
       Map<String, String> debugInfo,
       PubSubProducerCallback callback,
       LeaderMetadataWrapper leaderMetadataWrapper) {
-    synchronized (this.partitionLocks[partition]) {
-      controlMessage.debugInfo = getDebugInfo(debugInfo);
-      boolean updateCheckSum = true;
-      boolean isEndOfSegment = ControlMessageType.valueOf(controlMessage).equals(ControlMessageType.END_OF_SEGMENT);
+    controlMessage.debugInfo = getDebugInfo(debugInfo);
+    boolean updateCheckSum = true;
+    boolean isEndOfSegment = ControlMessageType.valueOf(controlMessage).equals(ControlMessageType.END_OF_SEGMENT);
 
-      return sendMessage(
-          this::getControlMessageKey,
-          MessageType.CONTROL_MESSAGE,
-          controlMessage,
-          isEndOfSegment,
-          partition,
-          callback,
-          updateCheckSum,
-          leaderMetadataWrapper,
-          VENICE_DEFAULT_LOGICAL_TS,
-          EmptyPubSubMessageHeaders.SINGLETON);
-    }
+    // No outer synchronized needed — sendMessage already acquires partitionLocks[partition] internally.
+    return sendMessage(
+        this::getControlMessageKey,
+        MessageType.CONTROL_MESSAGE,
+        controlMessage,
+        isEndOfSegment,
+        partition,
+        callback,
+        updateCheckSum,
+        leaderMetadataWrapper,
+        VENICE_DEFAULT_LOGICAL_TS,
+        EmptyPubSubMessageHeaders.SINGLETON);
   }
 
   /**
@@ -2534,22 +2610,32 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
         topicPartition,
         leadershipTerm,
         kafkaMessageEnvelope);
-    synchronized (this.partitionLocks[topicPartition.getPartitionNumber()]) {
-      return producerAdapter.sendMessage(
-          topicPartition.getPubSubTopic().getName(),
-          topicPartition.getPartitionNumber(),
-          KafkaKey.DOL_STAMP,
-          kafkaMessageEnvelope,
-          /*
-           * Route through getHeaders so the vtp protocol-schema header is attached on this
-           * segment-start message — DoL stamps always carry segmentNumber=0 + messageSequenceNumber=0
-           * (set in getDoLStampKME above), so needVtpHeader is true. Without this, the DoL stamp
-           * lands on the wire with empty headers, and a forward-compat consumer that hits it as
-           * the first record on a fresh VT has no way to bootstrap an unknown KME schema.
-           */
-          getHeaders(kafkaMessageEnvelope.getProducerMetadata(), false, null, EmptyPubSubMessageHeaders.SINGLETON),
-          callback);
+    int partition = topicPartition.getPartitionNumber();
+    Supplier<CompletableFuture<PubSubProduceResult>> send = () -> producerAdapter.sendMessage(
+        topicPartition.getPubSubTopic().getName(),
+        partition,
+        KafkaKey.DOL_STAMP,
+        kafkaMessageEnvelope,
+        /*
+         * Route through getHeaders so the vtp protocol-schema header is attached on this
+         * segment-start message — DoL stamps always carry segmentNumber=0 + messageSequenceNumber=0
+         * (set in getDoLStampKME above), so needVtpHeader is true. Without this, the DoL stamp
+         * lands on the wire with empty headers, and a forward-compat consumer that hits it as
+         * the first record on a fresh VT has no way to bootstrap an unknown KME schema.
+         */
+        getHeaders(kafkaMessageEnvelope.getProducerMetadata(), false, null, EmptyPubSubMessageHeaders.SINGLETON),
+        callback);
+    if (partitionSendSequencers == null) {
+      synchronized (this.partitionLocks[partition]) {
+        return send.get();
+      }
     }
+    CompletableFuture<PubSubProduceResult> produceResultFuture;
+    synchronized (this.partitionLocks[partition]) {
+      produceResultFuture = partitionSendSequencers[partition].enqueue(send, callback);
+    }
+    sendPendingMessages(partition);
+    return produceResultFuture;
   }
 
   public static KafkaMessageEnvelope getHeartbeatKME(
@@ -2794,6 +2880,7 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
    * @return A CompletableFuture which either contains a result if a EOS was sent, or null if none needed to be sent.
    */
   private CompletableFuture<PubSubProduceResult> endSegment(int partition, boolean finalSegment) {
+    CompletableFuture<PubSubProduceResult> produceResultFuture = null;
     synchronized (this.partitionLocks[partition]) {
       Segment currentSegment = segments[partition];
       if (currentSegment == null) {
@@ -2804,7 +2891,7 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
         logger.debug("endSegment(partition {}) called but currentSegment.ended == true. Ignoring.", partition);
       } else {
         try {
-          return sendEndOfSegment(
+          produceResultFuture = sendEndOfSegment(
               partition,
               Collections.emptyMap(), // TODO: Add extra debugging info
               finalSegment
@@ -2821,7 +2908,11 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
         }
       }
     }
-    return CompletableFuture.completedFuture(null);
+    if (produceResultFuture == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    sendPendingMessages(partition);
+    return produceResultFuture;
   }
 
   public Time getTime() {
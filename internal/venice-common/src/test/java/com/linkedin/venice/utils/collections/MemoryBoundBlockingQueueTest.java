@@ -75,6 +75,19 @@ public class MemoryBoundBlockingQueueTest {
     }
   }
 
+  @Test
+  public void testPoll() throws InterruptedException {
+    int memoryCap = 5000;
+    MemoryBoundBlockingQueue<MeasurableObject> queue = new MemoryBoundBlockingQueue<>(memoryCap, 1);
+    Assert.assertNull(queue.poll());
+    MeasurableObject object = new MeasurableObject();
+    queue.put(object);
+    Assert.assertTrue(queue.getMemoryUsage() > 0);
+    Assert.assertSame(queue.poll(), object);
+    Assert.assertNull(queue.poll());
+    Assert.assertEquals(queue.getMemoryUsage(), 0);
+  }
+
   @Test
   public void testThrottling() throws InterruptedException {
     int memoryCap = 5000;
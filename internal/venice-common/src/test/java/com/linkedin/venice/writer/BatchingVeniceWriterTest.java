@@ -7,6 +7,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -442,6 +443,94 @@ public class BatchingVeniceWriterTest {
     Assert.assertTrue(completableFutureList.get(1).isDone());
   }
 
+  @Test
+  public void testPutAndUpdatesFoldedIntoPut() {
+    List<ProducerBufferRecord> bufferRecordList = new ArrayList<>();
+    Map<ByteBuffer, ProducerBufferRecord> bufferRecordIndex = new VeniceConcurrentHashMap<>();
+    List<CompletableFuture<Void>> completableFutureList = new ArrayList<>();
+    List<CompletableFutureCallback> completableFutureCallbackList = new ArrayList<>();
+    int numberOfOperations = 3;
+    BatchingVeniceWriter<String, GenericRecord, GenericRecord> writer = prepareMockSetup(
+        numberOfOperations,
+        completableFutureList,
+        completableFutureCallbackList,
+        bufferRecordIndex,
+        bufferRecordList);
+    doReturn(true).when(writer).isFoldUpdatesIntoPutEnabled();
+
+    String key = "a";
+    GenericRecord valueRecord = new GenericData.Record(VALUE_SCHEMA);
+    valueRecord.put("name", "J");
+    valueRecord.put("age", 0);
+    valueRecord.put("intArray", Collections.emptyList());
+    valueRecord.put("recordArray", Collections.emptyList());
+    valueRecord.put("stringMap", Collections.emptyMap());
+    valueRecord.put("recordMap", Collections.emptyMap());
+    GenericRecord updateRecord1 = new UpdateBuilderImpl(UPDATE_SCHEMA).setNewFieldValue("age", 5)
+        .setElementsToAddToListField("intArray", Arrays.asList(1, 2))
+        .build();
+    GenericRecord updateRecord2 = new UpdateBuilderImpl(UPDATE_SCHEMA).setNewFieldValue("name", "K")
+        .setElementsToRemoveFromListField("intArray", Collections.singletonList(1))
+        .build();
+    writer.put(key, valueRecord, 1, completableFutureCallbackList.get(0));
+    writer.update(key, updateRecord1, 1, 1, completableFutureCallbackList.get(1));
+    writer.update(key, updateRecord2, 1, 1, completableFutureCallbackList.get(2));
+
+    // Perform produce operation
+    writer.checkAndMaybeProduceBatchRecord();
+    verify(writer, times(1)).sendRecord(any());
+    Assert.assertTrue(bufferRecordList.isEmpty());
+    Assert.assertTrue(bufferRecordIndex.isEmpty());
+
+    // Capture writer behavior: a single PUT with the superset schema and no UPDATE.
+    ArgumentCaptor<PubSubProducerCallback> putCallbackCaptor = ArgumentCaptor.forClass(PubSubProducerCallback.class);
+    ArgumentCaptor<byte[]> payloadCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(writer.getVeniceWriter(), times(1))
+        .put(any(), payloadCaptor.capture(), eq(1), anyLong(), putCallbackCaptor.capture());
+    verify(writer.getVeniceWriter(), never()).update(any(), any(), anyInt(), anyInt(), any(), anyLong());
+
+    // Verify produced folded PUT value.
+    GenericRecord finalValue = valueDeserializer.deserialize(payloadCaptor.getValue());
+    Assert.assertEquals(finalValue.get("name").toString(), "K");
+    Assert.assertEquals(finalValue.get("age"), 5);
+    List<Integer> intArrayField = (List<Integer>) finalValue.get("intArray");
+    Assert.assertEquals(intArrayField.size(), 1);
+    Assert.assertTrue(intArrayField.contains(2));
+
+    // Verify all the coalesced callbacks are completed together.
+    PubSubProducerCallback putCallback = putCallbackCaptor.getValue();
+    Assert.assertTrue(putCallback instanceof ChainedPubSubCallback);
+    Assert.assertEquals(((ChainedPubSubCallback) putCallback).getDependentCallbackList().size(), 2);
+    putCallback.onCompletion(null, null);
+    for (CompletableFuture<Void> completableFuture: completableFutureList) {
+      Assert.assertTrue(completableFuture.isDone());
+    }
+  }
+
+  @Test
+  public void testDeleteAndUpdateFoldedIntoPut() {
+    List<ProducerBufferRecord> bufferRecordList = new ArrayList<>();
+    Map<ByteBuffer, ProducerBufferRecord> bufferRecordIndex = new VeniceConcurrentHashMap<>();
+    List<CompletableFuture<Void>> completableFutureList = new ArrayList<>();
+    List<CompletableFutureCallback> completableFutureCallbackList = new ArrayList<>();
+    BatchingVeniceWriter<String, GenericRecord, GenericRecord> writer =
+        prepareMockSetup(2, completableFutureList, completableFutureCallbackList, bufferRecordIndex, bufferRecordList);
+    doReturn(true).when(writer).isFoldUpdatesIntoPutEnabled();
+
+    GenericRecord updateRecord = new UpdateBuilderImpl(UPDATE_SCHEMA).setNewFieldValue("name", "K").build();
+    writer.delete("a", completableFutureCallbackList.get(0));
+    writer.update("a", updateRecord, 1, 1, completableFutureCallbackList.get(1));
+    writer.checkAndMaybeProduceBatchRecord();
+
+    // The UPDATE is applied on top of the default field values, as the deleted value is gone.
+    ArgumentCaptor<byte[]> payloadCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(writer.getVeniceWriter(), times(1)).put(any(), payloadCaptor.capture(), eq(1), anyLong(), any());
+    verify(writer.getVeniceWriter(), never()).delete(any(), anyLong(), any());
+    GenericRecord finalValue = valueDeserializer.deserialize(payloadCaptor.getValue());
+    Assert.assertEquals(finalValue.get("name").toString(), "K");
+    Assert.assertEquals(finalValue.get("age"), -1);
+  }
+
   BatchingVeniceWriter<String, GenericRecord, GenericRecord> prepareMockSetup(
       int numberOfOperations,
       List<CompletableFuture<Void>> completableFutureList,
@@ -479,6 +568,7 @@ public class BatchingVeniceWriterTest {
     doCallRealMethod().when(writer).update(any(), any(), anyInt(), anyInt(), anyLong(), any());
     doCallRealMethod().when(writer).maybeUpdateRecordUpdatePayload(any());
     doCallRealMethod().when(writer).convertValueRecordToUpdateRecord(any(), any());
+    doCallRealMethod().when(writer).foldUpdatesIntoPut(any(), anyInt(), anyInt(), any());
     doReturn(valueDeserializer).when(writer).getValueDeserializer(anyInt(), anyInt());
     doReturn(updateHandler).when(writer).getUpdateHandler();
 
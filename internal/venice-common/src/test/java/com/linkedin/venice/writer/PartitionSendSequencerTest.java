@@ -0,0 +1,163 @@
+package com.linkedin.venice.writer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.utils.TestUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+
+public class PartitionSendSequencerTest {
+  private static final long TIMEOUT_MS = 10000;
+
+  @Test(timeOut = TIMEOUT_MS)
+  public void testMessagesEnqueuedDuringSendAreSentByTheSender() throws Exception {
+    PartitionSendSequencer sequencer = new PartitionSendSequencer(1000, 100);
+    List<Integer> sentMessages = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch firstSendStarted = new CountDownLatch(1);
+    CountDownLatch firstSendReleased = new CountDownLatch(1);
+    CompletableFuture<PubSubProduceResult> firstProducerFuture = new CompletableFuture<>();
+
+    CompletableFuture<PubSubProduceResult> firstFuture = sequencer.enqueue(() -> {
+      firstSendStarted.countDown();
+      try {
+        firstSendReleased.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      sentMessages.add(1);
+      return firstProducerFuture;
+    }, null);
+    Thread sender = new Thread(sequencer::sendPendingMessages);
+    sender.start();
+    assertTrue(firstSendStarted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+
+    // While the first message is being sent, the other threads only enqueue their messages
+    CompletableFuture<PubSubProduceResult> secondFuture = sequencer.enqueue(() -> {
+      sentMessages.add(2);
+      return CompletableFuture.completedFuture(null);
+    }, null);
+    sequencer.sendPendingMessages();
+    CompletableFuture<PubSubProduceResult> thirdFuture = sequencer.enqueue(() -> {
+      sentMessages.add(3);
+      return CompletableFuture.completedFuture(null);
+    }, null);
+    sequencer.sendPendingMessages();
+    assertTrue(sentMessages.isEmpty());
+    assertFalse(secondFuture.isDone());
+
+    firstSendReleased.countDown();
+    sender.join();
+    assertEquals(sentMessages, Arrays.asList(1, 2, 3));
+    assertTrue(secondFuture.isDone());
+    assertTrue(thirdFuture.isDone());
+    // The future of a message is completed along with the one returned by the producer
+    assertFalse(firstFuture.isDone());
+    PubSubProduceResult produceResult = mock(PubSubProduceResult.class);
+    firstProducerFuture.complete(produceResult);
+    assertEquals(firstFuture.get(), produceResult);
+  }
+
+  @Test(timeOut = TIMEOUT_MS)
+  public void testSendErrorIsPassedToCallback() {
+    PartitionSendSequencer sequencer = new PartitionSendSequencer(1000, 100);
+    PubSubProducerCallback callback = mock(PubSubProducerCallback.class);
+    VeniceException sendException = new VeniceException("Failed to send");
+    CompletableFuture<PubSubProduceResult> failedFuture = sequencer.enqueue(() -> {
+      throw sendException;
+    }, callback);
+    CompletableFuture<PubSubProduceResult> nextFuture =
+        sequencer.enqueue(() -> CompletableFuture.completedFuture(null), null);
+    sequencer.sendPendingMessages();
+
+    assertTrue(failedFuture.isCompletedExceptionally());
+    verify(callback).onCompletion(any(), eq(sendException));
+    // The following messages are still sent
+    assertTrue(nextFuture.isDone());
+    assertFalse(nextFuture.isCompletedExceptionally());
+  }
+
+  @Test(timeOut = TIMEOUT_MS)
+  public void testWaitForPendingMessages() throws Exception {
+    PartitionSendSequencer sequencer = new PartitionSendSequencer(1000, 100);
+    CountDownLatch sendReleased = new CountDownLatch(1);
+    CompletableFuture<PubSubProduceResult> future = sequencer.enqueue(() -> {
+      try {
+        sendReleased.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return CompletableFuture.completedFuture(null);
+    }, null);
+    Thread sender = new Thread(sequencer::sendPendingMessages);
+    sender.start();
+
+    CompletableFuture<Void> waitFuture = CompletableFuture.runAsync(sequencer::waitForPendingMessages);
+    assertFalse(waitFuture.isDone());
+    sendReleased.countDown();
+    TestUtils.waitForNonDeterministicAssertion(
+        TIMEOUT_MS,
+        TimeUnit.MILLISECONDS,
+        () -> assertTrue(waitFuture.isDone() && future.isDone()));
+    sender.join();
+  }
+
+  @Test(timeOut = TIMEOUT_MS)
+  public void testThreadsWaitAboveMaxPendingMessagesAndTakeOverSending() throws Exception {
+    PartitionSendSequencer sequencer = new PartitionSendSequencer(1, 1);
+    List<String> sendingThreads = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch firstSendStarted = new CountDownLatch(1);
+    CountDownLatch firstSendReleased = new CountDownLatch(1);
+    sequencer.enqueue(() -> {
+      firstSendStarted.countDown();
+      try {
+        firstSendReleased.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      sendingThreads.add(Thread.currentThread().getName());
+      return CompletableFuture.completedFuture(null);
+    }, null);
+    Thread sender = new Thread(sequencer::sendPendingMessages, "sender");
+    sender.start();
+    assertTrue(firstSendStarted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+
+    // Too many messages are pending, so the producing thread waits instead of leaving them to the sender
+    Thread producer = new Thread(() -> {
+      for (int i = 0; i < 2; i++) {
+        sequencer.enqueue(() -> {
+          sendingThreads.add(Thread.currentThread().getName());
+          return CompletableFuture.completedFuture(null);
+        }, null);
+      }
+      sequencer.sendPendingMessages();
+    }, "producer");
+    producer.start();
+    TestUtils.waitForNonDeterministicAssertion(
+        TIMEOUT_MS,
+        TimeUnit.MILLISECONDS,
+        () -> assertEquals(producer.getState(), Thread.State.WAITING));
+    assertTrue(sendingThreads.isEmpty());
+
+    // The sender hands over to the waiting thread after its first message
+    firstSendReleased.countDown();
+    sender.join();
+    producer.join();
+    assertEquals(sendingThreads, Arrays.asList("sender", "producer", "producer"));
+  }
+}
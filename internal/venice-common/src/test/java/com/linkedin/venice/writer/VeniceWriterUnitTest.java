@@ -40,6 +40,7 @@ import com.linkedin.davinci.kafka.consumer.LeaderProducerCallback;
 import com.linkedin.davinci.kafka.consumer.PartitionConsumptionState;
 import com.linkedin.venice.exceptions.RecordTooLargeException;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VeniceResourceAccessException;
 import com.linkedin.venice.guid.HeartbeatGuidV3Generator;
 import com.linkedin.venice.kafka.protocol.ControlMessage;
 import com.linkedin.venice.kafka.protocol.Delete;
@@ -57,11 +58,13 @@ import com.linkedin.venice.pubsub.api.EmptyPubSubMessageHeaders;
 import com.linkedin.venice.pubsub.api.PubSubMessageHeader;
 import com.linkedin.venice.pubsub.api.PubSubMessageHeaders;
 import com.linkedin.venice.pubsub.api.PubSubPosition;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
 import com.linkedin.venice.pubsub.api.PubSubProducerAdapter;
 import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.pubsub.api.PubSubTopicType;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicAuthorizationException;
 import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
 import com.linkedin.venice.serialization.VeniceKafkaSerializer;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
@@ -76,6 +79,7 @@ import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.TestWriteUtils;
 import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -87,7 +91,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apache.kafka.common.errors.TimeoutException;
@@ -1860,4 +1868,119 @@ public class VeniceWriterUnitTest {
     kme.payloadUnion = cm;
     return kme;
   }
+
+  @Test(timeOut = TIMEOUT)
+  public void testPartitionSendSequencerPreservesDivOrder() throws InterruptedException {
+    PubSubProducerAdapter mockedProducer = mock(PubSubProducerAdapter.class);
+    List<Integer> sentSequenceNumbers = Collections.synchronizedList(new ArrayList<>());
+    AtomicReference<VeniceWriter<byte[], byte[], byte[]>> writerReference = new AtomicReference<>();
+    AtomicInteger sendsUnderPartitionLock = new AtomicInteger();
+    when(mockedProducer.sendMessage(any(), any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+      KafkaKey kafkaKey = invocation.getArgument(2);
+      KafkaMessageEnvelope kafkaValue = invocation.getArgument(3);
+      // Only the start of segment is sent under the partition lock, since it is retried if the topic is missing
+      if (!kafkaKey.isControlMessage() && Thread.holdsLock(writerReference.get().getPartitionLock(0))) {
+        sendsUnderPartitionLock.incrementAndGet();
+      }
+      sentSequenceNumbers.add(kafkaValue.producerMetadata.messageSequenceNumber);
+      return CompletableFuture.completedFuture(null);
+    });
+    Properties writerProperties = new Properties();
+    writerProperties.put(VeniceWriter.PARTITION_SEND_SEQUENCER_ENABLED, "true");
+    VeniceWriter<byte[], byte[], byte[]> writer = new VeniceWriter<>(
+        new VeniceWriterOptions.Builder("test").setPartitionCount(1).build(),
+        new VeniceProperties(writerProperties),
+        mockedProducer);
+    writerReference.set(writer);
+
+    int threadCount = 4;
+    int putCountPerThread = 500;
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      int threadId = i;
+      threads.add(new Thread(() -> {
+        for (int j = 0; j < putCountPerThread; j++) {
+          writer.put(("key_" + threadId + "_" + j).getBytes(), new byte[] { 1 }, 1, null);
+        }
+      }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread: threads) {
+      thread.join();
+    }
+    writer.flush();
+
+    // The start of segment, followed by all the puts, in the order of their sequence numbers
+    assertEquals(sentSequenceNumbers.size(), threadCount * putCountPerThread + 1);
+    for (int i = 0; i < sentSequenceNumbers.size(); i++) {
+      assertEquals((int) sentSequenceNumbers.get(i), i);
+    }
+    assertEquals(sendsUnderPartitionLock.get(), 0);
+  }
+
+  @Test(timeOut = TIMEOUT)
+  public void testPartitionSendSequencerSenderSendsMessagesEnqueuedByOtherThreads() throws Exception {
+    PubSubProducerAdapter mockedProducer = mock(PubSubProducerAdapter.class);
+    Map<String, Thread> sendingThreads = new VeniceConcurrentHashMap<>();
+    CountDownLatch firstPutSendStarted = new CountDownLatch(1);
+    CountDownLatch firstPutSendReleased = new CountDownLatch(1);
+    when(mockedProducer.sendMessage(any(), any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+      KafkaKey kafkaKey = invocation.getArgument(2);
+      if (!kafkaKey.isControlMessage()) {
+        String key = new String(kafkaKey.getKey());
+        sendingThreads.put(key, Thread.currentThread());
+        if (key.equals("key1")) {
+          firstPutSendStarted.countDown();
+          firstPutSendReleased.await();
+        }
+      }
+      return CompletableFuture.completedFuture(null);
+    });
+    Properties writerProperties = new Properties();
+    writerProperties.put(VeniceWriter.PARTITION_SEND_SEQUENCER_ENABLED, "true");
+    VeniceWriter<byte[], byte[], byte[]> writer = new VeniceWriter<>(
+        new VeniceWriterOptions.Builder("test").setPartitionCount(1).build(),
+        new VeniceProperties(writerProperties),
+        mockedProducer);
+    writer.put("key0".getBytes(), new byte[] { 1 }, 1, null);
+
+    Thread sender = new Thread(() -> writer.put("key1".getBytes(), new byte[] { 1 }, 1, null));
+    sender.start();
+    assertTrue(firstPutSendStarted.await(TIMEOUT, TimeUnit.MILLISECONDS));
+    // The sender is blocked in the producer without holding the partition lock, so other threads can still enqueue
+    CompletableFuture<PubSubProduceResult> future = writer.put("key2".getBytes(), new byte[] { 1 }, 1, null);
+    assertFalse(future.isDone());
+    assertFalse(sendingThreads.containsKey("key2"));
+
+    firstPutSendReleased.countDown();
+    sender.join();
+    assertTrue(future.isDone());
+    assertEquals(sendingThreads.get("key2"), sender);
+  }
+
+  @Test(timeOut = TIMEOUT)
+  public void testPartitionSendSequencerPassesSendErrorsToCallback() {
+    PubSubProducerAdapter mockedProducer = mock(PubSubProducerAdapter.class);
+    // Only the data messages fail, so that the start of segment goes through
+    when(mockedProducer.sendMessage(any(), any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+      KafkaKey kafkaKey = invocation.getArgument(2);
+      if (kafkaKey.isControlMessage()) {
+        return CompletableFuture.completedFuture(null);
+      }
+      throw new PubSubTopicAuthorizationException("No ACL");
+    });
+    Properties writerProperties = new Properties();
+    writerProperties.put(VeniceWriter.PARTITION_SEND_SEQUENCER_ENABLED, "true");
+    VeniceWriter<byte[], byte[], byte[]> writer = new VeniceWriter<>(
+        new VeniceWriterOptions.Builder("test").setPartitionCount(1).build(),
+        new VeniceProperties(writerProperties),
+        mockedProducer);
+
+    PubSubProducerCallback callback = mock(PubSubProducerCallback.class);
+    CompletableFuture<PubSubProduceResult> future = writer.put("key".getBytes(), new byte[] { 1 }, 1, callback);
+    assertTrue(future.isCompletedExceptionally());
+    ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
+    verify(callback).onCompletion(any(), exceptionCaptor.capture());
+    assertTrue(exceptionCaptor.getValue() instanceof VeniceResourceAccessException);
+  }
 }
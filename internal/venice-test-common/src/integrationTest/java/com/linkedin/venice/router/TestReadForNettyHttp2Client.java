@@ -0,0 +1,95 @@
+package com.linkedin.venice.router;
+
+import static com.linkedin.venice.HttpConstants.HTTP_GET;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
+import com.linkedin.venice.integration.utils.VeniceServerWrapper;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.QueryAction;
+import com.linkedin.venice.router.api.RoutingComputationMode;
+import com.linkedin.venice.router.httpclient.NettyHttp2StorageNodeClient;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.httpclient.StorageNodeClientType;
+import com.linkedin.venice.router.httpclient.VeniceMetaDataRequest;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.SslUtils;
+import com.linkedin.venice.utils.Utils;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestReadForNettyHttp2Client extends TestRead {
+  private final Logger LOGGER = LogManager.getLogger(this.getClass());
+
+  @Override
+  protected StorageNodeClientType getStorageNodeClientType() {
+    return StorageNodeClientType.NETTY_HTTP2_CLIENT;
+  }
+
+  @Override
+  protected boolean isRouterHttp2ClientEnabled() {
+    return true;
+  }
+
+  @Override
+  protected boolean isTestEnabled() {
+    boolean testEnabled = Utils.getJavaMajorVersion() >= 11;
+    if (!testEnabled) {
+      LOGGER.info(
+          "All the tests are disabled since StorageNodeClientType: {} requires JDK11 or above",
+          StorageNodeClientType.NETTY_HTTP2_CLIENT);
+    }
+    return testEnabled;
+  }
+
+  @Override
+  protected RoutingComputationMode getRoutingComputationMode() {
+    return RoutingComputationMode.PARALLEL;
+  }
+
+  @Test
+  public void testNettyHttp2ClientFromOutsideOfEventLoops() throws Exception {
+    if (!isTestEnabled()) {
+      return;
+    }
+    VeniceClusterWrapper veniceCluster = getVeniceCluster();
+    VeniceServerWrapper serverWrapper = veniceCluster.getVeniceServers().get(0);
+    Instance serverInstance = Instance.fromHostAndPort(serverWrapper.getHost(), serverWrapper.getPort());
+    Optional<SSLFactory> sslFactory = Optional.of(SslUtils.getVeniceLocalSslFactory());
+    // Form a heartbeat request
+    VeniceMetaDataRequest request = new VeniceMetaDataRequest(
+        serverInstance,
+        QueryAction.HEALTH.toString().toLowerCase(),
+        HTTP_GET,
+        sslFactory.isPresent());
+
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(8 * 1024 * 1024).when(config).getHttp2InitialWindowSize();
+    doReturn(8 * 1024 * 1024).when(config).getHttp2MaxFrameSize();
+    doReturn(4096).when(config).getHttp2HeaderTableSize();
+    doReturn(8192).when(config).getHttp2MaxHeaderListSize();
+    doReturn(1000).when(config).getConnectionTimeout();
+    doReturn(1000).when(config).getSocketTimeout();
+    NioEventLoopGroup eventLoopGroup = new NioEventLoopGroup(2);
+    try (NettyHttp2StorageNodeClient client =
+        new NettyHttp2StorageNodeClient(sslFactory, config, eventLoopGroup, NioSocketChannel.class)) {
+      // The second request reuses the connection of the first one, if it got handed to the same event loop
+      for (int i = 0; i < 2; i++) {
+        CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+        client.sendRequest(request, responseFuture);
+        Assert.assertEquals(responseFuture.get(3, TimeUnit.SECONDS).getStatusCode(), 200);
+      }
+    } finally {
+      eventLoopGroup.shutdownGracefully();
+    }
+  }
+}
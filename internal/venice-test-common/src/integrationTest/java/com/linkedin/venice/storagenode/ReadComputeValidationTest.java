@@ -554,7 +554,9 @@ public class ReadComputeValidationTest {
         VeniceWriter<Object, byte[], byte[]> veniceWriter = vwFactory
             .createVeniceWriter(new VeniceWriterOptions.Builder(topic).setKeyPayloadSerializer(keySerializer).build());
         AvroGenericStoreClient<Integer, Object> storeClient = ClientFactory.getAndStartGenericAvroClient(
-            ClientConfig.defaultGenericClientConfig(storeName).setVeniceURL(routerAddr))) {
+            ClientConfig.defaultGenericClientConfig(storeName)
+                .setVeniceURL(routerAddr)
+                .setComputeAggregationPushDownEnabled(true))) {
 
       // Cast to AvroGenericReadComputeStoreClient to access computeAggregation method
       AvroGenericReadComputeStoreClient<Integer, Object> computeStoreClient =
@@ -696,7 +698,9 @@ public class ReadComputeValidationTest {
         VeniceWriter<Object, byte[], byte[]> veniceWriter = vwFactory
             .createVeniceWriter(new VeniceWriterOptions.Builder(topic).setKeyPayloadSerializer(keySerializer).build());
         AvroGenericStoreClient<Integer, Object> storeClient = ClientFactory.getAndStartGenericAvroClient(
-            ClientConfig.defaultGenericClientConfig(storeName).setVeniceURL(routerAddr))) {
+            ClientConfig.defaultGenericClientConfig(storeName)
+                .setVeniceURL(routerAddr)
+                .setComputeAggregationPushDownEnabled(true))) {
 
       // Cast to AvroGenericReadComputeStoreClient to access computeAggregation method
       AvroGenericReadComputeStoreClient<Integer, Object> computeStoreClient =
@@ -1003,7 +1007,9 @@ public class ReadComputeValidationTest {
         VeniceWriter<Object, byte[], byte[]> veniceWriter = vwFactory
             .createVeniceWriter(new VeniceWriterOptions.Builder(topic).setKeyPayloadSerializer(keySerializer).build());
         AvroGenericStoreClient<Integer, Object> storeClient = ClientFactory.getAndStartGenericAvroClient(
-            ClientConfig.defaultGenericClientConfig(storeName).setVeniceURL(routerAddr))) {
+            ClientConfig.defaultGenericClientConfig(storeName)
+                .setVeniceURL(routerAddr)
+                .setComputeAggregationPushDownEnabled(true))) {
 
       // Cast to AvroGenericReadComputeStoreClient to access computeAggregation method
       AvroGenericReadComputeStoreClient<Integer, Object> computeStoreClient =
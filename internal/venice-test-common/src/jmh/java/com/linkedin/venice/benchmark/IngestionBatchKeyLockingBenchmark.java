@@ -0,0 +1,204 @@
+package com.linkedin.venice.benchmark;
+
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.davinci.kafka.consumer.IngestionBatchProcessor;
+import com.linkedin.davinci.kafka.consumer.KeyLanes;
+import com.linkedin.davinci.kafka.consumer.KeyLevelLocksManager;
+import com.linkedin.davinci.kafka.consumer.PubSubMessageProcessedResultWrapper;
+import com.linkedin.davinci.stats.AggVersionedIngestionStats;
+import com.linkedin.davinci.stats.HostLevelIngestionStats;
+import com.linkedin.davinci.utils.ByteArrayKey;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.ImmutablePubSubMessage;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.DefaultPubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubPosition;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the key level locks pool ({@link KeyLevelLocksManager}) with the key hash lanes ({@link KeyLanes}) used by
+ * {@link IngestionBatchProcessor} to serialize the A/A/WC records of the same key. Each benchmark thread plays the role
+ * of a consumer of the same partition (e.g. one per source region), which locks, processes and unlocks mini-batches of
+ * records in a loop, sharing the processor and its thread pool with the other consumers.
+ *
+ * To run the test, build the project and run the following commands:
+ * ligradle jmh
+ * If above command throws an error, you can try run `ligradle jmh --debug` first to clean up all the caches, then retry
+ * `ligradle jmh` again to run the results.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+public class IngestionBatchKeyLockingBenchmark {
+  private static final String STORE_VERSION = "benchmark_store_v1";
+  private static final int BATCHES_PER_THREAD = 1024;
+
+  /**
+   * The number of records per mini-batch, i.e. the parallel processing thread pool size.
+   */
+  @Param({ "8", "64" })
+  protected int batchSize;
+
+  /**
+   * A small key space leads to many keys in common between the batches of the different consumers.
+   */
+  @Param({ "1000", "1000000" })
+  protected int keySpace;
+
+  /**
+   * The CPU work spent processing each record, in {@link Blackhole#consumeCPU} tokens.
+   */
+  @Param({ "100" })
+  protected int processingCost;
+
+  @Param({ "256" })
+  protected int laneCount;
+
+  private ExecutorService threadPool;
+  private IngestionBatchProcessor keyLevelLocksProcessor;
+  private IngestionBatchProcessor keyLanesProcessor;
+  private PubSubTopicPartition topicPartition;
+
+  @Setup
+  public void setUp() {
+    threadPool = Executors.newFixedThreadPool(batchSize);
+    int cost = processingCost;
+    IngestionBatchProcessor.ProcessingFunction processingFunction = (record, pcs, p, url, id, ns, ms) -> {
+      Blackhole.consumeCPU(cost);
+      return null;
+    };
+    int maxPoolSize = Runtime.getRuntime().availableProcessors() * batchSize + 1;
+    keyLevelLocksProcessor = new IngestionBatchProcessor(
+        STORE_VERSION,
+        threadPool,
+        new KeyLevelLocksManager(STORE_VERSION, 2, maxPoolSize) {
+        },
+        null,
+        processingFunction,
+        true,
+        true,
+        mock(AggVersionedIngestionStats.class),
+        mock(HostLevelIngestionStats.class));
+    keyLanesProcessor = new IngestionBatchProcessor(
+        STORE_VERSION,
+        threadPool,
+        null,
+        new KeyLanes(laneCount),
+        processingFunction,
+        true,
+        true,
+        mock(AggVersionedIngestionStats.class),
+        mock(HostLevelIngestionStats.class));
+    topicPartition = new PubSubTopicPartitionImpl(new PubSubTopicRepository().getTopic("benchmark_store_rt"), 0);
+  }
+
+  @TearDown
+  public void cleanUp() {
+    threadPool.shutdownNow();
+  }
+
+  @State(Scope.Thread)
+  public static class ThreadContext {
+    List<List<DefaultPubSubMessage>> batches;
+    int nextBatch = 0;
+
+    @Setup
+    public void setUp(IngestionBatchKeyLockingBenchmark benchmark) {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      KafkaMessageEnvelope value = mock(KafkaMessageEnvelope.class);
+      PubSubPosition position = mock(PubSubPosition.class);
+      batches = new ArrayList<>(BATCHES_PER_THREAD);
+      for (int i = 0; i < BATCHES_PER_THREAD; i++) {
+        List<DefaultPubSubMessage> batch = new ArrayList<>(benchmark.batchSize);
+        for (int j = 0; j < benchmark.batchSize; j++) {
+          byte[] key = ("key_" + random.nextInt(benchmark.keySpace)).getBytes();
+          batch.add(
+              new ImmutablePubSubMessage(
+                  new KafkaKey(MessageType.PUT, key),
+                  value,
+                  benchmark.topicPartition,
+                  position,
+                  0,
+                  key.length));
+        }
+        batches.add(batch);
+      }
+    }
+
+    List<DefaultPubSubMessage> nextBatch() {
+      List<DefaultPubSubMessage> batch = batches.get(nextBatch);
+      nextBatch = (nextBatch + 1) % batches.size();
+      return batch;
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    org.openjdk.jmh.runner.options.Options opt =
+        new OptionsBuilder().include(IngestionBatchKeyLockingBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void keyLevelLocksWithThreadCount_4(ThreadContext threadContext, Blackhole bh) {
+    List<DefaultPubSubMessage> batch = threadContext.nextBatch();
+    NavigableMap<ByteArrayKey, ReentrantLock> keyLockMap = keyLevelLocksProcessor.lockKeys(batch);
+    try {
+      bh.consume(process(keyLevelLocksProcessor, batch));
+    } finally {
+      keyLevelLocksProcessor.unlockKeys(keyLockMap);
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void keyLanesWithThreadCount_4(ThreadContext threadContext, Blackhole bh) {
+    List<DefaultPubSubMessage> batch = threadContext.nextBatch();
+    BitSet lockedLanes = keyLanesProcessor.lockLanes(batch);
+    try {
+      bh.consume(process(keyLanesProcessor, batch));
+    } finally {
+      keyLanesProcessor.unlockLanes(lockedLanes);
+    }
+  }
+
+  private List<PubSubMessageProcessedResultWrapper> process(
+      IngestionBatchProcessor processor,
+      List<DefaultPubSubMessage> batch) {
+    return processor.process(batch, null, topicPartition.getPartitionNumber(), "benchmark_kafka_url", 0, 0, 0);
+  }
+}
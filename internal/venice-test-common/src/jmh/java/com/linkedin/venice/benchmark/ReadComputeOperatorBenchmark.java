@@ -0,0 +1,134 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.avro.api.PrimitiveFloatList;
+import com.linkedin.avro.fastserde.primitive.PrimitiveFloatArrayList;
+import com.linkedin.venice.compute.ComputeUtils;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the float vector kernels of the read compute operators, when scoring one parameter vector against the
+ * embeddings of a batch of records. The list based benchmarks go through {@link ComputeUtils#dotProduct(List, List)}
+ * and the like, as the operators used to, while the primitive ones copy the parameter once per request with
+ * {@link ComputeUtils#getPrimitiveParam(List, Map)}, as the operators do now. All the vectors are
+ * {@link PrimitiveFloatList}, as decoded by fast-avro.
+ *
+ * To run the test, build the project and run the following commands:
+ * ligradle jmh
+ * If above command throws an error, you can try run `ligradle jmh --debug` first to clean up all the caches, then retry
+ * `ligradle jmh` again to run the results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+public class ReadComputeOperatorBenchmark {
+  private static final int RECORD_COUNT = 100;
+
+  @Param({ "32", "256", "1024" })
+  protected int dimension;
+
+  private List<Float> param;
+  private List<Float>[] valueVectors;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(dimension);
+    param = createVector(random);
+    valueVectors = new List[RECORD_COUNT];
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      valueVectors[i] = createVector(random);
+    }
+  }
+
+  private List<Float> createVector(Random random) {
+    PrimitiveFloatList vector = new PrimitiveFloatArrayList(dimension);
+    for (int i = 0; i < dimension; i++) {
+      vector.add(random.nextFloat());
+    }
+    return vector;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    org.openjdk.jmh.runner.options.Options opt =
+        new OptionsBuilder().include(ReadComputeOperatorBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT)
+  public void listDotProduct(Blackhole bh) {
+    for (List<Float> valueVector: valueVectors) {
+      bh.consume(ComputeUtils.dotProduct(param, valueVector));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT)
+  public void primitiveDotProduct(Blackhole bh) {
+    Map<String, Object> context = new HashMap<>();
+    for (List<Float> valueVector: valueVectors) {
+      bh.consume(ComputeUtils.dotProduct(ComputeUtils.getPrimitiveParam(param, context), valueVector));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT)
+  public void listCosineSimilarity(Blackhole bh) {
+    float paramSquaredL2Norm = ComputeUtils.squaredL2Norm(param);
+    for (List<Float> valueVector: valueVectors) {
+      float dotProduct = ComputeUtils.dotProduct(param, valueVector);
+      bh.consume(dotProduct / Math.sqrt(ComputeUtils.squaredL2Norm(valueVector) * paramSquaredL2Norm));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT)
+  public void primitiveCosineSimilarity(Blackhole bh) {
+    Map<String, Object> context = new HashMap<>();
+    float paramSquaredL2Norm = ComputeUtils.squaredL2Norm(ComputeUtils.getPrimitiveParam(param, context));
+    for (List<Float> valueVector: valueVectors) {
+      float dotProduct = ComputeUtils.dotProduct(ComputeUtils.getPrimitiveParam(param, context), valueVector);
+      bh.consume(dotProduct / Math.sqrt(ComputeUtils.squaredL2Norm(valueVector) * paramSquaredL2Norm));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT)
+  public void listHadamardProduct(Blackhole bh) {
+    for (List<Float> valueVector: valueVectors) {
+      bh.consume(ComputeUtils.hadamardProduct(param, valueVector));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT)
+  public void primitiveHadamardProduct(Blackhole bh) {
+    Map<String, Object> context = new HashMap<>();
+    for (List<Float> valueVector: valueVectors) {
+      bh.consume(ComputeUtils.hadamardProduct(ComputeUtils.getPrimitiveParam(param, context), valueVector));
+    }
+  }
+}
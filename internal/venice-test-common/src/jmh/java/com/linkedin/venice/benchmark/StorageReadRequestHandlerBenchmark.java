@@ -0,0 +1,490 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.ConfigKeys.ADMIN_PORT;
+import static com.linkedin.venice.ConfigKeys.CLUSTER_NAME;
+import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
+import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static com.linkedin.venice.ConfigKeys.LISTENER_PORT;
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
+import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_PARALLEL_BATCH_GET;
+import static com.linkedin.venice.ConfigKeys.SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE;
+import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
+import static com.linkedin.venice.VeniceConstants.VENICE_COMPUTATION_ERROR_MAP_FIELD_NAME;
+import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.DOT_PRODUCT;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.listener.response.ReadResponse;
+import com.linkedin.davinci.storage.DiskHealthCheckService;
+import com.linkedin.davinci.storage.IngestionMetadataRetriever;
+import com.linkedin.davinci.storage.ReadMetadataRetriever;
+import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
+import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.DotProduct;
+import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.guid.JavaUtilGuidV4Generator;
+import com.linkedin.venice.kafka.protocol.GUID;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.listener.StorageReadRequestHandler;
+import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
+import com.linkedin.venice.listener.request.GetRouterRequest;
+import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
+import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.listener.response.HttpShortcutResponse;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
+import com.linkedin.venice.request.RequestHelper;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.ChunkedValueManifestSerializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.storage.protocol.ChunkId;
+import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.PropertyBuilder;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.concurrent.BlockingQueueType;
+import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the server read path end to end, minus the network: the requests are parsed from HTTP requests the same way
+ * as in the server pipeline, and are handed to {@link StorageReadRequestHandler#channelRead}, which looks the values up
+ * in a real RocksDB storage engine and writes the responses to an {@link EmbeddedChannel}, where the benchmark thread
+ * picks them up. The body of each response is materialized and released, as the outbound handlers of the server would.
+ *
+ * Single-get, batch-get and read-compute (dot-product) are measured over chunked and non-chunked, compressed and
+ * uncompressed store versions, and the multi-key requests are measured both with and without the parallel batch-get.
+ * Both the throughput and the latency distribution (including p99) are reported, and the allocation rate is reported
+ * by the GC profiler added in {@link #main}.
+ *
+ * To run the test, build the project and run the following commands:
+ * ligradle jmh
+ * If above command throws an error, you can try run `ligradle jmh --debug` first to clean up all the caches, then retry
+ * `ligradle jmh` again to run the results.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class StorageReadRequestHandlerBenchmark {
+  private static final int KEY_COUNT = 100_000;
+  private static final int REQUEST_COUNT = 1024;
+  private static final int EMBEDDING_DIMENSION = 64;
+  private static final int PAYLOAD_LENGTH = 1024;
+  /**
+   * Small enough for each chunked value to be split into several chunks.
+   */
+  private static final int CHUNK_SIZE = 256;
+  private static final int PARALLEL_BATCH_GET_CHUNK_SIZE = 10;
+  private static final int VALUE_SCHEMA_ID = 1;
+  private static final Schema VALUE_SCHEMA = AvroCompatibilityHelper.parse(
+      "{\"type\":\"record\",\"name\":\"BenchmarkValue\",\"fields\":["
+          + "{\"name\":\"id\",\"type\":\"string\",\"default\":\"\"},"
+          + "{\"name\":\"embedding\",\"type\":{\"type\":\"array\",\"items\":\"float\"},\"default\":[]},"
+          + "{\"name\":\"payload\",\"type\":\"string\",\"default\":\"\"}]}");
+  private static final Schema COMPUTE_RESULT_SCHEMA = AvroCompatibilityHelper.parse(
+      "{\"type\":\"record\",\"name\":\"BenchmarkValue\",\"fields\":["
+          + "{\"name\":\"embeddingScore\",\"type\":[\"null\",\"float\"],\"default\":null},"
+          + "{\"name\":\"" + VENICE_COMPUTATION_ERROR_MAP_FIELD_NAME
+          + "\",\"type\":{\"type\":\"map\",\"values\":\"string\"}}]}");
+
+  @Param({ "NO_OP", "GZIP" })
+  protected String compressionStrategy;
+
+  @Param({ "false", "true" })
+  protected boolean chunked;
+
+  @Param({ "10", "100" })
+  protected int batchSize;
+
+  private RocksDBStorageEngineFactory storageEngineFactory;
+  private StorageEngine storageEngine;
+  private ThreadPoolExecutor executor;
+  private ThreadPoolExecutor computeExecutor;
+  private StorageReadRequestHandler serialHandler;
+  private StorageReadRequestHandler parallelHandler;
+  private GetRouterRequest[] singleGetRequests;
+  private MultiGetRouterRequestWrapper[] multiGetRequests;
+  private ComputeRouterRequestWrapper[] computeRequests;
+
+  @Setup
+  public void setUp() throws Exception {
+    String topic = Version.composeKafkaTopic(Utils.getUniqueString("benchmark_store"), 1);
+    CompressionStrategy strategy = CompressionStrategy.valueOf(compressionStrategy);
+    VeniceServerConfig serialServerConfig = new VeniceServerConfig(getServerProperties(false));
+    VeniceServerConfig parallelServerConfig = new VeniceServerConfig(getServerProperties(true));
+
+    storageEngineFactory = new RocksDBStorageEngineFactory(serialServerConfig);
+    storageEngine = storageEngineFactory.getStorageEngine(
+        new VeniceStoreVersionConfig(topic, serialServerConfig.getClusterProperties(), PersistenceType.ROCKS_DB));
+    storageEngine.addStoragePartitionIfAbsent(0);
+    StoreVersionState storeVersionState = new StoreVersionState();
+    storeVersionState.sorted = true;
+    storeVersionState.chunked = chunked;
+    storeVersionState.compressionStrategy = strategy.getValue();
+    storageEngine.putStoreVersionState(storeVersionState);
+
+    StorageEngineBackedCompressorFactory compressorFactory =
+        new StorageEngineBackedCompressorFactory(mock(StorageMetadataService.class));
+    populateStorageEngine(compressorFactory.getCompressor(strategy));
+
+    StorageEngineRepository storageEngineRepository =
+        mock(StorageEngineRepository.class, withSettings().stubOnly());
+    doReturn(storageEngine).when(storageEngineRepository).getLocalStorageEngine(topic);
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class, withSettings().stubOnly());
+    doReturn(true).when(storeRepository).isReadComputationEnabled(anyString());
+    ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class, withSettings().stubOnly());
+    SchemaEntry valueSchemaEntry = new SchemaEntry(VALUE_SCHEMA_ID, VALUE_SCHEMA);
+    doReturn(valueSchemaEntry).when(schemaRepository).getValueSchema(anyString(), anyInt());
+    doReturn(valueSchemaEntry).when(schemaRepository).getSupersetOrLatestValueSchema(anyString());
+
+    int threadCount = Runtime.getRuntime().availableProcessors();
+    executor = ThreadPoolFactory
+        .createThreadPool(threadCount, "benchmark_storage_read", 4096, BlockingQueueType.LINKED_BLOCKING_QUEUE);
+    computeExecutor = ThreadPoolFactory
+        .createThreadPool(threadCount, "benchmark_storage_compute", 4096, BlockingQueueType.LINKED_BLOCKING_QUEUE);
+    serialHandler = new StorageReadRequestHandler(
+        serialServerConfig,
+        executor,
+        computeExecutor,
+        storageEngineRepository,
+        storeRepository,
+        schemaRepository,
+        mock(IngestionMetadataRetriever.class),
+        mock(ReadMetadataRetriever.class),
+        mock(DiskHealthCheckService.class),
+        compressorFactory,
+        Optional.empty());
+    parallelHandler = new StorageReadRequestHandler(
+        parallelServerConfig,
+        executor,
+        computeExecutor,
+        storageEngineRepository,
+        storeRepository,
+        schemaRepository,
+        mock(IngestionMetadataRetriever.class),
+        mock(ReadMetadataRetriever.class),
+        mock(DiskHealthCheckService.class),
+        compressorFactory,
+        Optional.empty());
+
+    Random random = new Random(0);
+    singleGetRequests = new GetRouterRequest[REQUEST_COUNT];
+    multiGetRequests = new MultiGetRouterRequestWrapper[REQUEST_COUNT];
+    computeRequests = new ComputeRouterRequestWrapper[REQUEST_COUNT];
+    for (int i = 0; i < REQUEST_COUNT; i++) {
+      singleGetRequests[i] = createSingleGetRequest(topic, random.nextInt(KEY_COUNT));
+      multiGetRequests[i] = createMultiGetRequest(topic, random);
+      computeRequests[i] = createComputeRequest(topic, random);
+    }
+  }
+
+  @TearDown
+  public void cleanUp() {
+    executor.shutdownNow();
+    computeExecutor.shutdownNow();
+    storageEngineFactory.removeStorageEngine(storageEngine);
+    storageEngineFactory.close();
+  }
+
+  private VeniceProperties getServerProperties(boolean parallelBatchGetEnabled) {
+    return new PropertyBuilder().put(CLUSTER_NAME, "benchmark_cluster")
+        .put(ZOOKEEPER_ADDRESS, "localhost:2181")
+        .put(PERSISTENCE_TYPE, PersistenceType.ROCKS_DB.toString())
+        .put(KAFKA_BOOTSTRAP_SERVERS, "127.0.0.1:9092")
+        .put(LISTENER_PORT, 7072)
+        .put(ADMIN_PORT, 7073)
+        .put(DATA_BASE_PATH, Utils.getTempDataDirectory().getAbsolutePath())
+        .put(SERVER_ENABLE_PARALLEL_BATCH_GET, parallelBatchGetEnabled)
+        .put(SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE, PARALLEL_BATCH_GET_CHUNK_SIZE)
+        .build();
+  }
+
+  private static byte[] getKeyBytes(int keyIndex) {
+    return ("key_" + keyIndex).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private void populateStorageEngine(VeniceCompressor compressor) throws IOException {
+    RecordSerializer<GenericRecord> valueSerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(VALUE_SCHEMA);
+    KeyWithChunkingSuffixSerializer keyWithChunkingSuffixSerializer = new KeyWithChunkingSuffixSerializer();
+    ChunkedValueManifestSerializer chunkedValueManifestSerializer = new ChunkedValueManifestSerializer(true);
+    GUID guid = new JavaUtilGuidV4Generator().getGuid();
+    int sequenceNumber = 0;
+    Random random = new Random(0);
+    char[] payload = new char[PAYLOAD_LENGTH];
+    for (int i = 0; i < KEY_COUNT; i++) {
+      byte[] keyBytes = getKeyBytes(i);
+      GenericRecord value = new GenericData.Record(VALUE_SCHEMA);
+      value.put("id", "id_" + i);
+      List<Float> embedding = new ArrayList<>(EMBEDDING_DIMENSION);
+      for (int j = 0; j < EMBEDDING_DIMENSION; j++) {
+        embedding.add(random.nextFloat());
+      }
+      value.put("embedding", embedding);
+      // A small alphabet keeps the payload compressible
+      for (int j = 0; j < PAYLOAD_LENGTH; j++) {
+        payload[j] = (char) ('a' + random.nextInt(4));
+      }
+      value.put("payload", new String(payload));
+      byte[] valueBytes = compressor.compress(valueSerializer.serialize(value));
+
+      if (!chunked) {
+        storageEngine.put(0, keyBytes, ValueRecord.create(VALUE_SCHEMA_ID, valueBytes).serialize());
+        continue;
+      }
+      int chunkCount = (valueBytes.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+      List<ByteBuffer> keysWithChunkingSuffix = new ArrayList<>(chunkCount);
+      for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+        ByteBuffer chunkKey = keyWithChunkingSuffixSerializer.serializeChunkedKey(
+            keyBytes,
+            new ChunkedKeySuffix(new ChunkId(guid, 0, sequenceNumber++, chunkIndex), true));
+        byte[] chunk = Arrays.copyOfRange(
+            valueBytes,
+            chunkIndex * CHUNK_SIZE,
+            Math.min((chunkIndex + 1) * CHUNK_SIZE, valueBytes.length));
+        storageEngine.put(
+            0,
+            chunkKey.array(),
+            ValueRecord.create(AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion(), chunk).serialize());
+        keysWithChunkingSuffix.add(chunkKey);
+      }
+      byte[] manifestBytes = chunkedValueManifestSerializer
+          .serialize("", new ChunkedValueManifest(keysWithChunkingSuffix, VALUE_SCHEMA_ID, valueBytes.length));
+      storageEngine.put(
+          0,
+          keyWithChunkingSuffixSerializer.serializeNonChunkedKey(keyBytes),
+          ValueRecord.create(AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion(), manifestBytes)
+              .serialize());
+    }
+  }
+
+  private static GetRouterRequest createSingleGetRequest(String topic, int keyIndex) {
+    String uri = "/storage/" + topic + "/0/key_" + keyIndex;
+    return GetRouterRequest.parseGetHttpRequest(
+        new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri),
+        RequestHelper.getRequestParts(URI.create(uri)));
+  }
+
+  private MultiGetRouterRequestWrapper createMultiGetRequest(String topic, Random random) {
+    List<MultiGetRouterRequestKeyV1> keys = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      keys.add(new MultiGetRouterRequestKeyV1(i, ByteBuffer.wrap(getKeyBytes(random.nextInt(KEY_COUNT))), 0));
+    }
+    byte[] body = SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$)
+        .serializeObjects(keys);
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "/storage/" + topic,
+        Unpooled.wrappedBuffer(body));
+    httpRequest.headers()
+        .set(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion());
+    return MultiGetRouterRequestWrapper
+        .parseMultiGetHttpRequest(httpRequest, RequestHelper.getRequestParts(URI.create(httpRequest.uri())));
+  }
+
+  private ComputeRouterRequestWrapper createComputeRequest(String topic, Random random) {
+    List<Float> dotProductParam = new ArrayList<>(EMBEDDING_DIMENSION);
+    for (int i = 0; i < EMBEDDING_DIMENSION; i++) {
+      dotProductParam.add(random.nextFloat());
+    }
+    DotProduct dotProduct = (DotProduct) DOT_PRODUCT.getNewInstance();
+    dotProduct.field = "embedding";
+    dotProduct.dotProductParam = dotProductParam;
+    dotProduct.resultFieldName = "embeddingScore";
+    ComputeOperation computeOperation = new ComputeOperation();
+    computeOperation.operationType = DOT_PRODUCT.getValue();
+    computeOperation.operation = dotProduct;
+    ComputeRequestWrapper computeRequestWrapper = new ComputeRequestWrapper(
+        VALUE_SCHEMA_ID,
+        VALUE_SCHEMA,
+        COMPUTE_RESULT_SCHEMA,
+        COMPUTE_RESULT_SCHEMA.toString(),
+        Collections.singletonList(computeOperation),
+        false);
+    byte[] computeRequestBytes = computeRequestWrapper.serialize();
+
+    List<ComputeRouterRequestKeyV1> keys = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      keys.add(new ComputeRouterRequestKeyV1(i, ByteBuffer.wrap(getKeyBytes(random.nextInt(KEY_COUNT))), 0));
+    }
+    byte[] keyBytes = SerializerDeserializerFactory.getAvroGenericSerializer(ComputeRouterRequestKeyV1.SCHEMA$)
+        .serializeObjects(keys);
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "/compute/" + topic,
+        Unpooled.wrappedBuffer(computeRequestBytes, keyBytes));
+    httpRequest.headers()
+        .set(HttpConstants.VENICE_API_VERSION, computeRequestWrapper.getComputeRequestVersion())
+        .set(HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID, VALUE_SCHEMA_ID);
+    return ComputeRouterRequestWrapper
+        .parseComputeRequest(httpRequest, RequestHelper.getRequestParts(URI.create(httpRequest.uri())));
+  }
+
+  /**
+   * Captures the response written by the handler, in place of the outbound handlers of the server pipeline.
+   */
+  private static class ResponseCaptor extends ChannelOutboundHandlerAdapter {
+    private volatile CompletableFuture<Object> response;
+
+    @Override
+    public void write(ChannelHandlerContext context, Object message, ChannelPromise promise) {
+      response.complete(message);
+      promise.trySuccess();
+    }
+  }
+
+  /**
+   * Each benchmark thread has its own channels, with at most one request in flight on each of them.
+   */
+  @State(Scope.Thread)
+  public static class ThreadState {
+    private final ResponseCaptor serialResponseCaptor = new ResponseCaptor();
+    private final ResponseCaptor parallelResponseCaptor = new ResponseCaptor();
+    private EmbeddedChannel serialChannel;
+    private EmbeddedChannel parallelChannel;
+    private int requestIndex = 0;
+
+    @Setup
+    public void setUp(StorageReadRequestHandlerBenchmark benchmark) {
+      serialChannel = new EmbeddedChannel(serialResponseCaptor, benchmark.serialHandler);
+      parallelChannel = new EmbeddedChannel(parallelResponseCaptor, benchmark.parallelHandler);
+    }
+
+    @TearDown
+    public void cleanUp() {
+      serialChannel.finishAndReleaseAll();
+      parallelChannel.finishAndReleaseAll();
+    }
+
+    int nextRequestIndex() {
+      requestIndex = (requestIndex + 1) % REQUEST_COUNT;
+      return requestIndex;
+    }
+  }
+
+  private static void handle(EmbeddedChannel channel, RouterRequest request, Blackhole bh) throws Exception {
+    CompletableFuture<Object> responseFuture = new CompletableFuture<>();
+    channel.pipeline().get(ResponseCaptor.class).response = responseFuture;
+    StorageReadRequestHandler handler = channel.pipeline().get(StorageReadRequestHandler.class);
+    handler.channelRead(channel.pipeline().context(handler), request);
+    Object response = responseFuture.join();
+    if (!(response instanceof ReadResponse)) {
+      throw new IllegalStateException(
+          "Unexpected response: " + (response instanceof HttpShortcutResponse
+              ? ((HttpShortcutResponse) response).getMessage()
+              : response));
+    }
+    ReadResponse readResponse = (ReadResponse) response;
+    if (readResponse.isFound()) {
+      ByteBuf responseBody = readResponse.getResponseBody();
+      bh.consume(responseBody.readableBytes());
+      responseBody.release();
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder().include(StorageReadRequestHandlerBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  public void singleGet(ThreadState state, Blackhole bh) throws Exception {
+    handle(state.serialChannel, singleGetRequests[state.nextRequestIndex()], bh);
+  }
+
+  @Benchmark
+  public void batchGet(ThreadState state, Blackhole bh) throws Exception {
+    handle(state.serialChannel, multiGetRequests[state.nextRequestIndex()], bh);
+  }
+
+  @Benchmark
+  public void parallelBatchGet(ThreadState state, Blackhole bh) throws Exception {
+    handle(state.parallelChannel, multiGetRequests[state.nextRequestIndex()], bh);
+  }
+
+  @Benchmark
+  public void compute(ThreadState state, Blackhole bh) throws Exception {
+    handle(state.serialChannel, computeRequests[state.nextRequestIndex()], bh);
+  }
+
+  @Benchmark
+  public void parallelCompute(ThreadState state, Blackhole bh) throws Exception {
+    handle(state.parallelChannel, computeRequests[state.nextRequestIndex()], bh);
+  }
+}
@@ -0,0 +1,217 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.schema.rmd.RmdConstants.REPLICATION_CHECKPOINT_VECTOR_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.PUT_ONLY_PART_LENGTH_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.TOP_LEVEL_COLO_ID_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.TOP_LEVEL_TS_FIELD_NAME;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.replication.merge.MergeGenericRecord;
+import com.linkedin.davinci.schema.merge.CollectionTimestampMergeRecordHelper;
+import com.linkedin.davinci.schema.merge.MergeRecordHelper;
+import com.linkedin.davinci.schema.merge.ParallelFieldMerger;
+import com.linkedin.davinci.schema.merge.ValueAndRmd;
+import com.linkedin.davinci.schema.writecompute.WriteComputeProcessor;
+import com.linkedin.davinci.utils.IndexedHashMap;
+import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
+import com.linkedin.venice.schema.writecompute.WriteComputeSchemaConverter;
+import com.linkedin.venice.utils.AvroSchemaUtils;
+import com.linkedin.venice.utils.lazy.Lazy;
+import com.linkedin.venice.writer.update.UpdateBuilder;
+import com.linkedin.venice.writer.update.UpdateBuilderImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the serial and the parallel ({@link ParallelFieldMerger}) field-level merges of A/A puts and partial updates
+ * on wide records. The fields of the records are, in turn, an int, a list of ints and a map of ints, and each partial
+ * update sets the int fields and adds {@link #collectionSize} elements to each collection field.
+ *
+ * To run the test, build the project and run the following commands:
+ * ligradle jmh
+ * If above command throws an error, you can try run `ligradle jmh --debug` first to clean up all the caches, then retry
+ * `ligradle jmh` again to run the results.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+public class WideRecordMergeBenchmark {
+  @Param({ "16", "128", "512" })
+  protected int fieldCount;
+
+  @Param({ "16", "256" })
+  protected int collectionSize;
+
+  private Schema valueSchema;
+  private Schema rmdSchema;
+  private ForkJoinPool forkJoinPool;
+  private MergeGenericRecord serialMerge;
+  private MergeGenericRecord parallelMerge;
+  private GenericRecord newValue;
+  private GenericRecord update;
+  private ValueAndRmd<GenericRecord> serialValueAndRmd;
+  private ValueAndRmd<GenericRecord> parallelValueAndRmd;
+  private long timestamp = 1;
+
+  @Setup
+  public void setUp() {
+    StringBuilder schemaStr = new StringBuilder("{\"type\":\"record\",\"name\":\"WideRecord\",\"fields\":[");
+    for (int i = 0; i < fieldCount; i++) {
+      schemaStr.append(i == 0 ? "" : ",").append("{\"name\":\"f").append(i).append("\",");
+      switch (i % 3) {
+        case 0:
+          schemaStr.append("\"type\":\"int\",\"default\":0}");
+          break;
+        case 1:
+          schemaStr.append("\"type\":{\"type\":\"array\",\"items\":\"int\"},\"default\":[]}");
+          break;
+        default:
+          schemaStr.append("\"type\":{\"type\":\"map\",\"values\":\"int\"},\"default\":{}}");
+      }
+    }
+    valueSchema = AvroCompatibilityHelper.parse(schemaStr.append("]}").toString());
+    rmdSchema = RmdSchemaGenerator.generateMetadataSchema(valueSchema, 1);
+
+    forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    ParallelFieldMerger parallelFieldMerger = new ParallelFieldMerger(forkJoinPool, 2, Integer.MAX_VALUE);
+    MergeRecordHelper mergeRecordHelper = new CollectionTimestampMergeRecordHelper();
+    serialMerge = new MergeGenericRecord(new WriteComputeProcessor(mergeRecordHelper), mergeRecordHelper);
+    parallelMerge = new MergeGenericRecord(
+        new WriteComputeProcessor(mergeRecordHelper, false, parallelFieldMerger),
+        mergeRecordHelper,
+        parallelFieldMerger);
+
+    newValue = createValue();
+    UpdateBuilder updateBuilder =
+        new UpdateBuilderImpl(WriteComputeSchemaConverter.getInstance().convertFromValueRecordSchema(valueSchema));
+    for (Schema.Field field: valueSchema.getFields()) {
+      switch (field.schema().getType()) {
+        case INT:
+          updateBuilder.setNewFieldValue(field.name(), field.pos());
+          break;
+        case ARRAY:
+          updateBuilder.setElementsToAddToListField(field.name(), createList());
+          break;
+        default:
+          updateBuilder.setEntriesToAddToMapField(field.name(), createMap());
+      }
+    }
+    update = updateBuilder.build();
+    serialValueAndRmd = createValueAndRmd();
+    parallelValueAndRmd = createValueAndRmd();
+  }
+
+  @TearDown
+  public void cleanUp() {
+    forkJoinPool.shutdownNow();
+  }
+
+  private List<Integer> createList() {
+    List<Integer> list = new ArrayList<>(collectionSize);
+    for (int i = 0; i < collectionSize; i++) {
+      list.add(i);
+    }
+    return list;
+  }
+
+  private IndexedHashMap<String, Integer> createMap() {
+    IndexedHashMap<String, Integer> map = new IndexedHashMap<>(collectionSize);
+    for (int i = 0; i < collectionSize; i++) {
+      map.put("k" + i, i);
+    }
+    return map;
+  }
+
+  private GenericRecord createValue() {
+    GenericRecord value = new GenericData.Record(valueSchema);
+    for (Schema.Field field: valueSchema.getFields()) {
+      switch (field.schema().getType()) {
+        case INT:
+          value.put(field.pos(), field.pos());
+          break;
+        case ARRAY:
+          value.put(field.pos(), createList());
+          break;
+        default:
+          value.put(field.pos(), createMap());
+      }
+    }
+    return value;
+  }
+
+  private ValueAndRmd<GenericRecord> createValueAndRmd() {
+    GenericRecord value = createValue();
+    Schema timestampRecordSchema = rmdSchema.getField(TIMESTAMP_FIELD_NAME).schema().getTypes().get(1);
+    GenericRecord timestampRecord = new GenericData.Record(timestampRecordSchema);
+    for (Schema.Field field: timestampRecordSchema.getFields()) {
+      if (field.schema().getType() == Schema.Type.LONG) {
+        timestampRecord.put(field.pos(), 0L);
+      } else {
+        GenericRecord collectionTimestampRecord = AvroSchemaUtils.createGenericRecord(field.schema());
+        collectionTimestampRecord.put(TOP_LEVEL_TS_FIELD_NAME, 0L);
+        collectionTimestampRecord.put(TOP_LEVEL_COLO_ID_FIELD_NAME, -1);
+        collectionTimestampRecord.put(PUT_ONLY_PART_LENGTH_FIELD_NAME, collectionSize);
+        timestampRecord.put(field.pos(), collectionTimestampRecord);
+      }
+    }
+    GenericRecord rmd = new GenericData.Record(rmdSchema);
+    rmd.put(TIMESTAMP_FIELD_NAME, timestampRecord);
+    rmd.put(REPLICATION_CHECKPOINT_VECTOR_FIELD_NAME, new ArrayList<>());
+    return new ValueAndRmd<>(Lazy.of(() -> value), rmd);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    org.openjdk.jmh.runner.options.Options opt =
+        new OptionsBuilder().include(WideRecordMergeBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  /**
+   * The timestamp of each merge increases, so that the incoming fields always win.
+   */
+  @Benchmark
+  public void serialPut(Blackhole bh) {
+    bh.consume(serialMerge.put(serialValueAndRmd, newValue, timestamp++, 0));
+  }
+
+  @Benchmark
+  public void parallelPut(Blackhole bh) {
+    bh.consume(parallelMerge.put(parallelValueAndRmd, newValue, timestamp++, 0));
+  }
+
+  @Benchmark
+  public void serialUpdate(Blackhole bh) {
+    bh.consume(serialMerge.update(serialValueAndRmd, Lazy.of(() -> update), valueSchema, timestamp++, 0));
+  }
+
+  @Benchmark
+  public void parallelUpdate(Blackhole bh) {
+    bh.consume(parallelMerge.update(parallelValueAndRmd, Lazy.of(() -> update), valueSchema, timestamp++, 0));
+  }
+}
@@ -66,6 +66,7 @@ import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
 import com.linkedin.venice.router.httpclient.ApacheHttpAsyncStorageNodeClient;
 import com.linkedin.venice.router.httpclient.HttpClient5StorageNodeClient;
+import com.linkedin.venice.router.httpclient.NettyHttp2StorageNodeClient;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AdminOperationsStats;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
@@ -107,8 +108,10 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.MultithreadEventLoopGroup;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.util.concurrent.DefaultThreadFactory;
@@ -554,6 +557,14 @@ public class RouterServer extends AbstractVeniceService {
         LOGGER.info("Router will use HTTP CLIENT5");
         storageNodeClient = new HttpClient5StorageNodeClient(sslFactoryForRequests, config);
         break;
+      case NETTY_HTTP2_CLIENT:
+        LOGGER.info("Router will use Netty HTTP/2 client");
+        storageNodeClient = new NettyHttp2StorageNodeClient(
+            sslFactoryForRequests,
+            config,
+            workerEventLoopGroup,
+            useEpoll ? EpollSocketChannel.class : NioSocketChannel.class);
+        break;
       default:
         throw new VeniceException(
             "Router client type " + config.getStorageNodeClientType().toString() + " is not supported!");
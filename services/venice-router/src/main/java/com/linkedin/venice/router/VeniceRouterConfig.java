@@ -38,6 +38,7 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_ENABLE_READ_THROTTLING;
 import static com.linkedin.venice.ConfigKeys.ROUTER_FULL_PENDING_QUEUE_SERVER_OOR_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HEART_BEAT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HELIX_ASSISTED_ROUTING_GROUP_SELECTION_STRATEGY;
+import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_CLIENT_MAX_RESPONSE_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_HEADER_TABLE_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_INBOUND_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_INITIAL_WINDOW_SIZE;
@@ -92,6 +93,11 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_RESPONSE_AGGREGATION_THREAD_
 import static com.linkedin.venice.ConfigKeys.ROUTER_RETRY_MANAGER_CORE_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_ROUTING_COMPUTATION_MODE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLEGET_TARDY_LATENCY_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_GET_CACHE_CAPACITY_IN_BYTES;
+import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_GET_CACHE_STORE_ALLOWLIST;
+import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_GET_CACHE_TTL_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_GET_COALESCING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_GET_COALESCING_MAX_WAITER_COUNT;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_KEY_LONG_TAIL_RETRY_BUDGET_PERCENT_DECIMAL;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SLOW_SCATTER_REQUEST_THRESHOLD_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ABORT_THRESHOLD_MS;
@@ -126,6 +132,7 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
@@ -230,6 +237,7 @@ public class VeniceRouterConfig implements RouterRetryConfig {
   private final int http2InitialWindowSize;
   private final int http2HeaderTableSize;
   private final int http2MaxHeaderListSize;
+  private final int http2ClientMaxResponseSize;
   private final boolean metaStoreShadowReadEnabled;
   private final boolean unregisterMetricForDeletedStoreEnabled;
   private final int routerIOWorkerCount;
@@ -248,6 +256,11 @@ public class VeniceRouterConfig implements RouterRetryConfig {
   private final int parallelRoutingChunkSize;
   private final int responseAggregationThreadPoolSize;
   private final int responseAggregationQueueCapacity;
+  private final List<String> singleGetCacheStoreAllowlist;
+  private final long singleGetCacheCapacityInBytes;
+  private final long singleGetCacheTtlMs;
+  private final boolean singleGetCoalescingEnabled;
+  private final int singleGetCoalescingMaxWaiterCount;
 
   // MUTABLE CONFIGS
 
@@ -416,6 +429,7 @@ public class VeniceRouterConfig implements RouterRetryConfig {
       http2InitialWindowSize = props.getInt(ROUTER_HTTP2_INITIAL_WINDOW_SIZE, 8 * 1024 * 1024);
       http2HeaderTableSize = props.getInt(ROUTER_HTTP2_HEADER_TABLE_SIZE, 4096);
       http2MaxHeaderListSize = props.getInt(ROUTER_HTTP2_MAX_HEADER_LIST_SIZE, 8192);
+      http2ClientMaxResponseSize = props.getInt(ROUTER_HTTP2_CLIENT_MAX_RESPONSE_SIZE, 100 * 1024 * 1024);
 
       metaStoreShadowReadEnabled = props.getBoolean(ROUTER_META_STORE_SHADOW_READ_ENABLED, false);
       unregisterMetricForDeletedStoreEnabled = props.getBoolean(UNREGISTER_METRIC_FOR_DELETED_STORE_ENABLED, false);
@@ -452,6 +466,11 @@ public class VeniceRouterConfig implements RouterRetryConfig {
       parallelRoutingChunkSize = props.getInt(ROUTER_PARALLEL_ROUTING_CHUNK_SIZE, 100);
       responseAggregationThreadPoolSize = props.getInt(ROUTER_RESPONSE_AGGREGATION_THREAD_POOL_SIZE, 10);
       responseAggregationQueueCapacity = props.getInt(ROUTER_RESPONSE_AGGREGATION_QUEUE_CAPACITY, 500000);
+      singleGetCacheStoreAllowlist = props.getList(ROUTER_SINGLE_GET_CACHE_STORE_ALLOWLIST, Collections.emptyList());
+      singleGetCacheCapacityInBytes = props.getSizeInBytes(ROUTER_SINGLE_GET_CACHE_CAPACITY_IN_BYTES, 64 * 1024 * 1024);
+      singleGetCacheTtlMs = props.getLong(ROUTER_SINGLE_GET_CACHE_TTL_MS, TimeUnit.SECONDS.toMillis(1));
+      singleGetCoalescingEnabled = props.getBoolean(ROUTER_SINGLE_GET_COALESCING_ENABLED, false);
+      singleGetCoalescingMaxWaiterCount = props.getInt(ROUTER_SINGLE_GET_COALESCING_MAX_WAITER_COUNT, 100);
       LOGGER.info("Loaded configuration");
     } catch (Exception e) {
       String errorMessage = "Can not load properties.";
@@ -828,6 +847,10 @@ public class VeniceRouterConfig implements RouterRetryConfig {
     return http2MaxHeaderListSize;
   }
 
+  public int getHttp2ClientMaxResponseSize() {
+    return http2ClientMaxResponseSize;
+  }
+
   public boolean isMetaStoreShadowReadEnabled() {
     return metaStoreShadowReadEnabled;
   }
@@ -899,4 +922,24 @@ public class VeniceRouterConfig implements RouterRetryConfig {
   public int getResponseAggregationQueueCapacity() {
     return responseAggregationQueueCapacity;
   }
+
+  public List<String> getSingleGetCacheStoreAllowlist() {
+    return singleGetCacheStoreAllowlist;
+  }
+
+  public long getSingleGetCacheCapacityInBytes() {
+    return singleGetCacheCapacityInBytes;
+  }
+
+  public long getSingleGetCacheTtlMs() {
+    return singleGetCacheTtlMs;
+  }
+
+  public boolean isSingleGetCoalescingEnabled() {
+    return singleGetCoalescingEnabled;
+  }
+
+  public int getSingleGetCoalescingMaxWaiterCount() {
+    return singleGetCoalescingMaxWaiterCount;
+  }
 }
@@ -0,0 +1,158 @@
+package com.linkedin.venice.router.api;
+
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.router.httpclient.BufferedPortableHttpResponse;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Lets the concurrent single-get requests of the same key in the same store version share a single request to the
+ * storage nodes, see {@link com.linkedin.venice.ConfigKeys#ROUTER_SINGLE_GET_COALESCING_ENABLED}.
+ *
+ * The first request of a key is sent as usual, and the requests of the same key which come in while it is in flight
+ * wait for its response instead of being sent, up to {@link #maxWaiterCount} of them, beyond which they are sent as
+ * usual again. Once the response comes back, every request gets its own copy of it, so that each of them can go
+ * through the usual response handling, including the error retries.
+ */
+public class RouterSingleGetRequestCoalescer {
+  private final int maxWaiterCount;
+  private final AggRouterHttpRequestStats singleGetStats;
+  private final Map<CoalescingKey, InFlightRequest> inFlightRequests = new VeniceConcurrentHashMap<>();
+
+  public RouterSingleGetRequestCoalescer(int maxWaiterCount, AggRouterHttpRequestStats singleGetStats) {
+    this.maxWaiterCount = maxWaiterCount;
+    this.singleGetStats = singleGetStats;
+  }
+
+  /**
+   * @param sender sends the request to a storage node, which it only does if there is no request of the same key in
+   *               flight, or if too many requests are already waiting for it
+   * @return the future response of the request
+   */
+  public CompletableFuture<PortableHttpResponse> send(
+      String storeName,
+      String resourceName,
+      RouterKey key,
+      RequestSender sender) throws RouterException {
+    CoalescingKey coalescingKey = new CoalescingKey(resourceName, key);
+    InFlightRequest inFlightRequest = new InFlightRequest();
+    InFlightRequest existingInFlightRequest = inFlightRequests.putIfAbsent(coalescingKey, inFlightRequest);
+    if (existingInFlightRequest != null) {
+      CompletableFuture<PortableHttpResponse> waiter = existingInFlightRequest.addWaiter(maxWaiterCount);
+      if (waiter != null) {
+        singleGetStats.recordCoalescedRequest(storeName);
+        return waiter;
+      }
+      // Either too many requests are waiting, or the in-flight request has just completed
+      return sender.send();
+    }
+
+    CompletableFuture<PortableHttpResponse> responseFuture;
+    try {
+      responseFuture = sender.send();
+    } catch (Throwable e) {
+      inFlightRequests.remove(coalescingKey, inFlightRequest);
+      inFlightRequest.complete(null, e);
+      throw e;
+    }
+    return responseFuture.handle((response, throwable) -> {
+      inFlightRequests.remove(coalescingKey, inFlightRequest);
+      return inFlightRequest.complete(response, throwable);
+    }).thenCompose(future -> future);
+  }
+
+  /**
+   * For TEST ONLY
+   */
+  int getInFlightRequestCount() {
+    return inFlightRequests.size();
+  }
+
+  public interface RequestSender {
+    CompletableFuture<PortableHttpResponse> send() throws RouterException;
+  }
+
+  private static final class InFlightRequest {
+    private List<CompletableFuture<PortableHttpResponse>> waiters = new ArrayList<>();
+
+    /**
+     * @return the future response of a new waiter, or null if it can't wait for this request
+     */
+    synchronized CompletableFuture<PortableHttpResponse> addWaiter(int maxWaiterCount) {
+      if (waiters == null || waiters.size() >= maxWaiterCount) {
+        return null;
+      }
+      CompletableFuture<PortableHttpResponse> waiter = new CompletableFuture<>();
+      waiters.add(waiter);
+      return waiter;
+    }
+
+    /**
+     * Completes the waiters, and returns the future response of the request itself. The response is only copied if
+     * anyone waited for it.
+     */
+    CompletableFuture<PortableHttpResponse> complete(PortableHttpResponse response, Throwable throwable) {
+      List<CompletableFuture<PortableHttpResponse>> completedWaiters;
+      synchronized (this) {
+        completedWaiters = waiters;
+        waiters = null;
+      }
+      CompletableFuture<PortableHttpResponse> result = new CompletableFuture<>();
+      if (throwable == null && completedWaiters.isEmpty()) {
+        result.complete(response);
+        return result;
+      }
+      if (throwable == null) {
+        try {
+          response = new BufferedPortableHttpResponse(response);
+        } catch (Throwable e) {
+          throwable = e;
+        }
+      }
+      completedWaiters.add(result);
+      for (CompletableFuture<PortableHttpResponse> waiter: completedWaiters) {
+        if (throwable == null) {
+          waiter.complete(response);
+        } else {
+          waiter.completeExceptionally(throwable);
+        }
+      }
+      return result;
+    }
+  }
+
+  private static final class CoalescingKey {
+    private final String resourceName;
+    private final RouterKey key;
+    private final int hashCode;
+
+    CoalescingKey(String resourceName, RouterKey key) {
+      this.resourceName = resourceName;
+      this.key = key;
+      this.hashCode = 31 * resourceName.hashCode() + key.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CoalescingKey)) {
+        return false;
+      }
+      CoalescingKey other = (CoalescingKey) o;
+      return resourceName.equals(other.resourceName) && key.equals(other.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -0,0 +1,181 @@
+package com.linkedin.venice.router.api;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.StoreDataChangedListener;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.router.httpclient.BufferedPortableHttpResponse;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpStatus;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A size-bounded cache of the single-get responses of the storage nodes, keyed by (store version, key), for the stores
+ * listed in {@link com.linkedin.venice.ConfigKeys#ROUTER_SINGLE_GET_CACHE_STORE_ALLOWLIST}.
+ *
+ * The responses are kept as returned by the storage nodes, i.e. with their still-compressed values, so that a hit goes
+ * through the same decompression logic as a response of a storage node, and so that the entries stay small.
+ *
+ * Since the values of a batch-only store never change within a version, and since the requests of a new version are
+ * keyed by a different resource name, the entries never need to be invalidated for consistency. They expire after a
+ * short TTL, and all the entries of a store are dropped as soon as its current version changes, so that the memory
+ * they take goes back to the versions being read. The hybrid stores are never cached, even if they are listed.
+ */
+public class RouterSingleGetResponseCache implements StoreDataChangedListener {
+  private static final Logger LOGGER = LogManager.getLogger(RouterSingleGetResponseCache.class);
+
+  private final Set<String> storeAllowlist;
+  private final Set<String> enabledStores = VeniceConcurrentHashMap.newKeySet();
+  private final Map<String, Integer> currentVersionPerStore = new VeniceConcurrentHashMap<>();
+  private final Cache<CacheKey, BufferedPortableHttpResponse> cache;
+
+  public RouterSingleGetResponseCache(
+      ReadOnlyStoreRepository storeRepository,
+      Collection<String> storeAllowlist,
+      long capacityInBytes,
+      long ttlMs) {
+    this(storeRepository, storeAllowlist, capacityInBytes, ttlMs, Ticker.systemTicker());
+  }
+
+  RouterSingleGetResponseCache(
+      ReadOnlyStoreRepository storeRepository,
+      Collection<String> storeAllowlist,
+      long capacityInBytes,
+      long ttlMs,
+      Ticker ticker) {
+    this.storeAllowlist = new HashSet<>(storeAllowlist);
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(capacityInBytes)
+        .weigher((CacheKey key, BufferedPortableHttpResponse response) -> key.key.getKeyBuffer().remaining()
+            + response.getContentLength())
+        .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+        .ticker(ticker)
+        .executor(Runnable::run)
+        .build();
+    storeRepository.registerStoreDataChangedListener(this);
+    for (String storeName: this.storeAllowlist) {
+      Store store = storeRepository.getStore(storeName);
+      if (store != null) {
+        handleStoreChanged(store);
+      }
+    }
+  }
+
+  /**
+   * @return whether the single-get responses of {@param storeName} are cached
+   */
+  public boolean isEnabled(String storeName) {
+    return enabledStores.contains(storeName);
+  }
+
+  /**
+   * @return the cached response of the key in the given store version, or null if there is none
+   */
+  public PortableHttpResponse get(String resourceName, RouterKey key) {
+    return cache.getIfPresent(new CacheKey(resourceName, key));
+  }
+
+  /**
+   * Caches the response of a storage node if it was successful. Since the content of some responses can only be read
+   * once, the response of the storage node must not be used anymore, and the returned response, which is equivalent,
+   * must be used instead.
+   */
+  public PortableHttpResponse put(String resourceName, RouterKey key, PortableHttpResponse response)
+      throws IOException {
+    if (response.getStatusCode() != HttpStatus.SC_OK) {
+      return response;
+    }
+    BufferedPortableHttpResponse cachedResponse = response instanceof BufferedPortableHttpResponse
+        ? (BufferedPortableHttpResponse) response
+        : new BufferedPortableHttpResponse(response);
+    cache.put(new CacheKey(resourceName, key), cachedResponse);
+    return cachedResponse;
+  }
+
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  @Override
+  public void handleStoreCreated(Store store) {
+    handleStoreChanged(store);
+  }
+
+  @Override
+  public void handleStoreDeleted(String storeName) {
+    enabledStores.remove(storeName);
+    if (currentVersionPerStore.remove(storeName) != null) {
+      invalidate(storeName);
+    }
+  }
+
+  @Override
+  public void handleStoreChanged(Store store) {
+    String storeName = store.getName();
+    if (!storeAllowlist.contains(storeName)) {
+      return;
+    }
+    boolean cacheable = !store.isHybrid();
+    int currentVersion = store.getCurrentVersion();
+    Integer previousVersion =
+        cacheable ? currentVersionPerStore.put(storeName, currentVersion) : currentVersionPerStore.remove(storeName);
+    if (cacheable) {
+      enabledStores.add(storeName);
+    } else {
+      enabledStores.remove(storeName);
+    }
+    if (previousVersion != null && (!cacheable || previousVersion != currentVersion)) {
+      LOGGER.info(
+          "Dropping the cached single-get responses of store: {}, previous version: {}, current version: {}",
+          storeName,
+          previousVersion,
+          currentVersion);
+      invalidate(storeName);
+    }
+  }
+
+  private void invalidate(String storeName) {
+    cache.asMap().keySet().removeIf(key -> Version.parseStoreFromKafkaTopicName(key.resourceName).equals(storeName));
+  }
+
+  private static final class CacheKey {
+    private final String resourceName;
+    private final RouterKey key;
+    private final int hashCode;
+
+    CacheKey(String resourceName, RouterKey key) {
+      this.resourceName = resourceName;
+      this.key = key;
+      this.hashCode = 31 * resourceName.hashCode() + key.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) o;
+      return resourceName.equals(other.resourceName) && key.equals(other.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
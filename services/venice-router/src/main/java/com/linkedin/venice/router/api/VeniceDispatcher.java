@@ -103,6 +103,16 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
 
+  /**
+   * Null if no store is opted into the router cache.
+   */
+  private final RouterSingleGetResponseCache singleGetResponseCache;
+
+  /**
+   * Null if the concurrent single-get requests of the same key are not coalesced.
+   */
+  private final RouterSingleGetRequestCoalescer singleGetRequestCoalescer;
+
   public VeniceDispatcher(
       VeniceRouterConfig config,
       ReadOnlyStoreRepository storeRepository,
@@ -127,6 +137,18 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     this.leakedCompletableFutureCleanupService = new LeakedCompletableFutureCleanupService();
     this.leakedCompletableFutureCleanupService.start();
     this.routerStats = routerStats;
+    this.singleGetResponseCache = config.getSingleGetCacheStoreAllowlist().isEmpty()
+        ? null
+        : new RouterSingleGetResponseCache(
+            storeRepository,
+            config.getSingleGetCacheStoreAllowlist(),
+            config.getSingleGetCacheCapacityInBytes(),
+            config.getSingleGetCacheTtlMs());
+    this.singleGetRequestCoalescer = config.isSingleGetCoalescingEnabled()
+        ? new RouterSingleGetRequestCoalescer(
+            config.getSingleGetCoalescingMaxWaiterCount(),
+            routerStats.getStatsByType(RequestType.SINGLE_GET))
+        : null;
   }
 
   public RouterStats<RouteHttpStats> getPerRouteStatsByType() {
@@ -159,11 +181,40 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     Instance storageNode = part.getHosts().get(0);
     hostSelected.setSuccess(storageNode);
 
+    boolean isCacheable = requestType == RequestType.SINGLE_GET && singleGetResponseCache != null
+        && singleGetResponseCache.isEnabled(storeName);
+    if (isCacheable) {
+      PortableHttpResponse cachedResponse = singleGetResponseCache.get(path.getResourceName(), path.getPartitionKey());
+      AggRouterHttpRequestStats stats = routerStats.getStatsByType(requestType);
+      if (cachedResponse != null) {
+        stats.recordRouterCacheHit(storeName);
+        try {
+          responseFuture.setSuccess(Collections.singletonList(buildResponse(path, cachedResponse)));
+        } catch (Throwable e) {
+          responseFuture.setFailure(e);
+        }
+        return;
+      }
+      stats.recordRouterCacheMiss(storeName);
+    }
+
     // Track dispatch start time for slow request logging
     long dispatchStartTimeNs = System.nanoTime();
 
-    // sendRequest completes future either immediately in the calling thread context or on the executor
-    sendRequest(storageNode, path, retryFuture).whenComplete((response, throwable) -> {
+    /**
+     * sendRequest completes future either immediately in the calling thread context or on the executor. The retry
+     * requests are never coalesced, since they would otherwise wait for the very request they are meant to back up.
+     */
+    boolean isCoalescable =
+        requestType == RequestType.SINGLE_GET && singleGetRequestCoalescer != null && !path.isRetryRequest();
+    CompletableFuture<PortableHttpResponse> storageNodeResponseFuture = isCoalescable
+        ? singleGetRequestCoalescer.send(
+            storeName,
+            path.getResourceName(),
+            path.getPartitionKey(),
+            () -> sendRequest(storageNode, path, retryFuture))
+        : sendRequest(storageNode, path, retryFuture);
+    storageNodeResponseFuture.whenComplete((response, throwable) -> {
       try {
         // Log slow scatter requests to help debug high P99 latency (with throttling to prevent log spamming)
         double elapsedTimeMs = LatencyUtils.getElapsedTimeFromNSToMS(dispatchStartTimeNs);
@@ -191,6 +242,9 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
           path.markStorageNodeAsFast(storageNode.getNodeId());
         }
 
+        if (isCacheable) {
+          response = singleGetResponseCache.put(path.getResourceName(), path.getPartitionKey(), response);
+        }
         responseFuture.setSuccess(Collections.singletonList(buildResponse(path, response)));
       } catch (Throwable e) {
         responseFuture.setFailure(e);
@@ -391,8 +391,10 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
      * Here we will check the consistency of the following headers among all the responses:
      * 1. {@link HttpHeaderNames.CONTENT_TYPE}
      * 2. {@link HttpConstants.VENICE_SCHEMA_ID}
+     *
+     * The content is sized for all the responses, see {@link #processMultiGetResponses}.
      */
-    CompositeByteBuf content = Unpooled.compositeBuffer();
+    CompositeByteBuf content = Unpooled.compositeBuffer(responses.size());
     int totalRequestRcu = 0;
     for (FullHttpResponse response: responses) {
       if (response.status() != OK) {
@@ -454,7 +456,12 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     long decompressedSize = 0;
     long decompressionTimeInNs = 0;
     int totalRequestRcu = 0;
-    CompositeByteBuf content = Unpooled.compositeBuffer();
+    /**
+     * The content of the responses is passed through without any copy, which requires the composite buffer to have
+     * room for all of them, since it would otherwise consolidate, i.e. copy, its components beyond the default maximum
+     * number of components, which the fanout of a large multi-get easily exceeds.
+     */
+    CompositeByteBuf content = Unpooled.compositeBuffer(responses.size());
     CompressionStrategy compressionStrategy = null;
 
     for (FullHttpResponse response: responses) {
@@ -10,19 +10,20 @@ import com.linkedin.venice.compression.CompressorFactory;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.meta.StoreVersionName;
 import com.linkedin.venice.read.RequestType;
-import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
-import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
-import com.linkedin.venice.serializer.RecordDeserializer;
-import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Pair;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.avro.io.BinaryData;
+import org.apache.avro.io.OptimizedBinaryDecoder;
 import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
 
@@ -31,11 +32,10 @@ import org.apache.avro.io.OptimizedBinaryDecoderFactory;
  * {@link VeniceResponseAggregator} for regular requests and {@link VeniceDispatcher} for streaming requests.
  */
 public class VeniceResponseDecompressor {
-  private static final RecordSerializer<MultiGetResponseRecordV1> recordSerializer =
-      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
-  private static final RecordDeserializer<MultiGetResponseRecordV1> recordDeserializer =
-      FastSerializerDeserializerFactory
-          .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class);
+  /**
+   * The maximum length of a zig-zag varint encoded int.
+   */
+  private static final int MAX_INT_VARINT_LENGTH = 5;
 
   private final CompressionStrategy clientCompression;
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
@@ -179,15 +179,44 @@ public class VeniceResponseDecompressor {
       CompressionStrategy compressionStrategy,
       ByteBuf data,
       RequestType requestType) {
-    ByteBuf copy = data.isReadOnly() ? data.copy() : data;
-    Iterable<MultiGetResponseRecordV1> records = recordDeserializer.deserializeObjects(
-        OptimizedBinaryDecoderFactory.defaultFactory()
-            .createOptimizedBinaryDecoder(copy.array(), 0, copy.readableBytes()));
+    /**
+     * The content is not necessarily backed by a single array, e.g. when it has been aggregated from several HTTP/2
+     * DATA frames by {@link com.linkedin.venice.router.httpclient.NettyHttp2StorageNodeClient}.
+     */
+    ByteBuf copy = data.isReadOnly() || !data.hasArray() ? Unpooled.wrappedBuffer(ByteBufUtil.getBytes(data)) : data;
+    OptimizedBinaryDecoder decoder = OptimizedBinaryDecoderFactory.defaultFactory()
+        .createOptimizedBinaryDecoder(copy.array(), copy.arrayOffset() + copy.readerIndex(), copy.readableBytes());
 
+    /**
+     * The {@link com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1} records are decoded and encoded
+     * again field by field, rather than deserialized and serialized again, so that the decompressed values make it to
+     * the response as they are, instead of being copied into a new buffer along with all the other records. The only
+     * fields which are encoded again are the key index, the length of the decompressed value and the schema id, and
+     * the schema id of each record shares a small buffer with the key index and the value length of the next one.
+     */
+    List<ByteBuf> components = new ArrayList<>();
     try {
       VeniceCompressor compressor = getCompressor(compressionStrategy, requestType);
-      for (MultiGetResponseRecordV1 record: records) {
-        record.value = compressor.decompress(record.value);
+      int previousSchemaId = -1;
+      boolean hasPreviousRecord = false;
+      while (!decoder.isEnd()) {
+        int keyIndex = decoder.readInt();
+        ByteBuffer value = compressor.decompress(decoder.readBytes(null));
+        byte[] fields = new byte[3 * MAX_INT_VARINT_LENGTH];
+        int fieldsLength = 0;
+        if (hasPreviousRecord) {
+          fieldsLength += BinaryData.encodeInt(previousSchemaId, fields, fieldsLength);
+        }
+        fieldsLength += BinaryData.encodeInt(keyIndex, fields, fieldsLength);
+        fieldsLength += BinaryData.encodeInt(value.remaining(), fields, fieldsLength);
+        components.add(Unpooled.wrappedBuffer(fields, 0, fieldsLength));
+        components.add(Unpooled.wrappedBuffer(value));
+        previousSchemaId = decoder.readInt();
+        hasPreviousRecord = true;
+      }
+      if (hasPreviousRecord) {
+        byte[] fields = new byte[MAX_INT_VARINT_LENGTH];
+        components.add(Unpooled.wrappedBuffer(fields, 0, BinaryData.encodeInt(previousSchemaId, fields, 0)));
       }
     } catch (IOException e) {
       String errorMsg = String.format(
@@ -199,7 +228,7 @@ public class VeniceResponseDecompressor {
           .newVeniceExceptionAndTracking(this.storeVersionName.getStoreName(), requestType, BAD_GATEWAY, errorMsg);
     }
 
-    return Unpooled.wrappedBuffer(recordSerializer.serializeObjects(records));
+    return Unpooled.wrappedBuffer(components.size(), components.toArray(new ByteBuf[0]));
   }
 
   private VeniceCompressor getCompressor(CompressionStrategy compressionStrategy, RequestType requestType) {
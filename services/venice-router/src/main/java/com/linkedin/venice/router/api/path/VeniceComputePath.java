@@ -9,7 +9,9 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.alpini.router.api.RouterException;
 import com.linkedin.venice.HttpConstants;
-import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
+import com.linkedin.venice.VeniceConstants;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV4;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV5;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
 import com.linkedin.venice.meta.RetryManager;
 import com.linkedin.venice.meta.StoreVersionName;
@@ -42,17 +44,15 @@ import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
 
 public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKeyV1> {
-  private static final Schema EMPTY_RECORD_SCHEMA = Schema.createRecord(
-      ComputeRequestV3.class.getSimpleName(),
-      "no-op",
-      ComputeRequestV3.class.getPackage().getName(),
-      false,
-      Collections.emptyList());
+  private static final Schema EMPTY_RECORD_SCHEMA = createEmptyRecordSchema(ComputeRequestV4.class);
+  private static final Schema EMPTY_RECORD_SCHEMA_V5 = createEmptyRecordSchema(ComputeRequestV5.class);
   private static final ThreadLocal<GenericRecord> EMPTY_COMPUTE_REQUEST_RECORD =
       ThreadLocal.withInitial(() -> new GenericData.Record(EMPTY_RECORD_SCHEMA));
+  private static final ThreadLocal<GenericRecord> EMPTY_COMPUTE_REQUEST_RECORD_V5 =
+      ThreadLocal.withInitial(() -> new GenericData.Record(EMPTY_RECORD_SCHEMA_V5));
 
   /**
-   * N.B. This deserializer takes V3 as the writer schema, but the reader schema is just an empty record.
+   * N.B. This deserializer takes V4 as the writer schema, but the reader schema is just an empty record.
    *
    * There are a few important details here:
    *
@@ -68,9 +68,18 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
    *    in the future, we keep evolving the compute request protocol, we need to reevaluate if the evolution will
    *    require passing in the precise writer schema used. For example, if adding a new field, we would need to start
    *    using the correct writer schema (either V3 or the newer one).
+   *
+   * 3. V4 only appended the count group by operations to the union of V3, so it can skip over the requests encoded
+   *    with any of the previous versions as well.
+   *
+   * 4. V5 added the filters field, so the requests encoded with it are skipped over by
+   *    {@link #COMPUTE_REQUEST_V5_NO_OP_DESERIALIZER} instead, as picked by the version header of the request.
    */
   private static final RecordDeserializer<GenericRecord> COMPUTE_REQUEST_NO_OP_DESERIALIZER =
-      FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(ComputeRequestV3.SCHEMA$, EMPTY_RECORD_SCHEMA);
+      FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(ComputeRequestV4.SCHEMA$, EMPTY_RECORD_SCHEMA);
+  private static final RecordDeserializer<GenericRecord> COMPUTE_REQUEST_V5_NO_OP_DESERIALIZER =
+      FastSerializerDeserializerFactory
+          .getFastAvroGenericDeserializer(ComputeRequestV5.SCHEMA$, EMPTY_RECORD_SCHEMA_V5);
   private static final RecordDeserializer<ByteBuffer> COMPUTE_REQUEST_CLIENT_KEY_V1_DESERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(
           ReadAvroProtocolDefinition.COMPUTE_REQUEST_CLIENT_KEY_V1.getSchema(),
@@ -78,8 +87,21 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
   private static final RecordSerializer<ComputeRouterRequestKeyV1> COMPUTE_ROUTER_REQUEST_KEY_V1_SERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericSerializer(ComputeRouterRequestKeyV1.getClassSchema());
 
-  private static void skipOverComputeRequest(BinaryDecoder decoder) {
-    COMPUTE_REQUEST_NO_OP_DESERIALIZER.deserialize(EMPTY_COMPUTE_REQUEST_RECORD.get(), decoder);
+  private static Schema createEmptyRecordSchema(Class<?> computeRequestClass) {
+    return Schema.createRecord(
+        computeRequestClass.getSimpleName(),
+        "no-op",
+        computeRequestClass.getPackage().getName(),
+        false,
+        Collections.emptyList());
+  }
+
+  private static void skipOverComputeRequest(BinaryDecoder decoder, int computeRequestVersion) {
+    if (computeRequestVersion >= VeniceConstants.COMPUTE_REQUEST_VERSION_V5) {
+      COMPUTE_REQUEST_V5_NO_OP_DESERIALIZER.deserialize(EMPTY_COMPUTE_REQUEST_RECORD_V5.get(), decoder);
+    } else {
+      COMPUTE_REQUEST_NO_OP_DESERIALIZER.deserialize(EMPTY_COMPUTE_REQUEST_RECORD.get(), decoder);
+    }
   }
 
   private final byte[] requestContent;
@@ -122,7 +144,7 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
      */
     BinaryDecoder decoder = OptimizedBinaryDecoderFactory.defaultFactory()
         .createOptimizedBinaryDecoder(requestContent, 0, requestContent.length);
-    skipOverComputeRequest(decoder);
+    skipOverComputeRequest(decoder, computeRequestVersion);
     try {
       // record the length of the serialized ComputeRequest
       computeRequestLengthInBytes = requestContent.length - decoder.inputStream().available();
@@ -0,0 +1,75 @@
+package com.linkedin.venice.router.httpclient;
+
+import com.linkedin.venice.HttpConstants;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.http.HttpHeaders;
+
+
+/**
+ * A copy of a {@link PortableHttpResponse} of a storage node, along with the headers the Router reads from it, whose
+ * content can be read any number of times, unlike the content of some of the original responses. This is what lets a
+ * single response of a storage node be handed over to more than one request.
+ */
+public class BufferedPortableHttpResponse implements PortableHttpResponse {
+  private static final List<String> BUFFERED_HEADERS = Arrays.asList(
+      HttpHeaders.CONTENT_TYPE,
+      HttpConstants.VENICE_SCHEMA_ID,
+      HttpConstants.VENICE_COMPRESSION_STRATEGY,
+      HttpConstants.VENICE_REQUEST_RCU);
+
+  private final int statusCode;
+  private final byte[] content;
+  private final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+  /**
+   * Reads and releases the content of {@param response}, which must therefore not be used anymore.
+   */
+  public BufferedPortableHttpResponse(PortableHttpResponse response) throws IOException {
+    this.statusCode = response.getStatusCode();
+    ByteBuf contentBuf = response.getContentInByteBuf();
+    try {
+      this.content = ByteBufUtil.getBytes(contentBuf);
+    } finally {
+      contentBuf.release();
+    }
+    for (String headerName: BUFFERED_HEADERS) {
+      if (response.containsHeader(headerName)) {
+        headers.put(headerName, response.getFirstHeader(headerName));
+      }
+    }
+  }
+
+  public int getContentLength() {
+    return content.length;
+  }
+
+  @Override
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  /**
+   * Every call wraps the buffered bytes in a new buffer, which is handed over to the caller.
+   */
+  @Override
+  public ByteBuf getContentInByteBuf() {
+    return Unpooled.wrappedBuffer(content);
+  }
+
+  @Override
+  public boolean containsHeader(String headerName) {
+    return headers.containsKey(headerName);
+  }
+
+  @Override
+  public String getFirstHeader(String headerName) {
+    return headers.get(headerName);
+  }
+}
@@ -0,0 +1,493 @@
+package com.linkedin.venice.router.httpclient;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.Utils;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.EspressoHttp2MultiplexHandler;
+import io.netty.handler.codec.http2.EspressoHttp2StreamChannelBootstrap;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This client sends the requests to the storage nodes over HTTP/2 with Netty, on the I/O worker event loops of the
+ * router, instead of handing them over to the I/O reactor of a separate HTTP client.
+ *
+ * Each event loop keeps its own connection to each storage node, and the requests are multiplexed over it as stream
+ * channels opened by {@link EspressoHttp2StreamChannelBootstrap}, which are registered on the same event loop as their
+ * connection. A request issued from an event loop of the router is hence written, and its response is read and passed
+ * to the callbacks, without leaving the thread. Requests issued from any other thread are handed to one of the event
+ * loops first.
+ *
+ * The content of a response is the {@link ByteBuf} aggregated from the DATA frames of its stream, which is passed on
+ * as is instead of being copied into another buffer. The connections read into unpooled heap buffers, so that a
+ * response which is dropped (e.g. when it arrives after its request has been retried elsewhere) is garbage collected,
+ * like the responses of the other clients, instead of leaking pooled memory.
+ *
+ * The HTTP/2 settings of the connections are the same as the ones of the inbound HTTP/2 connections of the router. The
+ * connections which have failed or have been closed, and, if the idle connection cleanup is enabled, the ones which
+ * haven't been used for longer than its threshold, e.g. because their storage node left the cluster, are regularly
+ * removed by their event loop.
+ */
+public class NettyHttp2StorageNodeClient implements StorageNodeClient {
+  private static final Logger LOGGER = LogManager.getLogger(NettyHttp2StorageNodeClient.class);
+  private static final ByteBufAllocator CONNECTION_ALLOCATOR = new UnpooledByteBufAllocator(false);
+  private static final long CONNECTION_CLEANUP_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1);
+
+  private final SslContext sslContext;
+  private final EventLoop[] eventLoops;
+  private final Class<? extends Channel> channelClass;
+  private final Http2Settings http2Settings;
+  private final int connectionTimeoutMs;
+  private final int requestTimeoutMs;
+  private final int maxResponseSize;
+  // Long.MAX_VALUE if the idle connection cleanup is disabled
+  private final long idleConnectionThresholdMs;
+  /**
+   * The connections of each event loop, by storage node id. They are only created and removed on their own event loop.
+   */
+  private final List<Map<String, Connection>> connectionsByEventLoop;
+  private final List<ScheduledFuture<?>> connectionCleanupFutures;
+
+  private volatile boolean closed = false;
+
+  public NettyHttp2StorageNodeClient(
+      Optional<SSLFactory> sslFactory,
+      VeniceRouterConfig routerConfig,
+      EventLoopGroup eventLoopGroup,
+      Class<? extends Channel> channelClass) {
+    sslFactory.orElseThrow(
+        () -> new VeniceException("Param 'sslFactory' must be present while using " + this.getClass().getSimpleName()));
+    /**
+     * The storage nodes only negotiate HTTP/2 through ALPN, which the JDK supports natively from JDK11 on.
+     */
+    if (Utils.getJavaMajorVersion() < 11) {
+      throw new VeniceException(
+          "To enable HTTP/2 with " + this.getClass().getSimpleName()
+              + ", the current process needs to use JDK11 or above");
+    }
+    this.sslContext = new JdkSslContext(
+        sslFactory.get().getSSLContext(),
+        true,
+        null,
+        IdentityCipherSuiteFilter.INSTANCE,
+        new ApplicationProtocolConfig(
+            ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            ApplicationProtocolNames.HTTP_2),
+        ClientAuth.NONE,
+        null,
+        false);
+    List<EventLoop> eventLoopList = new ArrayList<>();
+    for (EventExecutor eventExecutor: eventLoopGroup) {
+      eventLoopList.add((EventLoop) eventExecutor);
+    }
+    this.eventLoops = eventLoopList.toArray(new EventLoop[0]);
+    this.channelClass = channelClass;
+    this.http2Settings = Http2Settings.defaultSettings()
+        .pushEnabled(false)
+        .initialWindowSize(routerConfig.getHttp2InitialWindowSize())
+        .maxFrameSize(routerConfig.getHttp2MaxFrameSize())
+        .headerTableSize(routerConfig.getHttp2HeaderTableSize())
+        .maxHeaderListSize(routerConfig.getHttp2MaxHeaderListSize());
+    this.connectionTimeoutMs = routerConfig.getConnectionTimeout();
+    this.requestTimeoutMs = routerConfig.getSocketTimeout();
+    this.maxResponseSize = routerConfig.getHttp2ClientMaxResponseSize();
+    this.idleConnectionThresholdMs = routerConfig.isIdleConnectionToServerCleanupEnabled()
+        ? TimeUnit.MINUTES.toMillis(routerConfig.getIdleConnectionToServerCleanupThresholdMins())
+        : Long.MAX_VALUE;
+    this.connectionsByEventLoop = new ArrayList<>(eventLoops.length);
+    this.connectionCleanupFutures = new ArrayList<>(eventLoops.length);
+    for (int i = 0; i < eventLoops.length; i++) {
+      connectionsByEventLoop.add(new ConcurrentHashMap<>());
+      int eventLoopIndex = i;
+      connectionCleanupFutures.add(
+          eventLoops[i].scheduleWithFixedDelay(
+              () -> cleanupConnections(eventLoopIndex),
+              CONNECTION_CLEANUP_INTERVAL_MS,
+              CONNECTION_CLEANUP_INTERVAL_MS,
+              TimeUnit.MILLISECONDS));
+    }
+    LOGGER.info("Constructing NettyHttp2StorageNodeClient with {} event loops", eventLoops.length);
+  }
+
+  @Override
+  public void start() {
+
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    connectionCleanupFutures.forEach(cleanupFuture -> cleanupFuture.cancel(false));
+    for (Map<String, Connection> connections: connectionsByEventLoop) {
+      connections.values().forEach(Connection::close);
+      connections.clear();
+    }
+  }
+
+  @Override
+  public void query(
+      Instance host,
+      VenicePath path,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack) {
+    byte[] body = path.getBody();
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        path.getHttpMethod(),
+        "/" + path.getLocation(),
+        body == null ? Unpooled.EMPTY_BUFFER : Unpooled.wrappedBuffer(body));
+    path.setupVeniceHeaders((k, v) -> request.headers().add(k, v));
+    send(host, request, requestTimeoutMs, completedCallBack, failedCallBack);
+  }
+
+  @Override
+  public void sendRequest(VeniceMetaDataRequest request, CompletableFuture<PortableHttpResponse> responseFuture) {
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.valueOf(request.getMethod()),
+        "/" + request.getQuery(),
+        Unpooled.EMPTY_BUFFER);
+    send(
+        request.getHost(),
+        httpRequest,
+        request.hasTimeout() ? request.getTimeout() : requestTimeoutMs,
+        responseFuture::complete,
+        responseFuture::completeExceptionally);
+  }
+
+  private void send(
+      Instance host,
+      FullHttpRequest request,
+      int timeoutMs,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack) {
+    request.headers().set(HttpHeaderNames.HOST, host.getHost() + ":" + host.getSslPort());
+    HttpUtil.setContentLength(request, request.content().readableBytes());
+
+    if (closed) {
+      request.release();
+      failedCallBack.accept(new VeniceException(this.getClass().getSimpleName() + " is closed"));
+      return;
+    }
+    for (int i = 0; i < eventLoops.length; i++) {
+      if (eventLoops[i].inEventLoop()) {
+        sendOnEventLoop(i, host, request, timeoutMs, completedCallBack, failedCallBack);
+        return;
+      }
+    }
+    int eventLoopIndex = ThreadLocalRandom.current().nextInt(eventLoops.length);
+    try {
+      eventLoops[eventLoopIndex].execute(
+          () -> sendOnEventLoop(eventLoopIndex, host, request, timeoutMs, completedCallBack, failedCallBack));
+    } catch (Exception e) {
+      request.release();
+      failedCallBack.accept(e);
+    }
+  }
+
+  private void sendOnEventLoop(
+      int eventLoopIndex,
+      Instance host,
+      FullHttpRequest request,
+      int timeoutMs,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack) {
+    getConnection(eventLoopIndex, host).addListener((FutureListener<Channel>) connectionFuture -> {
+      if (!connectionFuture.isSuccess()) {
+        request.release();
+        failedCallBack.accept(connectionFuture.cause());
+        return;
+      }
+      ResponseHandler responseHandler = new ResponseHandler(completedCallBack, failedCallBack);
+      new EspressoHttp2StreamChannelBootstrap(connectionFuture.getNow())
+          .handler(new ChannelInitializer<Http2StreamChannel>() {
+            @Override
+            protected void initChannel(Http2StreamChannel streamChannel) {
+              streamChannel.pipeline()
+                  .addLast(
+                      new Http2StreamFrameToHttpObjectCodec(false),
+                      new HttpObjectAggregator(maxResponseSize),
+                      responseHandler);
+            }
+          })
+          .open()
+          .addListener((FutureListener<Http2StreamChannel>) streamFuture -> {
+            if (!streamFuture.isSuccess()) {
+              request.release();
+              failedCallBack.accept(streamFuture.cause());
+              return;
+            }
+            Http2StreamChannel streamChannel = streamFuture.getNow();
+            responseHandler.scheduleTimeout(streamChannel, timeoutMs);
+            streamChannel.writeAndFlush(request).addListener((ChannelFutureListener) writeFuture -> {
+              if (!writeFuture.isSuccess()) {
+                responseHandler.fail(streamChannel, writeFuture.cause());
+              }
+            });
+          });
+    });
+  }
+
+  /**
+   * Returns the connection of the given event loop to the given storage node, and replaces it with a new one if it has
+   * failed or has been closed. Must be called on the given event loop.
+   */
+  private Future<Channel> getConnection(int eventLoopIndex, Instance host) {
+    Map<String, Connection> connections = connectionsByEventLoop.get(eventLoopIndex);
+    Connection connection = connections.get(host.getNodeId());
+    if (connection == null || connection.isBroken()) {
+      connection = new Connection(connect(eventLoops[eventLoopIndex], host.getHost(), host.getSslPort()));
+      connections.put(host.getNodeId(), connection);
+    }
+    connection.lastUsedTimeMs = System.currentTimeMillis();
+    return connection.channelFuture;
+  }
+
+  /**
+   * Removes the connections of the given event loop which are broken, and closes the ones which have been idle for
+   * longer than {@link #idleConnectionThresholdMs}. Runs on the given event loop.
+   */
+  private void cleanupConnections(int eventLoopIndex) {
+    long idleSinceTimeMs = System.currentTimeMillis() - idleConnectionThresholdMs;
+    connectionsByEventLoop.get(eventLoopIndex).entrySet().removeIf(entry -> {
+      Connection connection = entry.getValue();
+      if (connection.isBroken()) {
+        return true;
+      }
+      if (connection.lastUsedTimeMs > idleSinceTimeMs || !connection.channelFuture.isDone()
+          || connection.hasActiveStreams()) {
+        return false;
+      }
+      LOGGER.info("Closing the idle connection to storage node: {}", entry.getKey());
+      connection.close();
+      return true;
+    });
+  }
+
+  private Future<Channel> connect(EventLoop eventLoop, String hostName, int port) {
+    Promise<Channel> connectionPromise = eventLoop.newPromise();
+    SslHandler sslHandler = sslContext.newHandler(CONNECTION_ALLOCATOR, hostName, port);
+    new Bootstrap().group(eventLoop)
+        .channel(channelClass)
+        .option(ChannelOption.ALLOCATOR, CONNECTION_ALLOCATOR)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectionTimeoutMs)
+        .option(ChannelOption.TCP_NODELAY, true)
+        .handler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel channel) {
+            channel.pipeline()
+                .addLast(
+                    sslHandler,
+                    Http2FrameCodecBuilder.forClient().initialSettings(http2Settings).build(),
+                    // The storage nodes never push, so there are no inbound streams to handle
+                    new EspressoHttp2MultiplexHandler(new ChannelInboundHandlerAdapter(), false, false));
+          }
+        })
+        .connect(hostName, port)
+        .addListener((ChannelFutureListener) connectFuture -> {
+          if (!connectFuture.isSuccess()) {
+            connectionPromise.tryFailure(connectFuture.cause());
+            return;
+          }
+          Channel channel = connectFuture.channel();
+          sslHandler.handshakeFuture().addListener((FutureListener<Channel>) handshakeFuture -> {
+            if (!handshakeFuture.isSuccess()) {
+              channel.close();
+              connectionPromise.tryFailure(handshakeFuture.cause());
+            } else if (!ApplicationProtocolNames.HTTP_2.equals(sslHandler.applicationProtocol())) {
+              channel.close();
+              connectionPromise.tryFailure(
+                  new VeniceException(
+                      "Storage node: " + hostName + ":" + port + " did not negotiate HTTP/2, but: "
+                          + sslHandler.applicationProtocol()));
+            } else {
+              connectionPromise.trySuccess(channel);
+            }
+          });
+        });
+    return connectionPromise;
+  }
+
+  /**
+   * A connection to a storage node. Apart from {@link #close()}, it is only accessed on its own event loop.
+   */
+  private static final class Connection {
+    private final Future<Channel> channelFuture;
+    private long lastUsedTimeMs;
+
+    Connection(Future<Channel> channelFuture) {
+      this.channelFuture = channelFuture;
+    }
+
+    /**
+     * @return whether the connection has failed or has been closed
+     */
+    boolean isBroken() {
+      return channelFuture.isDone() && (!channelFuture.isSuccess() || !channelFuture.getNow().isActive());
+    }
+
+    boolean hasActiveStreams() {
+      Http2FrameCodec frameCodec = channelFuture.getNow().pipeline().get(Http2FrameCodec.class);
+      return frameCodec != null && frameCodec.connection().numActiveStreams() > 0;
+    }
+
+    void close() {
+      channelFuture.addListener((FutureListener<Channel>) future -> {
+        if (future.isSuccess()) {
+          future.getNow().close();
+        }
+      });
+    }
+  }
+
+  /**
+   * Completes a single request, with whichever comes first of its response, the failure or closing of its stream, and
+   * its timeout. All of them happen on the event loop of the stream.
+   */
+  private static final class ResponseHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+    private final Consumer<PortableHttpResponse> completedCallBack;
+    private final Consumer<Throwable> failedCallBack;
+    private ScheduledFuture<?> timeoutFuture;
+    private boolean completed = false;
+
+    ResponseHandler(Consumer<PortableHttpResponse> completedCallBack, Consumer<Throwable> failedCallBack) {
+      // The response is handed over to the callback, which takes over its content
+      super(false);
+      this.completedCallBack = completedCallBack;
+      this.failedCallBack = failedCallBack;
+    }
+
+    void scheduleTimeout(Channel streamChannel, int timeoutMs) {
+      if (timeoutMs > 0) {
+        timeoutFuture = streamChannel.eventLoop()
+            .schedule(
+                () -> fail(streamChannel, new TimeoutException("Request timed out after " + timeoutMs + "ms")),
+                timeoutMs,
+                TimeUnit.MILLISECONDS);
+      }
+    }
+
+    void fail(Channel streamChannel, Throwable cause) {
+      if (complete(streamChannel)) {
+        failedCallBack.accept(cause);
+      }
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) {
+      if (complete(ctx.channel())) {
+        completedCallBack.accept(new NettyHttp2Response(response));
+      } else {
+        response.release();
+      }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+      fail(ctx.channel(), new VeniceException("Stream closed before receiving the response"));
+      super.channelInactive(ctx);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      fail(ctx.channel(), cause);
+    }
+
+    private boolean complete(Channel streamChannel) {
+      if (completed) {
+        return false;
+      }
+      completed = true;
+      if (timeoutFuture != null) {
+        timeoutFuture.cancel(false);
+      }
+      streamChannel.close();
+      return true;
+    }
+  }
+
+  private static final class NettyHttp2Response implements PortableHttpResponse {
+    private final FullHttpResponse response;
+
+    NettyHttp2Response(FullHttpResponse response) {
+      this.response = response;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return response.status().code();
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      return response.content();
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return response.headers().contains(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return response.headers().get(headerName);
+    }
+  }
+}
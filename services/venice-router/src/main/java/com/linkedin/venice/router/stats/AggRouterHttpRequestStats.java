@@ -238,6 +238,21 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     recordStoreStats(storeName, RouterHttpRequestStats::recordMetaStoreShadowRead);
   }
 
+  public void recordRouterCacheHit(String storeName) {
+    totalStats.recordRouterCacheHit();
+    recordStoreStats(storeName, RouterHttpRequestStats::recordRouterCacheHit);
+  }
+
+  public void recordRouterCacheMiss(String storeName) {
+    totalStats.recordRouterCacheMiss();
+    recordStoreStats(storeName, RouterHttpRequestStats::recordRouterCacheMiss);
+  }
+
+  public void recordCoalescedRequest(String storeName) {
+    totalStats.recordCoalescedRequest();
+    recordStoreStats(storeName, RouterHttpRequestStats::recordCoalescedRequest);
+  }
+
   private class AggScatterGatherStats extends ScatterGatherStats {
     private long getAggStats(Function<ScatterGatherStats, Long> func) {
       long total = 0;
@@ -135,6 +135,9 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor unavailableReplicaStreamingRequestSensor;
   private final Sensor multiGetFallbackSensor;
   private final Sensor metaStoreShadowReadSensor;
+  private final Sensor routerCacheHitSensor;
+  private final Sensor routerCacheMissSensor;
+  private final Sensor coalescedRequestSensor;
 
   /** TODO: Need to clarify the usage and add new OTel metrics or add it as a part of existing ones */
   private final Sensor errorRetryAttemptTriggeredByPendingRequestCheckSensor;
@@ -416,6 +419,24 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
         ? null
         : registerSensor("multiget_fallback", new Total(), new OccurrenceRate());
 
+    /**
+     * Only the single-get responses of the stores opted into the router cache are looked up in it, see
+     * {@link com.linkedin.venice.router.api.RouterSingleGetResponseCache}.
+     */
+    routerCacheHitSensor = RequestType.isSingleGet(requestType)
+        ? registerSensor("router_cache_hit", new Count(), new OccurrenceRate())
+        : null;
+    routerCacheMissSensor = RequestType.isSingleGet(requestType)
+        ? registerSensor("router_cache_miss", new Count(), new OccurrenceRate())
+        : null;
+    /**
+     * The single-get requests which waited for the in-flight request of the same key instead of being sent, see
+     * {@link com.linkedin.venice.router.api.RouterSingleGetRequestCoalescer}.
+     */
+    coalescedRequestSensor = RequestType.isSingleGet(requestType)
+        ? registerSensor("coalesced_request", new Count(), new OccurrenceRate())
+        : null;
+
     requestParsingLatencySensor = registerSensor("request_parse_latency", new Avg());
     requestRoutingLatencySensor = registerSensor("request_route_latency", new Avg());
 
@@ -782,6 +803,24 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     metaStoreShadowReadSensor.record();
   }
 
+  public void recordRouterCacheHit() {
+    if (routerCacheHitSensor != null) {
+      routerCacheHitSensor.record();
+    }
+  }
+
+  public void recordRouterCacheMiss() {
+    if (routerCacheMissSensor != null) {
+      routerCacheMissSensor.record();
+    }
+  }
+
+  public void recordCoalescedRequest() {
+    if (coalescedRequestSensor != null) {
+      coalescedRequestSensor.record();
+    }
+  }
+
   @Override
   protected Sensor registerSensor(String sensorName, MeasurableStat... stats) {
     return super.registerSensor(systemStoreName == null ? sensorName : systemStoreName, null, stats);
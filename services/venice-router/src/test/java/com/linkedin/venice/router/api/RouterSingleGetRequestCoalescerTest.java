@@ -0,0 +1,119 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+
+public class RouterSingleGetRequestCoalescerTest {
+  private static final String STORE_NAME = "test_store";
+  private static final String RESOURCE_NAME = STORE_NAME + "_v1";
+
+  @Test
+  public void testConcurrentRequestsShareResponse() throws Exception {
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    RouterSingleGetRequestCoalescer coalescer = new RouterSingleGetRequestCoalescer(2, stats);
+    AtomicInteger sentRequestCount = new AtomicInteger();
+    CompletableFuture<PortableHttpResponse> storageNodeResponse = new CompletableFuture<>();
+    RouterSingleGetRequestCoalescer.RequestSender sender = () -> {
+      sentRequestCount.incrementAndGet();
+      return storageNodeResponse;
+    };
+
+    CompletableFuture<PortableHttpResponse> first =
+        coalescer.send(STORE_NAME, RESOURCE_NAME, RouterKey.fromString("key"), sender);
+    CompletableFuture<PortableHttpResponse> second =
+        coalescer.send(STORE_NAME, RESOURCE_NAME, RouterKey.fromString("key"), sender);
+    CompletableFuture<PortableHttpResponse> third =
+        coalescer.send(STORE_NAME, RESOURCE_NAME, RouterKey.fromString("key"), sender);
+    assertEquals(sentRequestCount.get(), 1);
+    verify(stats, times(2)).recordCoalescedRequest(STORE_NAME);
+
+    // Beyond the max waiter count, the requests are sent as usual
+    coalescer.send(STORE_NAME, RESOURCE_NAME, RouterKey.fromString("key"), sender);
+    assertEquals(sentRequestCount.get(), 2);
+    // The requests of other keys and other versions are never coalesced
+    coalescer.send(STORE_NAME, RESOURCE_NAME, RouterKey.fromString("other_key"), sender);
+    coalescer.send(STORE_NAME, STORE_NAME + "_v2", RouterKey.fromString("key"), sender);
+    assertEquals(sentRequestCount.get(), 4);
+
+    byte[] content = new byte[] { 1, 2, 3 };
+    PortableHttpResponse response = mock(PortableHttpResponse.class);
+    when(response.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+    when(response.getContentInByteBuf()).thenReturn(Unpooled.wrappedBuffer(content));
+    when(response.containsHeader(HttpConstants.VENICE_SCHEMA_ID)).thenReturn(true);
+    when(response.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID)).thenReturn("1");
+    storageNodeResponse.complete(response);
+
+    // Every request gets its own readable copy of the response
+    for (CompletableFuture<PortableHttpResponse> future: new CompletableFuture[] { first, second, third }) {
+      assertTrue(future.isDone());
+      PortableHttpResponse coalescedResponse = future.get();
+      assertNotSame(coalescedResponse, response);
+      assertEquals(coalescedResponse.getStatusCode(), HttpStatus.SC_OK);
+      assertEquals(ByteBufUtil.getBytes(coalescedResponse.getContentInByteBuf()), content);
+      assertEquals(coalescedResponse.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID), "1");
+    }
+    assertEquals(coalescer.getInFlightRequestCount(), 0);
+
+    // Once the response is back, the next request is sent again, and is not copied without any waiter
+    CompletableFuture<PortableHttpResponse> nextStorageNodeResponse = new CompletableFuture<>();
+    CompletableFuture<PortableHttpResponse> next =
+        coalescer.send(STORE_NAME, RESOURCE_NAME, RouterKey.fromString("key"), () -> nextStorageNodeResponse);
+    nextStorageNodeResponse.complete(response);
+    assertSame(next.get(), response);
+  }
+
+  @Test
+  public void testFailureIsSharedWithWaiters() throws Exception {
+    RouterSingleGetRequestCoalescer coalescer =
+        new RouterSingleGetRequestCoalescer(10, mock(AggRouterHttpRequestStats.class));
+    CompletableFuture<PortableHttpResponse> storageNodeResponse = new CompletableFuture<>();
+    CompletableFuture<PortableHttpResponse> first =
+        coalescer.send(STORE_NAME, RESOURCE_NAME, RouterKey.fromString("key"), () -> storageNodeResponse);
+    CompletableFuture<PortableHttpResponse> second =
+        coalescer.send(STORE_NAME, RESOURCE_NAME, RouterKey.fromString("key"), () -> storageNodeResponse);
+
+    storageNodeResponse.completeExceptionally(new VeniceException("Storage node failure"));
+    for (CompletableFuture<PortableHttpResponse> future: new CompletableFuture[] { first, second }) {
+      assertTrue(future.isCompletedExceptionally());
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        while (!(cause instanceof VeniceException) && cause.getCause() != null) {
+          cause = cause.getCause();
+        }
+        assertTrue(cause instanceof VeniceException);
+      }
+    }
+    assertEquals(coalescer.getInFlightRequestCount(), 0);
+
+    // A request which fails to be sent doesn't leave anything behind
+    try {
+      coalescer.send(STORE_NAME, RESOURCE_NAME, RouterKey.fromString("key"), () -> {
+        throw new VeniceException("Failed to send");
+      });
+    } catch (VeniceException e) {
+      assertEquals(e.getMessage(), "Failed to send");
+    }
+    assertEquals(coalescer.getInFlightRequestCount(), 0);
+  }
+}
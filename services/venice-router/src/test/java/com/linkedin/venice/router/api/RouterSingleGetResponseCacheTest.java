@@ -0,0 +1,150 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+
+public class RouterSingleGetResponseCacheTest {
+  private static final String STORE_NAME = "test_store";
+  private static final String HYBRID_STORE_NAME = "test_hybrid_store";
+  private static final long TTL_MS = 1000;
+
+  @Test
+  public void testCacheHitAndMiss() throws Exception {
+    AtomicLong time = new AtomicLong();
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    Store store = mockStore(STORE_NAME, false, 1);
+    when(storeRepository.getStore(STORE_NAME)).thenReturn(store);
+    Store hybridStore = mockStore(HYBRID_STORE_NAME, true, 1);
+    when(storeRepository.getStore(HYBRID_STORE_NAME)).thenReturn(hybridStore);
+    RouterSingleGetResponseCache cache = new RouterSingleGetResponseCache(
+        storeRepository,
+        Arrays.asList(STORE_NAME, HYBRID_STORE_NAME),
+        1024 * 1024,
+        TTL_MS,
+        time::get);
+
+    assertTrue(cache.isEnabled(STORE_NAME));
+    assertFalse(cache.isEnabled(HYBRID_STORE_NAME));
+    assertFalse(cache.isEnabled("other_store"));
+
+    String resourceName = STORE_NAME + "_v1";
+    RouterKey key = RouterKey.fromString("key");
+    assertNull(cache.get(resourceName, key));
+
+    // Only the successful responses are cached
+    PortableHttpResponse notFoundResponse = mockResponse(HttpStatus.SC_NOT_FOUND, new byte[0]);
+    assertSame(cache.put(resourceName, key, notFoundResponse), notFoundResponse);
+    assertNull(cache.get(resourceName, key));
+
+    byte[] content = new byte[] { 1, 2, 3 };
+    PortableHttpResponse storedResponse = cache.put(resourceName, key, mockResponse(HttpStatus.SC_OK, content));
+    assertResponse(storedResponse, content);
+    assertResponse(cache.get(resourceName, RouterKey.fromString("key")), content);
+    // The content can be read more than once
+    assertResponse(cache.get(resourceName, key), content);
+    assertNull(cache.get(resourceName, RouterKey.fromString("other_key")));
+    assertNull(cache.get(STORE_NAME + "_v2", key));
+
+    // The entries expire after the TTL
+    time.addAndGet(TimeUnit.MILLISECONDS.toNanos(TTL_MS + 1));
+    assertNull(cache.get(resourceName, key));
+  }
+
+  @Test
+  public void testInvalidationOnVersionSwap() throws Exception {
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    RouterSingleGetResponseCache cache = new RouterSingleGetResponseCache(
+        storeRepository,
+        Arrays.asList(STORE_NAME, HYBRID_STORE_NAME),
+        1024 * 1024,
+        TTL_MS,
+        () -> 0L);
+    assertFalse(cache.isEnabled(STORE_NAME));
+
+    cache.handleStoreCreated(mockStore(STORE_NAME, false, 1));
+    cache.handleStoreCreated(mockStore(HYBRID_STORE_NAME, true, 1));
+    assertTrue(cache.isEnabled(STORE_NAME));
+    assertFalse(cache.isEnabled(HYBRID_STORE_NAME));
+
+    RouterKey key = RouterKey.fromString("key");
+    byte[] content = new byte[] { 1, 2, 3 };
+    cache.put(STORE_NAME + "_v1", key, mockResponse(HttpStatus.SC_OK, content));
+    cache.put("another_" + STORE_NAME + "_v1", key, mockResponse(HttpStatus.SC_OK, content));
+
+    // Changes which don't swap the version keep the entries
+    cache.handleStoreChanged(mockStore(STORE_NAME, false, 1));
+    assertNotNull(cache.get(STORE_NAME + "_v1", key));
+
+    cache.handleStoreChanged(mockStore(STORE_NAME, false, 2));
+    assertTrue(cache.isEnabled(STORE_NAME));
+    assertNull(cache.get(STORE_NAME + "_v1", key));
+    // The entries of the other stores are kept
+    assertNotNull(cache.get("another_" + STORE_NAME + "_v1", key));
+
+    cache.put(STORE_NAME + "_v2", key, mockResponse(HttpStatus.SC_OK, content));
+    cache.handleStoreChanged(mockStore(STORE_NAME, true, 2));
+    assertFalse(cache.isEnabled(STORE_NAME));
+    assertNull(cache.get(STORE_NAME + "_v2", key));
+
+    cache.handleStoreChanged(mockStore(STORE_NAME, false, 2));
+    cache.put(STORE_NAME + "_v2", key, mockResponse(HttpStatus.SC_OK, content));
+    cache.handleStoreDeleted(STORE_NAME);
+    assertFalse(cache.isEnabled(STORE_NAME));
+    assertNull(cache.get(STORE_NAME + "_v2", key));
+  }
+
+  private static Store mockStore(String storeName, boolean hybrid, int currentVersion) {
+    Store store = mock(Store.class);
+    when(store.getName()).thenReturn(storeName);
+    when(store.isHybrid()).thenReturn(hybrid);
+    when(store.getCurrentVersion()).thenReturn(currentVersion);
+    return store;
+  }
+
+  private static PortableHttpResponse mockResponse(int statusCode, byte[] content) throws Exception {
+    PortableHttpResponse response = mock(PortableHttpResponse.class);
+    when(response.getStatusCode()).thenReturn(statusCode);
+    when(response.getContentInByteBuf()).thenReturn(Unpooled.wrappedBuffer(content));
+    when(response.containsHeader(HttpHeaders.CONTENT_TYPE)).thenReturn(true);
+    when(response.getFirstHeader(HttpHeaders.CONTENT_TYPE)).thenReturn(HttpConstants.AVRO_BINARY);
+    when(response.containsHeader(HttpConstants.VENICE_SCHEMA_ID)).thenReturn(true);
+    when(response.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID)).thenReturn("1");
+    when(response.containsHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY)).thenReturn(true);
+    when(response.getFirstHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY))
+        .thenReturn(String.valueOf(CompressionStrategy.GZIP.getValue()));
+    return response;
+  }
+
+  private static void assertResponse(PortableHttpResponse response, byte[] expectedContent) throws Exception {
+    assertNotNull(response);
+    assertEquals(response.getStatusCode(), HttpStatus.SC_OK);
+    assertEquals(ByteBufUtil.getBytes(response.getContentInByteBuf()), expectedContent);
+    assertEquals(response.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID), "1");
+    assertEquals(
+        response.getFirstHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY),
+        String.valueOf(CompressionStrategy.GZIP.getValue()));
+    assertEquals(response.getFirstHeader(HttpHeaders.CONTENT_TYPE), HttpConstants.AVRO_BINARY);
+    assertFalse(response.containsHeader(HttpConstants.VENICE_REQUEST_RCU));
+  }
+}
@@ -9,14 +9,24 @@ import static org.mockito.Mockito.mock;
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.meta.NameRepository;
 import com.linkedin.venice.meta.StoreVersionName;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordSerializer;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -129,4 +139,59 @@ public class TestVeniceResponseDecompressor {
       Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
     }
   }
+
+  /**
+   * The records of the multi-get responses of several storage nodes should be decompressed and encoded again as they
+   * were, apart from their values.
+   */
+  @Test
+  public void testRouterDecompressesMultiGetRecords() throws Exception {
+    StoreVersionName storeVersionName = nameRepository.getStoreVersionName("test-store", 1);
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "storage/test-store",
+        System.currentTimeMillis(),
+        100000);
+
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    doReturn(mock(AggRouterHttpRequestStats.class)).when(routerStats).getStatsByType(any());
+    RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
+
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VenicePathParser pathParser = getVenicePathParser(compressorFactory, true);
+      VeniceResponseDecompressor responseDecompressor = pathParser.getDecompressor(storeVersionName, request);
+      VeniceCompressor compressor = compressorFactory.getCompressor(CompressionStrategy.GZIP);
+
+      List<MultiGetResponseRecordV1> records = new ArrayList<>();
+      for (int keyIndex: new int[] { 0, 1, 300, 70000 }) {
+        MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+        record.keyIndex = keyIndex;
+        record.value = ByteBuffer.wrap(("value_" + keyIndex).getBytes(StandardCharsets.UTF_8));
+        record.schemaId = keyIndex % 3 + 1;
+        records.add(record);
+      }
+      RecordSerializer<MultiGetResponseRecordV1> serializer =
+          FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
+      CompositeByteBuf content = Unpooled.compositeBuffer();
+      for (List<MultiGetResponseRecordV1> hostRecords: Arrays.asList(records.subList(0, 1), records.subList(1, 4))) {
+        List<MultiGetResponseRecordV1> compressedRecords = new ArrayList<>();
+        for (MultiGetResponseRecordV1 record: hostRecords) {
+          MultiGetResponseRecordV1 compressedRecord = new MultiGetResponseRecordV1();
+          compressedRecord.keyIndex = record.keyIndex;
+          compressedRecord.value = compressor.compress(record.value.duplicate(), 0);
+          compressedRecord.schemaId = record.schemaId;
+          compressedRecords.add(compressedRecord);
+        }
+        content.addComponent(true, Unpooled.wrappedBuffer(serializer.serializeObjects(compressedRecords)));
+      }
+
+      ContentDecompressResult result =
+          responseDecompressor.decompressMultiGetContent(CompressionStrategy.GZIP, content);
+      Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
+
+      byte[] decompressedContent = ByteBufUtil.getBytes(result.getContent());
+      Assert.assertEquals(decompressedContent, serializer.serializeObjects(records));
+    }
+  }
 }
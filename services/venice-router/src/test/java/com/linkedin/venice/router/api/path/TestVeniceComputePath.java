@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.alpini.router.api.RouterException;
 import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.VeniceConstants;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV1;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV2;
@@ -89,6 +90,10 @@ public class TestVeniceComputePath {
     RecordSerializer<ComputeRequestV1> computeRequestSerializer =
         SerializerDeserializerFactory.getAvroGenericSerializer(ComputeRequestV1.getClassSchema());
     byte[] serializedComputeRequest = computeRequestSerializer.serialize(request);
+    if (apiVersion >= VeniceConstants.COMPUTE_REQUEST_VERSION_V5) {
+      // Version 5 appends the filters to the previous versions, encoded here as an empty array
+      serializedComputeRequest = ArrayUtils.add(serializedComputeRequest, (byte) 0);
+    }
 
     RecordSerializer<ByteBuffer> keySerializer = SerializerDeserializerFactory
         .getAvroGenericSerializer(ReadAvroProtocolDefinition.COMPUTE_REQUEST_CLIENT_KEY_V1.getSchema());
@@ -138,7 +143,9 @@ public class TestVeniceComputePath {
           retryConfig,
           mock(RetryManager.class),
           mock(VeniceResponseDecompressor.class));
-      Assert.assertEquals(computePath.getComputeRequestLengthInBytes(), expectedLength);
+      Assert.assertEquals(
+          computePath.getComputeRequestLengthInBytes(),
+          apiVersion >= VeniceConstants.COMPUTE_REQUEST_VERSION_V5 ? expectedLength + 1 : expectedLength);
     }
   }
 
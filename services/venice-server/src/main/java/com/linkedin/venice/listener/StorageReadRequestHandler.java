@@ -3,6 +3,7 @@ package com.linkedin.venice.listener;
 import static com.linkedin.venice.listener.ServerHandlerUtils.extractClientPrincipal;
 
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.compression.DecompressedValueCache;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.listener.response.AdminResponse;
@@ -19,14 +20,19 @@ import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.chunking.BatchGetChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
+import com.linkedin.davinci.store.DelegatingStorageEngine;
 import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.davinci.store.cache.RowCache;
+import com.linkedin.davinci.store.cache.RowCachingStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.compute.ComputeUtils;
+import com.linkedin.venice.compute.CountAggregationOperator;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.ComputeRequest;
+import com.linkedin.venice.compute.protocol.request.FieldFilter;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
@@ -70,6 +76,7 @@ import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
 import com.linkedin.venice.serialization.StoreDeserializerCache;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.streaming.StreamingConstants;
@@ -81,15 +88,19 @@ import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
 import com.linkedin.venice.utils.StoreVersionStateUtils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -97,6 +108,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -114,6 +126,11 @@ import org.apache.logging.log4j.Logger;
 @ChannelHandler.Sharable
 public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private static final Logger LOGGER = LogManager.getLogger(StorageReadRequestHandler.class);
+  /**
+   * Beyond this number of distinct projections per store version, the compute requests decode the values with the full
+   * value schema, so that the cached projected schemas and deserializers stay bounded.
+   */
+  private static final int MAX_PROJECTIONS_PER_STORE_VERSION = 100;
   private static final RedundantExceptionFilter REDUNDANT_LOGGING_FILTER =
       RedundantExceptionFilter.getRedundantExceptionFilter();
   private final DiskHealthCheckService diskHealthCheckService;
@@ -128,11 +145,13 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private final boolean fastAvroEnabled;
   private final Function<Schema, RecordSerializer<GenericRecord>> genericSerializerGetter;
   private final int parallelBatchGetChunkSize;
+  private final boolean singleGetPooledBufferEnabled;
   private final VeniceServerConfig serverConfig;
   private final Map<String, PerStoreVersionState> perStoreVersionStateMap = new VeniceConcurrentHashMap<>();
   private final Map<String, StoreDeserializerCache<GenericRecord>> storeDeserializerCacheMap =
       new VeniceConcurrentHashMap<>();
   private final StorageEngineBackedCompressorFactory compressorFactory;
+  private final DecompressedValueCache decompressedValueCache;
   private final Consumer<String> resourceReadUsageTracker;
   private final KeyPartitionProfilerManager keyPartitionProfilerManager;
 
@@ -145,19 +164,66 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private final IntFunction<ComputeResponseWrapper> computeResponseProvider;
   private final Function<MultiGetRouterRequestWrapper, CompletableFuture<ReadResponse>> multiGetHandler;
   private final Function<ComputeRouterRequestWrapper, CompletableFuture<ReadResponse>> computeHandler;
+  private final SingleBatchProcessor<MultiGetRouterRequestKeyV1, RequestContext, MultiGetResponseWrapper> multiGetBatchProcessor;
 
   private static class PerStoreVersionState {
+    final String storeName;
     final StoreDeserializerCache<GenericRecord> storeDeserializerCache;
+    /**
+     * The deserializers of the compute requests which only need some of the value fields, keyed by the projected value
+     * schema they decode the values with, see {@link ComputeUtils#getProjectedValueSchema}.
+     */
+    final Map<Schema, StoreDeserializerCache<GenericRecord>> projectedDeserializerCacheMap =
+        new VeniceConcurrentHashMap<>();
+    /**
+     * The projected value schemas of the compute requests, keyed by the value schema id, the result schema and the
+     * fields needed by the operations and filters of the request, see {@link ComputeUtils#getProjectedValueSchema}.
+     */
+    final Map<ProjectionKey, Schema> projectedValueSchemaCache = new VeniceConcurrentHashMap<>();
     StorageEngine storageEngine;
 
     public PerStoreVersionState(
+        String storeName,
         StorageEngine storageEngine,
         StoreDeserializerCache<GenericRecord> storeDeserializerCache) {
+      this.storeName = storeName;
       this.storageEngine = storageEngine;
       this.storeDeserializerCache = storeDeserializerCache;
     }
   }
 
+  private static final class ProjectionKey {
+    private final int valueSchemaId;
+    private final Utf8 resultSchemaStr;
+    private final List<String> fieldNames;
+    private final int hashCode;
+
+    ProjectionKey(int valueSchemaId, Utf8 resultSchemaStr, List<String> fieldNames) {
+      this.valueSchemaId = valueSchemaId;
+      this.resultSchemaStr = resultSchemaStr;
+      this.fieldNames = fieldNames;
+      this.hashCode = Objects.hash(valueSchemaId, resultSchemaStr, fieldNames);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ProjectionKey)) {
+        return false;
+      }
+      ProjectionKey that = (ProjectionKey) o;
+      return valueSchemaId == that.valueSchemaId && resultSchemaStr.equals(that.resultSchemaStr)
+          && fieldNames.equals(that.fieldNames);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
   private static class ReusableObjects {
     /**
      * When constructing a {@link BinaryDecoder}, we pass in this 16 bytes array because if we pass anything
@@ -300,6 +366,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         : SerializerDeserializerFactory::getAvroGenericSerializer;
     this.computeResultSchemaCache = new VeniceConcurrentHashMap<>();
     this.parallelBatchGetChunkSize = serverConfig.getParallelBatchGetChunkSize();
+    this.singleGetPooledBufferEnabled = serverConfig.isSingleGetPooledBufferEnabled();
     if (serverConfig.isEnableParallelBatchGet()) {
       this.multiGetHandler = this::handleMultiGetRequestInParallel;
       this.computeHandler = this::handleComputeRequestInParallel;
@@ -307,10 +374,18 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       this.multiGetHandler = this::handleMultiGetRequest;
       this.computeHandler = this::handleComputeRequest;
     }
+    if (serverConfig.isBatchGetStorageMultiGetEnabled()) {
+      this.multiGetBatchProcessor = this::processMultiGetWithStorageMultiGet;
+    } else {
+      this.multiGetBatchProcessor = this::processMultiGet;
+    }
     this.multiGetResponseProvider = multiGetResponseProvider;
     this.computeResponseProvider = computeResponseProvider;
     this.serverConfig = serverConfig;
     this.compressorFactory = compressorFactory;
+    long decompressedValueCacheCapacity = serverConfig.getDecompressedValueCacheCapacityInBytes();
+    this.decompressedValueCache =
+        decompressedValueCacheCapacity > 0 ? new DecompressedValueCache(decompressedValueCacheCapacity) : null;
     if (optionalResourceReadUsageTracker.isPresent()) {
       ResourceReadUsageTracker tracker = optionalResourceReadUsageTracker.get();
       this.resourceReadUsageTracker = tracker::recordReadUsage;
@@ -525,7 +600,57 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     StoreDeserializerCache<GenericRecord> storeDeserializerCache = storeDeserializerCacheMap.computeIfAbsent(
         storeName,
         s -> new AvroStoreDeserializerCache<>(this.schemaRepository, s, this.fastAvroEnabled));
-    return new PerStoreVersionState(storageEngine, storeDeserializerCache);
+    return new PerStoreVersionState(storeName, storageEngine, storeDeserializerCache);
+  }
+
+  /**
+   * @return the projected value schema of the compute request, which is the full value schema if the store version
+   *         already has {@link #MAX_PROJECTIONS_PER_STORE_VERSION} other projections
+   */
+  private Schema getProjectedValueSchema(
+      PerStoreVersionState storeVersion,
+      SchemaEntry valueSchemaEntry,
+      ComputeRequest computeRequest,
+      Schema resultSchema) {
+    List<ComputeOperation> operations = computeRequest.getOperations();
+    List<FieldFilter> filters = computeRequest.getFilters();
+    List<String> fieldNames = new ArrayList<>(operations.size() + (filters == null ? 0 : filters.size()));
+    for (ComputeOperation operation: operations) {
+      fieldNames.add(ComputeOperationType.valueOf(operation).getOperator().getOperatorFieldName(operation));
+    }
+    if (filters != null) {
+      for (FieldFilter filter: filters) {
+        fieldNames.add(filter.field.toString());
+      }
+    }
+    ProjectionKey key =
+        new ProjectionKey(valueSchemaEntry.getId(), (Utf8) computeRequest.getResultSchemaStr(), fieldNames);
+    Schema projectedValueSchema = storeVersion.projectedValueSchemaCache.get(key);
+    if (projectedValueSchema != null) {
+      return projectedValueSchema;
+    }
+    if (storeVersion.projectedValueSchemaCache.size() >= MAX_PROJECTIONS_PER_STORE_VERSION) {
+      return valueSchemaEntry.getSchema();
+    }
+    return storeVersion.projectedValueSchemaCache.computeIfAbsent(
+        key,
+        k -> ComputeUtils.getProjectedValueSchema(valueSchemaEntry.getSchema(), resultSchema, operations, filters));
+  }
+
+  /**
+   * @return the deserializers which decode the values written with any value schema into the projected value schema,
+   *         skipping over the fields which are not part of it
+   */
+  private StoreDeserializerCache<GenericRecord> getProjectedDeserializerCache(
+      PerStoreVersionState storeVersion,
+      Schema projectedValueSchema) {
+    return storeVersion.projectedDeserializerCacheMap.computeIfAbsent(
+        projectedValueSchema,
+        readerSchema -> new AvroStoreDeserializerCache<GenericRecord>(
+            id -> schemaRepository.getValueSchema(storeVersion.storeName, id).getSchema(),
+            (writerSchema, ignored) -> this.fastAvroEnabled
+                ? FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(writerSchema, readerSchema)
+                : SerializerDeserializerFactory.getAvroGenericDeserializer(writerSchema, readerSchema)));
   }
 
   private StorageEngine getStorageEngineOrThrow(String storeVersion) {
@@ -533,6 +658,13 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     if (storageEngine == null) {
       throw new VeniceNoStoreException(storeVersion);
     }
+    if (storageEngine instanceof DelegatingStorageEngine
+        && serverConfig.isRowCacheEnabled(Version.parseStoreFromKafkaTopicName(storeVersion))) {
+      DelegatingStorageEngine delegatingStorageEngine = (DelegatingStorageEngine) storageEngine;
+      RowCache rowCache =
+          delegatingStorageEngine.enableRowCache(serverConfig.getRowCacheCapacityPerStoreVersionInBytes());
+      return new RowCachingStorageEngine<>(delegatingStorageEngine, rowCache);
+    }
     return storageEngine;
   }
 
@@ -563,8 +695,20 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       SingleGetResponseWrapper response = new SingleGetResponseWrapper();
       response.setCompressionStrategy(StoreVersionStateUtils.getCompressionStrategy(svs));
 
-      ValueRecord valueRecord =
-          SingleGetChunkingAdapter.get(storageEngine, request.getPartition(), key, isChunked, response.getStats());
+      ValueRecord valueRecord;
+      if (this.singleGetPooledBufferEnabled && !(storageEngine instanceof RowCachingStorageEngine)) {
+        // Cached rows are already on-heap, so reading them through a direct buffer would only add a copy
+        valueRecord = SingleGetChunkingAdapter.getIntoPooledBuffer(
+            storageEngine,
+            request.getPartition(),
+            key,
+            isChunked,
+            ByteBufAllocator.DEFAULT,
+            response.getStats());
+      } else {
+        valueRecord =
+            SingleGetChunkingAdapter.get(storageEngine, request.getPartition(), key, isChunked, response.getStats());
+      }
       response.setValueRecord(valueRecord);
 
       if (valueRecord == null) {
@@ -591,7 +735,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         this.multiGetResponseProvider,
         this.executor,
         requestContext,
-        this::processMultiGet);
+        this.multiGetBatchProcessor);
   }
 
   private interface ParallelResponseProvider<T extends MultiKeyResponseWrapper> {
@@ -674,28 +818,85 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           key.keyBytes,
           requestContext.isChunked,
           response.getStats());
-      if (record == null) {
-        response.getStats().incrementKeyNotFoundCount();
-        if (requestContext.isStreaming) {
-          // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
-          // non-existing keys in the response if the response is partial.
-          record = new MultiGetResponseRecordV1();
-          // Negative key index to indicate the non-existing keys
-          record.keyIndex = Math.negateExact(key.keyIndex);
-          record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
-          record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
-          response.addRecord(record);
-        }
-      } else {
-        record.keyIndex = key.keyIndex;
-        response.addRecord(record);
+      addMultiGetRecord(key, record, requestContext, response);
+    }
+
+    // Trigger serialization
+    response.getResponseBody();
+  }
+
+  /**
+   * Same as {@link #processMultiGet}, except that the keys of the chunk are grouped by partition, and each group is
+   * looked up via a single storage engine multiGet, rather than one lookup per key. The records are still added to
+   * the response in the request order.
+   */
+  private void processMultiGetWithStorageMultiGet(
+      int startPos,
+      int endPos,
+      List<MultiGetRouterRequestKeyV1> keys,
+      RequestContext requestContext,
+      MultiGetResponseWrapper response) {
+    MultiGetRouterRequestKeyV1 key;
+    KeyPartitionProfiler profilerOrNull = resolveProfilerForRecord(requestContext.storeName);
+    Map<Integer, List<Integer>> partitionToKeyPositions = new HashMap<>();
+    for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
+      key = keys.get(subChunkCur);
+      response.getStats().addKeySize(key.getKeyBytes().remaining());
+      if (profilerOrNull != null) {
+        addProfilerRecord(profilerOrNull, ByteUtils.extractByteArray(key.keyBytes), key.partitionId);
+      }
+      partitionToKeyPositions.computeIfAbsent(key.partitionId, p -> new ArrayList<>()).add(subChunkCur);
+    }
+
+    MultiGetResponseRecordV1[] records = new MultiGetResponseRecordV1[endPos - startPos];
+    for (Map.Entry<Integer, List<Integer>> entry: partitionToKeyPositions.entrySet()) {
+      List<Integer> keyPositions = entry.getValue();
+      List<ByteBuffer> partitionKeys = new ArrayList<>(keyPositions.size());
+      for (int keyPosition: keyPositions) {
+        partitionKeys.add(keys.get(keyPosition).keyBytes);
+      }
+      List<MultiGetResponseRecordV1> partitionRecords = BatchGetChunkingAdapter.multiGet(
+          requestContext.storeVersion.storageEngine,
+          entry.getKey(),
+          partitionKeys,
+          requestContext.isChunked,
+          response.getStats());
+      for (int i = 0; i < keyPositions.size(); i++) {
+        records[keyPositions.get(i) - startPos] = partitionRecords.get(i);
       }
     }
 
+    for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
+      addMultiGetRecord(keys.get(subChunkCur), records[subChunkCur - startPos], requestContext, response);
+    }
+
     // Trigger serialization
     response.getResponseBody();
   }
 
+  private static void addMultiGetRecord(
+      MultiGetRouterRequestKeyV1 key,
+      MultiGetResponseRecordV1 record,
+      RequestContext requestContext,
+      MultiGetResponseWrapper response) {
+    if (record == null) {
+      response.getStats().incrementKeyNotFoundCount();
+      if (requestContext.isStreaming) {
+        // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
+        // non-existing keys in the response if the response is partial.
+        record = new MultiGetResponseRecordV1();
+        // Negative key index to indicate the non-existing keys
+        record.keyIndex = Math.negateExact(key.keyIndex);
+        record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
+        record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+        response.addRecord(record);
+      }
+    } else {
+      record.keyIndex = key.keyIndex;
+      response.addRecord(record);
+    }
+  }
+
   public CompletableFuture<ReadResponse> handleMultiGetRequest(MultiGetRouterRequestWrapper request) {
     final int queueLen = this.executor.getQueue().size();
     final long preSubmissionTimeNs = System.nanoTime();
@@ -711,7 +912,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       RequestContext requestContext = new RequestContext(request, this);
       responseWrapper.setCompressionStrategy(requestContext.compressionStrategy);
 
-      processMultiGet(0, request.getKeyCount(), keys, requestContext, responseWrapper);
+      this.multiGetBatchProcessor.process(0, request.getKeyCount(), keys, requestContext, responseWrapper);
 
       responseWrapper.getStats().setStorageExecutionSubmissionWaitTime(submissionWaitTime);
       responseWrapper.getStats().setStorageExecutionQueueLen(queueLen);
@@ -796,10 +997,26 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private static class ComputeRequestContext extends RequestContext {
     final SchemaEntry valueSchemaEntry;
     final Schema resultSchema;
+    /**
+     * The schema the values are decoded with, which only holds the value fields needed by the request.
+     */
+    final Schema projectedValueSchema;
+    final StoreDeserializerCache<GenericRecord> valueDeserializerCache;
     final VeniceCompressor compressor;
+    final DecompressedValueCache decompressedValueCache;
     final RecordSerializer<GenericRecord> resultSerializer;
     final List<ComputeOperation> operations;
     final List<Schema.Field> operationResultFields;
+    /**
+     * The positions, in {@link #operations}, of the count aggregations, whose partial counts are folded across the
+     * keys of each chunk, or null if the request doesn't contain any.
+     */
+    final int[] countAggregationPositions;
+    final RecordDeserializer<GenericRecord> resultDeserializer;
+    /**
+     * The value records must match this predicate to be computed, or null if the request doesn't filter them.
+     */
+    final Predicate<GenericRecord> valueFilter;
 
     ComputeRequestContext(ComputeRouterRequestWrapper request, StorageReadRequestHandler handler) {
       super(request, handler);
@@ -810,8 +1027,27 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           this.compressionStrategy,
           request.getResourceName(),
           handler.serverConfig.getZstdDictCompressionLevel());
+      this.decompressedValueCache =
+          this.compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT ? handler.decompressedValueCache : null;
       this.operations = request.getComputeRequest().getOperations();
       this.operationResultFields = ComputeUtils.getOperationResultFields(operations, resultSchema);
+      int[] positions = new int[operations.size()];
+      int countAggregationCount = 0;
+      for (int i = 0; i < operations.size(); i++) {
+        if (ComputeOperationType.valueOf(operations.get(i)).isCountAggregation()) {
+          positions[countAggregationCount++] = i;
+        }
+      }
+      this.countAggregationPositions =
+          countAggregationCount == 0 ? null : Arrays.copyOf(positions, countAggregationCount);
+      this.resultDeserializer =
+          countAggregationCount == 0 ? null : SerializerDeserializerFactory.getAvroGenericDeserializer(resultSchema);
+      this.valueFilter = ComputeUtils.compileValueFilter(request.getComputeRequest().getFilters());
+      this.projectedValueSchema =
+          handler.getProjectedValueSchema(storeVersion, valueSchemaEntry, request.getComputeRequest(), resultSchema);
+      this.valueDeserializerCache = projectedValueSchema == valueSchemaEntry.getSchema()
+          ? storeVersion.storeDeserializerCache
+          : handler.getProjectedDeserializerCache(storeVersion, projectedValueSchema);
     }
   }
 
@@ -826,12 +1062,25 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
      * {@link ComputeRequestContext}, otherwise it could get contaminated across threads.
      */
     ReusableObjects reusableObjects = threadLocalReusableObjects.get();
-    GenericRecord reusableValueRecord = reusableObjects.valueRecordMap
-        .computeIfAbsent(requestContext.valueSchemaEntry.getSchema(), GenericData.Record::new);
+    GenericRecord reusableValueRecord =
+        reusableObjects.valueRecordMap.computeIfAbsent(requestContext.projectedValueSchema, GenericData.Record::new);
     GenericRecord reusableResultRecord =
         reusableObjects.resultRecordMap.computeIfAbsent(requestContext.resultSchema, GenericData.Record::new);
     reusableObjects.computeContext.clear();
 
+    /**
+     * The count aggregations are folded across the keys of the chunk, and only the last hit carries the counts, so
+     * that the response doesn't grow with one partial count per key.
+     */
+    Map<Object, Integer>[] partialCounts = null;
+    ComputeResponseRecordV1 partialCountsCarrier = null;
+    if (requestContext.countAggregationPositions != null) {
+      partialCounts = new Map[requestContext.countAggregationPositions.length];
+      for (int i = 0; i < partialCounts.length; i++) {
+        partialCounts[i] = new HashMap<>();
+      }
+    }
+
     int hits = 0;
     long serializeStartTimeInNS, computeStartTimeInNS;
     ComputeRouterRequestKeyV1 key;
@@ -847,19 +1096,35 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         addProfilerRecord(profilerOrNull, keyBytes, key.getPartitionId());
       }
       AvroRecordUtils.clearRecord(reusableResultRecord);
-      reusableValueRecord = GenericRecordChunkingAdapter.INSTANCE.get(
-          requestContext.storeVersion.storageEngine,
-          key.getPartitionId(),
-          keyBytes,
-          reusableObjects.byteBuffer,
-          reusableValueRecord,
-          reusableObjects.binaryDecoder,
-          requestContext.isChunked,
-          response.getStats(),
-          requestContext.valueSchemaEntry.getId(),
-          requestContext.storeVersion.storeDeserializerCache,
-          requestContext.compressor);
-      if (reusableValueRecord != null) {
+      if (requestContext.decompressedValueCache != null) {
+        reusableValueRecord = getValueThroughDecompressedValueCache(
+            requestContext,
+            key.getPartitionId(),
+            keyBytes,
+            reusableValueRecord,
+            reusableObjects.binaryDecoder,
+            response.getStats());
+      } else {
+        reusableValueRecord = GenericRecordChunkingAdapter.INSTANCE.get(
+            requestContext.storeVersion.storageEngine,
+            key.getPartitionId(),
+            keyBytes,
+            reusableObjects.byteBuffer,
+            reusableValueRecord,
+            reusableObjects.binaryDecoder,
+            requestContext.isChunked,
+            response.getStats(),
+            requestContext.valueSchemaEntry.getId(),
+            requestContext.valueDeserializerCache,
+            requestContext.compressor);
+      }
+      /**
+       * The records which fail the value filter are neither computed nor counted, and they are returned the same way
+       * as the non-existing keys, so that the clients don't wait for them.
+       */
+      boolean filteredOut = reusableValueRecord != null && requestContext.valueFilter != null
+          && !requestContext.valueFilter.test(reusableValueRecord);
+      if (reusableValueRecord != null && !filteredOut) {
         computeStartTimeInNS = System.nanoTime();
         reusableResultRecord = ComputeUtils.computeResult(
             requestContext.operations,
@@ -867,11 +1132,17 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
             reusableObjects.computeContext,
             reusableValueRecord,
             reusableResultRecord);
+        if (partialCounts != null) {
+          foldPartialCounts(requestContext, reusableResultRecord, partialCounts);
+        }
 
         serializeStartTimeInNS = System.nanoTime(); // N.B. This clock call is also used as the end of the compute time
         record = new ComputeResponseRecordV1();
         record.keyIndex = key.getKeyIndex();
         record.value = ByteBuffer.wrap(requestContext.resultSerializer.serialize(reusableResultRecord));
+        if (partialCounts != null) {
+          partialCountsCarrier = record;
+        }
 
         response.getStats()
             .addReadComputeSerializationLatency(LatencyUtils.getElapsedTimeFromNSToMS(serializeStartTimeInNS));
@@ -882,7 +1153,9 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         response.addRecord(record);
         hits++;
       } else {
-        response.getStats().incrementKeyNotFoundCount();
+        if (!filteredOut) {
+          response.getStats().incrementKeyNotFoundCount();
+        }
         if (requestContext.isStreaming) {
           // For streaming, we need to send back non-existing keys
           record = new ComputeResponseRecordV1();
@@ -894,12 +1167,90 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       }
     }
 
+    if (requestContext.decompressedValueCache != null) {
+      response.getStats()
+          .addDecompressedValueCacheEvictionCount(requestContext.decompressedValueCache.pollEvictionCount(storeName));
+    }
+
+    if (partialCountsCarrier != null) {
+      putPartialCounts(requestContext, partialCountsCarrier, partialCounts);
+    }
+
     // Trigger serialization
     response.getResponseBody();
 
     incrementOperatorCounters(response.getStats(), requestContext.operations, hits);
   }
 
+  /**
+   * Moves the partial counts computed for a single key into the counts of the chunk, and clears them from its result.
+   */
+  private static void foldPartialCounts(
+      ComputeRequestContext requestContext,
+      GenericRecord resultRecord,
+      Map<Object, Integer>[] partialCounts) {
+    for (int i = 0; i < partialCounts.length; i++) {
+      int position = requestContext.countAggregationPositions[i];
+      ComputeOperation operation = requestContext.operations.get(position);
+      CountAggregationOperator operator =
+          (CountAggregationOperator) ComputeOperationType.valueOf(operation).getOperator();
+      int resultFieldPosition = requestContext.operationResultFields.get(position).pos();
+      operator.accumulate(resultRecord.get(resultFieldPosition), partialCounts[i]);
+      resultRecord.put(resultFieldPosition, null);
+    }
+  }
+
+  /**
+   * Rewrites the result of the carrier record with the partial counts of the whole chunk. The result is decoded again
+   * rather than kept around, since the computed results reference the reused value record.
+   */
+  private static void putPartialCounts(
+      ComputeRequestContext requestContext,
+      ComputeResponseRecordV1 carrier,
+      Map<Object, Integer>[] partialCounts) {
+    GenericRecord resultRecord = requestContext.resultDeserializer.deserialize(carrier.value.duplicate());
+    for (int i = 0; i < partialCounts.length; i++) {
+      int position = requestContext.countAggregationPositions[i];
+      ComputeOperation operation = requestContext.operations.get(position);
+      CountAggregationOperator operator =
+          (CountAggregationOperator) ComputeOperationType.valueOf(operation).getOperator();
+      operator.putCounts(resultRecord, requestContext.operationResultFields.get(position), partialCounts[i]);
+    }
+    carrier.value = ByteBuffer.wrap(requestContext.resultSerializer.serialize(resultRecord));
+  }
+
+  /**
+   * Same as {@link GenericRecordChunkingAdapter#get}, except that the decompression goes through the
+   * {@link DecompressedValueCache}, which requires the whole raw value to be read first.
+   */
+  private static GenericRecord getValueThroughDecompressedValueCache(
+      ComputeRequestContext requestContext,
+      int partition,
+      byte[] key,
+      GenericRecord reusedValue,
+      BinaryDecoder reusedDecoder,
+      ReadResponseStats responseStats) {
+    StorageEngine storageEngine = requestContext.storeVersion.storageEngine;
+    ValueRecord valueRecord =
+        SingleGetChunkingAdapter.get(storageEngine, partition, key, requestContext.isChunked, responseStats);
+    if (valueRecord == null) {
+      return null;
+    }
+    byte[] decompressedValue = requestContext.decompressedValueCache.decompress(
+        storageEngine.getStoreVersionName(),
+        partition,
+        key,
+        valueRecord.serialize(),
+        requestContext.compressor,
+        responseStats);
+    long deserializeStartTimeInNS = System.nanoTime();
+    GenericRecord value = requestContext.valueDeserializerCache
+        .getDeserializer(valueRecord.getSchemaId(), requestContext.valueSchemaEntry.getId())
+        .deserialize(reusedValue, ByteBuffer.wrap(decompressedValue), reusedDecoder);
+    responseStats.addReadComputeDeserializationLatency(LatencyUtils.getElapsedTimeFromNSToMS(deserializeStartTimeInNS));
+    return value;
+  }
+
   private BinaryResponse handleDictionaryFetchRequest(DictionaryFetchRequest request) {
     ByteBuffer dictionary = ingestionMetadataRetriever.getStoreVersionCompressionDictionary(request.getResourceName());
     return new BinaryResponse(dictionary);
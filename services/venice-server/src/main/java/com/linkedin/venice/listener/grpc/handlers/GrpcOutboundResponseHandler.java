@@ -12,6 +12,7 @@ import com.linkedin.venice.protocols.VeniceServerResponse;
 import com.linkedin.venice.response.VeniceReadResponseStatus;
 import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.util.ReferenceCountUtil;
 
 
 public class GrpcOutboundResponseHandler extends VeniceServerGrpcHandler {
@@ -39,10 +40,14 @@ public class GrpcOutboundResponseHandler extends VeniceServerGrpcHandler {
     if (obj.isFound()) {
       body = obj.getResponseBody();
 
-      byte[] array = new byte[body.readableBytes()];
-      body.getBytes(body.readerIndex(), array);
-      veniceServerResponseBuilder.setData(ByteString.copyFrom(array))
+      veniceServerResponseBuilder.setData(ByteString.copyFrom(body.nioBuffer()))
           .setCompressionStrategy(compressionStrategy.getValue());
+      /**
+       * Like the content of an HTTP response, the body is owned by the writer, and may be backed by a pooled buffer
+       * (see {@link com.linkedin.venice.ConfigKeys#SERVER_SINGLE_GET_POOLED_BUFFER_ENABLED}), so it must be released
+       * once copied into the gRPC response.
+       */
+      ReferenceCountUtil.release(body);
 
       veniceServerResponseBuilder.setSchemaId(obj.getResponseSchemaIdHeader());
       statsContext.setResponseStatus(OK);
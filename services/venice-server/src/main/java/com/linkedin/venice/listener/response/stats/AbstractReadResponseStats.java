@@ -173,4 +173,19 @@ public abstract class AbstractReadResponseStats implements ReadResponseStats, Re
   public void incrementHadamardProductCount(int count) {
     throwUnsupportedMetric();
   }
+
+  @Override
+  public void incrementDecompressedValueCacheHitCount() {
+    throwUnsupportedMetric();
+  }
+
+  @Override
+  public void incrementDecompressedValueCacheMissCount() {
+    throwUnsupportedMetric();
+  }
+
+  @Override
+  public void addDecompressedValueCacheEvictionCount(int count) {
+    throwUnsupportedMetric();
+  }
 }
@@ -21,6 +21,9 @@ public class ComputeResponseStats extends MultiKeyResponseStats {
   private int cosineSimilarityCount = 0;
   private int hadamardProductCount = 0;
   private int countOperatorCount = 0;
+  private int decompressedValueCacheHitCount = 0;
+  private int decompressedValueCacheMissCount = 0;
+  private int decompressedValueCacheEvictionCount = 0;
 
   @Override
   public void addValueSize(int size) {
@@ -67,6 +70,21 @@ public class ComputeResponseStats extends MultiKeyResponseStats {
     this.hadamardProductCount += count;
   }
 
+  @Override
+  public void incrementDecompressedValueCacheHitCount() {
+    this.decompressedValueCacheHitCount++;
+  }
+
+  @Override
+  public void incrementDecompressedValueCacheMissCount() {
+    this.decompressedValueCacheMissCount++;
+  }
+
+  @Override
+  public void addDecompressedValueCacheEvictionCount(int count) {
+    this.decompressedValueCacheEvictionCount += count;
+  }
+
   @Override
   public void recordMetrics(
       ServerHttpRequestStats stats,
@@ -79,6 +97,9 @@ public class ComputeResponseStats extends MultiKeyResponseStats {
     consumeIntIfAbove(stats::recordCountOperatorCount, this.countOperatorCount, 0);
     consumeIntIfAbove(stats::recordDotProductCount, this.dotProductCount, 0);
     consumeIntIfAbove(stats::recordHadamardProductCount, this.hadamardProductCount, 0);
+    consumeIntIfAbove(stats::recordDecompressedValueCacheHitCount, this.decompressedValueCacheHitCount, 0);
+    consumeIntIfAbove(stats::recordDecompressedValueCacheMissCount, this.decompressedValueCacheMissCount, 0);
+    consumeIntIfAbove(stats::recordDecompressedValueCacheEvictionCount, this.decompressedValueCacheEvictionCount, 0);
     boolean isAssembledMultiChunkLargeValue = isAssembledMultiChunkLargeValue();
     consumeDoubleAndBooleanIfAbove(
         stats::recordReadComputeDeserializationLatency,
@@ -118,6 +139,9 @@ public class ComputeResponseStats extends MultiKeyResponseStats {
       this.cosineSimilarityCount += otherStats.cosineSimilarityCount;
       this.hadamardProductCount += otherStats.hadamardProductCount;
       this.countOperatorCount += otherStats.countOperatorCount;
+      this.decompressedValueCacheHitCount += otherStats.decompressedValueCacheHitCount;
+      this.decompressedValueCacheMissCount += otherStats.decompressedValueCacheMissCount;
+      this.decompressedValueCacheEvictionCount += otherStats.decompressedValueCacheEvictionCount;
     } else {
       throw new IllegalArgumentException(
           "Expected ComputeResponseStats but got " + other.getClass().getSimpleName() + "; compute fields not merged");
@@ -82,6 +82,10 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor readComputeLatencyForSmallValueSensor;
   private final Sensor readComputeLatencyForLargeValueSensor;
   private final Sensor readComputeEfficiencySensor;
+  // Tehuti-only: the decompressed value cache is only consulted by read compute
+  private final Sensor decompressedValueCacheHitCountSensor;
+  private final Sensor decompressedValueCacheMissCountSensor;
+  private final Sensor decompressedValueCacheEvictionCountSensor;
   // Ratio sensors are not directly written to, but they still get their state updated indirectly
   @SuppressWarnings("unused")
   private final Sensor successRequestRatioSensor;
@@ -345,6 +349,25 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         new Min(),
         new Max());
 
+    decompressedValueCacheHitCountSensor = registerPerStoreAndTotal(
+        "decompressed_value_cache_hit_count",
+        totalStats,
+        () -> totalStats.decompressedValueCacheHitCountSensor,
+        new Rate(),
+        new Total());
+    decompressedValueCacheMissCountSensor = registerPerStoreAndTotal(
+        "decompressed_value_cache_miss_count",
+        totalStats,
+        () -> totalStats.decompressedValueCacheMissCountSensor,
+        new Rate(),
+        new Total());
+    decompressedValueCacheEvictionCountSensor = registerPerStoreAndTotal(
+        "decompressed_value_cache_eviction_count",
+        totalStats,
+        () -> totalStats.decompressedValueCacheEvictionCountSensor,
+        new Rate(),
+        new Total());
+
     // Compute-only: use computeBaseDimensionsMap (no VENICE_REQUEST_METHOD — always COMPUTE)
     deserializationTimeMetric = MetricEntityStateOneEnum.create(
         STORAGE_ENGINE_READ_COMPUTE_DESERIALIZATION_TIME.getMetricEntity(),
@@ -613,6 +636,18 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     readComputeEfficiencySensor.record(efficiency);
   }
 
+  public void recordDecompressedValueCacheHitCount(int count) {
+    decompressedValueCacheHitCountSensor.record(count);
+  }
+
+  public void recordDecompressedValueCacheMissCount(int count) {
+    decompressedValueCacheMissCountSensor.record(count);
+  }
+
+  public void recordDecompressedValueCacheEvictionCount(int count) {
+    decompressedValueCacheEvictionCountSensor.record(count);
+  }
+
   public void recordDotProductCount(int count) {
     if (dotProductCountMetric != null) {
       dotProductCountMetric.record(count, VeniceComputeOperationType.DOT_PRODUCT);
@@ -40,6 +40,7 @@ import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.client.store.AvroComputeRequestBuilderV3;
 import com.linkedin.venice.client.store.AvroGenericReadComputeStoreClient;
+import com.linkedin.venice.client.store.predicate.IntPredicate;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.NoopCompressor;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
@@ -117,6 +118,7 @@ import com.linkedin.venice.storage.protocol.ChunkId;
 import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.streaming.StreamingUtils;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.ValueSize;
 import com.linkedin.venice.utils.concurrent.BlockingQueueType;
@@ -797,6 +799,96 @@ public class StorageReadRequestHandlerTest {
     }
   }
 
+  @Test
+  public void testHandleComputeRequestWithValueFilter() throws Exception {
+    doReturn(true).when(storeRepository).isReadComputationEnabled(any());
+
+    Schema valueSchema = SchemaBuilder.record("SampleSchema")
+        .fields()
+        .name("listField")
+        .type()
+        .array()
+        .items()
+        .floatType()
+        .noDefault()
+        .requiredInt("age")
+        .requiredString("bio")
+        .endRecord();
+    SchemaEntry schemaEntry = new SchemaEntry(1, valueSchema);
+    doReturn(schemaEntry).when(schemaRepository).getSupersetOrLatestValueSchema(any());
+    doReturn(schemaEntry).when(schemaRepository).getValueSchema(any(), anyInt());
+
+    int partition = 1;
+    String matchingKeyString = "matching-key";
+    String filteredKeyString = "filtered-key";
+    AvroSerializer valueSerializer = new AvroSerializer<>(valueSchema);
+    for (String keyString: Arrays.asList(matchingKeyString, filteredKeyString)) {
+      GenericRecord valueRecord = new GenericData.Record(valueSchema);
+      valueRecord.put("listField", Collections.singletonList(1.0f));
+      valueRecord.put("age", keyString.equals(matchingKeyString) ? 40 : 20);
+      // Not needed by the request, so it is skipped over when decoding the value
+      valueRecord.put("bio", "A long biography");
+      byte[] valueBytes = ValueRecord.create(schemaEntry.getId(), valueSerializer.serialize(valueRecord)).serialize();
+      doReturn(ByteBuffer.wrap(valueBytes)).when(storageEngine).get(eq(partition), eq(keyString.getBytes()), any());
+    }
+
+    Set<Object> keySet = new HashSet<>(Arrays.asList(matchingKeyString, filteredKeyString));
+    AvroGenericReadComputeStoreClient storeClient = mock(AvroGenericReadComputeStoreClient.class);
+    doReturn("test-store").when(storeClient).getStoreName();
+    Schema keySchema = AvroSchemaParseUtils.parseSchemaFromJSONLooseValidation("\"string\"");
+    new AvroComputeRequestBuilderV3<>(storeClient, getMockSchemaReader(keySchema, valueSchema))
+        .dotProduct("listField", Collections.singletonList(4.0f), "dotProduct")
+        .filter("age", IntPredicate.greaterThan(30))
+        .execute(keySet);
+    ArgumentCaptor<ComputeRequestWrapper> requestCaptor = ArgumentCaptor.forClass(ComputeRequestWrapper.class);
+    ArgumentCaptor<Schema> resultSchemaCaptor = ArgumentCaptor.forClass(Schema.class);
+    verify(storeClient, times(1))
+        .compute(requestCaptor.capture(), any(), resultSchemaCaptor.capture(), any(), anyLong());
+    ComputeRequestWrapper computeRequestWrapper = requestCaptor.getValue();
+    ComputeRequest computeRequest = ComputeUtils.deserializeComputeRequest(
+        OptimizedBinaryDecoderFactory.defaultFactory()
+            .createOptimizedBinaryDecoder(ByteBuffer.wrap(computeRequestWrapper.serialize())),
+        null,
+        computeRequestWrapper.getComputeRequestVersion());
+
+    ComputeRouterRequestWrapper request = mock(ComputeRouterRequestWrapper.class);
+    doReturn(RequestType.COMPUTE).when(request).getRequestType();
+    doReturn(true).when(request).isStreamingRequest();
+    doReturn(schemaEntry.getId()).when(request).getValueSchemaId();
+    doReturn(computeRequest).when(request).getComputeRequest();
+    doReturn(version.kafkaTopicName()).when(request).getResourceName();
+    ComputeRouterRequestKeyV1 matchingKey =
+        new ComputeRouterRequestKeyV1(0, ByteBuffer.wrap(matchingKeyString.getBytes()), partition);
+    ComputeRouterRequestKeyV1 filteredKey =
+        new ComputeRouterRequestKeyV1(1, ByteBuffer.wrap(filteredKeyString.getBytes()), partition);
+    doReturn(Arrays.asList(matchingKey, filteredKey)).when(request).getKeys();
+    doReturn(2).when(request).getKeyCount();
+
+    StorageReadRequestHandler requestHandler = createStorageReadRequestHandler();
+    requestHandler.channelRead(context, request);
+
+    verify(context, times(1)).writeAndFlush(argumentCaptor.capture());
+    ComputeResponseWrapper computeResponse = (ComputeResponseWrapper) argumentCaptor.getValue();
+    RecordDeserializer<ComputeResponseRecordV1> responseDeserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(ComputeResponseRecordV1.class);
+    List<ComputeResponseRecordV1> records =
+        responseDeserializer.deserializeObjects(computeResponse.getResponseBody().array());
+    assertEquals(records.size(), 2);
+    for (ComputeResponseRecordV1 record: records) {
+      if (record.getKeyIndex() < 0) {
+        // The filtered record is returned as a non-existing key
+        assertEquals(record.getKeyIndex(), -1);
+        assertEquals(record.getValue(), StreamingUtils.EMPTY_BYTE_BUFFER);
+      } else {
+        assertEquals(record.getKeyIndex(), 0);
+        GenericRecord resultRecord = SerializerDeserializerFactory
+            .<GenericRecord>getAvroGenericDeserializer(resultSchemaCaptor.getValue())
+            .deserialize(record.getValue());
+        assertEquals(resultRecord.get("dotProduct"), 4.0f);
+      }
+    }
+  }
+
   /**
    * There was a regression where the "perStoreVersionStateMap" inside {@link StorageReadRequestHandler} could be stale
    * during rebalance. In the following rebalance scenario, the storage engine reference in the map would be stale:
@@ -988,6 +1080,71 @@ public class StorageReadRequestHandlerTest {
     assertEquals(((AbstractReadResponseStats) responseObject.getStats()).getKeyNotFoundCount(), missingRecordCount);
   }
 
+  @Test
+  public void testMultiGetWithStorageMultiGet() throws Exception {
+    int recordCount = 10;
+    int missingRecordCount = 3;
+    doReturn(true).when(serverConfig).isBatchGetStorageMultiGetEnabled();
+    RecordSerializer<MultiGetRouterRequestKeyV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+    List<MultiGetRouterRequestKeyV1> keys = new ArrayList<>();
+    Map<ByteBuffer, byte[]> storage = new HashMap<>();
+    VeniceKafkaSerializer keySerializer = new VeniceAvroKafkaSerializer("\"string\"");
+
+    for (int i = 0; i < recordCount; ++i) {
+      MultiGetRouterRequestKeyV1 requestKey = new MultiGetRouterRequestKeyV1();
+      byte[] keyBytes = keySerializer.serialize(null, "key_" + i);
+      requestKey.keyBytes = ByteBuffer.wrap(keyBytes);
+      requestKey.keyIndex = i;
+      // Spread the keys across two partitions
+      requestKey.partitionId = i % 2;
+      if (i < (recordCount - missingRecordCount)) {
+        storage.put(ByteBuffer.wrap(keyBytes), ValueRecord.create(1, ("value_" + i).getBytes()).serialize());
+      }
+      keys.add(requestKey);
+    }
+    doAnswer(invocation -> {
+      List<byte[]> lookupKeys = invocation.getArgument(1);
+      List<byte[]> values = new ArrayList<>(lookupKeys.size());
+      for (byte[] lookupKey: lookupKeys) {
+        values.add(storage.get(ByteBuffer.wrap(lookupKey)));
+      }
+      return values;
+    }).when(storageEngine).multiGet(anyInt(), any());
+
+    String uri = "/" + TYPE_STORAGE + "/test-topic_v1";
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, uri);
+    httpRequest.headers()
+        .set(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion());
+    httpRequest.content().writeBytes(serializer.serializeObjects(keys));
+    MultiGetRouterRequestWrapper request = MultiGetRouterRequestWrapper
+        .parseMultiGetHttpRequest(httpRequest, RequestHelper.getRequestParts(URI.create(uri)));
+
+    StorageReadRequestHandler requestHandler = createStorageReadRequestHandler();
+    requestHandler.channelRead(context, request);
+
+    verify(context, timeout(1000).times(1)).writeAndFlush(argumentCaptor.capture());
+    MultiGetResponseWrapper responseObject = (MultiGetResponseWrapper) argumentCaptor.getValue();
+    assertEquals(((AbstractReadResponseStats) responseObject.getStats()).getKeyNotFoundCount(), missingRecordCount);
+
+    RecordDeserializer<MultiGetResponseRecordV1> deserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class);
+    byte[] responseBytes = new byte[responseObject.getResponseBody().readableBytes()];
+    responseObject.getResponseBody().getBytes(0, responseBytes);
+    List<Integer> keyIndexes = new ArrayList<>();
+    for (MultiGetResponseRecordV1 record: deserializer.deserializeObjects(responseBytes)) {
+      keyIndexes.add(record.keyIndex);
+      assertEquals(new String(ByteUtils.extractByteArray(record.value)), "value_" + record.keyIndex);
+    }
+    // Records are returned in the request order, regardless of the partition grouping
+    assertEquals(keyIndexes, Arrays.asList(0, 1, 2, 3, 4, 5, 6));
+    // One lookup per partition, and no per-key lookup
+    verify(storageEngine, times(2)).multiGet(anyInt(), any());
+    verify(storageEngine, never()).get(anyInt(), any(ByteBuffer.class));
+  }
+
   @Test
   public void testComputeWithKeyNotFound() throws Exception {
     int recordCount = 2;